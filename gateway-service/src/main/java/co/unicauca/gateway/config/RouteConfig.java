@@ -21,6 +21,7 @@ import org.springframework.context.annotation.Configuration;
  *
  * Seguridad:
  * - Rutas públicas: /api/identity/**, /api/auth/**
+ * - Enlaces firmados: /archivos/firmados/** (la firma la verifica submission-service)
  * - Rutas protegidas: Todos los demás endpoints requieren JWT válido
  *
  * @author Gateway Team
@@ -97,6 +98,15 @@ public class RouteConfig {
                                         .setFallbackUri("forward:/api/gateway/fallback/submission")))
                         .uri(submissionServiceUrl))
 
+                // Enlaces de descarga firmados: los verifica submission-service (HMAC
+                // con vencimiento), sin JWT ni verificación de rol en el gateway
+                .route("submission-archivos-firmados", r -> r
+                        .path("/archivos/firmados/**")
+                        .and().method("GET", "HEAD")
+                        .filters(f -> f
+                                .filter(loggingFilter.apply(new RequestResponseLoggingFilter.Config())))
+                        .uri(submissionServiceUrl))
+
                 // ============================================================
                 // NOTIFICATION SERVICE - Rutas PROTEGIDAS (Requieren JWT)
                 // ============================================================
@@ -68,6 +68,8 @@ public class RoleFilter extends AbstractGatewayFilterFactory<RoleFilter.Config>
 
         // RF6: Subir anteproyecto - Solo DOCENTE
         roleRequirements.put("/api/submissions/anteproyecto", List.of("DOCENTE"));
+        roleRequirements.put("/api/submissions/anteproyecto/*/subidas", List.of("DOCENTE"));
+        roleRequirements.put("/api/submissions/anteproyecto/*/subidas/**", List.of("DOCENTE"));
 
         // RF7: Listar anteproyectos - JEFE_DEPARTAMENTO y COORDINADOR (por si necesita verlos)
         roleRequirements.put("/api/submissions/anteproyectos", List.of("JEFE_DEPARTAMENTO", "COORDINADOR", "DOCENTE"));
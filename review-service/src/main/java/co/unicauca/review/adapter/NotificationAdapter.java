@@ -97,7 +97,9 @@ public class NotificationAdapter {
             log.info("✅ Notificación de evaluación enviada exitosamente a {} destinatarios", recipients.size());
 
         } catch (Exception e) {
+            // Se propaga: la evaluación queda POR_NOTIFICAR y se reintenta
             log.error("❌ Error al notificar evaluación de Formato A: {}", e.getMessage(), e);
+            throw e;
         }
     }
 
@@ -162,6 +164,7 @@ public class NotificationAdapter {
 
         } catch (Exception e) {
             log.error("❌ Error al notificar evaluación de Anteproyecto: {}", e.getMessage(), e);
+            throw e;
         }
     }
 }
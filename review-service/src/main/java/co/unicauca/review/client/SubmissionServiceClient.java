@@ -8,6 +8,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.stereotype.Component;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.publisher.Mono;
@@ -21,6 +22,8 @@ public class SubmissionServiceClient {
 
     private static final Logger log = LoggerFactory.getLogger(SubmissionServiceClient.class);
 
+    private static final String IDEMPOTENCY_KEY_HEADER = "Idempotency-Key";
+
     private final WebClient webClient;
 
     public SubmissionServiceClient(@Qualifier("submissionWebClient") WebClient webClient) {
@@ -295,8 +298,11 @@ public class SubmissionServiceClient {
      * @param aprobado true si fue aprobado, false si fue rechazado
      * @param comentarios Comentarios de la evaluación
      * @param evaluadorId ID del evaluador (se envía en header X-User-Id)
+     * @param idempotencyKey clave Idempotency-Key; con la misma clave submission-service
+     *                       aplica la evaluación una sola vez aunque se reintente (null = sin cabecera)
      */
-    public void updateFormatoAEstado(Long formatoAId, Boolean aprobado, String comentarios, Long evaluadorId) {
+    public void updateFormatoAEstado(Long formatoAId, Boolean aprobado, String comentarios, Long evaluadorId,
+                                     String idempotencyKey) {
         log.debug("Actualizando estado de Formato A {}: aprobado={}, evaluador={}", formatoAId, aprobado, evaluadorId);
 
         try {
@@ -309,6 +315,7 @@ public class SubmissionServiceClient {
                     .uri("/api/submissions/formatoA/{id}/evaluar", formatoAId)
                     .header("X-Service", "review")
                     .header("X-User-Id", String.valueOf(evaluadorId))
+                    .headers(headers -> setIdempotencyKey(headers, idempotencyKey))
                     .bodyValue(request)
                     .retrieve()
                     .bodyToMono(Void.class)
@@ -330,14 +337,20 @@ public class SubmissionServiceClient {
      *
      * @param anteproyectoId ID del anteproyecto
      * @param body Map con estado, observaciones y evaluadoPor
+     * @param evaluadorId ID del evaluador (se envía en header X-User-Id; submission-service
+     *                    rechaza con 400 las peticiones con Idempotency-Key sin usuario)
+     * @param idempotencyKey clave Idempotency-Key para reintentos seguros (null = sin cabecera)
      */
-    public void updateAnteproyectoEstado(Long anteproyectoId, Map<String, Object> body) {
+    public void updateAnteproyectoEstado(Long anteproyectoId, Map<String, Object> body, Long evaluadorId,
+                                         String idempotencyKey) {
         log.debug("Actualizando estado de Anteproyecto {}: {}", anteproyectoId, body);
 
         try {
             webClient.patch()
                     .uri("/api/submissions/anteproyectos/{id}/estado", anteproyectoId)
                     .header("X-Service", "review")
+                    .header("X-User-Id", String.valueOf(evaluadorId))
+                    .headers(headers -> setIdempotencyKey(headers, idempotencyKey))
                     .bodyValue(body)
                     .retrieve()
                     .bodyToMono(Void.class)
@@ -350,6 +363,12 @@ public class SubmissionServiceClient {
         }
     }
 
+    private static void setIdempotencyKey(HttpHeaders headers, String idempotencyKey) {
+        if (idempotencyKey != null) {
+            headers.set(IDEMPOTENCY_KEY_HEADER, idempotencyKey);
+        }
+    }
+
     // DTOs internos para comunicación
 
     /**
@@ -5,8 +5,11 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.web.reactive.function.client.WebClient;
 
+import java.util.concurrent.ThreadPoolExecutor;
+
 @Configuration
 public class WebClientConfig {
 
@@ -16,6 +19,9 @@ public class WebClientConfig {
     @Value("${services.submission.timeout:5000}")
     private int submissionTimeout;
 
+    @Value("${services.submission.read-threads:8}")
+    private int submissionReadThreads;
+
     @Bean
     public WebClient.Builder webClientBuilder() {
         return WebClient.builder()
@@ -29,4 +35,20 @@ public class WebClientConfig {
                 .defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON_VALUE)
                 .build();
     }
+
+    /**
+     * Hilos para las lecturas en paralelo a submission-service dentro de una evaluación
+     * (EvaluationContext). Si se llenan, la lectura corre en el hilo de la petición.
+     */
+    @Bean("submissionReadExecutor")
+    public ThreadPoolTaskExecutor submissionReadExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(submissionReadThreads);
+        executor.setMaxPoolSize(submissionReadThreads);
+        executor.setQueueCapacity(submissionReadThreads * 4);
+        executor.setThreadNamePrefix("submission-read-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.initialize();
+        return executor;
+    }
 }
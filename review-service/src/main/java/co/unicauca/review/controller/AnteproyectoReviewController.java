@@ -7,6 +7,7 @@ import co.unicauca.review.dto.response.AsignacionDTO;
 import co.unicauca.review.dto.response.EvaluationResultDTO;
 import co.unicauca.review.enums.AsignacionEstado;
 import co.unicauca.review.enums.EvaluatorRole;
+import co.unicauca.review.enums.SincronizacionEstado;
 import co.unicauca.review.exception.InvalidStateException;
 import co.unicauca.review.exception.UnauthorizedException;
 import co.unicauca.review.service.AsignacionService;
@@ -125,7 +126,10 @@ public class AnteproyectoReviewController {
 
             EvaluationResultDTO result = evaluationService.evaluate(fullRequest);
 
-            return ResponseEntity.status(HttpStatus.CREATED)
+            // 202 si Submission Service aún no confirmó la evaluación
+            HttpStatus status = result.estadoSincronizacion() == SincronizacionEstado.PENDIENTE
+                ? HttpStatus.ACCEPTED : HttpStatus.CREATED;
+            return ResponseEntity.status(status)
                 .body(ApiResponse.success(result, "Evaluación registrada exitosamente"));
 
         } catch (UnauthorizedException e) {
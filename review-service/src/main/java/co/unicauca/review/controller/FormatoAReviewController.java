@@ -8,6 +8,7 @@ import co.unicauca.review.dto.response.EvaluationResultDTO;
 import co.unicauca.review.dto.response.FormatoAReviewDTO;
 import co.unicauca.review.dto.response.PageResponse;
 import co.unicauca.review.enums.EvaluatorRole;
+import co.unicauca.review.enums.SincronizacionEstado;
 import co.unicauca.review.exception.InvalidStateException;
 import co.unicauca.review.exception.UnauthorizedException;
 import co.unicauca.review.service.impl.FormatoAEvaluationService;
@@ -95,7 +96,10 @@ public class FormatoAReviewController {
 
             EvaluationResultDTO result = evaluationService.evaluate(fullRequest);
 
-            return ResponseEntity.status(HttpStatus.CREATED)
+            // 202 si Submission Service aún no confirmó la evaluación
+            HttpStatus status = result.estadoSincronizacion() == SincronizacionEstado.PENDIENTE
+                ? HttpStatus.ACCEPTED : HttpStatus.CREATED;
+            return ResponseEntity.status(status)
                 .body(ApiResponse.success(result, "Formato A evaluado exitosamente"));
 
         } catch (UnauthorizedException e) {
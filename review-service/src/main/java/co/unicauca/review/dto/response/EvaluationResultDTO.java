@@ -2,6 +2,7 @@ package co.unicauca.review.dto.response;
 
 import co.unicauca.review.enums.Decision;
 import co.unicauca.review.enums.DocumentType;
+import co.unicauca.review.enums.SincronizacionEstado;
 
 import java.time.LocalDateTime;
 
@@ -12,6 +13,10 @@ public record EvaluationResultDTO(
     Decision decision,
     String observaciones,
     LocalDateTime fechaEvaluacion,
-    boolean notificacionEnviada
+    boolean notificacionEnviada,
+    // Llamadas a submission-service que hizo la evaluación (lecturas y actualizaciones)
+    int llamadasRemotas,
+    // PENDIENTE si Submission Service no respondió: la evaluación se sincroniza más tarde
+    SincronizacionEstado estadoSincronizacion
 ) {}
 
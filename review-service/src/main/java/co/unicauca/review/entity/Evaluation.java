@@ -3,6 +3,7 @@ package co.unicauca.review.entity;
 import co.unicauca.review.enums.Decision;
 import co.unicauca.review.enums.DocumentType;
 import co.unicauca.review.enums.EvaluatorRole;
+import co.unicauca.review.enums.SincronizacionEstado;
 import jakarta.persistence.*;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
@@ -13,7 +14,8 @@ import java.time.LocalDateTime;
 @Entity
 @Table(name = "evaluaciones", indexes = {
     @Index(name = "idx_eval_document", columnList = "document_type,document_id"),
-    @Index(name = "idx_eval_evaluator", columnList = "evaluator_id")
+    @Index(name = "idx_eval_evaluator", columnList = "evaluator_id"),
+    @Index(name = "idx_eval_sincronizacion", columnList = "estado_sincronizacion")
 })
 @EntityListeners(AuditingEntityListener.class)
 public class Evaluation {
@@ -46,6 +48,22 @@ public class Evaluation {
     @Column(name = "fecha_evaluacion", nullable = false)
     private LocalDateTime fechaEvaluacion;
 
+    /**
+     * PENDIENTE mientras Submission Service no confirma la evaluación y POR_NOTIFICAR
+     * mientras no se publican sus eventos.
+     * Null en evaluaciones anteriores a este campo: se consideran sincronizadas.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "estado_sincronizacion", length = 20)
+    private SincronizacionEstado estadoSincronizacion;
+
+    /**
+     * Hasta cuándo la procesa quien la registró o la instancia que la reclamó para
+     * recuperarla; vencido, otra instancia puede reclamarla.
+     */
+    @Column(name = "reclamada_hasta")
+    private LocalDateTime reclamadaHasta;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -122,6 +140,22 @@ public class Evaluation {
         this.fechaEvaluacion = fechaEvaluacion;
     }
 
+    public SincronizacionEstado getEstadoSincronizacion() {
+        return estadoSincronizacion;
+    }
+
+    public void setEstadoSincronizacion(SincronizacionEstado estadoSincronizacion) {
+        this.estadoSincronizacion = estadoSincronizacion;
+    }
+
+    public LocalDateTime getReclamadaHasta() {
+        return reclamadaHasta;
+    }
+
+    public void setReclamadaHasta(LocalDateTime reclamadaHasta) {
+        this.reclamadaHasta = reclamadaHasta;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
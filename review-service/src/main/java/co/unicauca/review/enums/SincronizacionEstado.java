@@ -0,0 +1,12 @@
+package co.unicauca.review.enums;
+
+/**
+ * Avance de una evaluación después de la transacción local:
+ * PENDIENTE (falta actualizar Submission Service) → POR_NOTIFICAR (falta publicar
+ * los eventos) → SINCRONIZADA.
+ */
+public enum SincronizacionEstado {
+    PENDIENTE,
+    POR_NOTIFICAR,
+    SINCRONIZADA
+}
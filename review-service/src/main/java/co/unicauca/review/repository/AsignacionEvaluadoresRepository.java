@@ -2,9 +2,11 @@ package co.unicauca.review.repository;
 
 import co.unicauca.review.entity.AsignacionEvaluadores;
 import co.unicauca.review.enums.AsignacionEstado;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -16,6 +18,14 @@ public interface AsignacionEvaluadoresRepository extends JpaRepository<Asignacio
 
     Optional<AsignacionEvaluadores> findByAnteproyectoId(Long anteproyectoId);
 
+    /**
+     * Bloquea la asignación hasta el commit: dos evaluadores que registran a la vez
+     * no se pisan la decisión y solo uno de ellos ve la asignación completada.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM AsignacionEvaluadores a WHERE a.anteproyectoId = :anteproyectoId")
+    Optional<AsignacionEvaluadores> findByAnteproyectoIdForUpdate(@Param("anteproyectoId") Long anteproyectoId);
+
     boolean existsByAnteproyectoId(Long anteproyectoId);
 
     Page<AsignacionEvaluadores> findByEstado(AsignacionEstado estado, Pageable pageable);
@@ -2,11 +2,17 @@ package co.unicauca.review.repository;
 
 import co.unicauca.review.entity.Evaluation;
 import co.unicauca.review.enums.DocumentType;
+import co.unicauca.review.enums.SincronizacionEstado;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -20,4 +26,28 @@ public interface EvaluationRepository extends JpaRepository<Evaluation, Long> {
 
     boolean existsByDocumentIdAndDocumentTypeAndEvaluatorId(
             Long documentId, DocumentType documentType, Long evaluatorId);
+
+    /**
+     * Evaluaciones sin terminar que nadie está procesando: su reclamo venció o no tienen.
+     */
+    @Query("SELECT e FROM Evaluation e WHERE e.documentType = :documentType " +
+           "AND e.estadoSincronizacion IN :estados " +
+           "AND (e.reclamadaHasta IS NULL OR e.reclamadaHasta < :ahora) ORDER BY e.id")
+    List<Evaluation> findRecuperables(@Param("documentType") DocumentType documentType,
+                                      @Param("estados") Collection<SincronizacionEstado> estados,
+                                      @Param("ahora") LocalDateTime ahora,
+                                      Pageable limite);
+
+    /**
+     * Reclama la evaluación hasta :hasta si su reclamo anterior venció. El UPDATE
+     * condicional es atómico: de varias instancias que la reclaman, solo una recibe 1.
+     */
+    @Modifying
+    @Query("UPDATE Evaluation e SET e.reclamadaHasta = :hasta WHERE e.id = :id " +
+           "AND (e.reclamadaHasta IS NULL OR e.reclamadaHasta < :ahora)")
+    int reclamar(@Param("id") Long id, @Param("ahora") LocalDateTime ahora, @Param("hasta") LocalDateTime hasta);
+
+    @Modifying
+    @Query("UPDATE Evaluation e SET e.estadoSincronizacion = :estado WHERE e.id = :id")
+    int updateEstadoSincronizacion(@Param("id") Long id, @Param("estado") SincronizacionEstado estado);
 }
@@ -0,0 +1,95 @@
+package co.unicauca.review.service;
+
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Contexto de una evaluación: memoriza las lecturas a Submission Service y cuenta las
+ * llamadas remotas que hizo.
+ *
+ * Cada lectura se identifica con una clave (p. ej. "formatoA:15"): la primera la hace
+ * y las siguientes, en cualquier paso de la evaluación, reciben el mismo resultado,
+ * incluso si falló. Vive lo que dura una evaluación; no es una caché entre peticiones.
+ */
+public class EvaluationContext {
+
+    private final Executor executor;
+    private final Map<String, CompletableFuture<?>> lecturas = new ConcurrentHashMap<>();
+    private final AtomicInteger llamadasRemotas = new AtomicInteger();
+
+    public EvaluationContext(Executor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Lectura remota memorizada. Si no se había pedido, la hace en el hilo actual.
+     */
+    public <T> T read(String key, Supplier<T> loader) {
+        return await(memoize(key, loader, Runnable::run));
+    }
+
+    /**
+     * Inicia una lectura remota memorizada en el executor, para hacerla en paralelo
+     * con otro trabajo. Se recoge después con read usando la misma clave.
+     */
+    public <T> CompletableFuture<T> readAsync(String key, Supplier<T> loader) {
+        return memoize(key, loader, executor);
+    }
+
+    /**
+     * Ejecuta en el executor un paso que no se memoriza (p. ej. armar el documento a
+     * partir de varias lecturas), para solaparlo con trabajo local.
+     */
+    public <T> CompletableFuture<T> supplyAsync(Supplier<T> step) {
+        return CompletableFuture.supplyAsync(step, executor);
+    }
+
+    /**
+     * Llamada remota que no se memoriza (escrituras); solo se cuenta.
+     */
+    public void call(Runnable remoteCall) {
+        llamadasRemotas.incrementAndGet();
+        remoteCall.run();
+    }
+
+    public int getRemoteCalls() {
+        return llamadasRemotas.get();
+    }
+
+    /**
+     * Espera el resultado y propaga la excepción original en vez de CompletionException.
+     */
+    public static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> CompletableFuture<T> memoize(String key, Supplier<T> loader, Executor ejecutor) {
+        CompletableFuture<T> nueva = new CompletableFuture<>();
+        CompletableFuture<T> existente = (CompletableFuture<T>) lecturas.putIfAbsent(key, nueva);
+        if (existente != null) {
+            return existente;
+        }
+        ejecutor.execute(() -> {
+            llamadasRemotas.incrementAndGet();
+            try {
+                nueva.complete(loader.get());
+            } catch (Throwable e) {
+                nueva.completeExceptionally(e);
+            }
+        });
+        return nueva;
+    }
+}
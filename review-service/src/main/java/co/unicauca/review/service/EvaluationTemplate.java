@@ -6,28 +6,57 @@ import co.unicauca.review.entity.Evaluation;
 import co.unicauca.review.enums.Decision;
 import co.unicauca.review.enums.DocumentType;
 import co.unicauca.review.enums.EvaluatorRole;
+import co.unicauca.review.enums.SincronizacionEstado;
 import co.unicauca.review.exception.EvaluationException;
+import co.unicauca.review.exception.InvalidStateException;
+import co.unicauca.review.exception.ResourceNotFoundException;
 import co.unicauca.review.exception.UnauthorizedException;
 import co.unicauca.review.repository.EvaluationRepository;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 
 import java.time.LocalDateTime;
+import java.util.EnumSet;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 
 /**
  * Clase abstracta que implementa el patrón Template Method para evaluaciones académicas.
  * Define el algoritmo general de evaluación y delega pasos específicos a las subclases.
+ *
+ * La evaluación corre por etapas para no retener una conexión de BD durante las
+ * llamadas a Submission Service:
+ * 1. Consulta y validación del documento, sin transacción.
+ * 2. Transacción local corta: guarda la evaluación (PENDIENTE de sincronizar) y los
+ *    cambios locales de la subclase.
+ * 3. Después del commit: actualización de Submission Service con reintentos y
+ *    Idempotency-Key. Si la rechaza, se compensan los cambios locales; si no responde
+ *    tras los reintentos, la evaluación queda PENDIENTE y se informa así al cliente.
+ * 4. Publicación de los eventos (notificación, progress-tracking). Si falla, la
+ *    evaluación queda POR_NOTIFICAR.
+ * Las evaluaciones sin terminar (Submission Service caído, RabbitMQ caído, caída del
+ * proceso) las termina recoverPendingEvaluations. Cada una está reclamada por quien
+ * la procesa hasta reclamadaHasta, así que dos instancias no la repiten a la vez.
  */
 public abstract class EvaluationTemplate {
 
     protected static final Logger log = LoggerFactory.getLogger(EvaluationTemplate.class);
 
+    private static final String IDEMPOTENCY_KEY_PREFIX = "review-evaluacion-";
+
     @Autowired
     protected EvaluationRepository evaluationRepository;
 
@@ -37,17 +66,40 @@ public abstract class EvaluationTemplate {
     @Autowired
     protected WebClient.Builder webClientBuilder;
 
+    @Autowired
+    protected PlatformTransactionManager transactionManager;
+
+    /**
+     * Executor de las lecturas paralelas a Submission Service. Sin él (tests) las
+     * lecturas corren en el hilo de la evaluación.
+     */
+    @Autowired
+    @Qualifier("submissionReadExecutor")
+    protected Executor submissionReadExecutor;
+
     @Value("${evaluation.exchange}")
     protected String exchange;
 
     @Value("${evaluation.routing-key}")
     protected String routingKey;
 
+    @Value("${evaluation.remote.max-attempts:3}")
+    protected int remoteMaxAttempts = 3;
+
+    @Value("${evaluation.remote.backoff-ms:200}")
+    protected long remoteBackoffMs = 200;
+
+    @Value("${evaluation.remote.recovery-after-seconds:300}")
+    protected long recoveryAfterSeconds = 300;
+
+    @Value("${evaluation.remote.recovery-batch-size:50}")
+    protected int recoveryBatchSize = 50;
+
     /**
      * TEMPLATE METHOD (final - no se puede override)
      * Define el algoritmo general de evaluación.
+     * No es transaccional: solo el paso 4 abre una transacción.
      */
-    @Transactional
     public final EvaluationResultDTO evaluate(EvaluationRequestDTO request) {
         try {
             log.info("Iniciando evaluación - Documento: {}, Tipo: {}, Evaluador: {}",
@@ -56,25 +108,36 @@ public abstract class EvaluationTemplate {
             // 1. Validar permisos (común)
             validatePermissions(request);
 
-            // 2. Obtener documento (específico - abstracto)
-            DocumentInfo document = fetchDocument(request.documentId());
+            // 2. Obtener documento (específico - abstracto), fuera de transacción y en
+            //    paralelo con las validaciones locales
+            EvaluationContext context = new EvaluationContext(readExecutor());
+            CompletableFuture<DocumentInfo> pendingDocument =
+                context.supplyAsync(() -> fetchDocument(request.documentId(), context));
+            validateLocalPreconditions(request);
+            DocumentInfo document = EvaluationContext.await(pendingDocument);
 
             // 3. Validar estado (específico - abstracto)
             validateDocumentState(document);
 
-            // 4. Registrar evaluación (común)
-            Evaluation evaluation = saveEvaluation(request, document);
+            // 4. Registrar evaluación y cambios locales (transacción corta)
+            LocalRegistration registration = registerLocally(request, document);
+            Evaluation evaluation = registration.evaluation();
 
-            // 5. Actualizar Submission Service (específico - abstracto)
-            updateSubmissionService(document.getId(), request.decision(),
-                                   request.observaciones(), request.evaluatorId().intValue());
+            // 5. Actualizar Submission Service después del commit (específico - abstracto)
+            if (registration.remoteSyncPending()
+                    && !synchronizeOrCompensate(evaluation, document.getId(), request.decision(),
+                                                request.observaciones(), request.evaluatorId().intValue(), context)) {
+                // Se notifica cuando Submission Service la acepte
+                return buildResult(evaluation, false, context.getRemoteCalls(), SincronizacionEstado.PENDIENTE);
+            }
 
-            // 6. Publicar evento notificación (específico - abstracto)
-            boolean notified = publishNotificationEvent(evaluation, document);
+            // 6. Publicar eventos (específico - abstracto); si falla, los reenvía la recuperación
+            boolean notified = publishEvents(evaluation, document, context);
 
             // 7. Retornar resultado (común)
-            log.info("Evaluación completada exitosamente - ID: {}", evaluation.getId());
-            return buildSuccessResult(evaluation, notified);
+            log.info("Evaluación completada exitosamente - ID: {}, llamadas a Submission Service: {}",
+                    evaluation.getId(), context.getRemoteCalls());
+            return buildResult(evaluation, notified, context.getRemoteCalls(), SincronizacionEstado.SINCRONIZADA);
 
         } catch (UnauthorizedException e) {
             log.warn("Evaluación rechazada por permisos: {}", e.getMessage());
@@ -86,6 +149,68 @@ public abstract class EvaluationTemplate {
         }
     }
 
+    /**
+     * Termina las evaluaciones sin terminar cuyo reclamo venció (recovery-after-seconds).
+     * Reclama cada una antes de procesarla: si otra instancia la reclamó primero, la salta.
+     *
+     * Una PENDIENTE reenvía la actualización con la misma Idempotency-Key: si Submission
+     * Service ya la había aplicado responde lo mismo sin aplicarla dos veces. Si el error
+     * no es transitorio, compensa la evaluación. Después (o si estaba POR_NOTIFICAR)
+     * publica los eventos; un evento puede llegar más de una vez.
+     */
+    @Scheduled(initialDelayString = "${evaluation.remote.recovery-interval-ms:60000}",
+               fixedDelayString = "${evaluation.remote.recovery-interval-ms:60000}")
+    public void recoverPendingEvaluations() {
+        LocalDateTime ahora = LocalDateTime.now();
+        List<Evaluation> pendientes = evaluationRepository.findRecuperables(getDocumentType(),
+            EnumSet.of(SincronizacionEstado.PENDIENTE, SincronizacionEstado.POR_NOTIFICAR),
+            ahora, PageRequest.of(0, recoveryBatchSize));
+
+        for (Evaluation evaluation : pendientes) {
+            if (!claim(evaluation)) {
+                log.debug("Evaluación {} reclamada por otra instancia", evaluation.getId());
+                continue;
+            }
+            try {
+                recover(evaluation);
+            } catch (Exception e) {
+                log.warn("⚠️ Evaluación {} sigue sin terminar: {}", evaluation.getId(), e.getMessage());
+            }
+        }
+    }
+
+    private void recover(Evaluation evaluation) {
+        EvaluationContext context = new EvaluationContext(readExecutor());
+
+        if (evaluation.getEstadoSincronizacion() == SincronizacionEstado.PENDIENTE) {
+            try {
+                updateWithRetries(evaluation.getDocumentId(), evaluation.getDecision(),
+                                  evaluation.getObservaciones(), evaluation.getEvaluatorId().intValue(),
+                                  idempotencyKey(evaluation), context);
+            } catch (RuntimeException e) {
+                if (isRetryable(e)) {
+                    log.warn("⚠️ Evaluación {} sigue pendiente de sincronizar: {}", evaluation.getId(), e.getMessage());
+                } else {
+                    log.error("❌ Submission Service rechazó la evaluación pendiente {}: {}",
+                             evaluation.getId(), e.getMessage());
+                    compensate(evaluation);
+                }
+                return;
+            }
+            log.info("✅ Evaluación {} sincronizada con Submission Service por recuperación ({} llamadas)",
+                    evaluation.getId(), context.getRemoteCalls());
+        }
+
+        try {
+            DocumentInfo document = fetchDocument(evaluation.getDocumentId(), context);
+            publishEvents(evaluation, document, context);
+        } catch (RuntimeException e) {
+            // El documento es necesario para armar los eventos
+            log.warn("⚠️ No se pudo obtener el documento de la evaluación {}: {}", evaluation.getId(), e.getMessage());
+            markState(evaluation, SincronizacionEstado.POR_NOTIFICAR);
+        }
+    }
+
     // ========== MÉTODOS COMUNES (implementados aquí) ==========
 
     /**
@@ -105,7 +230,7 @@ public abstract class EvaluationTemplate {
     /**
      * Guarda la evaluación en la base de datos
      */
-    protected Evaluation saveEvaluation(EvaluationRequestDTO request, DocumentInfo doc) {
+    protected Evaluation saveEvaluation(EvaluationRequestDTO request, DocumentInfo doc, boolean remoteSyncPending) {
         Evaluation eval = new Evaluation();
         eval.setDocumentId(request.documentId());
         eval.setDocumentType(getDocumentType());
@@ -114,6 +239,10 @@ public abstract class EvaluationTemplate {
         eval.setEvaluatorId(request.evaluatorId());
         eval.setEvaluatorRole(request.evaluatorRole());
         eval.setFechaEvaluacion(LocalDateTime.now());
+        eval.setEstadoSincronizacion(remoteSyncPending
+                ? SincronizacionEstado.PENDIENTE : SincronizacionEstado.POR_NOTIFICAR);
+        // Reclamada por esta petición: la recuperación no la toma mientras se procesa
+        eval.setReclamadaHasta(eval.getFechaEvaluacion().plusSeconds(recoveryAfterSeconds));
 
         Evaluation saved = evaluationRepository.save(eval);
         log.info("Evaluación guardada - ID: {}, Documento: {}, Decisión: {}",
@@ -123,9 +252,172 @@ public abstract class EvaluationTemplate {
     }
 
     /**
-     * Construye el resultado exitoso de la evaluación
+     * Etapa local: guarda la evaluación y los cambios de la subclase en una sola
+     * transacción, sin llamadas remotas dentro.
      */
-    protected EvaluationResultDTO buildSuccessResult(Evaluation eval, boolean notified) {
+    private LocalRegistration registerLocally(EvaluationRequestDTO request, DocumentInfo document) {
+        long inicio = System.nanoTime();
+        LocalRegistration registration = inTransaction(() -> {
+            boolean remoteSyncPending = applyLocalChanges(request, document);
+            Evaluation evaluation = saveEvaluation(request, document, remoteSyncPending);
+            return new LocalRegistration(evaluation, remoteSyncPending);
+        });
+        log.debug("Transacción local de la evaluación confirmada en {} ms",
+                 (System.nanoTime() - inicio) / 1_000_000);
+        return registration;
+    }
+
+    /**
+     * Etapa remota: si Submission Service rechaza la evaluación, deshace los cambios
+     * locales y propaga el error. Si sigue sin responder tras los reintentos no se sabe
+     * si la aplicó: la evaluación queda PENDIENTE para recoverPendingEvaluations.
+     *
+     * @return true si Submission Service aceptó la evaluación
+     */
+    private boolean synchronizeOrCompensate(Evaluation evaluation, Long docId, Decision decision,
+                                            String obs, Integer evaluatorId, EvaluationContext context) {
+        try {
+            updateWithRetries(docId, decision, obs, evaluatorId, idempotencyKey(evaluation), context);
+        } catch (RuntimeException e) {
+            if (isRetryable(e)) {
+                log.warn("⚠️ Submission Service no respondió para la evaluación {}; queda pendiente: {}",
+                        evaluation.getId(), e.getMessage());
+                return false;
+            }
+            log.error("❌ Submission Service rechazó la evaluación {}; se compensa", evaluation.getId());
+            compensate(evaluation);
+            throw e;
+        }
+        return true;
+    }
+
+    /**
+     * Publica los eventos de la evaluación y la marca SINCRONIZADA. Si la publicación
+     * falla queda POR_NOTIFICAR para que la recuperación la reintente.
+     *
+     * @return true si se envió notificación
+     */
+    private boolean publishEvents(Evaluation evaluation, DocumentInfo document, EvaluationContext context) {
+        boolean notified;
+        try {
+            notified = publishNotificationEvent(evaluation, document, context);
+        } catch (RuntimeException e) {
+            log.error("❌ No se publicaron los eventos de la evaluación {}; se reintentarán: {}",
+                     evaluation.getId(), e.getMessage(), e);
+            markState(evaluation, SincronizacionEstado.POR_NOTIFICAR);
+            return false;
+        }
+        markState(evaluation, SincronizacionEstado.SINCRONIZADA);
+        return notified;
+    }
+
+    private void updateWithRetries(Long docId, Decision decision, String obs, Integer evaluatorId,
+                                   String idempotencyKey, EvaluationContext context) {
+        int intento = 1;
+        while (true) {
+            try {
+                updateSubmissionService(docId, decision, obs, evaluatorId, idempotencyKey, context);
+                return;
+            } catch (RuntimeException e) {
+                if (intento >= remoteMaxAttempts || !isRetryable(e)) {
+                    throw e;
+                }
+                long espera = remoteBackoffMs << (intento - 1);
+                log.warn("⚠️ Intento {}/{} de actualizar Submission Service falló: {}. Reintentando en {} ms",
+                        intento, remoteMaxAttempts, e.getMessage(), espera);
+                pause(espera);
+                intento++;
+            }
+        }
+    }
+
+    /**
+     * Errores transitorios: sin respuesta (timeout, conexión), 5xx, 408, 429 y el 409
+     * con Retry-After de una petición con la misma Idempotency-Key todavía en curso.
+     * Los demás 4xx y los errores de negocio no cambian al reintentar.
+     */
+    protected boolean isRetryable(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof WebClientResponseException response) {
+                int status = response.getStatusCode().value();
+                return status >= 500 || status == 408 || status == 429
+                    || (status == 409 && response.getHeaders().containsKey(HttpHeaders.RETRY_AFTER));
+            }
+            if (t instanceof ResourceNotFoundException || t instanceof InvalidStateException) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void markState(Evaluation evaluation, SincronizacionEstado estado) {
+        if (evaluation.getEstadoSincronizacion() == estado) {
+            return;
+        }
+        try {
+            inTransaction(() -> evaluationRepository.updateEstadoSincronizacion(evaluation.getId(), estado));
+            evaluation.setEstadoSincronizacion(estado);
+        } catch (Exception e) {
+            // Queda en el estado anterior: la recuperación repite ese paso sin duplicar
+            // la actualización (misma Idempotency-Key)
+            log.warn("⚠️ No se pudo marcar como {} la evaluación {}: {}",
+                    estado, evaluation.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * Reclama la evaluación durante recovery-after-seconds para recuperarla.
+     */
+    private boolean claim(Evaluation evaluation) {
+        LocalDateTime ahora = LocalDateTime.now();
+        Integer reclamadas = inTransaction(() -> evaluationRepository.reclamar(
+            evaluation.getId(), ahora, ahora.plusSeconds(recoveryAfterSeconds)));
+        return reclamadas != null && reclamadas == 1;
+    }
+
+    /**
+     * Compensación: elimina la evaluación y deshace los cambios locales de la subclase.
+     * Si falla, la evaluación queda PENDIENTE para recoverPendingEvaluations.
+     */
+    private void compensate(Evaluation evaluation) {
+        try {
+            inTransaction(() -> {
+                revertLocalChanges(evaluation);
+                evaluationRepository.delete(evaluation);
+                return null;
+            });
+            log.info("Evaluación {} compensada: se deshicieron los cambios locales", evaluation.getId());
+        } catch (Exception e) {
+            log.error("❌ No se pudo compensar la evaluación {}: {}", evaluation.getId(), e.getMessage(), e);
+        }
+    }
+
+    private <T> T inTransaction(Supplier<T> action) {
+        return new TransactionTemplate(transactionManager).execute(status -> action.get());
+    }
+
+    private Executor readExecutor() {
+        return submissionReadExecutor != null ? submissionReadExecutor : Runnable::run;
+    }
+
+    private String idempotencyKey(Evaluation evaluation) {
+        return evaluation.getId() != null ? IDEMPOTENCY_KEY_PREFIX + evaluation.getId() : null;
+    }
+
+    private static void pause(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new EvaluationException("Reintento interrumpido", e);
+        }
+    }
+
+    /**
+     * Construye el resultado de la evaluación registrada
+     */
+    protected EvaluationResultDTO buildResult(Evaluation eval, boolean notified, int remoteCalls,
+                                              SincronizacionEstado estadoSincronizacion) {
         return new EvaluationResultDTO(
             eval.getId(),
             eval.getDocumentId(),
@@ -133,16 +425,27 @@ public abstract class EvaluationTemplate {
             eval.getDecision(),
             eval.getObservaciones(),
             eval.getFechaEvaluacion(),
-            notified
+            notified,
+            remoteCalls,
+            estadoSincronizacion
         );
     }
 
     // ========== MÉTODOS ABSTRACTOS (implementar en subclases) ==========
 
     /**
-     * Obtiene la información del documento desde el servicio de submissions
+     * Obtiene la información del documento desde el servicio de submissions.
+     * Corre en paralelo con validateLocalPreconditions. Las lecturas deben pasar por
+     * context para que los pasos siguientes no vuelvan a pedir el documento.
      */
-    protected abstract DocumentInfo fetchDocument(Long documentId);
+    protected abstract DocumentInfo fetchDocument(Long documentId, EvaluationContext context);
+
+    /**
+     * Validaciones con datos locales que no necesitan el documento remoto; corren
+     * mientras fetchDocument espera a Submission Service.
+     */
+    protected void validateLocalPreconditions(EvaluationRequestDTO request) {
+    }
 
     /**
      * Valida que el documento esté en un estado válido para ser evaluado
@@ -150,14 +453,40 @@ public abstract class EvaluationTemplate {
     protected abstract void validateDocumentState(DocumentInfo document);
 
     /**
-     * Actualiza el estado del documento en el servicio de submissions
+     * Cambios locales de la evaluación (p. ej. la asignación de evaluadores). Corre en la
+     * misma transacción que guarda la evaluación, así que no debe llamar a otros servicios.
+     *
+     * @return true si hay que actualizar Submission Service después del commit
+     */
+    protected boolean applyLocalChanges(EvaluationRequestDTO request, DocumentInfo document) {
+        return true;
+    }
+
+    /**
+     * Deshace applyLocalChanges cuando Submission Service rechaza la evaluación.
+     * Corre en una transacción y puede no haber usuario autenticado (recuperación).
      */
-    protected abstract void updateSubmissionService(Long docId, Decision decision, String obs, Integer evaluatorId);
+    protected void revertLocalChanges(Evaluation evaluation) {
+    }
 
     /**
-     * Publica un evento de notificación vía RabbitMQ
+     * Actualiza el estado del documento en el servicio de submissions.
+     * Corre después del commit y se reintenta: debe enviar idempotencyKey para que
+     * un reintento no aplique la evaluación dos veces. Lee de context lo que ya obtuvo
+     * fetchDocument y registra ahí sus escrituras.
      */
-    protected abstract boolean publishNotificationEvent(Evaluation eval, DocumentInfo doc);
+    protected abstract void updateSubmissionService(Long docId, Decision decision, String obs, Integer evaluatorId,
+                                                    String idempotencyKey, EvaluationContext context);
+
+    /**
+     * Publica los eventos de la evaluación aceptada (notificación vía RabbitMQ y, según
+     * el documento, progress-tracking). Si no puede publicar debe lanzar la excepción:
+     * la evaluación queda POR_NOTIFICAR y la recuperación vuelve a llamarlo, así que un
+     * evento puede publicarse más de una vez.
+     *
+     * @return true si se envió notificación; false si no había nada que notificar
+     */
+    protected abstract boolean publishNotificationEvent(Evaluation eval, DocumentInfo doc, EvaluationContext context);
 
     /**
      * Retorna el tipo de documento que maneja esta implementación
@@ -169,6 +498,8 @@ public abstract class EvaluationTemplate {
      */
     protected abstract EvaluatorRole getRequiredRole();
 
+    private record LocalRegistration(Evaluation evaluation, boolean remoteSyncPending) {}
+
     // ========== CLASE INTERNA PARA INFO DEL DOCUMENTO ==========
 
     /**
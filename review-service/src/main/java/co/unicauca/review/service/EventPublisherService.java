@@ -43,8 +43,9 @@ public class EventPublisherService {
                      evento.getProyectoId());
 
         } catch (Exception e) {
+            // Se propaga: la evaluación queda POR_NOTIFICAR y se reintenta
             log.error("❌ Error al publicar evento formatoa.evaluado: {}", e.getMessage(), e);
-            // No lanzamos excepción para no afectar la transacción principal
+            throw e;
         }
     }
 
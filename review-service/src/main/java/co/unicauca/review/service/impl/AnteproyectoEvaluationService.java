@@ -1,6 +1,7 @@
 package co.unicauca.review.service.impl;
 
 import co.unicauca.review.client.SubmissionServiceClient;
+import co.unicauca.review.dto.request.EvaluationRequestDTO;
 import co.unicauca.review.dto.response.NotificationEventDTO;
 import co.unicauca.review.entity.AsignacionEvaluadores;
 import co.unicauca.review.entity.Evaluation;
@@ -10,6 +11,7 @@ import co.unicauca.review.enums.DocumentType;
 import co.unicauca.review.enums.EvaluatorRole;
 import co.unicauca.review.exception.InvalidStateException;
 import co.unicauca.review.repository.AsignacionEvaluadoresRepository;
+import co.unicauca.review.service.EvaluationContext;
 import co.unicauca.review.service.EvaluationTemplate;
 import co.unicauca.review.util.SecurityUtil;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -37,10 +39,11 @@ public class AnteproyectoEvaluationService extends EvaluationTemplate {
     private co.unicauca.review.adapter.NotificationAdapter notificationAdapter;
 
     @Override
-    protected DocumentInfo fetchDocument(Long documentId) {
+    protected DocumentInfo fetchDocument(Long documentId, EvaluationContext context) {
         log.debug("Obteniendo información de Anteproyecto con id: {}", documentId);
 
-        SubmissionServiceClient.AnteproyectoDTO dto = submissionClient.getAnteproyecto(documentId);
+        SubmissionServiceClient.AnteproyectoDTO dto = context.read("anteproyecto:" + documentId,
+                () -> submissionClient.getAnteproyecto(documentId));
 
         DocumentInfo doc = new DocumentInfo();
         doc.setId(dto.getId());
@@ -54,13 +57,16 @@ public class AnteproyectoEvaluationService extends EvaluationTemplate {
         return doc;
     }
 
+    /**
+     * La asignación es local: se valida mientras se obtiene el anteproyecto de Submission Service.
+     */
     @Override
-    protected void validateDocumentState(DocumentInfo document) {
+    protected void validateLocalPreconditions(EvaluationRequestDTO request) {
         // Verificar que tenga evaluadores asignados
         AsignacionEvaluadores asignacion = asignacionRepository
-            .findByAnteproyectoId(document.getId())
+            .findByAnteproyectoId(request.documentId())
             .orElseThrow(() -> new InvalidStateException(
-                String.format("Anteproyecto %d no tiene evaluadores asignados", document.getId())
+                String.format("Anteproyecto %d no tiene evaluadores asignados", request.documentId())
             ));
 
         // Verificar que el evaluador actual no haya evaluado ya
@@ -84,23 +90,38 @@ public class AnteproyectoEvaluationService extends EvaluationTemplate {
             );
         }
 
-        log.debug("Estado del documento y asignación validados correctamente");
+        log.debug("Asignación validada correctamente");
+    }
+
+    @Override
+    protected void validateDocumentState(DocumentInfo document) {
+        // El estado del anteproyecto lo controla la asignación (validateLocalPreconditions)
+        log.debug("Anteproyecto {} en estado {}", document.getId(), document.getEstado());
     }
 
     @Override
-    protected void updateSubmissionService(Long docId, Decision decision, String obs, Integer evaluatorId) {
+    protected boolean applyLocalChanges(EvaluationRequestDTO request, DocumentInfo document) {
         AsignacionEvaluadores asignacion = asignacionRepository
-            .findByAnteproyectoId(docId)
+            .findByAnteproyectoIdForUpdate(document.getId())
             .orElseThrow(() -> new IllegalStateException("Asignación no encontrada"));
 
         // Actualizar decisión del evaluador actual
         Long currentEvaluatorId = getCurrentEvaluatorId();
+        Decision decision = request.decision();
+        String obs = request.observaciones();
 
         if (asignacion.getEvaluador1Id().equals(currentEvaluatorId)) {
+            // Con la fila bloqueada: otra petición del mismo evaluador pudo registrar ya
+            if (asignacion.getEvaluador1Decision() != null) {
+                throw new InvalidStateException("Este evaluador ya registró su evaluación para este anteproyecto");
+            }
             asignacion.setEvaluador1Decision(decision);
             asignacion.setEvaluador1Observaciones(obs);
             log.info("Evaluación registrada para Evaluador 1: decisión={}", decision);
         } else if (asignacion.getEvaluador2Id().equals(currentEvaluatorId)) {
+            if (asignacion.getEvaluador2Decision() != null) {
+                throw new InvalidStateException("Este evaluador ya registró su evaluación para este anteproyecto");
+            }
             asignacion.setEvaluador2Decision(decision);
             asignacion.setEvaluador2Observaciones(obs);
             log.info("Evaluación registrada para Evaluador 2: decisión={}", decision);
@@ -111,30 +132,68 @@ public class AnteproyectoEvaluationService extends EvaluationTemplate {
             asignacion.setEstado(AsignacionEstado.EN_EVALUACION);
         }
 
-        // Solo actualizar Submission Service si AMBOS evaluadores han evaluado
-        if (asignacion.isCompletada()) {
-            Decision finalDecision = asignacion.getFinalDecision();
+        // Solo se actualiza Submission Service si AMBOS evaluadores han evaluado
+        boolean completada = asignacion.isCompletada();
+        if (completada) {
             asignacion.setEstado(AsignacionEstado.COMPLETADA);
             asignacion.setFechaCompletado(LocalDateTime.now());
-
-            Map<String, Object> body = Map.of(
-                "estado", finalDecision.name(),
-                "observaciones", "Evaluado por ambos evaluadores",
-                "evaluadoPor", evaluatorId
-            );
-
-            submissionClient.updateAnteproyectoEstado(docId, body);
-            log.info("✓ Estado final actualizado en Submission Service: anteproyectoId={}, decisión={}",
-                    docId, finalDecision);
         } else {
             log.info("⏳ Esperando evaluación del segundo evaluador. Estado no actualizado en Submission Service aún.");
         }
 
         asignacionRepository.save(asignacion);
+        return completada;
+    }
+
+    @Override
+    protected void updateSubmissionService(Long docId, Decision decision, String obs, Integer evaluatorId,
+                                           String idempotencyKey, EvaluationContext context) {
+        AsignacionEvaluadores asignacion = asignacionRepository
+            .findByAnteproyectoId(docId)
+            .orElseThrow(() -> new IllegalStateException("Asignación no encontrada"));
+
+        Decision finalDecision = asignacion.getFinalDecision();
+
+        Map<String, Object> body = Map.of(
+            "estado", finalDecision.name(),
+            "observaciones", "Evaluado por ambos evaluadores",
+            "evaluadoPor", evaluatorId
+        );
+
+        context.call(() -> submissionClient.updateAnteproyectoEstado(
+                docId, body, evaluatorId.longValue(), idempotencyKey));
+        log.info("✓ Estado final actualizado en Submission Service: anteproyectoId={}, decisión={}",
+                docId, finalDecision);
+    }
+
+    @Override
+    protected void revertLocalChanges(Evaluation evaluation) {
+        AsignacionEvaluadores asignacion = asignacionRepository
+            .findByAnteproyectoIdForUpdate(evaluation.getDocumentId())
+            .orElseThrow(() -> new IllegalStateException("Asignación no encontrada"));
+
+        // Sin usuario autenticado en la recuperación: el evaluador sale de la evaluación
+        Long evaluatorId = evaluation.getEvaluatorId();
+        if (asignacion.getEvaluador1Id().equals(evaluatorId)) {
+            asignacion.setEvaluador1Decision(null);
+            asignacion.setEvaluador1Observaciones(null);
+        } else if (asignacion.getEvaluador2Id().equals(evaluatorId)) {
+            asignacion.setEvaluador2Decision(null);
+            asignacion.setEvaluador2Observaciones(null);
+        }
+
+        boolean sinDecisiones = asignacion.getEvaluador1Decision() == null
+            && asignacion.getEvaluador2Decision() == null;
+        asignacion.setEstado(sinDecisiones ? AsignacionEstado.PENDIENTE : AsignacionEstado.EN_EVALUACION);
+        asignacion.setFechaCompletado(null);
+
+        asignacionRepository.save(asignacion);
+        log.info("Decisión del evaluador {} retirada de la asignación del anteproyecto {}",
+                evaluatorId, evaluation.getDocumentId());
     }
 
     @Override
-    protected boolean publishNotificationEvent(Evaluation eval, DocumentInfo doc) {
+    protected boolean publishNotificationEvent(Evaluation eval, DocumentInfo doc, EvaluationContext context) {
         AsignacionEvaluadores asignacion = asignacionRepository
             .findByAnteproyectoId(doc.getId())
             .orElseThrow(() -> new IllegalStateException("Asignación no encontrada"));
@@ -147,36 +206,30 @@ public class AnteproyectoEvaluationService extends EvaluationTemplate {
 
         log.info("📧 Publicando notificación de evaluación para Anteproyecto {} (ambos evaluadores completaron)", doc.getId());
 
-        try {
-            // Construir lista de destinatarios (director + estudiantes)
-            List<String> recipients = buildRecipients(doc);
-
-            if (recipients.isEmpty()) {
-                log.warn("⚠️ No hay destinatarios para notificar sobre la evaluación del Anteproyecto {}", doc.getId());
-                return false;
-            }
+        // Construir lista de destinatarios (director + estudiantes)
+        List<String> recipients = buildRecipients(doc);
 
-            // Obtener decisión final y observaciones
-            String decision = asignacion.getFinalDecision().name();
-            String observaciones = buildFinalObservaciones(asignacion);
-
-            // Usar el NotificationAdapter para enviar a notifications.q
-            notificationAdapter.notificarEvaluacionAnteproyecto(
-                doc.getId(),
-                doc.getTitulo(),
-                decision,
-                "Evaluadores del Departamento",
-                observaciones,
-                recipients
-            );
-
-            log.info("✅ Notificación de evaluación de anteproyecto publicada exitosamente para {} destinatarios", recipients.size());
-            return true;
-
-        } catch (Exception e) {
-            log.error("❌ Error publicando notificación de evaluación de anteproyecto: {}", e.getMessage(), e);
+        if (recipients.isEmpty()) {
+            log.warn("⚠️ No hay destinatarios para notificar sobre la evaluación del Anteproyecto {}", doc.getId());
             return false;
         }
+
+        // Obtener decisión final y observaciones
+        String decision = asignacion.getFinalDecision().name();
+        String observaciones = buildFinalObservaciones(asignacion);
+
+        // Usar el NotificationAdapter para enviar a notifications.q
+        notificationAdapter.notificarEvaluacionAnteproyecto(
+            doc.getId(),
+            doc.getTitulo(),
+            decision,
+            "Evaluadores del Departamento",
+            observaciones,
+            recipients
+        );
+
+        log.info("✅ Notificación de evaluación de anteproyecto publicada exitosamente para {} destinatarios", recipients.size());
+        return true;
     }
 
     @Override
@@ -10,6 +10,7 @@ import co.unicauca.review.enums.DocumentType;
 import co.unicauca.review.enums.EvaluatorRole;
 import co.unicauca.review.exception.InvalidStateException;
 import co.unicauca.review.exception.ResourceNotFoundException;
+import co.unicauca.review.service.EvaluationContext;
 import co.unicauca.review.service.EvaluationTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -37,7 +38,7 @@ public class FormatoAEvaluationService extends EvaluationTemplate {
     private co.unicauca.review.adapter.NotificationAdapter notificationAdapter;
 
     @Override
-    protected DocumentInfo fetchDocument(Long documentId) {
+    protected DocumentInfo fetchDocument(Long documentId, EvaluationContext context) {
         log.debug("Obteniendo información de Formato A con id: {}", documentId);
 
         try {
@@ -45,7 +46,7 @@ public class FormatoAEvaluationService extends EvaluationTemplate {
             log.debug("Intentando obtener Formato A {} directamente por ID...", documentId);
 
             try {
-                SubmissionServiceClient.FormatoADTO formatoDirecto = submissionClient.getFormatoA(documentId);
+                SubmissionServiceClient.FormatoADTO formatoDirecto = getFormatoA(documentId, context);
                 if (formatoDirecto != null) {
                     DocumentInfo doc = new DocumentInfo();
                     doc.setId(formatoDirecto.getId());
@@ -69,7 +70,9 @@ public class FormatoAEvaluationService extends EvaluationTemplate {
             log.debug("Buscando Formato A {} en el listado de pendientes...", documentId);
 
             for (int pageNum = 0; pageNum < 10; pageNum++) {
-                Page<FormatoAReviewDTO> page = submissionClient.getFormatosAPendientes(pageNum, 100);
+                int numero = pageNum;
+                Page<FormatoAReviewDTO> page = context.read("formatosAPendientes:" + numero,
+                        () -> submissionClient.getFormatosAPendientes(numero, 100));
 
                 Optional<FormatoAReviewDTO> formatoOpt = page.getContent().stream()
                     .filter(f -> f.formatoAId().equals(documentId))
@@ -166,24 +169,22 @@ public class FormatoAEvaluationService extends EvaluationTemplate {
     }
 
     @Override
-    protected void updateSubmissionService(Long docId, Decision decision, String obs, Integer evaluatorId) {
+    protected void updateSubmissionService(Long docId, Decision decision, String obs, Integer evaluatorId,
+                                           String idempotencyKey, EvaluationContext context) {
         log.info("Actualizando estado de Formato A {} en Submission Service", docId);
 
-        // ⚠️ IMPORTANTE: Obtener información del Formato A ANTES de actualizar submission
-        // para capturar el número de intento ANTES del cambio de estado
+        // ⚠️ IMPORTANTE: Leer el Formato A ANTES de actualizar submission para que el
+        // contexto memorice el número de intento ANTES del cambio de estado (lo usa el
+        // evento de progress-tracking). Es el mismo que leyó fetchDocument.
         SubmissionServiceClient.FormatoADTO formatoAAntes = null;
         try {
-            formatoAAntes = submissionClient.getFormatoA(docId);
+            formatoAAntes = getFormatoA(docId, context);
             log.debug("Formato A obtenido ANTES de actualizar - NumeroIntento: {}",
                      formatoAAntes != null ? formatoAAntes.getNumeroIntento() : "null");
         } catch (Exception e) {
             log.warn("No se pudo obtener Formato A antes de actualizar: {}", e.getMessage());
         }
 
-        // Publicar evento a progress-tracking ANTES de actualizar submission
-        // Esto asegura que progress-tracking reciba el número de intento correcto
-        publishProgressTrackingEvent(docId, decision, obs, evaluatorId, formatoAAntes);
-
         // Convertir Decision enum a Boolean para el nuevo API de submission-service
         Boolean aprobado = (decision == Decision.APROBADO);
         String comentarios = obs != null ? obs : "";
@@ -193,7 +194,8 @@ public class FormatoAEvaluationService extends EvaluationTemplate {
                   aprobado, comentarios, evaluadorIdLong);
 
         // Llamar al nuevo endpoint de submission-service (arquitectura hexagonal)
-        submissionClient.updateFormatoAEstado(docId, aprobado, comentarios, evaluadorIdLong);
+        context.call(() -> submissionClient.updateFormatoAEstado(
+                docId, aprobado, comentarios, evaluadorIdLong, idempotencyKey));
 
         log.info("✅ Estado actualizado exitosamente en Submission Service: formatoAId={}, aprobado={}",
                 docId, aprobado);
@@ -201,98 +203,101 @@ public class FormatoAEvaluationService extends EvaluationTemplate {
 
     /**
      * Publica evento de Formato A evaluado a progress-tracking.
-     * ⚠️ IMPORTANTE: Este método debe llamarse ANTES de actualizar submission
-     * para poder obtener la versión actual antes de que cambie el estado.
+     * ⚠️ IMPORTANTE: formatoA debe haberse obtenido ANTES de actualizar submission
+     * para tener la versión anterior al cambio de estado.
      */
     private void publishProgressTrackingEvent(Long docId, Decision decision, String obs, Integer evaluatorId,
                                              SubmissionServiceClient.FormatoADTO formatoA) {
-        try {
-            log.info("📤 Preparando evento formatoa.evaluado para progress-tracking - Proyecto: {}, Decision: {}",
-                     docId, decision);
-
-            // Obtener versión actual del Formato A desde el DTO recibido
-            Integer version = (formatoA != null && formatoA.getNumeroIntento() != null) ?
-                              formatoA.getNumeroIntento() : 1;
-
-            // Determinar si es rechazo definitivo (tercera versión rechazada)
-            boolean rechazadoDefinitivo = (decision == Decision.RECHAZADO && version >= 3);
-
-            log.info("📊 Versión Formato A: {}, Rechazo definitivo: {}", version, rechazadoDefinitivo);
-
-            // Construir lista de estudiantes desde el DTO
-            List<java.util.Map<String, Object>> estudiantes = new ArrayList<>();
-            if (formatoA != null && formatoA.getEstudiantesEmails() != null) {
-                for (int i = 0; i < formatoA.getEstudiantesEmails().size(); i++) {
-                    String email = formatoA.getEstudiantesEmails().get(i);
-                    estudiantes.add(java.util.Map.of(
-                        "id", i + 1, // ID temporal
-                        "nombre", "Estudiante " + (i + 1), // Nombre temporal
-                        "email", email
-                    ));
-                }
+        log.info("📤 Preparando evento formatoa.evaluado para progress-tracking - Proyecto: {}, Decision: {}",
+                 docId, decision);
+
+        // Obtener versión actual del Formato A desde el DTO recibido
+        Integer version = (formatoA != null && formatoA.getNumeroIntento() != null) ?
+                          formatoA.getNumeroIntento() : 1;
+
+        // Determinar si es rechazo definitivo (tercera versión rechazada)
+        boolean rechazadoDefinitivo = (decision == Decision.RECHAZADO && version >= 3);
+
+        log.info("📊 Versión Formato A: {}, Rechazo definitivo: {}", version, rechazadoDefinitivo);
+
+        // Construir lista de estudiantes desde el DTO
+        List<java.util.Map<String, Object>> estudiantes = new ArrayList<>();
+        if (formatoA != null && formatoA.getEstudiantesEmails() != null) {
+            for (int i = 0; i < formatoA.getEstudiantesEmails().size(); i++) {
+                String email = formatoA.getEstudiantesEmails().get(i);
+                estudiantes.add(java.util.Map.of(
+                    "id", i + 1, // ID temporal
+                    "nombre", "Estudiante " + (i + 1), // Nombre temporal
+                    "email", email
+                ));
             }
-
-            // Crear y publicar evento
-            co.unicauca.review.event.FormatoAEvaluadoEvent evento =
-                co.unicauca.review.event.FormatoAEvaluadoEvent.builder()
-                    .proyectoId(docId)
-                    .resultado(decision.name())
-                    .observaciones(obs != null ? obs : "")
-                    .version(version)
-                    .rechazadoDefinitivo(rechazadoDefinitivo)
-                    .usuarioResponsableId(evaluatorId != null ? evaluatorId.longValue() : null)
-                    .usuarioResponsableNombre("Coordinador") // TODO: Obtener nombre real
-                    .usuarioResponsableRol("COORDINADOR")
-                    .estudiantes(estudiantes)
-                    .build();
-
-            eventPublisher.publishFormatoAEvaluado(evento);
-
-            log.info("✅ Evento formatoa.evaluado publicado exitosamente para proyecto {}", docId);
-
-        } catch (Exception e) {
-            log.error("❌ Error publicando evento a progress-tracking: {}", e.getMessage(), e);
-            // No propagar excepción - permitir que la evaluación continúe
         }
+
+        // Crear y publicar evento
+        co.unicauca.review.event.FormatoAEvaluadoEvent evento =
+            co.unicauca.review.event.FormatoAEvaluadoEvent.builder()
+                .proyectoId(docId)
+                .resultado(decision.name())
+                .observaciones(obs != null ? obs : "")
+                .version(version)
+                .rechazadoDefinitivo(rechazadoDefinitivo)
+                .usuarioResponsableId(evaluatorId != null ? evaluatorId.longValue() : null)
+                .usuarioResponsableNombre("Coordinador") // TODO: Obtener nombre real
+                .usuarioResponsableRol("COORDINADOR")
+                .estudiantes(estudiantes)
+                .build();
+
+        eventPublisher.publishFormatoAEvaluado(evento);
+
+        log.info("✅ Evento formatoa.evaluado publicado exitosamente para proyecto {}", docId);
     }
 
+    /**
+     * Publica el evento a progress-tracking y la notificación (RF3). Los errores se
+     * propagan: la evaluación queda POR_NOTIFICAR y se reintenta.
+     */
     @Override
-    protected boolean publishNotificationEvent(Evaluation eval, DocumentInfo doc) {
-        log.info("📧 Publicando notificación de evaluación para Formato A {} - RF3", doc.getId());
-
+    protected boolean publishNotificationEvent(Evaluation eval, DocumentInfo doc, EvaluationContext context) {
+        // El número de intento viene del Formato A leído antes de actualizar Submission
+        // Service (memorizado en el contexto); en la recuperación, del estado actual
+        SubmissionServiceClient.FormatoADTO formatoAAntes = null;
         try {
-            // Construir lista de destinatarios (director + estudiantes)
-            List<String> recipients = buildRecipients(doc);
-
-            if (recipients.isEmpty()) {
-                log.warn("⚠️ No hay destinatarios para notificar sobre la evaluación del Formato A {}", doc.getId());
-                return false;
-            }
+            formatoAAntes = getFormatoA(doc.getId(), context);
+        } catch (Exception e) {
+            log.warn("No se pudo obtener Formato A para el evento de progress-tracking: {}", e.getMessage());
+        }
+        publishProgressTrackingEvent(doc.getId(), eval.getDecision(), eval.getObservaciones(),
+                eval.getEvaluatorId() != null ? eval.getEvaluatorId().intValue() : null, formatoAAntes);
 
-            // Determinar el texto del resultado
-            String decision = eval.getDecision() == Decision.APROBADO ? "APROBADO" : "RECHAZADO";
-
-            // Nombre del evaluador (coordinador)
-            // TODO: Obtener nombre real desde identity-service usando eval.getEvaluatorId()
-            String evaluatedBy = "Coordinador del Programa";
-
-            // Usar el NotificationAdapter para enviar a notifications.q
-            notificationAdapter.notificarEvaluacionFormatoA(
-                doc.getId(),
-                doc.getTitulo(),
-                decision,
-                evaluatedBy,
-                eval.getObservaciones(),
-                recipients
-            );
+        log.info("📧 Publicando notificación de evaluación para Formato A {} - RF3", doc.getId());
 
-            log.info("✅ Notificación de evaluación publicada exitosamente para {} destinatarios", recipients.size());
-            return true;
+        // Construir lista de destinatarios (director + estudiantes)
+        List<String> recipients = buildRecipients(doc);
 
-        } catch (Exception e) {
-            log.error("❌ Error publicando notificación de evaluación: {}", e.getMessage(), e);
+        if (recipients.isEmpty()) {
+            log.warn("⚠️ No hay destinatarios para notificar sobre la evaluación del Formato A {}", doc.getId());
             return false;
         }
+
+        // Determinar el texto del resultado
+        String decision = eval.getDecision() == Decision.APROBADO ? "APROBADO" : "RECHAZADO";
+
+        // Nombre del evaluador (coordinador)
+        // TODO: Obtener nombre real desde identity-service usando eval.getEvaluatorId()
+        String evaluatedBy = "Coordinador del Programa";
+
+        // Usar el NotificationAdapter para enviar a notifications.q
+        notificationAdapter.notificarEvaluacionFormatoA(
+            doc.getId(),
+            doc.getTitulo(),
+            decision,
+            evaluatedBy,
+            eval.getObservaciones(),
+            recipients
+        );
+
+        log.info("✅ Notificación de evaluación publicada exitosamente para {} destinatarios", recipients.size());
+        return true;
     }
 
     @Override
@@ -305,6 +310,13 @@ public class FormatoAEvaluationService extends EvaluationTemplate {
         return EvaluatorRole.COORDINADOR;
     }
 
+    /**
+     * Formato A memorizado en el contexto de la evaluación
+     */
+    private SubmissionServiceClient.FormatoADTO getFormatoA(Long formatoAId, EvaluationContext context) {
+        return context.read("formatoA:" + formatoAId, () -> submissionClient.getFormatoA(formatoAId));
+    }
+
     /**
      * Construye la lista de destinatarios para las notificaciones
      */
@@ -0,0 +1,59 @@
+package co.unicauca.review.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica las cabeceras que el cliente envía a submission-service: su filtro de
+ * idempotencia rechaza con 400 una Idempotency-Key sin X-User-Id.
+ */
+@DisplayName("SubmissionServiceClient - cabeceras de las actualizaciones de estado")
+class SubmissionServiceClientTest {
+
+    private final List<ClientRequest> peticiones = new ArrayList<>();
+    private SubmissionServiceClient client;
+
+    @BeforeEach
+    void setUp() {
+        WebClient webClient = WebClient.builder()
+            .baseUrl("http://submission-service")
+            .exchangeFunction(request -> {
+                peticiones.add(request);
+                return Mono.just(ClientResponse.create(HttpStatus.OK).build());
+            })
+            .build();
+        client = new SubmissionServiceClient(webClient);
+    }
+
+    @Test
+    @DisplayName("La evaluación de anteproyecto debe enviar Idempotency-Key junto con X-User-Id")
+    void updateAnteproyectoEstado_debeEnviarClaveYUsuario() {
+        client.updateAnteproyectoEstado(7L, Map.of("estado", "APROBADO"), 21L, "review-evaluacion-7");
+
+        ClientRequest peticion = peticiones.get(0);
+        assertEquals("review-evaluacion-7", peticion.headers().getFirst("Idempotency-Key"));
+        assertEquals("21", peticion.headers().getFirst("X-User-Id"));
+    }
+
+    @Test
+    @DisplayName("La evaluación de Formato A debe enviar Idempotency-Key junto con X-User-Id")
+    void updateFormatoAEstado_debeEnviarClaveYUsuario() {
+        client.updateFormatoAEstado(3L, true, "ok", 21L, "review-evaluacion-3");
+
+        ClientRequest peticion = peticiones.get(0);
+        assertEquals("review-evaluacion-3", peticion.headers().getFirst("Idempotency-Key"));
+        assertEquals("21", peticion.headers().getFirst("X-User-Id"));
+    }
+}
@@ -0,0 +1,98 @@
+package co.unicauca.review.service;
+
+import co.unicauca.review.exception.ResourceNotFoundException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("Evaluation Context Tests")
+class EvaluationContextTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(2);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("Should fetch each key once and count only real calls")
+    void shouldMemoizeReadsPerKey() {
+        EvaluationContext context = new EvaluationContext(executor);
+        AtomicInteger loads = new AtomicInteger();
+
+        String first = context.read("formatoA:1", () -> "v" + loads.incrementAndGet());
+        String second = context.read("formatoA:1", () -> "v" + loads.incrementAndGet());
+        context.read("formatoA:2", () -> "v" + loads.incrementAndGet());
+
+        assertEquals("v1", first);
+        assertEquals("v1", second);
+        assertEquals(2, loads.get());
+        assertEquals(2, context.getRemoteCalls());
+    }
+
+    @Test
+    @DisplayName("Should remember failed reads and rethrow the original exception")
+    void shouldMemoizeFailures() {
+        EvaluationContext context = new EvaluationContext(executor);
+        AtomicInteger loads = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            assertThrows(ResourceNotFoundException.class, () -> context.read("anteproyecto:9", () -> {
+                loads.incrementAndGet();
+                throw new ResourceNotFoundException("Anteproyecto no encontrado: 9");
+            }));
+        }
+
+        assertEquals(1, loads.get());
+        assertEquals(1, context.getRemoteCalls());
+    }
+
+    @Test
+    @DisplayName("Should run async reads concurrently and share them with later reads")
+    void shouldRunAsyncReadsConcurrently() throws Exception {
+        EvaluationContext context = new EvaluationContext(executor);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+
+        CompletableFuture<String> a = context.readAsync("a", () -> awaitOther(bothStarted, "A"));
+        CompletableFuture<String> b = context.readAsync("b", () -> awaitOther(bothStarted, "B"));
+
+        assertEquals("A", a.get(5, TimeUnit.SECONDS));
+        assertEquals("B", b.get(5, TimeUnit.SECONDS));
+        assertEquals("A", context.read("a", () -> "otra"));
+        assertEquals(2, context.getRemoteCalls());
+    }
+
+    @Test
+    @DisplayName("Should count writes without memoizing them")
+    void shouldCountWrites() {
+        EvaluationContext context = new EvaluationContext(executor);
+        AtomicInteger writes = new AtomicInteger();
+
+        context.call(writes::incrementAndGet);
+        context.call(writes::incrementAndGet);
+
+        assertEquals(2, writes.get());
+        assertEquals(2, context.getRemoteCalls());
+    }
+
+    private static String awaitOther(CountDownLatch latch, String value) {
+        latch.countDown();
+        try {
+            // Solo termina si la otra lectura corre al mismo tiempo
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return value;
+    }
+}
@@ -6,6 +6,8 @@ import co.unicauca.review.entity.Evaluation;
 import co.unicauca.review.enums.Decision;
 import co.unicauca.review.enums.DocumentType;
 import co.unicauca.review.enums.EvaluatorRole;
+import co.unicauca.review.enums.SincronizacionEstado;
+import co.unicauca.review.exception.EvaluationException;
 import co.unicauca.review.exception.UnauthorizedException;
 import co.unicauca.review.repository.EvaluationRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -15,10 +17,19 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.http.HttpHeaders;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -34,6 +45,9 @@ class EvaluationTemplateTest {
     @Mock
     private WebClient.Builder webClientBuilder;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     private TestEvaluationService evaluationService;
 
     @BeforeEach
@@ -42,6 +56,8 @@ class EvaluationTemplateTest {
         evaluationService.evaluationRepository = evaluationRepository;
         evaluationService.rabbitTemplate = rabbitTemplate;
         evaluationService.webClientBuilder = webClientBuilder;
+        evaluationService.transactionManager = transactionManager;
+        evaluationService.remoteBackoffMs = 0;
         evaluationService.exchange = "test.exchange";
         evaluationService.routingKey = "test.routing.key";
     }
@@ -75,6 +91,8 @@ class EvaluationTemplateTest {
         assertEquals(1L, result.documentId());
         assertEquals(Decision.APROBADO, result.decision());
         assertEquals(DocumentType.FORMATO_A, result.documentType());
+        assertEquals(1, evaluationService.documentReads, "Document must be fetched once per evaluation");
+        assertEquals(2, result.llamadasRemotas(), "One read and one update");
 
         // Verify all steps were executed
         assertTrue(evaluationService.validatePermissionsCalled);
@@ -175,6 +193,164 @@ class EvaluationTemplateTest {
         assertFalse(result.notificacionEnviada()); // Notification failed
     }
 
+    @Test
+    @DisplayName("Should retry transient submission failures with the same idempotency key")
+    void shouldRetryTransientSubmissionFailures() {
+        // Given
+        EvaluationRequestDTO request = new EvaluationRequestDTO(
+            1L, Decision.APROBADO, "Test", 100L, EvaluatorRole.COORDINADOR);
+
+        Evaluation savedEval = new Evaluation();
+        savedEval.setId(7L);
+        when(evaluationRepository.save(any(Evaluation.class))).thenReturn(savedEval);
+
+        evaluationService.updateFailures.add(WebClientResponseException.create(
+            503, "Service Unavailable", HttpHeaders.EMPTY, new byte[0], null));
+
+        // When
+        EvaluationResultDTO result = evaluationService.evaluate(request);
+
+        // Then
+        assertNotNull(result);
+        assertEquals(List.of("review-evaluacion-7", "review-evaluacion-7"), evaluationService.idempotencyKeys);
+        assertEquals(3, result.llamadasRemotas(), "One read and two update attempts");
+        verify(evaluationRepository).updateEstadoSincronizacion(7L, SincronizacionEstado.SINCRONIZADA);
+        verify(evaluationRepository, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("Should compensate the local evaluation when submission rejects it")
+    void shouldCompensateWhenSubmissionRejects() {
+        // Given
+        EvaluationRequestDTO request = new EvaluationRequestDTO(
+            1L, Decision.APROBADO, "Test", 100L, EvaluatorRole.COORDINADOR);
+
+        Evaluation savedEval = new Evaluation();
+        savedEval.setId(7L);
+        when(evaluationRepository.save(any(Evaluation.class))).thenReturn(savedEval);
+
+        evaluationService.updateFailures.add(new RuntimeException("Error al actualizar estado de Formato A",
+            WebClientResponseException.create(400, "Bad Request", HttpHeaders.EMPTY, new byte[0], null)));
+
+        // When & Then
+        assertThrows(EvaluationException.class, () -> evaluationService.evaluate(request));
+
+        assertEquals(1, evaluationService.idempotencyKeys.size(), "4xx must not be retried");
+        assertTrue(evaluationService.revertCalled);
+        verify(evaluationRepository).delete(savedEval);
+        assertFalse(evaluationService.publishEventCalled);
+    }
+
+    @Test
+    @DisplayName("Should leave the evaluation pending when submission is still unavailable after retries")
+    void shouldLeavePendingWhenSubmissionUnavailable() {
+        // Given
+        EvaluationRequestDTO request = new EvaluationRequestDTO(
+            1L, Decision.APROBADO, "Test", 100L, EvaluatorRole.COORDINADOR);
+
+        Evaluation savedEval = new Evaluation();
+        savedEval.setId(7L);
+        when(evaluationRepository.save(any(Evaluation.class))).thenReturn(savedEval);
+
+        for (int i = 0; i < 3; i++) {
+            evaluationService.updateFailures.add(WebClientResponseException.create(
+                503, "Service Unavailable", HttpHeaders.EMPTY, new byte[0], null));
+        }
+
+        // When
+        EvaluationResultDTO result = evaluationService.evaluate(request);
+
+        // Then
+        assertEquals(SincronizacionEstado.PENDIENTE, result.estadoSincronizacion());
+        assertEquals(3, evaluationService.idempotencyKeys.size());
+        assertFalse(evaluationService.revertCalled, "A retryable failure must not be compensated");
+        verify(evaluationRepository, never()).delete(any());
+        verify(evaluationRepository, never()).updateEstadoSincronizacion(any(), any());
+        assertFalse(evaluationService.publishEventCalled);
+        assertFalse(result.notificacionEnviada());
+    }
+
+    @Test
+    @DisplayName("Should not call submission when local changes need no remote update")
+    void shouldSkipSubmissionWhenNoRemoteUpdatePending() {
+        // Given
+        EvaluationRequestDTO request = new EvaluationRequestDTO(
+            1L, Decision.APROBADO, "Test", 100L, EvaluatorRole.COORDINADOR);
+
+        when(evaluationRepository.save(any(Evaluation.class))).thenAnswer(invocation -> {
+            Evaluation eval = invocation.getArgument(0);
+            // Sin actualización remota solo falta publicar los eventos
+            assertEquals(SincronizacionEstado.POR_NOTIFICAR, eval.getEstadoSincronizacion());
+            return eval;
+        });
+        evaluationService.remoteUpdateRequired = false;
+
+        // When
+        evaluationService.evaluate(request);
+
+        // Then
+        assertFalse(evaluationService.updateSubmissionCalled);
+        assertTrue(evaluationService.publishEventCalled);
+    }
+
+    @Test
+    @DisplayName("Should leave the evaluation to be notified when publishing fails")
+    void shouldLeaveToBeNotifiedWhenPublishingFails() {
+        // Given
+        EvaluationRequestDTO request = new EvaluationRequestDTO(
+            1L, Decision.APROBADO, "Test", 100L, EvaluatorRole.COORDINADOR);
+
+        Evaluation savedEval = new Evaluation();
+        savedEval.setId(7L);
+        when(evaluationRepository.save(any(Evaluation.class))).thenReturn(savedEval);
+        evaluationService.publishFailure = new IllegalStateException("RabbitMQ no disponible");
+
+        // When
+        EvaluationResultDTO result = evaluationService.evaluate(request);
+
+        // Then - submission aceptó la evaluación: no se compensa
+        assertFalse(result.notificacionEnviada());
+        verify(evaluationRepository).updateEstadoSincronizacion(7L, SincronizacionEstado.POR_NOTIFICAR);
+        verify(evaluationRepository, never()).updateEstadoSincronizacion(7L, SincronizacionEstado.SINCRONIZADA);
+        verify(evaluationRepository, never()).delete(any());
+    }
+
+    @Test
+    @DisplayName("Recovery should skip evaluations claimed by another instance")
+    void recoveryShouldSkipClaimedEvaluations() {
+        // Given
+        Evaluation pending = pendingEvaluation(7L, SincronizacionEstado.PENDIENTE);
+        when(evaluationRepository.findRecuperables(eq(DocumentType.FORMATO_A), any(), any(), any()))
+            .thenReturn(List.of(pending));
+        when(evaluationRepository.reclamar(eq(7L), any(), any())).thenReturn(0);
+
+        // When
+        evaluationService.recoverPendingEvaluations();
+
+        // Then
+        assertFalse(evaluationService.updateSubmissionCalled);
+        assertFalse(evaluationService.publishEventCalled);
+        verify(evaluationRepository, never()).updateEstadoSincronizacion(any(), any());
+    }
+
+    @Test
+    @DisplayName("Recovery should publish the events of an evaluation already accepted by submission")
+    void recoveryShouldPublishEventsOfAcceptedEvaluation() {
+        // Given
+        Evaluation toNotify = pendingEvaluation(8L, SincronizacionEstado.POR_NOTIFICAR);
+        when(evaluationRepository.findRecuperables(eq(DocumentType.FORMATO_A), any(), any(), any()))
+            .thenReturn(List.of(toNotify));
+        when(evaluationRepository.reclamar(eq(8L), any(), any())).thenReturn(1);
+
+        // When
+        evaluationService.recoverPendingEvaluations();
+
+        // Then
+        assertFalse(evaluationService.updateSubmissionCalled, "Submission already accepted it");
+        assertTrue(evaluationService.publishEventCalled);
+        verify(evaluationRepository).updateEstadoSincronizacion(8L, SincronizacionEstado.SINCRONIZADA);
+    }
+
     @Test
     @DisplayName("Template method should be final and not overridable")
     void templateMethodShouldBeFinal() throws NoSuchMethodException {
@@ -190,6 +366,17 @@ class EvaluationTemplateTest {
             "Template method 'evaluate' should be final to prevent override");
     }
 
+    private static Evaluation pendingEvaluation(Long id, SincronizacionEstado estado) {
+        Evaluation evaluation = new Evaluation();
+        evaluation.setId(id);
+        evaluation.setDocumentId(1L);
+        evaluation.setDocumentType(DocumentType.FORMATO_A);
+        evaluation.setDecision(Decision.APROBADO);
+        evaluation.setEvaluatorId(100L);
+        evaluation.setEstadoSincronizacion(estado);
+        return evaluation;
+    }
+
     // Test implementation of EvaluationTemplate for testing purposes
     private static class TestEvaluationService extends EvaluationTemplate {
         boolean validatePermissionsCalled = false;
@@ -198,6 +385,12 @@ class EvaluationTemplateTest {
         boolean updateSubmissionCalled = false;
         boolean publishEventCalled = false;
         boolean shouldFailNotification = false;
+        boolean remoteUpdateRequired = true;
+        boolean revertCalled = false;
+        RuntimeException publishFailure;
+        final Deque<RuntimeException> updateFailures = new ArrayDeque<>();
+        final List<String> idempotencyKeys = new ArrayList<>();
+        int documentReads = 0;
 
         @Override
         protected void validatePermissions(EvaluationRequestDTO request) {
@@ -206,8 +399,9 @@ class EvaluationTemplateTest {
         }
 
         @Override
-        protected DocumentInfo fetchDocument(Long documentId) {
+        protected DocumentInfo fetchDocument(Long documentId, EvaluationContext context) {
             fetchDocumentCalled = true;
+            context.read("documento:" + documentId, () -> ++documentReads);
             DocumentInfo doc = new DocumentInfo();
             doc.setId(documentId);
             doc.setTitulo("Test Document");
@@ -225,14 +419,35 @@ class EvaluationTemplateTest {
         }
 
         @Override
-        protected void updateSubmissionService(Long docId, Decision decision, String obs, Integer evaluatorId) {
+        protected void updateSubmissionService(Long docId, Decision decision, String obs, Integer evaluatorId,
+                                               String idempotencyKey, EvaluationContext context) {
             updateSubmissionCalled = true;
+            idempotencyKeys.add(idempotencyKey);
+            context.read("documento:" + docId, () -> ++documentReads);
             // Mock implementation - no actual HTTP call
+            context.call(() -> {
+                if (!updateFailures.isEmpty()) {
+                    throw updateFailures.poll();
+                }
+            });
+        }
+
+        @Override
+        protected boolean applyLocalChanges(EvaluationRequestDTO request, DocumentInfo document) {
+            return remoteUpdateRequired;
+        }
+
+        @Override
+        protected void revertLocalChanges(Evaluation evaluation) {
+            revertCalled = true;
         }
 
         @Override
-        protected boolean publishNotificationEvent(Evaluation eval, DocumentInfo doc) {
+        protected boolean publishNotificationEvent(Evaluation eval, DocumentInfo doc, EvaluationContext context) {
             publishEventCalled = true;
+            if (publishFailure != null) {
+                throw publishFailure;
+            }
             return !shouldFailNotification;
         }
 
@@ -7,7 +7,10 @@ import co.unicauca.review.entity.AsignacionEvaluadores;
 import co.unicauca.review.entity.Evaluation;
 import co.unicauca.review.enums.AsignacionEstado;
 import co.unicauca.review.enums.Decision;
+import co.unicauca.review.enums.DocumentType;
 import co.unicauca.review.enums.EvaluatorRole;
+import co.unicauca.review.enums.SincronizacionEstado;
+import co.unicauca.review.exception.EvaluationException;
 import co.unicauca.review.exception.InvalidStateException;
 import co.unicauca.review.repository.AsignacionEvaluadoresRepository;
 import co.unicauca.review.repository.EvaluationRepository;
@@ -20,7 +23,10 @@ import org.mockito.Mock;
 import org.mockito.MockedStatic;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.http.HttpHeaders;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
 import co.unicauca.review.util.SecurityUtil;
 
 import java.time.LocalDateTime;
@@ -47,6 +53,9 @@ class AnteproyectoEvaluationServiceTest {
     @Mock
     private AsignacionEvaluadoresRepository asignacionRepository;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private AnteproyectoEvaluationService evaluationService;
 
@@ -97,6 +106,8 @@ class AnteproyectoEvaluationServiceTest {
         when(submissionClient.getAnteproyecto(anteproyectoId)).thenReturn(anteproyectoDTO);
         when(asignacionRepository.findByAnteproyectoId(anteproyectoId))
             .thenReturn(Optional.of(asignacion));
+        when(asignacionRepository.findByAnteproyectoIdForUpdate(anteproyectoId))
+            .thenReturn(Optional.of(asignacion));
         when(evaluationRepository.save(any(Evaluation.class))).thenReturn(savedEval);
         when(asignacionRepository.save(any(AsignacionEvaluadores.class))).thenReturn(asignacion);
 
@@ -111,7 +122,7 @@ class AnteproyectoEvaluationServiceTest {
             assertNotNull(result);
             assertFalse(result.notificacionEnviada(), "First evaluator should NOT trigger notification");
 
-            verify(submissionClient, never()).updateAnteproyectoEstado(anyLong(), anyMap());
+            verify(submissionClient, never()).updateAnteproyectoEstado(anyLong(), anyMap(), anyLong(), any());
             verify(rabbitTemplate, never()).convertAndSend(anyString(), anyString(), any(Object.class));
         }
     }
@@ -158,9 +169,11 @@ class AnteproyectoEvaluationServiceTest {
         when(submissionClient.getAnteproyecto(anteproyectoId)).thenReturn(anteproyectoDTO);
         when(asignacionRepository.findByAnteproyectoId(anteproyectoId))
             .thenReturn(Optional.of(asignacion));
+        when(asignacionRepository.findByAnteproyectoIdForUpdate(anteproyectoId))
+            .thenReturn(Optional.of(asignacion));
         when(evaluationRepository.save(any(Evaluation.class))).thenReturn(savedEval);
         when(asignacionRepository.save(any(AsignacionEvaluadores.class))).thenReturn(asignacion);
-        doNothing().when(submissionClient).updateAnteproyectoEstado(anyLong(), anyMap());
+        doNothing().when(submissionClient).updateAnteproyectoEstado(anyLong(), anyMap(), anyLong(), any());
         doNothing().when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class));
 
         // Mock SecurityUtil
@@ -174,7 +187,7 @@ class AnteproyectoEvaluationServiceTest {
             assertNotNull(result);
             assertTrue(result.notificacionEnviada(), "Second evaluator SHOULD trigger notification");
 
-            verify(submissionClient, times(1)).updateAnteproyectoEstado(eq(anteproyectoId), anyMap());
+            verify(submissionClient, times(1)).updateAnteproyectoEstado(eq(anteproyectoId), anyMap(), anyLong(), any());
             verify(rabbitTemplate, times(1)).convertAndSend(anyString(), anyString(), any(Object.class));
             verify(asignacionRepository, times(1)).save(argThat(asig ->
                 asig.getEstado() == AsignacionEstado.COMPLETADA &&
@@ -213,6 +226,8 @@ class AnteproyectoEvaluationServiceTest {
         when(submissionClient.getAnteproyecto(anteproyectoId)).thenReturn(anteproyectoDTO);
         when(asignacionRepository.findByAnteproyectoId(anteproyectoId))
             .thenReturn(Optional.of(asignacion));
+        when(asignacionRepository.findByAnteproyectoIdForUpdate(anteproyectoId))
+            .thenReturn(Optional.of(asignacion));
         when(evaluationRepository.save(any(Evaluation.class))).thenReturn(new Evaluation());
         when(asignacionRepository.save(any(AsignacionEvaluadores.class))).thenReturn(asignacion);
 
@@ -225,7 +240,7 @@ class AnteproyectoEvaluationServiceTest {
             // Then
             verify(submissionClient).updateAnteproyectoEstado(eq(anteproyectoId), argThat(body ->
                 body.get("estado").equals("RECHAZADO")
-            ));
+            ), anyLong(), any());
         }
     }
 
@@ -297,4 +312,145 @@ class AnteproyectoEvaluationServiceTest {
 
         assertTrue(exception.getMessage().contains("no tiene evaluadores asignados"));
     }
+
+    @Test
+    @DisplayName("Second evaluator rejected by submission should revert only its decision")
+    void secondEvaluatorRejectedBySubmissionShouldRevertItsDecision() {
+        // Given
+        Long anteproyectoId = 1L;
+        Long evaluador2Id = 20L;
+
+        EvaluationRequestDTO request = new EvaluationRequestDTO(
+            anteproyectoId, Decision.RECHAZADO, "Faltan objetivos", evaluador2Id, EvaluatorRole.EVALUADOR);
+
+        SubmissionServiceClient.AnteproyectoDTO anteproyectoDTO = new SubmissionServiceClient.AnteproyectoDTO();
+        anteproyectoDTO.setId(anteproyectoId);
+        anteproyectoDTO.setEstado("EN_REVISION");
+
+        AsignacionEvaluadores asignacion = asignacionConPrimeraDecision(anteproyectoId, evaluador2Id);
+
+        Evaluation savedEval = new Evaluation();
+        savedEval.setId(102L);
+        savedEval.setDocumentId(anteproyectoId);
+        savedEval.setEvaluatorId(evaluador2Id);
+
+        when(submissionClient.getAnteproyecto(anteproyectoId)).thenReturn(anteproyectoDTO);
+        when(asignacionRepository.findByAnteproyectoId(anteproyectoId)).thenReturn(Optional.of(asignacion));
+        when(asignacionRepository.findByAnteproyectoIdForUpdate(anteproyectoId)).thenReturn(Optional.of(asignacion));
+        when(evaluationRepository.save(any(Evaluation.class))).thenReturn(savedEval);
+        doThrow(submissionError(400)).when(submissionClient).updateAnteproyectoEstado(anyLong(), anyMap(), anyLong(), any());
+
+        try (MockedStatic<SecurityUtil> mockedSecurity = mockStatic(SecurityUtil.class)) {
+            mockedSecurity.when(SecurityUtil::getCurrentUserId).thenReturn(evaluador2Id);
+
+            // When
+            assertThrows(EvaluationException.class, () -> evaluationService.evaluate(request));
+        }
+
+        // Then - la decisión del primer evaluador se conserva
+        verify(submissionClient, times(1)).updateAnteproyectoEstado(anyLong(), anyMap(), anyLong(), any());
+        verify(asignacionRepository, times(2)).findByAnteproyectoIdForUpdate(anteproyectoId);
+        verify(evaluationRepository).delete(savedEval);
+        assertEquals(Decision.APROBADO, asignacion.getEvaluador1Decision());
+        assertNull(asignacion.getEvaluador2Decision());
+        assertNull(asignacion.getEvaluador2Observaciones());
+        assertEquals(AsignacionEstado.EN_EVALUACION, asignacion.getEstado());
+        assertNull(asignacion.getFechaCompletado());
+    }
+
+    @Test
+    @DisplayName("Recovery should keep the evaluation pending while submission is unavailable")
+    void recoveryShouldKeepPendingWhileSubmissionUnavailable() {
+        // Given
+        Long anteproyectoId = 1L;
+        AsignacionEvaluadores asignacion = asignacionCompletada(anteproyectoId);
+        Evaluation pending = pendingEvaluation(103L, anteproyectoId, 20L);
+
+        ReflectionTestUtils.setField(evaluationService, "remoteBackoffMs", 0L);
+        when(evaluationRepository.findRecuperables(eq(DocumentType.ANTEPROYECTO), any(), any(), any()))
+            .thenReturn(List.of(pending));
+        when(evaluationRepository.reclamar(eq(103L), any(), any())).thenReturn(1);
+        when(asignacionRepository.findByAnteproyectoId(anteproyectoId)).thenReturn(Optional.of(asignacion));
+        doThrow(submissionError(503)).when(submissionClient).updateAnteproyectoEstado(anyLong(), anyMap(), anyLong(), any());
+
+        // When
+        evaluationService.recoverPendingEvaluations();
+
+        // Then
+        verify(submissionClient, times(3))
+            .updateAnteproyectoEstado(eq(anteproyectoId), anyMap(), anyLong(), eq("review-evaluacion-103"));
+        verify(evaluationRepository, never()).delete(any());
+        verify(evaluationRepository, never()).updateEstadoSincronizacion(any(), any());
+        verify(asignacionRepository, never()).findByAnteproyectoIdForUpdate(any());
+        assertEquals(Decision.RECHAZADO, asignacion.getEvaluador2Decision());
+        assertEquals(AsignacionEstado.COMPLETADA, asignacion.getEstado());
+    }
+
+    @Test
+    @DisplayName("Recovery should compensate a pending evaluation that submission rejects")
+    void recoveryShouldCompensateWhenSubmissionRejects() {
+        // Given
+        Long anteproyectoId = 1L;
+        AsignacionEvaluadores asignacion = asignacionCompletada(anteproyectoId);
+        Evaluation pending = pendingEvaluation(104L, anteproyectoId, 20L);
+
+        when(evaluationRepository.findRecuperables(eq(DocumentType.ANTEPROYECTO), any(), any(), any()))
+            .thenReturn(List.of(pending));
+        when(evaluationRepository.reclamar(eq(104L), any(), any())).thenReturn(1);
+        when(asignacionRepository.findByAnteproyectoId(anteproyectoId)).thenReturn(Optional.of(asignacion));
+        when(asignacionRepository.findByAnteproyectoIdForUpdate(anteproyectoId)).thenReturn(Optional.of(asignacion));
+        doThrow(submissionError(400)).when(submissionClient).updateAnteproyectoEstado(anyLong(), anyMap(), anyLong(), any());
+
+        // When
+        evaluationService.recoverPendingEvaluations();
+
+        // Then - sin usuario autenticado: se retira la decisión del evaluador de la evaluación
+        verify(submissionClient, times(1)).updateAnteproyectoEstado(anyLong(), anyMap(), anyLong(), any());
+        verify(evaluationRepository).delete(pending);
+        assertEquals(Decision.APROBADO, asignacion.getEvaluador1Decision());
+        assertNull(asignacion.getEvaluador2Decision());
+        assertEquals(AsignacionEstado.EN_EVALUACION, asignacion.getEstado());
+        assertNull(asignacion.getFechaCompletado());
+    }
+
+    private static AsignacionEvaluadores asignacionConPrimeraDecision(Long anteproyectoId, Long evaluador2Id) {
+        AsignacionEvaluadores asignacion = new AsignacionEvaluadores();
+        asignacion.setId(1L);
+        asignacion.setAnteproyectoId(anteproyectoId);
+        asignacion.setEvaluador1Id(15L);
+        asignacion.setEvaluador2Id(evaluador2Id);
+        asignacion.setEvaluador1Decision(Decision.APROBADO);
+        asignacion.setEvaluador1Observaciones("Metodología sólida");
+        asignacion.setEstado(AsignacionEstado.EN_EVALUACION);
+        asignacion.setFechaAsignacion(LocalDateTime.now());
+        return asignacion;
+    }
+
+    private static AsignacionEvaluadores asignacionCompletada(Long anteproyectoId) {
+        AsignacionEvaluadores asignacion = asignacionConPrimeraDecision(anteproyectoId, 20L);
+        asignacion.setEvaluador2Decision(Decision.RECHAZADO);
+        asignacion.setEvaluador2Observaciones("Faltan objetivos");
+        asignacion.setEstado(AsignacionEstado.COMPLETADA);
+        asignacion.setFechaCompletado(LocalDateTime.now());
+        return asignacion;
+    }
+
+    private static Evaluation pendingEvaluation(Long id, Long anteproyectoId, Long evaluatorId) {
+        Evaluation evaluation = new Evaluation();
+        evaluation.setId(id);
+        evaluation.setDocumentId(anteproyectoId);
+        evaluation.setDocumentType(DocumentType.ANTEPROYECTO);
+        evaluation.setDecision(Decision.RECHAZADO);
+        evaluation.setEvaluatorId(evaluatorId);
+        evaluation.setEstadoSincronizacion(SincronizacionEstado.PENDIENTE);
+        return evaluation;
+    }
+
+    /**
+     * Error como lo lanza SubmissionServiceClient: RuntimeException con la respuesta como causa
+     */
+    private static RuntimeException submissionError(int status) {
+        return new RuntimeException("Error al actualizar estado de Anteproyecto",
+            WebClientResponseException.create(status, "Error", HttpHeaders.EMPTY, new byte[0], null));
+    }
 }
@@ -18,6 +18,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.util.List;
 
@@ -38,6 +39,9 @@ class FormatoAEvaluationServiceTest {
     @Mock
     private SubmissionServiceClient submissionClient;
 
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
     @InjectMocks
     private FormatoAEvaluationService evaluationService;
 
@@ -75,7 +79,7 @@ class FormatoAEvaluationServiceTest {
 
         when(submissionClient.getFormatoA(formatoAId)).thenReturn(formatoADTO);
         when(evaluationRepository.save(any(Evaluation.class))).thenReturn(savedEval);
-        doNothing().when(submissionClient).updateFormatoAEstado(anyLong(), anyBoolean(), anyString(), anyLong());
+        doNothing().when(submissionClient).updateFormatoAEstado(anyLong(), anyBoolean(), anyString(), anyLong(), any());
         doNothing().when(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class));
 
         // When
@@ -89,7 +93,7 @@ class FormatoAEvaluationServiceTest {
         assertTrue(result.notificacionEnviada());
 
         verify(submissionClient).getFormatoA(formatoAId);
-        verify(submissionClient).updateFormatoAEstado(eq(formatoAId), eq(true), anyString(), anyLong());
+        verify(submissionClient).updateFormatoAEstado(eq(formatoAId), eq(true), anyString(), anyLong(), any());
         verify(rabbitTemplate).convertAndSend(anyString(), anyString(), any(Object.class));
     }
 
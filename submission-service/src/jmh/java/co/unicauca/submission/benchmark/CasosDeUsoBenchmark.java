@@ -0,0 +1,64 @@
+package co.unicauca.submission.benchmark;
+
+import co.unicauca.submission.application.dto.request.EvaluarFormatoARequest;
+import co.unicauca.submission.application.dto.response.ProyectoResponse;
+import co.unicauca.submission.application.usecase.formatoa.EvaluarFormatoAUseCase;
+import co.unicauca.submission.application.usecase.query.ObtenerProyectoQuery;
+import co.unicauca.submission.infrastructure.adapter.out.cache.ProyectoCacheAdapter;
+import co.unicauca.submission.infrastructure.config.ProyectoCacheConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Casos de uso completos con los puertos en memoria (PuertosEnMemoria), llamados
+ * directamente y no a través del proxy transaccional de Spring.
+ *
+ * La diferencia con ProyectoMapperBenchmark.entidadARespuesta es lo que agregan las
+ * capas de aplicación: validación de rol, eventos y orquestación.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class CasosDeUsoBenchmark {
+
+    private EvaluarFormatoAUseCase evaluarFormatoA;
+    private ObtenerProyectoQuery obtenerSinCache;
+    private ObtenerProyectoQuery obtenerConCache;
+    private EvaluarFormatoARequest aprobacion;
+
+    @Setup
+    public void setUp(Blackhole blackhole) {
+        PuertosEnMemoria.Repositorio repositorio =
+            new PuertosEnMemoria.Repositorio(ProyectosDePrueba.entidadEnEvaluacion(), blackhole);
+
+        evaluarFormatoA = new EvaluarFormatoAUseCase(
+            repositorio, new PuertosEnMemoria.Publicador(blackhole), new PuertosEnMemoria.Identidad());
+        obtenerSinCache = new ObtenerProyectoQuery(repositorio, new PuertosEnMemoria.SinCache(),
+            new PuertosEnMemoria.SinValidaciones());
+        obtenerConCache = new ObtenerProyectoQuery(repositorio,
+            new ProyectoCacheAdapter(new ProyectoCacheConfig(), new SimpleMeterRegistry()),
+            new PuertosEnMemoria.SinValidaciones());
+        aprobacion = new EvaluarFormatoARequest(true, "Cumple con los requisitos");
+    }
+
+    @Benchmark
+    public ProyectoResponse evaluarFormatoA() {
+        return evaluarFormatoA.evaluar(ProyectosDePrueba.PROYECTO_ID, aprobacion, ProyectosDePrueba.COORDINADOR_ID);
+    }
+
+    @Benchmark
+    public ProyectoResponse obtenerProyectoSinCache() {
+        return obtenerSinCache.obtenerPorId(ProyectosDePrueba.PROYECTO_ID);
+    }
+
+    @Benchmark
+    public ProyectoResponse obtenerProyectoConCache() {
+        return obtenerConCache.obtenerPorId(ProyectosDePrueba.PROYECTO_ID);
+    }
+}
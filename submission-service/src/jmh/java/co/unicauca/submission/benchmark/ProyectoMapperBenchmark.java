@@ -0,0 +1,71 @@
+package co.unicauca.submission.benchmark;
+
+import co.unicauca.submission.application.dto.response.ProyectoResponse;
+import co.unicauca.submission.domain.model.Proyecto;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.entity.ProyectoEntity;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.mapper.ProyectoMapper;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo de cruzar las capas con un proyecto: entidad JPA ↔ dominio ↔ DTO de respuesta,
+ * y el split/join de objetivosEspecificos que hace el mapper en cada lectura y escritura.
+ *
+ * Cada consulta de proyectos paga toDomain + fromDomain por fila; cada comando paga
+ * además toEntity.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ProyectoMapperBenchmark {
+
+    private ProyectoMapper mapper;
+    private ProyectoEntity entidad;
+    private Proyecto proyecto;
+
+    @Setup
+    public void setUp() {
+        mapper = new ProyectoMapper();
+        entidad = ProyectosDePrueba.entidadEnEvaluacion();
+        proyecto = ProyectosDePrueba.proyectoEnEvaluacion();
+    }
+
+    @Benchmark
+    public Proyecto toDomain() {
+        return mapper.toDomain(entidad);
+    }
+
+    @Benchmark
+    public ProyectoEntity toEntity() {
+        return mapper.toEntity(proyecto);
+    }
+
+    @Benchmark
+    public ProyectoResponse fromDomain() {
+        return ProyectoResponse.fromDomain(proyecto);
+    }
+
+    /**
+     * Lectura completa de una fila hasta el DTO, como ObtenerProyectoQuery en un fallo de caché.
+     */
+    @Benchmark
+    public ProyectoResponse entidadARespuesta() {
+        return ProyectoResponse.fromDomain(mapper.toDomain(entidad));
+    }
+
+    @Benchmark
+    public List<String> separarObjetivos() {
+        return Arrays.asList(ProyectosDePrueba.OBJETIVOS_ESPECIFICOS_UNIDOS.split(";"));
+    }
+
+    @Benchmark
+    public String unirObjetivos() {
+        return String.join(";", proyecto.getObjetivos().getObjetivosEspecificos());
+    }
+}
@@ -0,0 +1,54 @@
+package co.unicauca.submission.benchmark;
+
+import co.unicauca.submission.domain.model.ArchivoAdjunto;
+import co.unicauca.submission.domain.model.Proyecto;
+import co.unicauca.submission.domain.model.ProyectoId;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Costo del aggregate Proyecto: creación con sus value objects y el ciclo completo
+ * de transiciones (con los eventos de dominio que registra cada una).
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(2)
+@State(Scope.Benchmark)
+public class ProyectoTransicionesBenchmark {
+
+    private ArchivoAdjunto pdfCorregido;
+    private ArchivoAdjunto pdfAnteproyecto;
+
+    @Setup
+    public void setUp() {
+        pdfCorregido = ArchivoAdjunto.pdf("sha256:" + "cd".repeat(32), "formatoA-v2.pdf");
+        pdfAnteproyecto = ArchivoAdjunto.pdf("sha256:" + "ef".repeat(32), "anteproyecto.pdf");
+    }
+
+    @Benchmark
+    public Proyecto crearConFormatoA() {
+        return ProyectosDePrueba.nuevoProyecto();
+    }
+
+    /**
+     * Formato A rechazado una vez, reenviado y aprobado; anteproyecto subido,
+     * con evaluadores y aprobado: siete transiciones y siete eventos.
+     */
+    @Benchmark
+    public Proyecto cicloCompleto() {
+        Proyecto proyecto = ProyectosDePrueba.nuevoProyecto();
+        proyecto.setId(ProyectoId.of(ProyectosDePrueba.PROYECTO_ID));
+
+        proyecto.presentarAlCoordinador();
+        proyecto.evaluarFormatoA(false, "Ajustar el alcance", ProyectosDePrueba.COORDINADOR_ID);
+        proyecto.reenviarFormatoA(pdfCorregido, null);
+        proyecto.evaluarFormatoA(true, "Aprobado", ProyectosDePrueba.COORDINADOR_ID);
+        proyecto.subirAnteproyecto(pdfAnteproyecto, ProyectosDePrueba.DIRECTOR_ID);
+        proyecto.asignarEvaluadores(20L, 21L);
+        proyecto.evaluarAnteproyecto(true, "Aprobado", 20L);
+        return proyecto;
+    }
+}
@@ -0,0 +1,78 @@
+package co.unicauca.submission.benchmark;
+
+import co.unicauca.submission.domain.model.*;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.entity.ProyectoEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Datos de prueba compartidos por los benchmarks: un proyecto con el tamaño típico
+ * de un Formato A real (título largo, cuatro objetivos específicos, dos estudiantes).
+ */
+final class ProyectosDePrueba {
+
+    static final Long PROYECTO_ID = 1L;
+    static final Long DIRECTOR_ID = 10L;
+    static final Long COORDINADOR_ID = 99L;
+
+    static final List<String> OBJETIVOS_ESPECIFICOS = List.of(
+        "Caracterizar los procesos actuales de seguimiento de trabajos de grado",
+        "Diseñar una arquitectura basada en microservicios para el seguimiento",
+        "Implementar un prototipo funcional con notificaciones por evento",
+        "Evaluar el prototipo con docentes y estudiantes del programa"
+    );
+
+    static final String OBJETIVOS_ESPECIFICOS_UNIDOS = String.join(";", OBJETIVOS_ESPECIFICOS);
+
+    private ProyectosDePrueba() {
+    }
+
+    static Proyecto nuevoProyecto() {
+        return Proyecto.crearConFormatoA(
+            Titulo.of("Plataforma de seguimiento de trabajos de grado con arquitectura hexagonal"),
+            Modalidad.INVESTIGACION,
+            ObjetivosProyecto.of("Desarrollar una plataforma para el seguimiento de trabajos de grado",
+                OBJETIVOS_ESPECIFICOS),
+            Participantes.of(DIRECTOR_ID, 11L, 100L, 101L),
+            ArchivoAdjunto.pdf("sha256:" + "ab".repeat(32), "formatoA.pdf"),
+            null
+        );
+    }
+
+    /**
+     * Proyecto ya guardado y presentado al coordinador, como lo devuelve el repositorio.
+     */
+    static Proyecto proyectoEnEvaluacion() {
+        Proyecto proyecto = nuevoProyecto();
+        proyecto.presentarAlCoordinador();
+        proyecto.setId(ProyectoId.of(PROYECTO_ID));
+        proyecto.setVersion(3L);
+        proyecto.limpiarEventos();
+        return proyecto;
+    }
+
+    /**
+     * Fila de proyectos en EN_EVALUACION_COORDINADOR: toDomain restaura el estado
+     * por reflexión, que es el camino de casi todas las lecturas.
+     */
+    static ProyectoEntity entidadEnEvaluacion() {
+        ProyectoEntity entity = new ProyectoEntity();
+        entity.setId(PROYECTO_ID);
+        entity.setVersion(3L);
+        entity.setTitulo("Plataforma de seguimiento de trabajos de grado con arquitectura hexagonal");
+        entity.setModalidad(Modalidad.INVESTIGACION);
+        entity.setObjetivoGeneral("Desarrollar una plataforma para el seguimiento de trabajos de grado");
+        entity.setObjetivosEspecificos(OBJETIVOS_ESPECIFICOS_UNIDOS);
+        entity.setDirectorId(DIRECTOR_ID);
+        entity.setCodirectorId(11L);
+        entity.setEstudiante1Id(100L);
+        entity.setEstudiante2Id(101L);
+        entity.setEstado(EstadoProyecto.EN_EVALUACION_COORDINADOR);
+        entity.setNumeroIntento(1);
+        entity.setRutaPdfFormatoA("sha256:" + "ab".repeat(32));
+        entity.setFechaCreacion(LocalDateTime.of(2025, 3, 1, 10, 0));
+        entity.setFechaModificacion(LocalDateTime.of(2025, 3, 2, 9, 30));
+        return entity;
+    }
+}
@@ -0,0 +1,236 @@
+package co.unicauca.submission.benchmark;
+
+import co.unicauca.submission.application.dto.request.CampoProyecto;
+import co.unicauca.submission.application.dto.request.CursorProyecto;
+import co.unicauca.submission.application.dto.request.FiltroProyectos;
+import co.unicauca.submission.application.dto.response.ProyectoResponse;
+import co.unicauca.submission.application.dto.response.ValidacionDocumentoResponse;
+import co.unicauca.submission.application.port.in.IObtenerArchivoProyectoQuery.TipoArchivoProyecto;
+import co.unicauca.submission.application.port.out.IEventPublisherPort;
+import co.unicauca.submission.application.port.out.IIdentityServicePort;
+import co.unicauca.submission.application.port.out.IProyectoCachePort;
+import co.unicauca.submission.application.port.out.IProyectoRepositoryPort;
+import co.unicauca.submission.application.port.out.IValidacionDocumentoPort;
+import co.unicauca.submission.domain.event.DomainEvent;
+import co.unicauca.submission.domain.model.EstadoProyecto;
+import co.unicauca.submission.domain.model.Modalidad;
+import co.unicauca.submission.domain.model.Proyecto;
+import co.unicauca.submission.domain.model.ProyectoId;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.entity.ProyectoEntity;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.mapper.ProyectoMapper;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * Implementaciones en memoria de los puertos de salida para medir los casos de uso
+ * sin BD, broker ni identity-service: lo que queda es el costo propio de las capas
+ * (mapper, aggregate, DTOs).
+ */
+final class PuertosEnMemoria {
+
+    private PuertosEnMemoria() {
+    }
+
+    /**
+     * Repositorio sobre una única fila. Convierte con ProyectoMapper en cada lectura
+     * y escritura, como ProyectoRepositoryAdapter, pero save no reemplaza la fila:
+     * cada invocación del benchmark parte del mismo estado.
+     */
+    static final class Repositorio implements IProyectoRepositoryPort {
+
+        private final ProyectoMapper mapper = new ProyectoMapper();
+        private final ProyectoEntity fila;
+        private final Blackhole blackhole;
+
+        Repositorio(ProyectoEntity fila, Blackhole blackhole) {
+            this.fila = fila;
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public Proyecto save(Proyecto proyecto) {
+            blackhole.consume(mapper.toEntity(proyecto));
+            return proyecto;
+        }
+
+        @Override
+        public List<Proyecto> saveAll(List<Proyecto> proyectos) {
+            proyectos.forEach(this::save);
+            return proyectos;
+        }
+
+        @Override
+        public Optional<Proyecto> findById(ProyectoId id) {
+            return fila.getId().equals(id.getValue()) ? Optional.of(mapper.toDomain(fila)) : Optional.empty();
+        }
+
+        @Override
+        public List<Proyecto> findByEstado(EstadoProyecto estado) {
+            return fila.getEstado() == estado ? List.of(mapper.toDomain(fila)) : List.of();
+        }
+
+        @Override
+        public Page<Proyecto> findByEstadoPage(EstadoProyecto estado, Pageable pageable) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Slice<Proyecto> findByEstadoDespuesDe(EstadoProyecto estado, CursorProyecto despuesDe, int tamano) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Map<CampoProyecto, Object>> findColumnas(FiltroProyectos filtro, Set<CampoProyecto> columnas) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Page<Map<CampoProyecto, Object>> findColumnasPage(FiltroProyectos filtro, Set<CampoProyecto> columnas,
+                                                                 Pageable pageable) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Slice<Map<CampoProyecto, Object>> findColumnasDespuesDe(FiltroProyectos filtro,
+                                                                       Set<CampoProyecto> columnas,
+                                                                       CursorProyecto despuesDe, int tamano) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public Page<Proyecto> buscarTexto(String texto, EstadoProyecto estado, Modalidad modalidad,
+                                          Pageable pageable) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public List<Proyecto> findByDirectorId(Long directorId) {
+            return fila.getDirectorId().equals(directorId) ? List.of(mapper.toDomain(fila)) : List.of();
+        }
+
+        @Override
+        public List<Proyecto> findByEstudianteId(Long estudianteId) {
+            return estudianteId.equals(fila.getEstudiante1Id()) || estudianteId.equals(fila.getEstudiante2Id())
+                ? List.of(mapper.toDomain(fila)) : List.of();
+        }
+
+        @Override
+        public Optional<ProyectoId> findProyectoActivoByEstudianteId(Long estudianteId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<Long> findVersionById(ProyectoId id) {
+            return Optional.ofNullable(fila.getVersion());
+        }
+
+        @Override
+        public boolean existsById(ProyectoId id) {
+            return fila.getId().equals(id.getValue());
+        }
+
+        @Override
+        public void delete(ProyectoId id) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    static final class Publicador implements IEventPublisherPort {
+
+        private final Blackhole blackhole;
+
+        Publicador(Blackhole blackhole) {
+            this.blackhole = blackhole;
+        }
+
+        @Override
+        public void publish(DomainEvent event) {
+            blackhole.consume(event);
+        }
+
+        @Override
+        public void publishAll(List<DomainEvent> events) {
+            events.forEach(blackhole::consume);
+        }
+    }
+
+    /**
+     * Todos los usuarios tienen todos los roles.
+     */
+    static final class Identidad implements IIdentityServicePort {
+
+        @Override
+        public UsuarioInfo obtenerUsuario(Long userId) {
+            return new UsuarioInfo(userId, "Usuario " + userId, "usuario" + userId + "@unicauca.edu.co",
+                "Ingeniería de Sistemas", "TEACHER");
+        }
+
+        @Override
+        public String obtenerEmailCoordinador() {
+            return "coordinador@unicauca.edu.co";
+        }
+
+        @Override
+        public String obtenerEmailJefeDepartamento() {
+            return "jefe@unicauca.edu.co";
+        }
+
+        @Override
+        public boolean tieneRol(Long userId, String rol) {
+            return true;
+        }
+    }
+
+    /**
+     * Caché que nunca acierta: cada consulta recorre repositorio, mapper y DTO.
+     */
+    static final class SinCache implements IProyectoCachePort {
+
+        @Override
+        public ProyectoResponse obtener(Long proyectoId, Supplier<ProyectoResponse> cargador) {
+            return cargador.get();
+        }
+
+        @Override
+        public Optional<ProyectoResponse> buscar(Long proyectoId) {
+            return Optional.empty();
+        }
+
+        @Override
+        public void invalidar(Long proyectoId) {
+        }
+    }
+
+    /**
+     * Proyecto sin documentos validados: la consulta por ID no agrega filas.
+     */
+    static final class SinValidaciones implements IValidacionDocumentoPort {
+
+        @Override
+        public void registrar(Long proyectoId, TipoArchivoProyecto tipo, String ruta) {
+        }
+
+        @Override
+        public List<ValidacionDocumentoResponse> buscarPorProyecto(Long proyectoId) {
+            return List.of();
+        }
+
+        @Override
+        public Optional<ValidacionDocumentoResponse> buscar(Long proyectoId, TipoArchivoProyecto tipo) {
+            return Optional.empty();
+        }
+
+        @Override
+        public Optional<String> buscarVistaPrevia(Long proyectoId, TipoArchivoProyecto tipo) {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,103 @@
+package co.unicauca.submission.application.dto.request;
+
+import java.util.Arrays;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Campos de proyecto seleccionables con el parámetro {@code fields} de los listados
+ * (sparse fieldsets), por ejemplo {@code ?fields=id,titulo,estado,fechaCreacion}.
+ *
+ * Cada campo tiene el nombre de la propiedad en ProyectoResponse. Los campos
+ * persistidos se leen de su columna; los derivados (descripción del estado,
+ * indicadores) se calculan a partir del campo persistido del que dependen.
+ * La información enriquecida desde identity-service no es seleccionable.
+ */
+public enum CampoProyecto {
+
+    ID("id"),
+    VERSION("version"),
+    TITULO("titulo"),
+    MODALIDAD("modalidad"),
+    OBJETIVO_GENERAL("objetivoGeneral"),
+    OBJETIVOS_ESPECIFICOS("objetivosEspecificos"),
+    DIRECTOR_ID("directorId"),
+    CODIRECTOR_ID("codirectorId"),
+    ESTUDIANTE1_ID("estudiante1Id"),
+    ESTUDIANTE2_ID("estudiante2Id"),
+    ESTADO("estado"),
+    ESTADO_DESCRIPCION("estadoDescripcion", ESTADO),
+    ES_ESTADO_FINAL("esEstadoFinal", ESTADO),
+    NUMERO_INTENTO("numeroIntento"),
+    RUTA_PDF_FORMATO_A("rutaPdfFormatoA"),
+    RUTA_CARTA("rutaCarta"),
+    TIENE_CARTA_ACEPTACION("tieneCartaAceptacion", RUTA_CARTA),
+    RUTA_PDF_ANTEPROYECTO("rutaPdfAnteproyecto"),
+    FECHA_ENVIO_ANTEPROYECTO("fechaEnvioAnteproyecto"),
+    EVALUADOR1_ID("evaluador1Id"),
+    EVALUADOR2_ID("evaluador2Id"),
+    TIENE_EVALUADORES_ASIGNADOS("tieneEvaluadoresAsignados", EVALUADOR1_ID, EVALUADOR2_ID),
+    FECHA_CREACION("fechaCreacion"),
+    FECHA_ENVIO("fechaEnvio", FECHA_CREACION),
+    FECHA_MODIFICACION("fechaModificacion");
+
+    private final String propiedad;
+    private final CampoProyecto[] origen;
+
+    CampoProyecto(String propiedad, CampoProyecto... origen) {
+        this.propiedad = propiedad;
+        this.origen = origen;
+    }
+
+    public String getPropiedad() {
+        return propiedad;
+    }
+
+    /**
+     * Indica si el campo corresponde a una columna (no es derivado).
+     */
+    public boolean esPersistido() {
+        return origen.length == 0;
+    }
+
+    /**
+     * Interpreta el parámetro {@code fields}: nombres de propiedad separados por coma.
+     *
+     * @return los campos en orden de declaración, o null si el parámetro está vacío
+     *         (respuesta completa)
+     * @throws IllegalArgumentException si algún nombre no es un campo seleccionable
+     */
+    public static Set<CampoProyecto> desdeParametro(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+
+        Set<CampoProyecto> campos = EnumSet.noneOf(CampoProyecto.class);
+        for (String nombre : fields.split(",")) {
+            String propiedad = nombre.trim();
+            if (propiedad.isEmpty()) {
+                continue;
+            }
+            campos.add(Arrays.stream(values())
+                .filter(campo -> campo.propiedad.equals(propiedad))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Campo no seleccionable: " + propiedad)));
+        }
+        return campos.isEmpty() ? null : campos;
+    }
+
+    /**
+     * Columnas a consultar para construir los campos pedidos.
+     */
+    public static Set<CampoProyecto> columnasDe(Set<CampoProyecto> campos) {
+        Set<CampoProyecto> columnas = EnumSet.noneOf(CampoProyecto.class);
+        for (CampoProyecto campo : campos) {
+            if (campo.esPersistido()) {
+                columnas.add(campo);
+            } else {
+                columnas.addAll(Arrays.asList(campo.origen));
+            }
+        }
+        return columnas;
+    }
+}
@@ -0,0 +1,53 @@
+package co.unicauca.submission.application.dto.request;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * Posición en un listado ordenado por (fechaCreacion, id): el siguiente listado
+ * empieza después de este proyecto.
+ *
+ * Viaja al cliente como un texto opaco; el cliente solo debe devolverlo tal cual.
+ */
+public record CursorProyecto(LocalDateTime fechaCreacion, Long id) {
+
+    private static final String SEPARADOR = "|";
+
+    public CursorProyecto {
+        if (fechaCreacion == null || id == null) {
+            throw new IllegalArgumentException("El cursor requiere fecha de creación e id");
+        }
+    }
+
+    /**
+     * Representación opaca para el cliente.
+     */
+    public String codificar() {
+        String valor = fechaCreacion + SEPARADOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Interpreta un cursor recibido del cliente.
+     *
+     * @return el cursor, o null si viene vacío (primer listado)
+     * @throws IllegalArgumentException si el cursor no fue generado por codificar()
+     */
+    public static CursorProyecto decodificar(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separador = valor.lastIndexOf(SEPARADOR);
+            return new CursorProyecto(
+                LocalDateTime.parse(valor.substring(0, separador)),
+                Long.valueOf(valor.substring(separador + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new IllegalArgumentException("Cursor inválido: " + cursor);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package co.unicauca.submission.application.dto.request;
+
+import co.unicauca.submission.domain.model.EstadoProyecto;
+
+/**
+ * Criterio de los listados de proyectos. Los criterios no nulos se combinan con AND;
+ * el estudiante coincide con estudiante1 o estudiante2.
+ */
+public record FiltroProyectos(EstadoProyecto estado, Long directorId, Long estudianteId) {
+
+    public static FiltroProyectos todos() {
+        return new FiltroProyectos(null, null, null);
+    }
+
+    public static FiltroProyectos porEstado(EstadoProyecto estado) {
+        return new FiltroProyectos(estado, null, null);
+    }
+
+    public static FiltroProyectos porDirector(Long directorId) {
+        return new FiltroProyectos(null, directorId, null);
+    }
+
+    public static FiltroProyectos porEstudiante(Long estudianteId) {
+        return new FiltroProyectos(null, null, estudianteId);
+    }
+}
@@ -0,0 +1,108 @@
+package co.unicauca.submission.application.dto.response;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+
+/**
+ * Metadatos de un archivo almacenado, necesarios para servirlo por HTTP.
+ *
+ * Si el archivo está en disco, la ubicación es el archivo físico y el adaptador REST
+ * puede enviarlo sin copiarlo a memoria (sendfile / FileChannel.transferTo). Si está
+ * en un almacenamiento remoto (S3), no hay ubicación: los bytes se leen por rangos con
+ * {@link #abrir(long, long)} solo cuando se envían.
+ */
+public class ArchivoAlmacenado {
+
+    /**
+     * Abre un rango de bytes de un archivo remoto.
+     */
+    @FunctionalInterface
+    public interface LectorRango {
+
+        /**
+         * @param inicio Primer byte
+         * @param fin Último byte (incluido)
+         */
+        InputStream abrir(long inicio, long fin) throws IOException;
+    }
+
+    private final Path ubicacion;
+    private final LectorRango lector;
+    private final long tamano;
+    private final String etag;
+    private final boolean inmutable;
+
+    /**
+     * @param ubicacion Archivo físico
+     * @param tamano Tamaño en bytes
+     * @param etag Validador fuerte (sin comillas): cambia si cambian los bytes
+     * @param inmutable true si el contenido bajo esta ruta nunca cambia
+     */
+    public ArchivoAlmacenado(Path ubicacion, long tamano, String etag, boolean inmutable) {
+        this(ubicacion, null, tamano, etag, inmutable);
+    }
+
+    /**
+     * Archivo remoto, leído por rangos al enviarlo.
+     *
+     * @param lector Lectura de un rango del archivo
+     */
+    public ArchivoAlmacenado(LectorRango lector, long tamano, String etag, boolean inmutable) {
+        this(null, lector, tamano, etag, inmutable);
+    }
+
+    private ArchivoAlmacenado(Path ubicacion, LectorRango lector, long tamano, String etag, boolean inmutable) {
+        this.ubicacion = ubicacion;
+        this.lector = lector;
+        this.tamano = tamano;
+        this.etag = etag;
+        this.inmutable = inmutable;
+    }
+
+    /**
+     * El mismo archivo con otro validador (p. ej. la versión de una vista previa).
+     */
+    public ArchivoAlmacenado conEtag(String etag, boolean inmutable) {
+        return new ArchivoAlmacenado(ubicacion, lector, tamano, etag, inmutable);
+    }
+
+    /**
+     * @return true si el archivo está en disco local (getUbicacion no es null)
+     */
+    public boolean enDisco() {
+        return ubicacion != null;
+    }
+
+    /**
+     * Lee un rango de un archivo remoto. Los archivos en disco se leen por su ubicación.
+     *
+     * @param inicio Primer byte
+     * @param fin Último byte (incluido)
+     */
+    public InputStream abrir(long inicio, long fin) throws IOException {
+        if (lector == null) {
+            throw new IllegalStateException("El archivo está en disco; se lee por su ubicación");
+        }
+        return lector.abrir(inicio, fin);
+    }
+
+    /**
+     * @return el archivo físico, o null si el archivo es remoto
+     */
+    public Path getUbicacion() {
+        return ubicacion;
+    }
+
+    public long getTamano() {
+        return tamano;
+    }
+
+    public String getEtag() {
+        return etag;
+    }
+
+    public boolean isInmutable() {
+        return inmutable;
+    }
+}
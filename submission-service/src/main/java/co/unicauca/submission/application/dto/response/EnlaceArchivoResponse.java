@@ -0,0 +1,44 @@
+package co.unicauca.submission.application.dto.response;
+
+import java.time.Instant;
+
+/**
+ * Enlace firmado y con vencimiento para descargar un archivo de proyecto
+ * sin pasar por la autenticación del gateway.
+ */
+public class EnlaceArchivoResponse {
+
+    private final String tipo;
+    private final String url;
+    private final Instant expira;
+    private final boolean usoUnico;
+
+    /**
+     * @param tipo Segmento del tipo de archivo (formatoA, carta, anteproyecto)
+     * @param url Ruta relativa del enlace, servida por el gateway sin JWT
+     * @param expira Momento a partir del cual el enlace deja de ser válido
+     * @param usoUnico true si el enlace solo admite una descarga
+     */
+    public EnlaceArchivoResponse(String tipo, String url, Instant expira, boolean usoUnico) {
+        this.tipo = tipo;
+        this.url = url;
+        this.expira = expira;
+        this.usoUnico = usoUnico;
+    }
+
+    public String getTipo() {
+        return tipo;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public Instant getExpira() {
+        return expira;
+    }
+
+    public boolean isUsoUnico() {
+        return usoUnico;
+    }
+}
@@ -0,0 +1,57 @@
+package co.unicauca.submission.application.dto.response;
+
+import co.unicauca.submission.application.dto.request.CursorProyecto;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * DTO de response de un listado paginado por cursor.
+ *
+ * A diferencia de Page no incluye el total: obtenerlo exige un COUNT(*) en cada
+ * consulta. siguienteCursor se envía en el parámetro cursor para obtener lo que
+ * sigue; es null cuando no hay más elementos.
+ */
+public class PaginaCursorResponse<T> {
+
+    private final List<T> contenido;
+    private final boolean tieneSiguiente;
+    private final String siguienteCursor;
+
+    private PaginaCursorResponse(List<T> contenido, boolean tieneSiguiente, String siguienteCursor) {
+        this.contenido = contenido;
+        this.tieneSiguiente = tieneSiguiente;
+        this.siguienteCursor = siguienteCursor;
+    }
+
+    /**
+     * Construye la respuesta; el cursor siguiente sale del último elemento.
+     */
+    public static <T> PaginaCursorResponse<T> de(Slice<T> slice, Function<T, CursorProyecto> cursorDe) {
+        List<T> contenido = slice.getContent();
+        String siguiente = slice.hasNext()
+            ? cursorDe.apply(contenido.get(contenido.size() - 1)).codificar()
+            : null;
+        return new PaginaCursorResponse<>(contenido, slice.hasNext(), siguiente);
+    }
+
+    /**
+     * Convierte los elementos conservando el cursor.
+     */
+    public <R> PaginaCursorResponse<R> map(Function<T, R> conversor) {
+        return new PaginaCursorResponse<>(contenido.stream().map(conversor).toList(), tieneSiguiente, siguienteCursor);
+    }
+
+    public List<T> getContenido() {
+        return contenido;
+    }
+
+    public boolean isTieneSiguiente() {
+        return tieneSiguiente;
+    }
+
+    public String getSiguienteCursor() {
+        return siguienteCursor;
+    }
+}
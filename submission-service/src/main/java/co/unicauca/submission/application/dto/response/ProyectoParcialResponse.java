@@ -0,0 +1,60 @@
+package co.unicauca.submission.application.dto.response;
+
+import co.unicauca.submission.application.dto.request.CampoProyecto;
+import co.unicauca.submission.domain.model.EstadoProyecto;
+import co.unicauca.submission.domain.model.Modalidad;
+import com.fasterxml.jackson.annotation.JsonValue;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * DTO de response con solo los campos pedidos de un proyecto (parámetro fields).
+ * Se serializa como un objeto con exactamente esas propiedades, con los mismos
+ * nombres y formatos que ProyectoResponse.
+ */
+public class ProyectoParcialResponse {
+
+    private final Map<String, Object> campos;
+
+    private ProyectoParcialResponse(Map<String, Object> campos) {
+        this.campos = campos;
+    }
+
+    /**
+     * Construye la respuesta a partir de las columnas consultadas.
+     *
+     * @param columnas valores persistidos (enums y tipos de dominio) por campo
+     * @param campos   campos pedidos, en el orden en que se serializan
+     */
+    public static ProyectoParcialResponse de(Map<CampoProyecto, Object> columnas, Set<CampoProyecto> campos) {
+        Map<String, Object> valores = new LinkedHashMap<>();
+        for (CampoProyecto campo : campos) {
+            valores.put(campo.getPropiedad(), valor(campo, columnas));
+        }
+        return new ProyectoParcialResponse(valores);
+    }
+
+    private static Object valor(CampoProyecto campo, Map<CampoProyecto, Object> columnas) {
+        EstadoProyecto estado = (EstadoProyecto) columnas.get(CampoProyecto.ESTADO);
+
+        return switch (campo) {
+            case ESTADO -> estado.name();
+            case ESTADO_DESCRIPCION -> estado.getDescripcion();
+            case ES_ESTADO_FINAL -> estado.isEstadoFinal();
+            case MODALIDAD -> ((Modalidad) columnas.get(CampoProyecto.MODALIDAD)).name();
+            case TIENE_CARTA_ACEPTACION -> columnas.get(CampoProyecto.RUTA_CARTA) != null;
+            case TIENE_EVALUADORES_ASIGNADOS -> columnas.get(CampoProyecto.EVALUADOR1_ID) != null
+                && columnas.get(CampoProyecto.EVALUADOR2_ID) != null;
+            case FECHA_ENVIO -> columnas.get(CampoProyecto.FECHA_CREACION);
+            default -> columnas.get(campo);
+        };
+    }
+
+    @JsonValue
+    public Map<String, Object> getCampos() {
+        return Collections.unmodifiableMap(campos);
+    }
+}
@@ -12,6 +12,7 @@ import java.util.List;
 public class ProyectoResponse {
 
     private Long id;
+    private Long version;
     private String titulo;
     private String modalidad;
     private String objetivoGeneral;
@@ -51,6 +52,9 @@ public class ProyectoResponse {
     private LocalDateTime fechaCreacion;
     private LocalDateTime fechaModificacion;
 
+    // Validación asíncrona de los PDFs (solo en la consulta por ID)
+    private List<ValidacionDocumentoResponse> documentos;
+
     // Constructores
     public ProyectoResponse() {}
 
@@ -62,6 +66,7 @@ public class ProyectoResponse {
 
         // ID
         response.id = proyecto.getId() != null ? proyecto.getId().getValue() : null;
+        response.version = proyecto.getVersion();
 
         // Información básica
         response.titulo = proyecto.getTitulo().getValue();
@@ -292,6 +297,14 @@ public class ProyectoResponse {
         this.fechaModificacion = fechaModificacion;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
     // Getters y Setters para campos enriquecidos
 
     public String getDocenteDirectorNombre() {
@@ -325,5 +338,18 @@ public class ProyectoResponse {
     public void setFechaEnvio(LocalDateTime fechaEnvio) {
         this.fechaEnvio = fechaEnvio;
     }
-}
 
+    /**
+     * Estado, páginas y tamaño del texto de cada documento vigente. Se guardan en
+     * validaciones_documento y no en proyectos: la fila de la validación se reemplaza
+     * con cada reenvío, así que nunca muestra las métricas de un PDF anterior.
+     * Null fuera de la consulta por ID.
+     */
+    public List<ValidacionDocumentoResponse> getDocumentos() {
+        return documentos;
+    }
+
+    public void setDocumentos(List<ValidacionDocumentoResponse> documentos) {
+        this.documentos = documentos;
+    }
+}
@@ -0,0 +1,72 @@
+package co.unicauca.submission.application.dto.response;
+
+import java.time.Instant;
+
+/**
+ * Estado de una sesión de subida reanudable.
+ *
+ * El cliente sube el archivo por fragmentos consecutivos; recibidos es el offset
+ * desde el que debe continuar (o reanudar tras un corte de red).
+ */
+public class SesionSubida {
+
+    private final String id;
+    private final Long proyectoId;
+    private final Long usuarioId;
+    private final String nombreArchivo;
+    private final long tamanoTotal;
+    private final long recibidos;
+    private final Instant ultimaActividad;
+
+    /**
+     * @param id Identificador opaco de la sesión
+     * @param proyectoId Proyecto al que pertenece el archivo
+     * @param usuarioId Usuario que inició la sesión (el único que puede continuarla)
+     * @param nombreArchivo Nombre original del archivo
+     * @param tamanoTotal Tamaño declarado al iniciar la sesión
+     * @param recibidos Bytes ya recibidos y verificados
+     * @param ultimaActividad Momento del último fragmento aceptado
+     */
+    public SesionSubida(String id, Long proyectoId, Long usuarioId, String nombreArchivo,
+                        long tamanoTotal, long recibidos, Instant ultimaActividad) {
+        this.id = id;
+        this.proyectoId = proyectoId;
+        this.usuarioId = usuarioId;
+        this.nombreArchivo = nombreArchivo;
+        this.tamanoTotal = tamanoTotal;
+        this.recibidos = recibidos;
+        this.ultimaActividad = ultimaActividad;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public Long getProyectoId() {
+        return proyectoId;
+    }
+
+    public Long getUsuarioId() {
+        return usuarioId;
+    }
+
+    public String getNombreArchivo() {
+        return nombreArchivo;
+    }
+
+    public long getTamanoTotal() {
+        return tamanoTotal;
+    }
+
+    public long getRecibidos() {
+        return recibidos;
+    }
+
+    public Instant getUltimaActividad() {
+        return ultimaActividad;
+    }
+
+    public boolean isCompleta() {
+        return recibidos == tamanoTotal;
+    }
+}
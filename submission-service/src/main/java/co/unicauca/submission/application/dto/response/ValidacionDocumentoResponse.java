@@ -0,0 +1,105 @@
+package co.unicauca.submission.application.dto.response;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+/**
+ * Estado de la validación asíncrona de un documento del proyecto.
+ *
+ * La UI lo consulta después de subir: un documento solo llega a los evaluadores
+ * cuando está VALIDO.
+ *
+ * Los documentos válidos traen versionVistaPrevia: la UI pide la miniatura en
+ * /archivos/{tipo}/vista-previa?v={versionVistaPrevia} y, como la versión cambia con
+ * cada documento nuevo, el navegador puede guardarla sin volver a validarla.
+ */
+public class ValidacionDocumentoResponse {
+
+    public enum Estado {
+        /** Subido, en espera del worker */
+        PENDIENTE,
+        /** Un worker lo está analizando */
+        EN_PROCESO,
+        /** Estructura correcta; páginas y texto registrados */
+        VALIDO,
+        /** Dañado, cifrado o sin páginas; ver motivoRechazo */
+        RECHAZADO
+    }
+
+    private final String tipo;
+    private final Estado estado;
+    private final Integer paginas;
+    private final Long caracteresTexto;
+    private final String motivoRechazo;
+    private final String versionVistaPrevia;
+    private final LocalDateTime fechaActualizacion;
+
+    /**
+     * @param tipo Segmento del tipo de archivo (formatoA, carta, anteproyecto)
+     * @param estado Estado de la validación
+     * @param paginas Páginas del PDF (solo si es VALIDO)
+     * @param caracteresTexto Caracteres de texto extraíble (solo si es VALIDO)
+     * @param motivoRechazo Motivo del rechazo (solo si es RECHAZADO)
+     * @param versionVistaPrevia Versión de la vista previa, o null si no tiene
+     * @param fechaActualizacion Último cambio de estado
+     */
+    public ValidacionDocumentoResponse(String tipo, Estado estado, Integer paginas, Long caracteresTexto,
+                                       String motivoRechazo, String versionVistaPrevia,
+                                       LocalDateTime fechaActualizacion) {
+        this.tipo = tipo;
+        this.estado = estado;
+        this.paginas = paginas;
+        this.caracteresTexto = caracteresTexto;
+        this.motivoRechazo = motivoRechazo;
+        this.versionVistaPrevia = versionVistaPrevia;
+        this.fechaActualizacion = fechaActualizacion;
+    }
+
+    /**
+     * Versión de una vista previa a partir de su ruta en el almacenamiento. Cada
+     * vista previa se guarda en una ruta nueva, así que la versión identifica sus bytes.
+     */
+    public static String versionVistaPrevia(String rutaVistaPrevia) {
+        if (rutaVistaPrevia == null) {
+            return null;
+        }
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256")
+                .digest(rutaVistaPrevia.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(hash, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible en la JVM", e);
+        }
+    }
+
+    public String getTipo() {
+        return tipo;
+    }
+
+    public Estado getEstado() {
+        return estado;
+    }
+
+    public Integer getPaginas() {
+        return paginas;
+    }
+
+    public Long getCaracteresTexto() {
+        return caracteresTexto;
+    }
+
+    public String getMotivoRechazo() {
+        return motivoRechazo;
+    }
+
+    public String getVersionVistaPrevia() {
+        return versionVistaPrevia;
+    }
+
+    public LocalDateTime getFechaActualizacion() {
+        return fechaActualizacion;
+    }
+}
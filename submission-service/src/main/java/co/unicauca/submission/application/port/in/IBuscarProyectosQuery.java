@@ -0,0 +1,28 @@
+package co.unicauca.submission.application.port.in;
+
+import co.unicauca.submission.application.dto.response.ProyectoResponse;
+import co.unicauca.submission.domain.model.EstadoProyecto;
+import co.unicauca.submission.domain.model.Modalidad;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Puerto de entrada (Query) para buscar proyectos por palabras clave.
+ * El coordinador busca proyectos actuales e históricos por su título y objetivos.
+ */
+public interface IBuscarProyectosQuery {
+
+    /**
+     * Busca proyectos cuyo título u objetivos contengan las palabras indicadas.
+     * Las palabras se comparan por su raíz en español ("evaluación" encuentra
+     * "evaluaciones"); los resultados vienen ordenados por relevancia.
+     *
+     * @param texto     Palabras a buscar; admite "frase exacta", -excluir y OR
+     * @param estado    Filtro opcional por estado
+     * @param modalidad Filtro opcional por modalidad
+     * @param pageable  Configuración de paginación
+     * @return Página de proyectos, del más al menos relevante
+     * @throws IllegalArgumentException si el texto está vacío o es demasiado largo
+     */
+    Page<ProyectoResponse> buscar(String texto, EstadoProyecto estado, Modalidad modalidad, Pageable pageable);
+}
@@ -0,0 +1,17 @@
+package co.unicauca.submission.application.port.in;
+
+import co.unicauca.submission.application.dto.response.ValidacionDocumentoResponse;
+
+import java.util.List;
+
+/**
+ * Puerto de entrada (Query) para el estado de la validación asíncrona de los
+ * documentos de un proyecto. La UI lo consulta periódicamente después de subir.
+ */
+public interface IConsultarValidacionDocumentosQuery {
+
+    /**
+     * @throws ProyectoNotFoundException si el proyecto no existe
+     */
+    List<ValidacionDocumentoResponse> consultar(Long proyectoId);
+}
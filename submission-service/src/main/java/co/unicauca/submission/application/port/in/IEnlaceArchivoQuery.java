@@ -0,0 +1,42 @@
+package co.unicauca.submission.application.port.in;
+
+import co.unicauca.submission.application.dto.response.ArchivoAlmacenado;
+import co.unicauca.submission.application.dto.response.EnlaceArchivoResponse;
+import co.unicauca.submission.application.port.in.IObtenerArchivoProyectoQuery.TipoArchivoProyecto;
+
+import java.util.List;
+
+/**
+ * Puerto de entrada (Query) para enlaces de descarga firmados.
+ *
+ * Los evaluadores piden los enlaces de un proyecto una sola vez (con autenticación)
+ * y luego abren cada PDF sin pasar por JWT, identity-service ni la BD.
+ */
+public interface IEnlaceArchivoQuery {
+
+    /**
+     * Genera enlaces para todos los archivos del proyecto que pasaron la validación.
+     *
+     * @throws ProyectoNotFoundException si el proyecto no existe
+     */
+    List<EnlaceArchivoResponse> generarEnlaces(Long proyectoId, boolean usoUnico);
+
+    /**
+     * Genera el enlace de un archivo del proyecto.
+     *
+     * @throws ProyectoNotFoundException si el proyecto no existe
+     * @throws ArchivoNoEncontradoException si el proyecto no tiene ese archivo
+     * @throws IllegalStateException si el archivo fue rechazado o aún se está validando
+     */
+    EnlaceArchivoResponse generarEnlace(Long proyectoId, TipoArchivoProyecto tipo, boolean usoUnico);
+
+    /**
+     * Verifica el token del enlace y resuelve el archivo, sin consultar la BD.
+     *
+     * @throws UsuarioNoAutorizadoException si el enlace es inválido, venció o ya se usó
+     * @throws ArchivoNoEncontradoException si el archivo ya no existe en el almacenamiento
+     */
+    ArchivoFirmado resolver(String token);
+
+    record ArchivoFirmado(ArchivoAlmacenado archivo, String nombreArchivo) {}
+}
@@ -1,5 +1,7 @@
 package co.unicauca.submission.application.port.in;
 
+import co.unicauca.submission.application.dto.request.CursorProyecto;
+import co.unicauca.submission.application.dto.response.PaginaCursorResponse;
 import co.unicauca.submission.application.dto.response.ProyectoResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -20,5 +22,15 @@ public interface IListarAnteproyectosPendientesQuery {
      * @return Página de proyectos con anteproyecto pendiente de asignación
      */
     Page<ProyectoResponse> listarPendientes(Pageable pageable);
+
+    /**
+     * Lista anteproyectos pendientes por cursor, en orden (fechaCreacion, id) y sin
+     * contar el total: cada consulta cuesta lo mismo sin importar la posición.
+     *
+     * @param despuesDe Cursor del listado anterior; null para empezar
+     * @param tamano    Cantidad máxima de proyectos
+     * @return Proyectos y cursor para continuar
+     */
+    PaginaCursorResponse<ProyectoResponse> listarPendientes(CursorProyecto despuesDe, int tamano);
 }
 
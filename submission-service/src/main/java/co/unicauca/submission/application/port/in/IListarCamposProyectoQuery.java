@@ -0,0 +1,40 @@
+package co.unicauca.submission.application.port.in;
+
+import co.unicauca.submission.application.dto.request.CampoProyecto;
+import co.unicauca.submission.application.dto.request.CursorProyecto;
+import co.unicauca.submission.application.dto.request.FiltroProyectos;
+import co.unicauca.submission.application.dto.response.PaginaCursorResponse;
+import co.unicauca.submission.application.dto.response.ProyectoParcialResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Puerto de entrada (Query) para los listados con selección de campos
+ * (parámetro fields): solo se consultan y se retornan los campos pedidos.
+ */
+public interface IListarCamposProyectoQuery {
+
+    /**
+     * Lista los proyectos que cumplen el filtro con los campos indicados.
+     *
+     * @param filtro Criterio del listado
+     * @param campos Campos a retornar (ver CampoProyecto.desdeParametro)
+     * @return Proyectos con solo los campos pedidos
+     */
+    List<ProyectoParcialResponse> listar(FiltroProyectos filtro, Set<CampoProyecto> campos);
+
+    /**
+     * Igual que listar, con paginación.
+     */
+    Page<ProyectoParcialResponse> listarPagina(FiltroProyectos filtro, Set<CampoProyecto> campos,
+                                               Pageable pageable);
+
+    /**
+     * Igual que listar, por cursor en orden (fechaCreacion, id) y sin contar el total.
+     */
+    PaginaCursorResponse<ProyectoParcialResponse> listarDespuesDe(FiltroProyectos filtro, Set<CampoProyecto> campos,
+                                                                  CursorProyecto despuesDe, int tamano);
+}
@@ -1,5 +1,7 @@
 package co.unicauca.submission.application.port.in;
 
+import co.unicauca.submission.application.dto.request.CursorProyecto;
+import co.unicauca.submission.application.dto.response.PaginaCursorResponse;
 import co.unicauca.submission.application.dto.response.ProyectoResponse;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -18,5 +20,16 @@ public interface IListarFormatoAPendientesQuery {
      * @return Página con los proyectos pendientes
      */
     Page<ProyectoResponse> listarPendientes(Pageable pageable);
+
+    /**
+     * Lista los Formatos A pendientes por cursor, en orden (fechaCreacion, id) y sin
+     * contar el total. Pensado para clientes que consultan periódicamente
+     * (review-service) y no usan el total.
+     *
+     * @param despuesDe Cursor del listado anterior; null para empezar
+     * @param tamano    Cantidad máxima de proyectos
+     * @return Proyectos y cursor para continuar
+     */
+    PaginaCursorResponse<ProyectoResponse> listarPendientes(CursorProyecto despuesDe, int tamano);
 }
 
@@ -0,0 +1,80 @@
+package co.unicauca.submission.application.port.in;
+
+import co.unicauca.submission.application.dto.response.ArchivoAlmacenado;
+import co.unicauca.submission.domain.exception.ArchivoNoEncontradoException;
+import co.unicauca.submission.domain.exception.ProyectoNotFoundException;
+import co.unicauca.submission.domain.model.ArchivoAdjunto;
+import co.unicauca.submission.domain.model.Proyecto;
+
+/**
+ * Puerto de entrada (Query) para descargar los archivos de un proyecto.
+ * Usado por los evaluadores para obtener el Formato A, la carta y el anteproyecto.
+ */
+public interface IObtenerArchivoProyectoQuery {
+
+    /**
+     * Obtiene los metadatos del archivo solicitado para servirlo.
+     *
+     * @param proyectoId ID del proyecto
+     * @param tipo Tipo de archivo
+     * @return Archivo almacenado
+     * @throws ProyectoNotFoundException si el proyecto no existe
+     * @throws ArchivoNoEncontradoException si el proyecto no tiene ese archivo
+     * @throws IllegalStateException si el archivo fue rechazado o aún se está validando
+     */
+    ArchivoAlmacenado obtenerArchivo(Long proyectoId, TipoArchivoProyecto tipo);
+
+    /**
+     * Obtiene la vista previa (PNG de la primera página) del documento. El ETag del
+     * resultado es la versionVistaPrevia que informa la consulta de documentos.
+     *
+     * @param proyectoId ID del proyecto
+     * @param tipo Tipo de archivo
+     * @return Vista previa almacenada, inmutable
+     * @throws ArchivoNoEncontradoException si el documento no tiene vista previa
+     *         (aún no se valida, fue rechazado o no se pudo renderizar)
+     */
+    ArchivoAlmacenado obtenerVistaPrevia(Long proyectoId, TipoArchivoProyecto tipo);
+
+    /**
+     * Archivos descargables de un proyecto, identificados por su segmento en la URL.
+     */
+    enum TipoArchivoProyecto {
+        FORMATO_A("formatoA"),
+        CARTA("carta"),
+        ANTEPROYECTO("anteproyecto");
+
+        private final String segmento;
+
+        TipoArchivoProyecto(String segmento) {
+            this.segmento = segmento;
+        }
+
+        public String getSegmento() {
+            return segmento;
+        }
+
+        /**
+         * Archivo de este tipo en el proyecto, o null si el proyecto no lo tiene.
+         */
+        public ArchivoAdjunto seleccionar(Proyecto proyecto) {
+            return switch (this) {
+                case FORMATO_A -> proyecto.getFormatoA().getPdfFormatoA();
+                case CARTA -> proyecto.getFormatoA().getCartaAceptacion();
+                case ANTEPROYECTO -> proyecto.getAnteproyecto() != null
+                    ? proyecto.getAnteproyecto().getPdfAnteproyecto()
+                    : null;
+            };
+        }
+
+        public static TipoArchivoProyecto desdeSegmento(String segmento) {
+            for (TipoArchivoProyecto tipo : values()) {
+                if (tipo.segmento.equalsIgnoreCase(segmento)) {
+                    return tipo;
+                }
+            }
+            throw new IllegalArgumentException("Tipo de archivo no soportado: " + segmento
+                + ". Valores válidos: formatoA, carta, anteproyecto");
+        }
+    }
+}
@@ -19,6 +19,16 @@ public interface IObtenerProyectoQuery {
      */
     ProyectoResponse obtenerPorId(Long proyectoId);
 
+    /**
+     * Obtiene solo la versión actual del proyecto (validación de ETag).
+     * No carga ni serializa el proyecto completo.
+     *
+     * @param proyectoId ID del proyecto
+     * @return Versión del proyecto
+     * @throws ProyectoNotFoundException si el proyecto no existe
+     */
+    Long obtenerVersion(Long proyectoId);
+
     /**
      * Obtiene los proyectos de un estudiante específico.
      *
@@ -0,0 +1,54 @@
+package co.unicauca.submission.application.port.in;
+
+import co.unicauca.submission.application.dto.response.ProyectoResponse;
+import co.unicauca.submission.application.dto.response.SesionSubida;
+
+import java.io.InputStream;
+
+/**
+ * Puerto de entrada (Use Case) para subir el anteproyecto por fragmentos.
+ * RF6 para PDFs grandes: un corte de red no obliga a reenviar el archivo completo.
+ *
+ * Protocolo: iniciar la sesión, enviar fragmentos con su offset y checksum,
+ * consultar el offset recibido para reanudar y finalizar.
+ */
+public interface ISubidaReanudableAnteproyectoUseCase {
+
+    /**
+     * Abre una sesión de subida. Valida de antemano que el usuario es el director
+     * y que el proyecto admite anteproyecto, para no recibir un archivo inútil.
+     *
+     * @param tamanoTotal Tamaño del PDF en bytes
+     * @throws UsuarioNoAutorizadoException si no es el director
+     * @throws ProyectoNotFoundException si el proyecto no existe
+     */
+    SesionSubida iniciar(Long proyectoId, String nombreArchivo, long tamanoTotal, Long userId);
+
+    /**
+     * Recibe un fragmento.
+     *
+     * @param offset Posición del primer byte del fragmento
+     * @param checksum Encabezado Upload-Checksum: "sha256 {digest en base64}"
+     * @return Nuevo offset recibido
+     * @throws ArchivoNoEncontradoException si la sesión no existe o expiró
+     */
+    long recibirFragmento(Long proyectoId, String sesionId, long offset, String checksum,
+                          InputStream contenido, Long userId);
+
+    /**
+     * Estado de la sesión (offset recibido), para reanudar tras un corte.
+     */
+    SesionSubida consultar(Long proyectoId, String sesionId, Long userId);
+
+    /**
+     * Ensambla el archivo completo y lo registra como anteproyecto del proyecto.
+     *
+     * @throws IllegalStateException si faltan bytes por recibir
+     */
+    ProyectoResponse finalizar(Long proyectoId, String sesionId, Long userId);
+
+    /**
+     * Cancela la sesión y descarta lo recibido.
+     */
+    void cancelar(Long proyectoId, String sesionId, Long userId);
+}
@@ -0,0 +1,19 @@
+package co.unicauca.submission.application.port.out;
+
+/**
+ * Puerto de salida para efectos secundarios que deben ocurrir después del commit.
+ *
+ * Las tareas registradas se ejecutan solo si la transacción actual se confirma,
+ * fuera del hilo del request y sin retener la conexión a la BD. Si no hay
+ * transacción activa, se ejecutan de inmediato (también en segundo plano).
+ */
+public interface IEjecutorPostCommitPort {
+
+    /**
+     * Registra una tarea para ejecutarse tras el commit, con reintentos si falla.
+     *
+     * @param descripcion Descripción para logs y métricas
+     * @param tarea Acción a ejecutar
+     */
+    void ejecutarDespuesDelCommit(String descripcion, Runnable tarea);
+}
@@ -0,0 +1,32 @@
+package co.unicauca.submission.application.port.out;
+
+import java.time.Instant;
+
+/**
+ * Puerto de salida para firmar y verificar enlaces de descarga.
+ *
+ * El token lleva la ruta del archivo en el almacenamiento y su vencimiento, firmados
+ * con HMAC: verificarlo no requiere consultar la BD ni identity-service.
+ */
+public interface IEnlacesFirmadosPort {
+
+    /**
+     * Emite un token para la ruta dada, válido durante la vigencia configurada.
+     *
+     * @param ruta Ruta del archivo en el almacenamiento (IFileStoragePort)
+     * @param nombreArchivo Nombre con el que se entrega la descarga
+     * @param usoUnico true para que el token solo pueda usarse una vez
+     */
+    EnlaceFirmado firmar(String ruta, String nombreArchivo, boolean usoUnico);
+
+    /**
+     * Verifica firma y vencimiento y, si es de uso único, lo marca como usado.
+     *
+     * @throws UsuarioNoAutorizadoException si el token es inválido, venció o ya se usó
+     */
+    DestinoEnlace verificar(String token);
+
+    record EnlaceFirmado(String token, Instant expira) {}
+
+    record DestinoEnlace(String ruta, String nombreArchivo) {}
+}
@@ -1,6 +1,10 @@
 package co.unicauca.submission.application.port.out;
 
+import co.unicauca.submission.application.dto.response.ArchivoAlmacenado;
+
 import java.io.InputStream;
+import java.util.Collection;
+import java.util.Optional;
 
 /**
  * Puerto de salida para almacenamiento de archivos.
@@ -17,6 +21,18 @@ public interface IFileStoragePort {
      */
     String guardarArchivo(InputStream contenido, String nombreArchivo, String directorio);
 
+    /**
+     * Guarda un PDF validándolo mientras se escribe (magic number y tamaño máximo).
+     * El contenido se recorre una sola vez; si no es válido no queda nada guardado.
+     *
+     * @param contenido Stream del contenido del archivo
+     * @param nombreArchivo Nombre del archivo
+     * @param directorio Directorio donde guardar
+     * @return Ruta donde se guardó el archivo
+     * @throws IllegalArgumentException si no es un PDF o excede el tamaño máximo
+     */
+    String guardarPdf(InputStream contenido, String nombreArchivo, String directorio);
+
     /**
      * Obtiene un archivo por su ruta.
      *
@@ -25,6 +41,15 @@ public interface IFileStoragePort {
      */
     InputStream obtenerArchivo(String ruta);
 
+    /**
+     * Obtiene los metadatos de un archivo (ubicación física o lector por rangos,
+     * tamaño y ETag) para servirlo sin leerlo a memoria. No lee el contenido.
+     *
+     * @param ruta Ruta del archivo
+     * @return Metadatos del archivo, o vacío si no existe
+     */
+    Optional<ArchivoAlmacenado> describirArchivo(String ruta);
+
     /**
      * Elimina un archivo.
      *
@@ -33,9 +58,31 @@ public interface IFileStoragePort {
     void eliminarArchivo(String ruta);
 
     /**
-     * Valida que un archivo sea PDF.
+     * Libera los archivos que guardó una operación que falló antes de confirmarse.
+     * Los archivos se guardan fuera de la transacción del caso de uso; sin esto su
+     * referencia (o el archivo, según el adaptador) quedaría sin dueño.
+     *
+     * Es estático para que cada eliminarArchivo pase por el puerto inyectado (y su
+     * transacción), no por una llamada interna del adaptador.
+     *
+     * @param puerto Puerto con el que se guardaron
+     * @param rutas Rutas devueltas por guardarArchivo/guardarPdf
+     * @param causa Error de la operación; los errores al liberar se le agregan como suprimidos
+     */
+    static void liberarNoConfirmados(IFileStoragePort puerto, Collection<String> rutas, Exception causa) {
+        for (String ruta : rutas) {
+            try {
+                puerto.eliminarArchivo(ruta);
+            } catch (RuntimeException e) {
+                causa.addSuppressed(e);
+            }
+        }
+    }
+
+    /**
+     * Valida que un archivo sea PDF sin consumir el stream (usa mark/reset).
      *
-     * @param contenido Stream del contenido
+     * @param contenido Stream del contenido, debe soportar mark/reset
      * @return true si es PDF, false en caso contrario
      */
     boolean esPDF(InputStream contenido);
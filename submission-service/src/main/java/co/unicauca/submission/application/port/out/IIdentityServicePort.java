@@ -1,5 +1,7 @@
 package co.unicauca.submission.application.port.out;
 
+import co.unicauca.submission.domain.model.Participantes;
+
 /**
  * Puerto de salida para comunicación con el servicio de identidad.
  */
@@ -25,6 +27,19 @@ public interface IIdentityServicePort {
      */
     boolean tieneRol(Long userId, String rol);
 
+    /**
+     * Resuelve de una sola vez los participantes de un proyecto (una consulta por
+     * participante), para compartir el resultado entre eventos y notificaciones.
+     */
+    default ParticipantesInfo obtenerParticipantes(Participantes participantes) {
+        return new ParticipantesInfo(
+            obtenerUsuario(participantes.getDirectorId()),
+            participantes.getCodirectorId() != null ? obtenerUsuario(participantes.getCodirectorId()) : null,
+            obtenerUsuario(participantes.getEstudiante1Id()),
+            participantes.getEstudiante2Id() != null ? obtenerUsuario(participantes.getEstudiante2Id()) : null
+        );
+    }
+
     /**
      * DTO con información básica de un usuario.
      */
@@ -35,5 +50,15 @@ public interface IIdentityServicePort {
         String programa,
         String rol
     ) {}
-}
 
+    /**
+     * Participantes de un proyecto ya resueltos en identity-service.
+     * Cualquiera puede ser null si no existe o no se pudo obtener.
+     */
+    record ParticipantesInfo(
+        UsuarioInfo director,
+        UsuarioInfo codirector,
+        UsuarioInfo estudiante1,
+        UsuarioInfo estudiante2
+    ) {}
+}
@@ -18,18 +18,30 @@ public interface INotificationPort {
     );
 
     /**
-     * Notifica al coordinador sobre nuevo Formato A (RF2).
+     * Notifica al coordinador sobre nuevo Formato A (RF2 y RF4).
      */
-    void notificarCoordinadorFormatoAEnviado(Long proyectoId, int version);
+    void notificarCoordinadorFormatoAEnviado(NotificacionDocumento notificacion);
 
     /**
      * Notifica al jefe de departamento sobre anteproyecto (RF6).
      */
-    void notificarJefeDepartamentoAnteproyecto(Long proyectoId);
+    void notificarJefeDepartamentoAnteproyecto(NotificacionDocumento notificacion);
 
     /**
      * Notifica a evaluadores asignados (RF8).
      */
     void notificarEvaluadoresAsignados(Long proyectoId, Long evaluador1Id, Long evaluador2Id);
-}
 
+    /**
+     * Datos ya resueltos de un documento enviado: el caso de uso los arma con el
+     * proyecto que acaba de guardar, así el adaptador no vuelve a consultar la BD
+     * ni identity-service.
+     */
+    record NotificacionDocumento(
+        Long proyectoId,
+        String tituloProyecto,
+        int version,
+        String enviadoPor,
+        String emailDestinatario
+    ) {}
+}
@@ -0,0 +1,28 @@
+package co.unicauca.submission.application.port.out;
+
+import co.unicauca.submission.application.dto.response.ProyectoResponse;
+
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Puerto de salida para la caché de proyectos consultados por ID.
+ */
+public interface IProyectoCachePort {
+
+    /**
+     * Retorna el proyecto en caché o lo carga con el cargador y lo guarda.
+     * Si el cargador lanza una excepción, no se guarda nada.
+     */
+    ProyectoResponse obtener(Long proyectoId, Supplier<ProyectoResponse> cargador);
+
+    /**
+     * Retorna el proyecto solo si ya está en caché; no lo carga.
+     */
+    Optional<ProyectoResponse> buscar(Long proyectoId);
+
+    /**
+     * Invalida el proyecto. Dentro de una transacción, se aplica al confirmarse.
+     */
+    void invalidar(Long proyectoId);
+}
@@ -1,13 +1,20 @@
 package co.unicauca.submission.application.port.out;
 
+import co.unicauca.submission.application.dto.request.CampoProyecto;
+import co.unicauca.submission.application.dto.request.CursorProyecto;
+import co.unicauca.submission.application.dto.request.FiltroProyectos;
 import co.unicauca.submission.domain.model.Proyecto;
 import co.unicauca.submission.domain.model.ProyectoId;
 import co.unicauca.submission.domain.model.EstadoProyecto;
+import co.unicauca.submission.domain.model.Modalidad;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 
 /**
  * Puerto de salida para persistencia de proyectos.
@@ -20,6 +27,12 @@ public interface IProyectoRepositoryPort {
      */
     Proyecto save(Proyecto proyecto);
 
+    /**
+     * Guarda muchos proyectos en una sola transacción con INSERT en lote.
+     * Pensado para importaciones administrativas de trabajos de grado históricos.
+     */
+    List<Proyecto> saveAll(List<Proyecto> proyectos);
+
     /**
      * Busca un proyecto por su ID.
      */
@@ -35,6 +48,46 @@ public interface IProyectoRepositoryPort {
      */
     Page<Proyecto> findByEstadoPage(EstadoProyecto estado, Pageable pageable);
 
+    /**
+     * Busca proyectos por estado en orden (fechaCreacion, id) a partir de un cursor,
+     * sin contar el total. El costo no depende de qué tan lejos esté el cursor.
+     *
+     * @param despuesDe posición del último proyecto ya entregado; null para empezar
+     * @param tamano    cantidad máxima de proyectos
+     */
+    Slice<Proyecto> findByEstadoDespuesDe(EstadoProyecto estado, CursorProyecto despuesDe, int tamano);
+
+    /**
+     * Consulta solo las columnas indicadas de los proyectos que cumplen el filtro.
+     * Los valores conservan los tipos de dominio (EstadoProyecto, Modalidad, lista
+     * de objetivos específicos).
+     *
+     * @param columnas campos persistidos (CampoProyecto.esPersistido)
+     */
+    List<Map<CampoProyecto, Object>> findColumnas(FiltroProyectos filtro, Set<CampoProyecto> columnas);
+
+    /**
+     * Igual que findColumnas, con paginación.
+     */
+    Page<Map<CampoProyecto, Object>> findColumnasPage(FiltroProyectos filtro, Set<CampoProyecto> columnas,
+                                                      Pageable pageable);
+
+    /**
+     * Igual que findColumnas, en orden (fechaCreacion, id) a partir de un cursor y
+     * sin contar el total. Las columnas ID y FECHA_CREACION deben estar incluidas.
+     */
+    Slice<Map<CampoProyecto, Object>> findColumnasDespuesDe(FiltroProyectos filtro, Set<CampoProyecto> columnas,
+                                                            CursorProyecto despuesDe, int tamano);
+
+    /**
+     * Búsqueda de texto completo en título y objetivos, ordenada por relevancia.
+     *
+     * @param texto     palabras a buscar (sintaxis web: "frase", -excluir, OR)
+     * @param estado    filtro opcional (null = todos)
+     * @param modalidad filtro opcional (null = todas)
+     */
+    Page<Proyecto> buscarTexto(String texto, EstadoProyecto estado, Modalidad modalidad, Pageable pageable);
+
     /**
      * Busca proyectos por director.
      */
@@ -45,6 +98,16 @@ public interface IProyectoRepositoryPort {
      */
     List<Proyecto> findByEstudianteId(Long estudianteId);
 
+    /**
+     * Busca el proyecto activo (estado no final) del estudiante, si lo tiene.
+     */
+    Optional<ProyectoId> findProyectoActivoByEstudianteId(Long estudianteId);
+
+    /**
+     * Obtiene solo la versión persistida del proyecto, sin cargarlo.
+     */
+    Optional<Long> findVersionById(ProyectoId id);
+
     /**
      * Verifica si existe un proyecto con el ID dado.
      */
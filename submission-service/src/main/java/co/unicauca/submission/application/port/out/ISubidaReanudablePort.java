@@ -0,0 +1,50 @@
+package co.unicauca.submission.application.port.out;
+
+import co.unicauca.submission.application.dto.response.SesionSubida;
+
+import java.io.InputStream;
+import java.util.Optional;
+
+/**
+ * Puerto de salida para subidas reanudables por fragmentos.
+ *
+ * Los fragmentos se reciben en orden: cada uno debe empezar exactamente en el
+ * offset ya recibido y se verifica con su checksum antes de agregarse al archivo
+ * de la sesión. Así un corte de red solo obliga a reenviar el fragmento en curso.
+ */
+public interface ISubidaReanudablePort {
+
+    /**
+     * Abre una sesión vacía.
+     *
+     * @param tamanoTotal Tamaño declarado del archivo completo
+     * @throws IllegalArgumentException si el tamaño no es válido
+     */
+    SesionSubida crear(Long proyectoId, Long usuarioId, String nombreArchivo, long tamanoTotal);
+
+    /**
+     * Estado actual de la sesión, vacío si no existe o ya fue eliminada.
+     */
+    Optional<SesionSubida> buscar(String sesionId);
+
+    /**
+     * Verifica el fragmento y lo agrega al final del archivo de la sesión.
+     *
+     * @param offset Posición en la que empieza el fragmento (debe coincidir con lo recibido)
+     * @param sha256 Digest SHA-256 esperado del fragmento
+     * @return Nuevo offset recibido
+     * @throws IllegalArgumentException si el checksum no coincide o el fragmento excede el tamaño
+     * @throws IllegalStateException si el offset no coincide o hay otro fragmento en curso
+     */
+    long agregarFragmento(String sesionId, long offset, InputStream contenido, byte[] sha256);
+
+    /**
+     * Abre el archivo ensamblado como stream, sin cargarlo en memoria.
+     */
+    InputStream abrirContenido(String sesionId);
+
+    /**
+     * Elimina la sesión y sus datos. No falla si ya no existe.
+     */
+    void eliminar(String sesionId);
+}
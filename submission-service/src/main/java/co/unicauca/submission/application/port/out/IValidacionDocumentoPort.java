@@ -0,0 +1,40 @@
+package co.unicauca.submission.application.port.out;
+
+import co.unicauca.submission.application.dto.response.ValidacionDocumentoResponse;
+import co.unicauca.submission.application.port.in.IObtenerArchivoProyectoQuery.TipoArchivoProyecto;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Puerto de salida para la validación asíncrona de documentos.
+ *
+ * Los casos de uso registran cada PDF subido dentro de su transacción; un worker
+ * en segundo plano lo analiza después del commit.
+ */
+public interface IValidacionDocumentoPort {
+
+    /**
+     * Encola la validación del documento vigente de ese tipo. Si ya había uno
+     * (reenvío), lo reemplaza y vuelve a PENDIENTE; su vista previa se libera
+     * después del commit.
+     */
+    void registrar(Long proyectoId, TipoArchivoProyecto tipo, String ruta);
+
+    /**
+     * Validaciones de los documentos vigentes del proyecto.
+     */
+    List<ValidacionDocumentoResponse> buscarPorProyecto(Long proyectoId);
+
+    /**
+     * Validación del documento de ese tipo; vacío para documentos subidos antes
+     * de la validación asíncrona.
+     */
+    Optional<ValidacionDocumentoResponse> buscar(Long proyectoId, TipoArchivoProyecto tipo);
+
+    /**
+     * Ruta en el almacenamiento de la vista previa del documento de ese tipo; vacío
+     * si no es VALIDO o no se generó.
+     */
+    Optional<String> buscarVistaPrevia(Long proyectoId, TipoArchivoProyecto tipo);
+}
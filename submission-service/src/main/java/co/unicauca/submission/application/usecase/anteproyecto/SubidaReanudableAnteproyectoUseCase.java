@@ -0,0 +1,173 @@
+package co.unicauca.submission.application.usecase.anteproyecto;
+
+import co.unicauca.submission.application.dto.request.SubirAnteproyectoRequest;
+import co.unicauca.submission.application.dto.response.ProyectoResponse;
+import co.unicauca.submission.application.dto.response.SesionSubida;
+import co.unicauca.submission.application.port.in.ISubidaReanudableAnteproyectoUseCase;
+import co.unicauca.submission.application.port.in.ISubirAnteproyectoUseCase;
+import co.unicauca.submission.application.port.out.IProyectoRepositoryPort;
+import co.unicauca.submission.application.port.out.ISubidaReanudablePort;
+import co.unicauca.submission.domain.exception.ArchivoNoEncontradoException;
+import co.unicauca.submission.domain.exception.ProyectoNotFoundException;
+import co.unicauca.submission.domain.exception.UsuarioNoAutorizadoException;
+import co.unicauca.submission.domain.model.Proyecto;
+import co.unicauca.submission.domain.model.ProyectoId;
+import co.unicauca.submission.domain.specification.EsDirectorDelProyectoSpec;
+import co.unicauca.submission.domain.specification.PuedeSubirAnteproyectoSpec;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Base64;
+
+/**
+ * Use Case: Subida reanudable del anteproyecto.
+ *
+ * Los fragmentos se guardan en disco a medida que llegan (ISubidaReanudablePort);
+ * al finalizar, el archivo ensamblado se entrega como stream a SubirAnteproyectoUseCase,
+ * que valida el PDF y lo registra igual que una subida multipart. La memoria usada
+ * por subida es la del buffer de copia, sin importar el tamaño del archivo.
+ */
+@Service
+public class SubidaReanudableAnteproyectoUseCase implements ISubidaReanudableAnteproyectoUseCase {
+
+    private static final Logger log = LoggerFactory.getLogger(SubidaReanudableAnteproyectoUseCase.class);
+
+    private static final String ALGORITMO_CHECKSUM = "sha256";
+    private static final int BYTES_SHA256 = 32;
+
+    private final IProyectoRepositoryPort repositoryPort;
+    private final ISubidaReanudablePort subidaPort;
+    private final ISubirAnteproyectoUseCase subirUseCase;
+
+    public SubidaReanudableAnteproyectoUseCase(
+            IProyectoRepositoryPort repositoryPort,
+            ISubidaReanudablePort subidaPort,
+            ISubirAnteproyectoUseCase subirUseCase
+    ) {
+        this.repositoryPort = repositoryPort;
+        this.subidaPort = subidaPort;
+        this.subirUseCase = subirUseCase;
+    }
+
+    @Override
+    public SesionSubida iniciar(Long proyectoId, String nombreArchivo, long tamanoTotal, Long userId) {
+        Proyecto proyecto = repositoryPort.findById(ProyectoId.of(proyectoId))
+            .orElseThrow(() -> new ProyectoNotFoundException(proyectoId));
+
+        EsDirectorDelProyectoSpec esDirectorSpec = new EsDirectorDelProyectoSpec(userId);
+        if (!esDirectorSpec.isSatisfiedBy(proyecto)) {
+            throw new UsuarioNoAutorizadoException(esDirectorSpec.getRazonRechazo(proyecto));
+        }
+
+        PuedeSubirAnteproyectoSpec puedeSubirSpec = new PuedeSubirAnteproyectoSpec();
+        if (!puedeSubirSpec.isSatisfiedBy(proyecto)) {
+            throw new IllegalStateException(puedeSubirSpec.getRazonRechazo(proyecto));
+        }
+
+        String nombre = (nombreArchivo != null && !nombreArchivo.trim().isEmpty())
+            ? nombreArchivo : "anteproyecto.pdf";
+
+        SesionSubida sesion = subidaPort.crear(proyectoId, userId, nombre, tamanoTotal);
+
+        log.info("Sesión de subida {} iniciada - ProyectoID: {}, Tamaño: {} bytes",
+                sesion.getId(), proyectoId, tamanoTotal);
+
+        return sesion;
+    }
+
+    @Override
+    public long recibirFragmento(Long proyectoId, String sesionId, long offset, String checksum,
+                                 InputStream contenido, Long userId) {
+        obtenerSesion(proyectoId, sesionId, userId);
+
+        long recibidos = subidaPort.agregarFragmento(sesionId, offset, contenido, decodificarChecksum(checksum));
+
+        log.debug("Sesión {}: fragmento aceptado, {} bytes recibidos", sesionId, recibidos);
+
+        return recibidos;
+    }
+
+    @Override
+    public SesionSubida consultar(Long proyectoId, String sesionId, Long userId) {
+        return obtenerSesion(proyectoId, sesionId, userId);
+    }
+
+    @Override
+    public ProyectoResponse finalizar(Long proyectoId, String sesionId, Long userId) {
+        SesionSubida sesion = obtenerSesion(proyectoId, sesionId, userId);
+
+        if (!sesion.isCompleta()) {
+            throw new IllegalStateException("La subida está incompleta: recibidos " + sesion.getRecibidos()
+                + " de " + sesion.getTamanoTotal() + " bytes");
+        }
+
+        ProyectoResponse response;
+        try (InputStream ensamblado = subidaPort.abrirContenido(sesionId)) {
+            SubirAnteproyectoRequest request = new SubirAnteproyectoRequest();
+            request.setPdfStream(ensamblado);
+            request.setPdfNombreArchivo(sesion.getNombreArchivo());
+
+            response = subirUseCase.subir(proyectoId, request, userId);
+        } catch (IOException e) {
+            throw new RuntimeException("No se pudo leer la subida " + sesionId, e);
+        }
+
+        // Si subir falla la sesión se conserva: se puede reintentar sin reenviar el archivo
+        subidaPort.eliminar(sesionId);
+
+        log.info("Sesión de subida {} finalizada - ProyectoID: {}", sesionId, proyectoId);
+
+        return response;
+    }
+
+    @Override
+    public void cancelar(Long proyectoId, String sesionId, Long userId) {
+        obtenerSesion(proyectoId, sesionId, userId);
+        subidaPort.eliminar(sesionId);
+
+        log.info("Sesión de subida {} cancelada - ProyectoID: {}", sesionId, proyectoId);
+    }
+
+    /**
+     * La sesión solo es visible para quien la inició y bajo su propio proyecto.
+     */
+    private SesionSubida obtenerSesion(Long proyectoId, String sesionId, Long userId) {
+        SesionSubida sesion = subidaPort.buscar(sesionId)
+            .filter(s -> s.getProyectoId().equals(proyectoId))
+            .orElseThrow(() -> new ArchivoNoEncontradoException(
+                "Sesión de subida no encontrada o expirada: " + sesionId));
+
+        if (!sesion.getUsuarioId().equals(userId)) {
+            throw new UsuarioNoAutorizadoException("La sesión de subida pertenece a otro usuario");
+        }
+        return sesion;
+    }
+
+    /**
+     * Interpreta "sha256 {base64}" (formato del encabezado Upload-Checksum).
+     */
+    private byte[] decodificarChecksum(String checksum) {
+        if (checksum == null || checksum.isBlank()) {
+            throw new IllegalArgumentException("El checksum del fragmento es obligatorio (sha256 {base64})");
+        }
+
+        String[] partes = checksum.trim().split("\\s+");
+        if (partes.length != 2 || !partes[0].equalsIgnoreCase(ALGORITMO_CHECKSUM)) {
+            throw new IllegalArgumentException("Checksum no soportado: " + checksum + ". Formato: sha256 {base64}");
+        }
+
+        byte[] digest;
+        try {
+            digest = Base64.getDecoder().decode(partes[1]);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Checksum inválido, se esperaba base64: " + partes[1], e);
+        }
+        if (digest.length != BYTES_SHA256) {
+            throw new IllegalArgumentException("El checksum SHA-256 debe tener " + BYTES_SHA256 + " bytes");
+        }
+        return digest;
+    }
+}
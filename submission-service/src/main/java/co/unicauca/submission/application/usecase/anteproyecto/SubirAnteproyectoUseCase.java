@@ -3,6 +3,7 @@ package co.unicauca.submission.application.usecase.anteproyecto;
 import co.unicauca.submission.application.dto.request.SubirAnteproyectoRequest;
 import co.unicauca.submission.application.dto.response.ProyectoResponse;
 import co.unicauca.submission.application.port.in.ISubirAnteproyectoUseCase;
+import co.unicauca.submission.application.port.in.IObtenerArchivoProyectoQuery.TipoArchivoProyecto;
 import co.unicauca.submission.application.port.out.*;
 import co.unicauca.submission.domain.event.DomainEvent;
 import co.unicauca.submission.domain.model.ArchivoAdjunto;
@@ -13,8 +14,10 @@ import co.unicauca.submission.domain.specification.PuedeSubirAnteproyectoSpec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -30,9 +33,11 @@ import java.util.List;
  * 6. Persistir cambios
  * 7. Publicar eventos
  * 8. Enviar notificación al jefe de departamento
+ *
+ * Solo el paso 6 corre en transacción; los pasos 7-8 se ejecutan después del
+ * commit en segundo plano (ver CrearFormatoAUseCase).
  */
 @Service
-@Transactional
 public class SubirAnteproyectoUseCase implements ISubirAnteproyectoUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(SubirAnteproyectoUseCase.class);
@@ -42,23 +47,49 @@ public class SubirAnteproyectoUseCase implements ISubirAnteproyectoUseCase {
     private final IEventPublisherPort eventPublisherPort;
     private final INotificationPort notificationPort;
     private final co.unicauca.submission.infrastructure.adapter.out.messaging.EventEnricherService eventEnricher;
+    private final IIdentityServicePort identityServicePort;
+    private final IEjecutorPostCommitPort postCommitPort;
+    private final IValidacionDocumentoPort validacionPort;
+    private final TransactionTemplate transactionTemplate;
 
     public SubirAnteproyectoUseCase(
             IProyectoRepositoryPort repositoryPort,
             IFileStoragePort fileStoragePort,
             IEventPublisherPort eventPublisherPort,
             INotificationPort notificationPort,
-            co.unicauca.submission.infrastructure.adapter.out.messaging.EventEnricherService eventEnricher
+            co.unicauca.submission.infrastructure.adapter.out.messaging.EventEnricherService eventEnricher,
+            IIdentityServicePort identityServicePort,
+            IEjecutorPostCommitPort postCommitPort,
+            IValidacionDocumentoPort validacionPort,
+            PlatformTransactionManager transactionManager
     ) {
         this.repositoryPort = repositoryPort;
         this.fileStoragePort = fileStoragePort;
         this.eventPublisherPort = eventPublisherPort;
         this.notificationPort = notificationPort;
         this.eventEnricher = eventEnricher;
+        this.identityServicePort = identityServicePort;
+        this.postCommitPort = postCommitPort;
+        this.validacionPort = validacionPort;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
     public ProyectoResponse subir(Long proyectoId, SubirAnteproyectoRequest request, Long userId) {
+        List<String> archivosGuardados = new ArrayList<>();
+        try {
+            return subir(proyectoId, request, userId, archivosGuardados);
+        } catch (RuntimeException e) {
+            // Los PDFs se guardan antes de la transacción: si no se confirmó, se liberan
+            IFileStoragePort.liberarNoConfirmados(fileStoragePort, archivosGuardados, e);
+            throw e;
+        }
+    }
+
+    /**
+     * @param archivosGuardados rutas guardadas y aún sin confirmar; se vacía tras el commit
+     */
+    private ProyectoResponse subir(Long proyectoId, SubirAnteproyectoRequest request, Long userId, List<String> archivosGuardados) {
         log.info("Iniciando subida de anteproyecto - ProyectoID: {}, Usuario: {}", proyectoId, userId);
 
         // 1. Obtener el proyecto
@@ -90,11 +121,12 @@ public class SubirAnteproyectoUseCase implements ISubirAnteproyectoUseCase {
         String nombrePdf = (request.getPdfNombreArchivo() != null && !request.getPdfNombreArchivo().trim().isEmpty()) ?
                           request.getPdfNombreArchivo() : "anteproyecto.pdf";
 
-        String rutaPdf = fileStoragePort.guardarArchivo(
+        String rutaPdf = fileStoragePort.guardarPdf(
             request.getPdfStream(),
             nombrePdf,
             directorioBase
         );
+        archivosGuardados.add(rutaPdf);
 
         log.debug("PDF del anteproyecto guardado en: {} con nombre: {}", rutaPdf, nombrePdf);
 
@@ -105,30 +137,30 @@ public class SubirAnteproyectoUseCase implements ISubirAnteproyectoUseCase {
 
         log.debug("Anteproyecto subido. Estado: {}", proyecto.getEstado());
 
-        // 6. Persistir cambios
-        Proyecto proyectoActualizado = repositoryPort.save(proyecto);
+        // Participantes para el evento enriquecido, resueltos antes de la transacción
+        IIdentityServicePort.ParticipantesInfo participantesInfo =
+            identityServicePort.obtenerParticipantes(proyecto.getParticipantes());
 
-        // 7. Publicar evento enriquecido para progress-tracking
-        try {
-            // Limpiar eventos básicos del aggregate
-            proyectoActualizado.limpiarEventos();
+        // 6. Persistir cambios y registrar el evento en una transacción corta
+        Proyecto proyectoActualizado = transactionTemplate.execute(status -> {
+            Proyecto guardado = repositoryPort.save(proyecto);
 
-            // Crear y publicar evento enriquecido
-            var eventoEnriquecido = eventEnricher.enrichAnteproyectoSubido(proyectoActualizado, rutaPdf);
-            eventPublisherPort.publish(eventoEnriquecido);
+            // Validación estructural del PDF: la hace el worker después del commit
+            validacionPort.registrar(guardado.getId().getValue(), TipoArchivoProyecto.ANTEPROYECTO, rutaPdf);
 
-            log.info("✅ Evento enriquecido AnteproyectoSubido publicado para proyecto {}", proyectoActualizado.getId());
-        } catch (Exception e) {
-            log.error("⚠️ Error publicando evento enriquecido (no afecta la transacción): {}", e.getMessage());
-        }
+            // Limpiar eventos básicos del aggregate (no los publicamos)
+            guardado.limpiarEventos();
 
-        // 8. Enviar notificación al jefe de departamento (RF6)
-        try {
-            notificationPort.notificarJefeDepartamentoAnteproyecto(proyectoId);
-            log.debug("Notificación enviada al jefe de departamento");
-        } catch (Exception e) {
-            log.error("Error al enviar notificación (no crítico): {}", e.getMessage());
-        }
+            // 7. Evento enriquecido al outbox en la misma transacción que el proyecto
+            eventPublisherPort.publish(eventEnricher.enrichAnteproyectoSubido(guardado, participantesInfo, rutaPdf));
+            log.info("✅ Evento enriquecido AnteproyectoSubido registrado para proyecto {}", proyectoId);
+
+            // 8. Solo se ejecuta si el commit tiene éxito
+            programarNotificacion(guardado, participantesInfo);
+
+            return guardado;
+        });
+        archivosGuardados.clear();
 
         // 9. Retornar response
         ProyectoResponse response = ProyectoResponse.fromDomain(proyectoActualizado);
@@ -138,5 +170,27 @@ public class SubirAnteproyectoUseCase implements ISubirAnteproyectoUseCase {
 
         return response;
     }
-}
 
+    /**
+     * Registra para después del commit la notificación al jefe de departamento (RF6),
+     * que consulta su email en identity-service. Los participantes ya están resueltos.
+     */
+    private void programarNotificacion(Proyecto proyecto, IIdentityServicePort.ParticipantesInfo participantes) {
+        Long proyectoId = proyecto.getId().getValue();
+
+        postCommitPort.ejecutarDespuesDelCommit("Notificación jefe de departamento " + proyectoId, () -> {
+            notificationPort.notificarJefeDepartamentoAnteproyecto(new INotificationPort.NotificacionDocumento(
+                proyectoId,
+                proyecto.getTitulo().getValue(),
+                1, // Anteproyecto siempre es versión 1
+                nombreDirector(participantes),
+                identityServicePort.obtenerEmailJefeDepartamento()
+            ));
+            log.debug("Notificación enviada al jefe de departamento");
+        });
+    }
+
+    private String nombreDirector(IIdentityServicePort.ParticipantesInfo participantes) {
+        return participantes.director() != null ? participantes.director().nombreCompleto() : null;
+    }
+}
@@ -3,6 +3,7 @@ package co.unicauca.submission.application.usecase.formatoa;
 import co.unicauca.submission.application.dto.request.CrearFormatoARequest;
 import co.unicauca.submission.application.dto.response.ProyectoResponse;
 import co.unicauca.submission.application.port.in.ICrearFormatoAUseCase;
+import co.unicauca.submission.application.port.in.IObtenerArchivoProyectoQuery.TipoArchivoProyecto;
 import co.unicauca.submission.application.port.out.*;
 import co.unicauca.submission.domain.event.DomainEvent;
 import co.unicauca.submission.domain.exception.UsuarioNoAutorizadoException;
@@ -10,8 +11,10 @@ import co.unicauca.submission.domain.model.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -26,9 +29,13 @@ import java.util.List;
  * 5. Publicar eventos de dominio
  * 6. Enviar notificación al coordinador
  * 7. Retornar response
+ *
+ * Solo los pasos 3-5 corren en transacción: el evento se registra en el outbox junto
+ * con el proyecto. La consulta de rol, de participantes y el guardado de archivos van
+ * antes, y la notificación (paso 6) se envía después del commit en segundo plano:
+ * la conexión a la BD no se retiene durante llamadas remotas.
  */
 @Service
-@Transactional
 public class CrearFormatoAUseCase implements ICrearFormatoAUseCase {
 
     private static final Logger log = LoggerFactory.getLogger(CrearFormatoAUseCase.class);
@@ -40,6 +47,9 @@ public class CrearFormatoAUseCase implements ICrearFormatoAUseCase {
     private final INotificationPort notificationPort;
     private final co.unicauca.submission.infrastructure.adapter.out.messaging.EventEnricherService eventEnricher;
     private final co.unicauca.submission.domain.service.EstudianteValidationService estudianteValidationService;
+    private final IEjecutorPostCommitPort postCommitPort;
+    private final IValidacionDocumentoPort validacionPort;
+    private final TransactionTemplate transactionTemplate;
 
     public CrearFormatoAUseCase(
             IProyectoRepositoryPort repositoryPort,
@@ -48,7 +58,10 @@ public class CrearFormatoAUseCase implements ICrearFormatoAUseCase {
             IIdentityServicePort identityServicePort,
             INotificationPort notificationPort,
             co.unicauca.submission.infrastructure.adapter.out.messaging.EventEnricherService eventEnricher,
-            co.unicauca.submission.domain.service.EstudianteValidationService estudianteValidationService
+            co.unicauca.submission.domain.service.EstudianteValidationService estudianteValidationService,
+            IEjecutorPostCommitPort postCommitPort,
+            IValidacionDocumentoPort validacionPort,
+            PlatformTransactionManager transactionManager
     ) {
         this.repositoryPort = repositoryPort;
         this.fileStoragePort = fileStoragePort;
@@ -57,10 +70,27 @@ public class CrearFormatoAUseCase implements ICrearFormatoAUseCase {
         this.notificationPort = notificationPort;
         this.eventEnricher = eventEnricher;
         this.estudianteValidationService = estudianteValidationService;
+        this.postCommitPort = postCommitPort;
+        this.validacionPort = validacionPort;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
 
     @Override
     public ProyectoResponse crear(CrearFormatoARequest request, Long userId) {
+        List<String> archivosGuardados = new ArrayList<>();
+        try {
+            return crear(request, userId, archivosGuardados);
+        } catch (RuntimeException e) {
+            // Los PDFs se guardan antes de la transacción: si no se confirmó, se liberan
+            IFileStoragePort.liberarNoConfirmados(fileStoragePort, archivosGuardados, e);
+            throw e;
+        }
+    }
+
+    /**
+     * @param archivosGuardados rutas guardadas y aún sin confirmar; se vacía tras el commit
+     */
+    private ProyectoResponse crear(CrearFormatoARequest request, Long userId, List<String> archivosGuardados) {
         log.info("Iniciando creación de Formato A - Usuario: {}, Título: {}", userId, request.getTitulo());
 
         // 1. Validar que el usuario tiene rol DOCENTE
@@ -81,11 +111,12 @@ public class CrearFormatoAUseCase implements ICrearFormatoAUseCase {
         String nombrePdf = (request.getPdfNombreArchivo() != null && !request.getPdfNombreArchivo().trim().isEmpty()) ?
                           request.getPdfNombreArchivo() : "formatoA_v1.pdf";
 
-        String rutaPdf = fileStoragePort.guardarArchivo(
+        String rutaPdf = fileStoragePort.guardarPdf(
             request.getPdfStream(),
             nombrePdf,
             directorioBase
         );
+        archivosGuardados.add(rutaPdf);
 
         log.debug("PDF del Formato A guardado en: {} con nombre: {}", rutaPdf, nombrePdf);
 
@@ -103,11 +134,12 @@ public class CrearFormatoAUseCase implements ICrearFormatoAUseCase {
             nombreCarta = (request.getCartaNombreArchivo() != null && !request.getCartaNombreArchivo().trim().isEmpty()) ?
                          request.getCartaNombreArchivo() : "carta_v1.pdf";
 
-            rutaCarta = fileStoragePort.guardarArchivo(
+            rutaCarta = fileStoragePort.guardarPdf(
                 request.getCartaStream(),
                 nombreCarta,
                 directorioBase
             );
+            archivosGuardados.add(rutaCarta);
             log.debug("Carta de aceptación guardada en: {} con nombre: {}", rutaCarta, nombreCarta);
         }
 
@@ -129,70 +161,70 @@ public class CrearFormatoAUseCase implements ICrearFormatoAUseCase {
         ArchivoAdjunto carta = rutaCarta != null ?
             ArchivoAdjunto.pdf(rutaCarta, nombreCarta) : null;
 
-        // 4.1. Validar que los estudiantes no tengan proyectos activos
-        estudianteValidationService.validarEstudianteNoTieneProyectoActivo(
-            request.getEstudiante1Id(),
-            null  // null porque es un proyecto nuevo
-        );
+        // Participantes para el evento enriquecido: se resuelven en identity-service
+        // antes de abrir la transacción, para no retener la conexión durante la consulta
+        IIdentityServicePort.ParticipantesInfo participantesInfo =
+            identityServicePort.obtenerParticipantes(participantes);
 
-        if (request.getEstudiante2Id() != null) {
+        // 4.1 - 7. Validar estudiantes, crear, persistir y registrar el evento en una transacción corta
+        Proyecto proyectoGuardado = transactionTemplate.execute(status -> {
+            // Validar que los estudiantes no tengan proyectos activos
             estudianteValidationService.validarEstudianteNoTieneProyectoActivo(
-                request.getEstudiante2Id(),
-                null
+                request.getEstudiante1Id(),
+                null  // null porque es un proyecto nuevo
             );
-        }
 
-        log.debug("✅ Validación de estudiantes duplicados completada");
+            if (request.getEstudiante2Id() != null) {
+                estudianteValidationService.validarEstudianteNoTieneProyectoActivo(
+                    request.getEstudiante2Id(),
+                    null
+                );
+            }
 
-        // 5. Crear el Aggregate usando Factory Method del dominio
-        Proyecto proyecto = Proyecto.crearConFormatoA(
-            titulo,
-            request.getModalidad(),
-            objetivos,
-            participantes,
-            pdfFormatoA,
-            carta
-        );
+            log.debug("✅ Validación de estudiantes duplicados completada");
 
-        log.debug("Proyecto creado con estado inicial: {}", proyecto.getEstado());
+            // Crear el Aggregate usando Factory Method del dominio
+            Proyecto proyecto = Proyecto.crearConFormatoA(
+                titulo,
+                request.getModalidad(),
+                objetivos,
+                participantes,
+                pdfFormatoA,
+                carta
+            );
 
-        // 5.1. Presentar automáticamente al coordinador para evaluación
-        // Transición: FORMATO_A_DILIGENCIADO → EN_EVALUACION_COORDINADOR
-        proyecto.presentarAlCoordinador();
+            log.debug("Proyecto creado con estado inicial: {}", proyecto.getEstado());
 
-        log.info("Formato A presentado al coordinador - Estado: {}", proyecto.getEstado());
+            // Presentar automáticamente al coordinador para evaluación
+            // Transición: FORMATO_A_DILIGENCIADO → EN_EVALUACION_COORDINADOR
+            proyecto.presentarAlCoordinador();
 
-        // 6. Persistir el proyecto
-        Proyecto proyectoGuardado = repositoryPort.save(proyecto);
+            log.info("Formato A presentado al coordinador - Estado: {}", proyecto.getEstado());
 
-        log.info("Proyecto guardado con ID: {}", proyectoGuardado.getId().getValue());
+            Proyecto guardado = repositoryPort.save(proyecto);
+
+            // Validación estructural de los PDFs: la hace el worker después del commit
+            validacionPort.registrar(guardado.getId().getValue(), TipoArchivoProyecto.FORMATO_A, pdfFormatoA.getRuta());
+            if (carta != null) {
+                validacionPort.registrar(guardado.getId().getValue(), TipoArchivoProyecto.CARTA, carta.getRuta());
+            }
 
-        // 7. Publicar evento enriquecido para progress-tracking
-        try {
             // Limpiar eventos básicos del aggregate (no los publicamos)
-            proyectoGuardado.limpiarEventos();
+            guardado.limpiarEventos();
 
-            // Crear y publicar evento enriquecido con información completa
-            var eventoEnriquecido = eventEnricher.enrichFormatoACreado(proyectoGuardado);
-            eventPublisherPort.publish(eventoEnriquecido);
+            // 7. Evento enriquecido para progress-tracking: va al outbox en esta misma
+            // transacción, así que existe si y solo si el proyecto se confirma
+            eventPublisherPort.publish(eventEnricher.enrichFormatoACreado(guardado, participantesInfo));
+            log.info("✅ Evento enriquecido FormatoACreado registrado para proyecto {}", guardado.getId());
 
-            log.info("✅ Evento enriquecido FormatoACreado publicado para proyecto {}", proyectoGuardado.getId());
-        } catch (Exception e) {
-            log.error("⚠️ Error publicando evento enriquecido (no afecta la transacción): {}", e.getMessage());
-            // No propagamos la excepción para no afectar la creación del proyecto
-        }
+            // 8. Solo se ejecuta si el commit tiene éxito
+            programarNotificacion(guardado, participantesInfo);
 
-        // 8. Enviar notificación al coordinador (RF2)
-        try {
-            notificationPort.notificarCoordinadorFormatoAEnviado(
-                proyectoGuardado.getId().getValue(),
-                1 // Primera versión
-            );
-            log.debug("Notificación enviada al coordinador");
-        } catch (Exception e) {
-            log.error("Error al enviar notificación (no crítico): {}", e.getMessage());
-            // No lanzamos excepción para no afectar la operación principal
-        }
+            return guardado;
+        });
+        archivosGuardados.clear();
+
+        log.info("Proyecto guardado con ID: {}", proyectoGuardado.getId().getValue());
 
         // 9. Mapear a Response DTO y retornar
         ProyectoResponse response = ProyectoResponse.fromDomain(proyectoGuardado);
@@ -201,5 +233,27 @@ public class CrearFormatoAUseCase implements ICrearFormatoAUseCase {
 
         return response;
     }
-}
 
+    /**
+     * Registra para después del commit la notificación al coordinador (RF2), que
+     * consulta su email en identity-service. Los participantes ya están resueltos.
+     */
+    private void programarNotificacion(Proyecto proyecto, IIdentityServicePort.ParticipantesInfo participantes) {
+        Long proyectoId = proyecto.getId().getValue();
+
+        postCommitPort.ejecutarDespuesDelCommit("Notificación coordinador " + proyectoId, () -> {
+            notificationPort.notificarCoordinadorFormatoAEnviado(new INotificationPort.NotificacionDocumento(
+                proyectoId,
+                proyecto.getTitulo().getValue(),
+                1, // Primera versión
+                nombreDirector(participantes),
+                identityServicePort.obtenerEmailCoordinador()
+            ));
+            log.debug("Notificación enviada al coordinador");
+        });
+    }
+
+    private String nombreDirector(IIdentityServicePort.ParticipantesInfo participantes) {
+        return participantes.director() != null ? participantes.director().nombreCompleto() : null;
+    }
+}
@@ -3,6 +3,7 @@
 import co.unicauca.submission.application.dto.request.ReenviarFormatoARequest;
 import co.unicauca.submission.application.dto.response.ProyectoResponse;
 import co.unicauca.submission.application.port.in.IReenviarFormatoAUseCase;
+import co.unicauca.submission.application.port.in.IObtenerArchivoProyectoQuery.TipoArchivoProyecto;
 import co.unicauca.submission.application.port.out.*;
 import co.unicauca.submission.domain.event.DomainEvent;
 import co.unicauca.submission.domain.exception.UsuarioNoAutorizadoException;
@@ -14,8 +15,10 @@ import co.unicauca.submission.domain.specification.PuedeReenviarFormatoASpec;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.util.ArrayList;
 import java.util.List;
 
 /**
@@ -31,9 +34,11 @@ import java.util.List;
  * 6. Persistir cambios
  * 7. Publicar eventos
  * 8. Enviar notificación al coordinador
+ *
+ * Solo el paso 6 corre en transacción; los pasos 7-8 se ejecutan después del
+ * commit en segundo plano (ver CrearFormatoAUseCase).
  */
 @Service
-@Transactional
 public class ReenviarFormatoAUseCase implements IReenviarFormatoAUseCase {
     
     private static final Logger log = LoggerFactory.getLogger(ReenviarFormatoAUseCase.class);
@@ -43,23 +48,49 @@ public class ReenviarFormatoAUseCase implements IReenviarFormatoAUseCase {
     private final IEventPublisherPort eventPublisherPort;
     private final INotificationPort notificationPort;
     private final co.unicauca.submission.infrastructure.adapter.out.messaging.EventEnricherService eventEnricher;
+    private final IIdentityServicePort identityServicePort;
+    private final IEjecutorPostCommitPort postCommitPort;
+    private final IValidacionDocumentoPort validacionPort;
+    private final TransactionTemplate transactionTemplate;
 
     public ReenviarFormatoAUseCase(
             IProyectoRepositoryPort repositoryPort,
             IFileStoragePort fileStoragePort,
             IEventPublisherPort eventPublisherPort,
             INotificationPort notificationPort,
-            co.unicauca.submission.infrastructure.adapter.out.messaging.EventEnricherService eventEnricher
+            co.unicauca.submission.infrastructure.adapter.out.messaging.EventEnricherService eventEnricher,
+            IIdentityServicePort identityServicePort,
+            IEjecutorPostCommitPort postCommitPort,
+            IValidacionDocumentoPort validacionPort,
+            PlatformTransactionManager transactionManager
     ) {
         this.repositoryPort = repositoryPort;
         this.fileStoragePort = fileStoragePort;
         this.eventPublisherPort = eventPublisherPort;
         this.notificationPort = notificationPort;
         this.eventEnricher = eventEnricher;
+        this.identityServicePort = identityServicePort;
+        this.postCommitPort = postCommitPort;
+        this.validacionPort = validacionPort;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
     }
     
     @Override
     public ProyectoResponse reenviar(Long proyectoId, ReenviarFormatoARequest request, Long userId) {
+        List<String> archivosGuardados = new ArrayList<>();
+        try {
+            return reenviar(proyectoId, request, userId, archivosGuardados);
+        } catch (RuntimeException e) {
+            // Los PDFs se guardan antes de la transacción: si no se confirmó, se liberan
+            IFileStoragePort.liberarNoConfirmados(fileStoragePort, archivosGuardados, e);
+            throw e;
+        }
+    }
+
+    /**
+     * @param archivosGuardados rutas guardadas y aún sin confirmar; se vacía tras el commit
+     */
+    private ProyectoResponse reenviar(Long proyectoId, ReenviarFormatoARequest request, Long userId, List<String> archivosGuardados) {
         log.info("Iniciando reenvío de Formato A - ProyectoID: {}, Usuario: {}", proyectoId, userId);
         
         // 1. Obtener el proyecto
@@ -92,11 +123,12 @@ public class ReenviarFormatoAUseCase implements IReenviarFormatoAUseCase {
             nombrePdf = (request.getPdfNombreArchivo() != null && !request.getPdfNombreArchivo().trim().isEmpty()) ?
                         request.getPdfNombreArchivo() : "formatoA_v" + nuevoNumeroIntento + ".pdf";
 
-            rutaPdf = fileStoragePort.guardarArchivo(
+            rutaPdf = fileStoragePort.guardarPdf(
                 request.getPdfStream(),
                 nombrePdf,
                 directorioBase
             );
+            archivosGuardados.add(rutaPdf);
             log.debug("Nuevo PDF guardado en: {} con nombre: {}", rutaPdf, nombrePdf);
         }
         
@@ -107,11 +139,12 @@ public class ReenviarFormatoAUseCase implements IReenviarFormatoAUseCase {
             nombreCarta = (request.getCartaNombreArchivo() != null && !request.getCartaNombreArchivo().trim().isEmpty()) ?
                           request.getCartaNombreArchivo() : "carta_v" + nuevoNumeroIntento + ".pdf";
 
-            rutaCarta = fileStoragePort.guardarArchivo(
+            rutaCarta = fileStoragePort.guardarPdf(
                 request.getCartaStream(),
                 nombreCarta,
                 directorioBase
             );
+            archivosGuardados.add(rutaCarta);
             log.debug("Nueva carta guardada en: {} con nombre: {}", rutaCarta, nombreCarta);
         }
         
@@ -127,34 +160,36 @@ public class ReenviarFormatoAUseCase implements IReenviarFormatoAUseCase {
         log.debug("Formato A reenviado. Nuevo intento: {}, Estado: {}", 
                  proyecto.getFormatoA().getNumeroIntento(), proyecto.getEstado());
         
-        // 6. Persistir cambios
-        Proyecto proyectoActualizado = repositoryPort.save(proyecto);
+        // Participantes para el evento enriquecido, resueltos antes de la transacción
+        IIdentityServicePort.ParticipantesInfo participantesInfo =
+            identityServicePort.obtenerParticipantes(proyecto.getParticipantes());
 
-        // 7. Publicar evento enriquecido para progress-tracking
-        try {
-            // Limpiar eventos básicos del aggregate
-            proyectoActualizado.limpiarEventos();
+        // 6. Persistir cambios y registrar el evento en una transacción corta
+        Proyecto proyectoActualizado = transactionTemplate.execute(status -> {
+            Proyecto guardado = repositoryPort.save(proyecto);
 
-            // Crear y publicar evento enriquecido
-            var eventoEnriquecido = eventEnricher.enrichFormatoAReenviado(proyectoActualizado);
-            eventPublisherPort.publish(eventoEnriquecido);
+            // Validación estructural de los PDFs nuevos: la hace el worker después del commit
+            if (nuevoPdf != null) {
+                validacionPort.registrar(guardado.getId().getValue(), TipoArchivoProyecto.FORMATO_A, nuevoPdf.getRuta());
+            }
+            if (nuevaCarta != null) {
+                validacionPort.registrar(guardado.getId().getValue(), TipoArchivoProyecto.CARTA, nuevaCarta.getRuta());
+            }
+
+            // Limpiar eventos básicos del aggregate (no los publicamos)
+            guardado.limpiarEventos();
+
+            // 7. Evento enriquecido al outbox en la misma transacción que el proyecto
+            eventPublisherPort.publish(eventEnricher.enrichFormatoAReenviado(guardado, participantesInfo));
+            log.info("✅ Evento enriquecido FormatoAReenviado registrado para proyecto {}", proyectoId);
+
+            // 8. Solo se ejecuta si el commit tiene éxito
+            programarNotificacion(guardado, participantesInfo);
+
+            return guardado;
+        });
+        archivosGuardados.clear();
 
-            log.info("✅ Evento enriquecido FormatoAReenviado publicado para proyecto {}", proyectoActualizado.getId());
-        } catch (Exception e) {
-            log.error("⚠️ Error publicando evento enriquecido (no afecta la transacción): {}", e.getMessage());
-        }
-        
-        // 8. Enviar notificación al coordinador (RF4)
-        try {
-            notificationPort.notificarCoordinadorFormatoAEnviado(
-                proyectoId,
-                proyectoActualizado.getFormatoA().getNumeroIntento()
-            );
-            log.debug("Notificación de reenvío enviada al coordinador");
-        } catch (Exception e) {
-            log.error("Error al enviar notificación (no crítico): {}", e.getMessage());
-        }
-        
         // 9. Retornar response
         ProyectoResponse response = ProyectoResponse.fromDomain(proyectoActualizado);
         
@@ -163,5 +198,28 @@ public class ReenviarFormatoAUseCase implements IReenviarFormatoAUseCase {
         
         return response;
     }
-}
 
+    /**
+     * Registra para después del commit la notificación al coordinador (RF4), que
+     * consulta su email en identity-service. Los participantes ya están resueltos.
+     */
+    private void programarNotificacion(Proyecto proyecto, IIdentityServicePort.ParticipantesInfo participantes) {
+        Long proyectoId = proyecto.getId().getValue();
+        int numeroIntento = proyecto.getFormatoA().getNumeroIntento();
+
+        postCommitPort.ejecutarDespuesDelCommit("Notificación reenvío " + proyectoId, () -> {
+            notificationPort.notificarCoordinadorFormatoAEnviado(new INotificationPort.NotificacionDocumento(
+                proyectoId,
+                proyecto.getTitulo().getValue(),
+                numeroIntento,
+                nombreDirector(participantes),
+                identityServicePort.obtenerEmailCoordinador()
+            ));
+            log.debug("Notificación de reenvío enviada al coordinador");
+        });
+    }
+
+    private String nombreDirector(IIdentityServicePort.ParticipantesInfo participantes) {
+        return participantes.director() != null ? participantes.director().nombreCompleto() : null;
+    }
+}
@@ -0,0 +1,56 @@
+package co.unicauca.submission.application.usecase.query;
+
+import co.unicauca.submission.application.dto.response.ProyectoResponse;
+import co.unicauca.submission.application.port.in.IBuscarProyectosQuery;
+import co.unicauca.submission.application.port.out.IProyectoRepositoryPort;
+import co.unicauca.submission.domain.model.EstadoProyecto;
+import co.unicauca.submission.domain.model.Modalidad;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Query: Buscar Proyectos por palabras clave.
+ *
+ * La búsqueda la resuelve PostgreSQL con texto completo (tsvector en español e
+ * índice GIN); aquí solo se valida el texto y se convierte el resultado.
+ */
+@Service
+@Transactional(readOnly = true)
+public class BuscarProyectosQuery implements IBuscarProyectosQuery {
+
+    private static final Logger log = LoggerFactory.getLogger(BuscarProyectosQuery.class);
+
+    static final int LONGITUD_MAXIMA = 200;
+
+    private final IProyectoRepositoryPort repositoryPort;
+
+    public BuscarProyectosQuery(IProyectoRepositoryPort repositoryPort) {
+        this.repositoryPort = repositoryPort;
+    }
+
+    @Override
+    public Page<ProyectoResponse> buscar(String texto, EstadoProyecto estado, Modalidad modalidad,
+                                         Pageable pageable) {
+        if (texto == null || texto.isBlank()) {
+            throw new IllegalArgumentException("El texto de búsqueda es obligatorio");
+        }
+        if (texto.length() > LONGITUD_MAXIMA) {
+            throw new IllegalArgumentException(
+                "El texto de búsqueda no puede superar " + LONGITUD_MAXIMA + " caracteres");
+        }
+
+        log.info("Buscando proyectos: '{}' - estado: {}, modalidad: {}, page: {}, size: {}",
+                texto, estado, modalidad, pageable.getPageNumber(), pageable.getPageSize());
+
+        Page<ProyectoResponse> resultados = repositoryPort.buscarTexto(texto.trim(), estado, modalidad, pageable)
+            .map(ProyectoResponse::fromDomain);
+
+        log.info("Búsqueda '{}': {} proyectos encontrados", texto, resultados.getTotalElements());
+
+        return resultados;
+    }
+}
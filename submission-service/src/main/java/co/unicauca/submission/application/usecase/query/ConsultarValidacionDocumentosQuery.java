@@ -0,0 +1,37 @@
+package co.unicauca.submission.application.usecase.query;
+
+import co.unicauca.submission.application.dto.response.ValidacionDocumentoResponse;
+import co.unicauca.submission.application.port.in.IConsultarValidacionDocumentosQuery;
+import co.unicauca.submission.application.port.out.IProyectoRepositoryPort;
+import co.unicauca.submission.application.port.out.IValidacionDocumentoPort;
+import co.unicauca.submission.domain.exception.ProyectoNotFoundException;
+import co.unicauca.submission.domain.model.ProyectoId;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * Query: Estado de validación de los documentos de un proyecto
+ */
+@Service
+@Transactional(readOnly = true)
+public class ConsultarValidacionDocumentosQuery implements IConsultarValidacionDocumentosQuery {
+
+    private final IProyectoRepositoryPort repositoryPort;
+    private final IValidacionDocumentoPort validacionPort;
+
+    public ConsultarValidacionDocumentosQuery(IProyectoRepositoryPort repositoryPort,
+                                              IValidacionDocumentoPort validacionPort) {
+        this.repositoryPort = repositoryPort;
+        this.validacionPort = validacionPort;
+    }
+
+    @Override
+    public List<ValidacionDocumentoResponse> consultar(Long proyectoId) {
+        if (!repositoryPort.existsById(ProyectoId.of(proyectoId))) {
+            throw new ProyectoNotFoundException(proyectoId);
+        }
+        return validacionPort.buscarPorProyecto(proyectoId);
+    }
+}
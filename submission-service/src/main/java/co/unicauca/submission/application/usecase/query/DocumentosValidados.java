@@ -0,0 +1,39 @@
+package co.unicauca.submission.application.usecase.query;
+
+import co.unicauca.submission.application.dto.response.ValidacionDocumentoResponse;
+import co.unicauca.submission.application.dto.response.ValidacionDocumentoResponse.Estado;
+import co.unicauca.submission.application.port.in.IObtenerArchivoProyectoQuery.TipoArchivoProyecto;
+
+import java.util.Optional;
+
+/**
+ * Regla común de las queries de descarga: un documento solo se entrega cuando su
+ * validación asíncrona terminó y es VALIDO. Los documentos subidos antes de la
+ * validación asíncrona no tienen fila y se entregan como antes.
+ */
+final class DocumentosValidados {
+
+    private DocumentosValidados() {
+    }
+
+    static boolean disponible(Optional<ValidacionDocumentoResponse> validacion) {
+        return validacion.map(v -> v.getEstado() == Estado.VALIDO).orElse(true);
+    }
+
+    /**
+     * @throws IllegalStateException si el documento fue rechazado o aún se está validando
+     */
+    static void exigirDisponible(Optional<ValidacionDocumentoResponse> validacion,
+                                 Long proyectoId, TipoArchivoProyecto tipo) {
+        if (disponible(validacion)) {
+            return;
+        }
+        ValidacionDocumentoResponse v = validacion.get();
+        if (v.getEstado() == Estado.RECHAZADO) {
+            throw new IllegalStateException("El archivo " + tipo.getSegmento() + " del proyecto " + proyectoId
+                + " fue rechazado: " + v.getMotivoRechazo());
+        }
+        throw new IllegalStateException("El archivo " + tipo.getSegmento() + " del proyecto " + proyectoId
+            + " aún se está validando");
+    }
+}
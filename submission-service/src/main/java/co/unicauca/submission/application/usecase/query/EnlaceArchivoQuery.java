@@ -0,0 +1,111 @@
+package co.unicauca.submission.application.usecase.query;
+
+import co.unicauca.submission.application.dto.response.EnlaceArchivoResponse;
+import co.unicauca.submission.application.dto.response.ValidacionDocumentoResponse;
+import co.unicauca.submission.application.port.in.IEnlaceArchivoQuery;
+import co.unicauca.submission.application.port.in.IObtenerArchivoProyectoQuery.TipoArchivoProyecto;
+import co.unicauca.submission.application.port.out.IEnlacesFirmadosPort;
+import co.unicauca.submission.application.port.out.IFileStoragePort;
+import co.unicauca.submission.application.port.out.IProyectoRepositoryPort;
+import co.unicauca.submission.application.port.out.IValidacionDocumentoPort;
+import co.unicauca.submission.domain.exception.ArchivoNoEncontradoException;
+import co.unicauca.submission.domain.exception.ProyectoNotFoundException;
+import co.unicauca.submission.domain.model.ArchivoAdjunto;
+import co.unicauca.submission.domain.model.Proyecto;
+import co.unicauca.submission.domain.model.ProyectoId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Query: Enlaces firmados de descarga
+ *
+ * Emitir un enlace consulta el proyecto una vez; resolverlo solo verifica la firma
+ * y describe el archivo en el almacenamiento.
+ *
+ * Solo se firman documentos que pasaron la validación asíncrona (ver
+ * ObtenerArchivoProyectoQuery): un enlace no puede saltarse esa regla.
+ */
+@Service
+public class EnlaceArchivoQuery implements IEnlaceArchivoQuery {
+
+    private static final Logger log = LoggerFactory.getLogger(EnlaceArchivoQuery.class);
+
+    /** Ruta pública servida por EnlaceFirmadoController */
+    private static final String PREFIJO_URL = "/archivos/firmados/";
+
+    private final IProyectoRepositoryPort repositoryPort;
+    private final IFileStoragePort fileStoragePort;
+    private final IEnlacesFirmadosPort enlacesPort;
+    private final IValidacionDocumentoPort validacionPort;
+
+    public EnlaceArchivoQuery(IProyectoRepositoryPort repositoryPort,
+                              IFileStoragePort fileStoragePort,
+                              IEnlacesFirmadosPort enlacesPort,
+                              IValidacionDocumentoPort validacionPort) {
+        this.repositoryPort = repositoryPort;
+        this.fileStoragePort = fileStoragePort;
+        this.enlacesPort = enlacesPort;
+        this.validacionPort = validacionPort;
+    }
+
+    @Override
+    public List<EnlaceArchivoResponse> generarEnlaces(Long proyectoId, boolean usoUnico) {
+        Proyecto proyecto = obtenerProyecto(proyectoId);
+        Map<String, ValidacionDocumentoResponse> validaciones = validacionPort.buscarPorProyecto(proyectoId).stream()
+            .collect(Collectors.toMap(ValidacionDocumentoResponse::getTipo, Function.identity()));
+
+        // Los documentos rechazados o aún en validación se omiten
+        List<EnlaceArchivoResponse> enlaces = new ArrayList<>();
+        for (TipoArchivoProyecto tipo : TipoArchivoProyecto.values()) {
+            ArchivoAdjunto archivo = tipo.seleccionar(proyecto);
+            if (archivo != null
+                    && DocumentosValidados.disponible(Optional.ofNullable(validaciones.get(tipo.getSegmento())))) {
+                enlaces.add(firmar(proyectoId, tipo, archivo, usoUnico));
+            }
+        }
+
+        log.debug("{} enlaces firmados emitidos para el proyecto {}", enlaces.size(), proyectoId);
+
+        return enlaces;
+    }
+
+    @Override
+    public EnlaceArchivoResponse generarEnlace(Long proyectoId, TipoArchivoProyecto tipo, boolean usoUnico) {
+        ArchivoAdjunto archivo = tipo.seleccionar(obtenerProyecto(proyectoId));
+        if (archivo == null) {
+            throw new ArchivoNoEncontradoException(proyectoId, tipo.getSegmento());
+        }
+        DocumentosValidados.exigirDisponible(validacionPort.buscar(proyectoId, tipo), proyectoId, tipo);
+        return firmar(proyectoId, tipo, archivo, usoUnico);
+    }
+
+    @Override
+    public ArchivoFirmado resolver(String token) {
+        IEnlacesFirmadosPort.DestinoEnlace destino = enlacesPort.verificar(token);
+
+        return fileStoragePort.describirArchivo(destino.ruta())
+            .map(archivo -> new ArchivoFirmado(archivo, destino.nombreArchivo()))
+            .orElseThrow(() -> new ArchivoNoEncontradoException(
+                "El archivo del enlace ya no existe en el almacenamiento"));
+    }
+
+    private Proyecto obtenerProyecto(Long proyectoId) {
+        return repositoryPort.findById(ProyectoId.of(proyectoId))
+            .orElseThrow(() -> new ProyectoNotFoundException(proyectoId));
+    }
+
+    private EnlaceArchivoResponse firmar(Long proyectoId, TipoArchivoProyecto tipo,
+                                         ArchivoAdjunto archivo, boolean usoUnico) {
+        String nombre = tipo.getSegmento() + "-" + proyectoId + ".pdf";
+        IEnlacesFirmadosPort.EnlaceFirmado enlace = enlacesPort.firmar(archivo.getRuta(), nombre, usoUnico);
+        return new EnlaceArchivoResponse(tipo.getSegmento(), PREFIJO_URL + enlace.token(), enlace.expira(), usoUnico);
+    }
+}
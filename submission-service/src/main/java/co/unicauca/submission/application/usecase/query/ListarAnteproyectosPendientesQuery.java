@@ -1,5 +1,7 @@
 package co.unicauca.submission.application.usecase.query;
 
+import co.unicauca.submission.application.dto.request.CursorProyecto;
+import co.unicauca.submission.application.dto.response.PaginaCursorResponse;
 import co.unicauca.submission.application.dto.response.ProyectoResponse;
 import co.unicauca.submission.application.port.in.IListarAnteproyectosPendientesQuery;
 import co.unicauca.submission.application.port.out.IProyectoRepositoryPort;
@@ -9,6 +11,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -48,5 +51,19 @@ public class ListarAnteproyectosPendientesQuery implements IListarAnteproyectosP
         // Convertir a DTOs de respuesta
         return proyectosPage.map(ProyectoResponse::fromDomain);
     }
+
+    @Override
+    public PaginaCursorResponse<ProyectoResponse> listarPendientes(CursorProyecto despuesDe, int tamano) {
+        log.info("Listando Anteproyectos pendientes de asignación - después de: {}, tamaño: {}", despuesDe, tamano);
+
+        Slice<Proyecto> proyectos = repositoryPort.findByEstadoDespuesDe(
+                EstadoProyecto.ANTEPROYECTO_ENVIADO,
+                despuesDe,
+                tamano
+        );
+
+        return PaginaCursorResponse.de(proyectos.map(ProyectoResponse::fromDomain),
+            response -> new CursorProyecto(response.getFechaCreacion(), response.getId()));
+    }
 }
 
@@ -0,0 +1,79 @@
+package co.unicauca.submission.application.usecase.query;
+
+import co.unicauca.submission.application.dto.request.CampoProyecto;
+import co.unicauca.submission.application.dto.request.CursorProyecto;
+import co.unicauca.submission.application.dto.request.FiltroProyectos;
+import co.unicauca.submission.application.dto.response.PaginaCursorResponse;
+import co.unicauca.submission.application.dto.response.ProyectoParcialResponse;
+import co.unicauca.submission.application.port.in.IListarCamposProyectoQuery;
+import co.unicauca.submission.application.port.out.IProyectoRepositoryPort;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Query: Listados con selección de campos (sparse fieldsets).
+ *
+ * Las tablas de la interfaz suelen mostrar solo id, título, estado y fecha; en vez
+ * de reconstruir el proyecto completo, se consultan únicamente las columnas que
+ * necesitan los campos pedidos.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ListarCamposProyectoQuery implements IListarCamposProyectoQuery {
+
+    private static final Logger log = LoggerFactory.getLogger(ListarCamposProyectoQuery.class);
+
+    private final IProyectoRepositoryPort repositoryPort;
+
+    public ListarCamposProyectoQuery(IProyectoRepositoryPort repositoryPort) {
+        this.repositoryPort = repositoryPort;
+    }
+
+    @Override
+    public List<ProyectoParcialResponse> listar(FiltroProyectos filtro, Set<CampoProyecto> campos) {
+        log.debug("Listando proyectos con filtro {} y campos {}", filtro, campos);
+
+        return repositoryPort.findColumnas(filtro, CampoProyecto.columnasDe(campos)).stream()
+            .map(columnas -> ProyectoParcialResponse.de(columnas, campos))
+            .toList();
+    }
+
+    @Override
+    public Page<ProyectoParcialResponse> listarPagina(FiltroProyectos filtro, Set<CampoProyecto> campos,
+                                                      Pageable pageable) {
+        log.debug("Listando proyectos con filtro {} y campos {} - page: {}, size: {}",
+                filtro, campos, pageable.getPageNumber(), pageable.getPageSize());
+
+        return repositoryPort.findColumnasPage(filtro, CampoProyecto.columnasDe(campos), pageable)
+            .map(columnas -> ProyectoParcialResponse.de(columnas, campos));
+    }
+
+    @Override
+    public PaginaCursorResponse<ProyectoParcialResponse> listarDespuesDe(FiltroProyectos filtro,
+                                                                         Set<CampoProyecto> campos,
+                                                                         CursorProyecto despuesDe, int tamano) {
+        log.debug("Listando proyectos con filtro {} y campos {} - después de: {}, tamaño: {}",
+                filtro, campos, despuesDe, tamano);
+
+        // El cursor siguiente sale del último proyecto: se consultan sus columnas aunque no se pidan
+        Set<CampoProyecto> columnas = CampoProyecto.columnasDe(campos);
+        columnas.add(CampoProyecto.ID);
+        columnas.add(CampoProyecto.FECHA_CREACION);
+
+        PaginaCursorResponse<Map<CampoProyecto, Object>> filas = PaginaCursorResponse.de(
+            repositoryPort.findColumnasDespuesDe(filtro, columnas, despuesDe, tamano),
+            fila -> new CursorProyecto(
+                (LocalDateTime) fila.get(CampoProyecto.FECHA_CREACION), (Long) fila.get(CampoProyecto.ID)));
+
+        return filas.map(fila -> ProyectoParcialResponse.de(fila, campos));
+    }
+}
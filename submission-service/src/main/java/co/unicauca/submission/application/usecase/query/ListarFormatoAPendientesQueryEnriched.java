@@ -1,5 +1,7 @@
 package co.unicauca.submission.application.usecase.query;
 
+import co.unicauca.submission.application.dto.request.CursorProyecto;
+import co.unicauca.submission.application.dto.response.PaginaCursorResponse;
 import co.unicauca.submission.application.dto.response.ProyectoResponse;
 import co.unicauca.submission.application.port.in.IListarFormatoAPendientesQuery;
 import co.unicauca.submission.application.port.out.IIdentityServicePort;
@@ -10,6 +12,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -62,6 +65,24 @@ public class ListarFormatoAPendientesQueryEnriched implements IListarFormatoAPen
         });
     }
 
+    @Override
+    public PaginaCursorResponse<ProyectoResponse> listarPendientes(CursorProyecto despuesDe, int tamano) {
+        log.info("Listando Formatos A pendientes de evaluación (enriquecido) - después de: {}, tamaño: {}",
+                despuesDe, tamano);
+
+        Slice<Proyecto> proyectos = repositoryPort.findByEstadoDespuesDe(
+                EstadoProyecto.EN_EVALUACION_COORDINADOR,
+                despuesDe,
+                tamano
+        );
+
+        return PaginaCursorResponse.de(proyectos.map(proyecto -> {
+            ProyectoResponse response = ProyectoResponse.fromDomain(proyecto);
+            enrichWithUserInfo(response, proyecto);
+            return response;
+        }), response -> new CursorProyecto(response.getFechaCreacion(), response.getId()));
+    }
+
     /**
      * Enriquece el ProyectoResponse con información de usuarios del identity-service.
      */
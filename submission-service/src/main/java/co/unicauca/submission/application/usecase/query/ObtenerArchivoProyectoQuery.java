@@ -0,0 +1,84 @@
+package co.unicauca.submission.application.usecase.query;
+
+import co.unicauca.submission.application.dto.response.ArchivoAlmacenado;
+import co.unicauca.submission.application.dto.response.ValidacionDocumentoResponse;
+import co.unicauca.submission.application.port.in.IObtenerArchivoProyectoQuery;
+import co.unicauca.submission.application.port.out.IFileStoragePort;
+import co.unicauca.submission.application.port.out.IProyectoRepositoryPort;
+import co.unicauca.submission.application.port.out.IValidacionDocumentoPort;
+import co.unicauca.submission.domain.exception.ArchivoNoEncontradoException;
+import co.unicauca.submission.domain.exception.ProyectoNotFoundException;
+import co.unicauca.submission.domain.model.ArchivoAdjunto;
+import co.unicauca.submission.domain.model.Proyecto;
+import co.unicauca.submission.domain.model.ProyectoId;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * Query: Obtener Archivo de Proyecto
+ *
+ * Resuelve la ruta del archivo pedido en el proyecto y obtiene sus metadatos
+ * del almacenamiento. No lee el contenido: el adaptador REST lo envía directo
+ * desde disco.
+ *
+ * Un documento rechazado por la validación asíncrona, o aún en validación, no se
+ * entrega (409): los evaluadores nunca reciben un PDF dañado.
+ *
+ * La vista previa solo existe para documentos válidos, así que no necesita esa
+ * comprobación ni cargar el proyecto: basta la fila de la validación.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ObtenerArchivoProyectoQuery implements IObtenerArchivoProyectoQuery {
+
+    private static final Logger log = LoggerFactory.getLogger(ObtenerArchivoProyectoQuery.class);
+
+    private final IProyectoRepositoryPort repositoryPort;
+    private final IFileStoragePort fileStoragePort;
+    private final IValidacionDocumentoPort validacionPort;
+
+    public ObtenerArchivoProyectoQuery(IProyectoRepositoryPort repositoryPort,
+                                       IFileStoragePort fileStoragePort,
+                                       IValidacionDocumentoPort validacionPort) {
+        this.repositoryPort = repositoryPort;
+        this.fileStoragePort = fileStoragePort;
+        this.validacionPort = validacionPort;
+    }
+
+    @Override
+    public ArchivoAlmacenado obtenerArchivo(Long proyectoId, TipoArchivoProyecto tipo) {
+        log.debug("Consultando archivo {} del proyecto {}", tipo, proyectoId);
+
+        Proyecto proyecto = repositoryPort.findById(ProyectoId.of(proyectoId))
+            .orElseThrow(() -> new ProyectoNotFoundException(proyectoId));
+
+        ArchivoAdjunto archivo = tipo.seleccionar(proyecto);
+        if (archivo == null) {
+            throw new ArchivoNoEncontradoException(proyectoId, tipo.getSegmento());
+        }
+
+        DocumentosValidados.exigirDisponible(validacionPort.buscar(proyectoId, tipo), proyectoId, tipo);
+
+        return fileStoragePort.describirArchivo(archivo.getRuta())
+            .orElseThrow(() -> new ArchivoNoEncontradoException(
+                "El archivo " + tipo.getSegmento() + " del proyecto " + proyectoId
+                    + " no existe en el almacenamiento"));
+    }
+
+    @Override
+    public ArchivoAlmacenado obtenerVistaPrevia(Long proyectoId, TipoArchivoProyecto tipo) {
+        log.debug("Consultando vista previa de {} del proyecto {}", tipo, proyectoId);
+
+        String ruta = validacionPort.buscarVistaPrevia(proyectoId, tipo)
+            .orElseThrow(() -> new ArchivoNoEncontradoException(
+                "El archivo " + tipo.getSegmento() + " del proyecto " + proyectoId + " no tiene vista previa"));
+
+        return fileStoragePort.describirArchivo(ruta)
+            .map(png -> png.conEtag(ValidacionDocumentoResponse.versionVistaPrevia(ruta), true))
+            .orElseThrow(() -> new ArchivoNoEncontradoException(
+                "La vista previa de " + tipo.getSegmento() + " del proyecto " + proyectoId
+                    + " no existe en el almacenamiento"));
+    }
+}
@@ -2,7 +2,9 @@ package co.unicauca.submission.application.usecase.query;
 
 import co.unicauca.submission.application.dto.response.ProyectoResponse;
 import co.unicauca.submission.application.port.in.IObtenerProyectoQuery;
+import co.unicauca.submission.application.port.out.IProyectoCachePort;
 import co.unicauca.submission.application.port.out.IProyectoRepositoryPort;
+import co.unicauca.submission.application.port.out.IValidacionDocumentoPort;
 import co.unicauca.submission.domain.exception.ProyectoNotFoundException;
 import co.unicauca.submission.domain.model.EstadoProyecto;
 import co.unicauca.submission.domain.model.Proyecto;
@@ -10,6 +12,7 @@ import co.unicauca.submission.domain.model.ProyectoId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -28,19 +31,51 @@ public class ObtenerProyectoQuery implements IObtenerProyectoQuery {
     private static final Logger log = LoggerFactory.getLogger(ObtenerProyectoQuery.class);
 
     private final IProyectoRepositoryPort repositoryPort;
+    private final IProyectoCachePort cachePort;
+    private final IValidacionDocumentoPort validacionPort;
 
-    public ObtenerProyectoQuery(IProyectoRepositoryPort repositoryPort) {
+    public ObtenerProyectoQuery(IProyectoRepositoryPort repositoryPort, IProyectoCachePort cachePort,
+                                IValidacionDocumentoPort validacionPort) {
         this.repositoryPort = repositoryPort;
+        this.cachePort = cachePort;
+        this.validacionPort = validacionPort;
     }
 
+    /**
+     * Consulta más frecuente (dashboards, review-service, notificaciones): se sirve
+     * desde caché. Sin transacción propia, un acierto no toma conexión del pool;
+     * en un fallo, findById abre la suya. La caché solo se carga con lecturas de la
+     * primaria, nunca de la réplica. Incluye la validación de los documentos: el
+     * worker de validación sube la versión e invalida la entrada al registrar un resultado.
+     */
     @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
     public ProyectoResponse obtenerPorId(Long proyectoId) {
         log.debug("Consultando proyecto por ID: {}", proyectoId);
 
-        Proyecto proyecto = repositoryPort.findById(ProyectoId.of(proyectoId))
-            .orElseThrow(() -> new ProyectoNotFoundException(proyectoId));
+        return cachePort.obtener(proyectoId, () -> {
+            Proyecto proyecto = repositoryPort.findById(ProyectoId.of(proyectoId))
+                .orElseThrow(() -> new ProyectoNotFoundException(proyectoId));
+
+            ProyectoResponse response = ProyectoResponse.fromDomain(proyecto);
+            response.setDocumentos(validacionPort.buscarPorProyecto(proyectoId));
+            return response;
+        });
+    }
 
-        return ProyectoResponse.fromDomain(proyecto);
+    /**
+     * Para If-None-Match: si el proyecto está en caché su versión es la del último
+     * commit de esta instancia (la caché se invalida al confirmar; lo escrito en otra
+     * instancia se ve al vencer la entrada); si no, basta un SELECT de la columna, en
+     * la primaria para un usuario con escritura reciente.
+     */
+    @Override
+    @Transactional(readOnly = true, propagation = Propagation.SUPPORTS)
+    public Long obtenerVersion(Long proyectoId) {
+        return cachePort.buscar(proyectoId)
+            .map(ProyectoResponse::getVersion)
+            .or(() -> repositoryPort.findVersionById(ProyectoId.of(proyectoId)))
+            .orElseThrow(() -> new ProyectoNotFoundException(proyectoId));
     }
 
     @Override
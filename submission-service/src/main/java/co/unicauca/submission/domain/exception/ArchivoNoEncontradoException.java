@@ -0,0 +1,16 @@
+package co.unicauca.submission.domain.exception;
+
+/**
+ * Excepción lanzada cuando un proyecto no tiene el archivo solicitado
+ * o el archivo ya no existe en el almacenamiento.
+ */
+public class ArchivoNoEncontradoException extends DomainException {
+
+    public ArchivoNoEncontradoException(Long proyectoId, String tipo) {
+        super("El proyecto " + proyectoId + " no tiene archivo de tipo: " + tipo);
+    }
+
+    public ArchivoNoEncontradoException(String message) {
+        super(message);
+    }
+}
@@ -18,6 +18,17 @@ public class EstudianteYaTieneProyectoException extends ReglaNegocioException {
         this.proyectoExistenteId = proyectoExistenteId;
     }
 
+    /**
+     * Para cuando la regla la hace cumplir la BD y no se conoce el proyecto existente.
+     */
+    public EstudianteYaTieneProyectoException(Long estudianteId) {
+        super(String.format("El estudiante con ID %d ya tiene un proyecto activo. " +
+                           "Un estudiante solo puede participar en un proyecto a la vez.",
+                           estudianteId));
+        this.estudianteId = estudianteId;
+        this.proyectoExistenteId = null;
+    }
+
     public Long getEstudianteId() {
         return estudianteId;
     }
@@ -32,6 +32,9 @@ public class Proyecto {
     // Identidad
     private ProyectoId id;
 
+    // Versión persistida (control de concurrencia optimista); null si aún no se guarda
+    private Long version;
+
     // Información básica
     private Titulo titulo;
     private Modalidad modalidad;
@@ -400,6 +403,21 @@ public class Proyecto {
         this.id = id;
     }
 
+    /**
+     * Actualiza la versión persistida (llamado al reconstruir desde BD y tras el save).
+     */
+    public void setVersion(Long version) {
+        this.version = version;
+    }
+
+    /**
+     * Restaura las fechas de auditoría persistidas (llamado al reconstruir desde BD).
+     */
+    public void restaurarFechas(LocalDateTime fechaCreacion, LocalDateTime fechaModificacion) {
+        this.fechaCreacion = fechaCreacion;
+        this.fechaModificacion = fechaModificacion;
+    }
+
     // ==========================================
     // GETTERS (sin setters para inmutabilidad)
     // ==========================================
@@ -408,6 +426,10 @@ public class Proyecto {
         return id;
     }
 
+    public Long getVersion() {
+        return version;
+    }
+
     public Titulo getTitulo() {
         return titulo;
     }
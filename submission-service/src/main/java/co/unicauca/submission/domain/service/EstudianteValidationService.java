@@ -2,13 +2,12 @@ package co.unicauca.submission.domain.service;
 
 import co.unicauca.submission.application.port.out.IProyectoRepositoryPort;
 import co.unicauca.submission.domain.exception.EstudianteYaTieneProyectoException;
-import co.unicauca.submission.domain.model.EstadoProyecto;
-import co.unicauca.submission.domain.model.Proyecto;
+import co.unicauca.submission.domain.model.ProyectoId;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
 
-import java.util.List;
+import java.util.Optional;
 
 /**
  * Servicio de dominio para validar reglas de negocio relacionadas con estudiantes.
@@ -40,13 +39,16 @@ public class EstudianteValidationService {
      * - CORRECCIONES_SOLICITADAS
      * - FORMATO_A_APROBADO
      * - ANTEPROYECTO_ENVIADO
-     * - EN_EVALUACION_ANTEPROYECTO
+     * - ANTEPROYECTO_EN_EVALUACION
      *
      * Estados finales (no se consideran activos):
      * - FORMATO_A_RECHAZADO (rechazado definitivamente)
      * - ANTEPROYECTO_RECHAZADO
      * - ANTEPROYECTO_APROBADO (proyecto completado)
      *
+     * Esta validación da un mensaje claro con el proyecto existente; la garantía ante
+     * envíos concurrentes la da la restricción uk_estudiante_proyecto_activo en la BD.
+     *
      * @param estudianteId ID del estudiante a validar
      * @param proyectoIdExcluir ID del proyecto actual (para excluir en la búsqueda, null si es nuevo)
      * @throws EstudianteYaTieneProyectoException si el estudiante ya tiene un proyecto activo
@@ -55,51 +57,20 @@ public class EstudianteValidationService {
         log.debug("Validando que estudiante {} no tenga proyecto activo (excluir: {})",
                  estudianteId, proyectoIdExcluir);
 
-        // Buscar proyectos donde el estudiante participe
-        List<Proyecto> proyectosEstudiante = repositoryPort.findByEstudianteId(estudianteId);
-
-        for (Proyecto proyecto : proyectosEstudiante) {
-            // Excluir el proyecto actual si se está actualizando
-            if (proyectoIdExcluir != null && proyecto.getId().getValue().equals(proyectoIdExcluir)) {
-                continue;
-            }
+        // Búsqueda por clave: a lo sumo un proyecto activo por estudiante
+        Optional<ProyectoId> proyectoActivo = repositoryPort.findProyectoActivoByEstudianteId(estudianteId);
 
-            // Verificar si el proyecto está en estado activo (no final)
-            if (esEstadoActivo(proyecto.getEstado())) {
-                log.warn("Estudiante {} ya tiene proyecto activo: ID={}, Estado={}",
-                        estudianteId, proyecto.getId().getValue(), proyecto.getEstado());
+        // Excluir el proyecto actual si se está actualizando
+        if (proyectoActivo.isPresent() && !proyectoActivo.get().getValue().equals(proyectoIdExcluir)) {
+            log.warn("Estudiante {} ya tiene proyecto activo: ID={}",
+                    estudianteId, proyectoActivo.get().getValue());
 
-                throw new EstudianteYaTieneProyectoException(
-                    estudianteId,
-                    proyecto.getId().getValue()
-                );
-            }
+            throw new EstudianteYaTieneProyectoException(
+                estudianteId,
+                proyectoActivo.get().getValue()
+            );
         }
 
         log.debug("✅ Validación exitosa: Estudiante {} no tiene proyectos activos", estudianteId);
     }
-
-    /**
-     * Determina si un estado es considerado "activo" (el proyecto aún está en curso).
-     *
-     * @param estado Estado del proyecto
-     * @return true si el estado es activo (no final)
-     */
-    private boolean esEstadoActivo(EstadoProyecto estado) {
-        return switch (estado) {
-            // Estados activos
-            case FORMATO_A_DILIGENCIADO,
-                 EN_EVALUACION_COORDINADOR,
-                 CORRECCIONES_SOLICITADAS,
-                 FORMATO_A_APROBADO,
-                 ANTEPROYECTO_ENVIADO,
-                 ANTEPROYECTO_EN_EVALUACION -> true;
-
-            // Estados finales (proyecto terminado o rechazado definitivamente)
-            case FORMATO_A_RECHAZADO,
-                 ANTEPROYECTO_RECHAZADO,
-                 ANTEPROYECTO_APROBADO -> false;
-        };
-    }
 }
-
@@ -1,21 +1,34 @@
 package co.unicauca.submission.infrastructure.adapter.in.rest;
 
+import co.unicauca.submission.application.dto.request.CampoProyecto;
+import co.unicauca.submission.application.dto.request.CursorProyecto;
+import co.unicauca.submission.application.dto.request.FiltroProyectos;
 import co.unicauca.submission.application.dto.request.SubirAnteproyectoRequest;
+import co.unicauca.submission.application.dto.response.PaginaCursorResponse;
 import co.unicauca.submission.application.dto.response.ProyectoResponse;
+import co.unicauca.submission.application.dto.response.SesionSubida;
 import co.unicauca.submission.application.port.in.ISubirAnteproyectoUseCase;
 import co.unicauca.submission.application.port.in.IObtenerProyectoQuery;
 import co.unicauca.submission.application.port.in.IListarAnteproyectosPendientesQuery;
+import co.unicauca.submission.application.port.in.IListarCamposProyectoQuery;
+import co.unicauca.submission.application.port.in.ISubidaReanudableAnteproyectoUseCase;
 import co.unicauca.submission.application.usecase.anteproyecto.AsignarEvaluadoresUseCase;
+import co.unicauca.submission.domain.model.EstadoProyecto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.util.Set;
 
 /**
  * REST Controller V2 para operaciones de Anteproyecto.
@@ -25,6 +38,11 @@ import java.io.IOException;
  * - GET    /api/submissions/anteproyecto/{proyectoId}
  * - POST   /api/submissions/anteproyecto/{proyectoId}
  * - POST   /api/submissions/anteproyecto/{proyectoId}/evaluadores
+ * - POST   /api/submissions/anteproyecto/{proyectoId}/subidas
+ * - PUT    /api/submissions/anteproyecto/{proyectoId}/subidas/{sesionId}
+ * - GET    /api/submissions/anteproyecto/{proyectoId}/subidas/{sesionId} (también HEAD)
+ * - POST   /api/submissions/anteproyecto/{proyectoId}/subidas/{sesionId}/finalizar
+ * - DELETE /api/submissions/anteproyecto/{proyectoId}/subidas/{sesionId}
  */
 @RestController
 @RequestMapping("/api/submissions/anteproyecto")
@@ -33,21 +51,32 @@ public class AnteproyectoController {
 
     private static final Logger log = LoggerFactory.getLogger(AnteproyectoController.class);
 
+    /** Offset recibido de una subida reanudable (mismos encabezados que el protocolo tus) */
+    static final String UPLOAD_OFFSET = "Upload-Offset";
+    static final String UPLOAD_LENGTH = "Upload-Length";
+    static final String UPLOAD_CHECKSUM = "Upload-Checksum";
+
     private final ISubirAnteproyectoUseCase subirUseCase;
     private final AsignarEvaluadoresUseCase asignarEvaluadoresUseCase;
     private final co.unicauca.submission.application.port.in.IObtenerProyectoQuery obtenerProyectoQuery;
     private final co.unicauca.submission.application.port.in.IListarAnteproyectosPendientesQuery listarPendientesQuery;
+    private final IListarCamposProyectoQuery listarCamposQuery;
+    private final ISubidaReanudableAnteproyectoUseCase subidaReanudableUseCase;
 
     public AnteproyectoController(
             ISubirAnteproyectoUseCase subirUseCase,
             AsignarEvaluadoresUseCase asignarEvaluadoresUseCase,
             co.unicauca.submission.application.port.in.IObtenerProyectoQuery obtenerProyectoQuery,
-            co.unicauca.submission.application.port.in.IListarAnteproyectosPendientesQuery listarPendientesQuery
+            co.unicauca.submission.application.port.in.IListarAnteproyectosPendientesQuery listarPendientesQuery,
+            IListarCamposProyectoQuery listarCamposQuery,
+            ISubidaReanudableAnteproyectoUseCase subidaReanudableUseCase
     ) {
         this.subirUseCase = subirUseCase;
         this.asignarEvaluadoresUseCase = asignarEvaluadoresUseCase;
         this.obtenerProyectoQuery = obtenerProyectoQuery;
         this.listarPendientesQuery = listarPendientesQuery;
+        this.listarCamposQuery = listarCamposQuery;
+        this.subidaReanudableUseCase = subidaReanudableUseCase;
     }
 
     /**
@@ -85,26 +114,51 @@ public class AnteproyectoController {
      * GET /api/submissions/anteproyecto/pendientes
      *
      * Retorna anteproyectos en estado ANTEPROYECTO_ENVIADO (pendientes de asignar evaluadores).
+     * Con ?fields=... se consultan y retornan solo esos campos.
+     * Con ?cursor=... (vacío para empezar) pagina por cursor sin contar el total.
+     * Responde con ETag débil de la página, igual que el listado de Formatos A.
      */
     @GetMapping("/pendientes")
     @Operation(summary = "Listar Anteproyectos Pendientes",
                description = "RF8: El jefe de departamento lista anteproyectos pendientes para asignar evaluadores")
-    public ResponseEntity<org.springframework.data.domain.Page<ProyectoResponse>> listarPendientes(
+    public ResponseEntity<?> listarPendientes(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String cursor
     ) {
-        log.info("GET /api/submissions/anteproyecto/pendientes - page: {}, size: {}", page, size);
+        log.info("GET /api/submissions/anteproyecto/pendientes - page: {}, size: {}, cursor: {}", page, size, cursor);
+
+        Set<CampoProyecto> campos = CampoProyecto.desdeParametro(fields);
+        FiltroProyectos filtro = FiltroProyectos.porEstado(EstadoProyecto.ANTEPROYECTO_ENVIADO);
+
+        // Modo cursor (?cursor= vacío para empezar): sin COUNT y sin OFFSET
+        if (cursor != null) {
+            CursorProyecto despuesDe = CursorProyecto.decodificar(cursor);
+            PaginaCursorResponse<?> pendientes = campos != null
+                ? listarCamposQuery.listarDespuesDe(filtro, campos, despuesDe, size)
+                : listarPendientesQuery.listarPendientes(despuesDe, size);
+
+            return ResponseEntity.ok()
+                .eTag(EtagsProyecto.debil(pendientes))
+                .cacheControl(EtagsProyecto.REVALIDAR)
+                .body(pendientes);
+        }
 
         org.springframework.data.domain.Pageable pageable =
             org.springframework.data.domain.PageRequest.of(page, size);
 
-        org.springframework.data.domain.Page<ProyectoResponse> pendientes =
-            listarPendientesQuery.listarPendientes(pageable);
+        org.springframework.data.domain.Page<?> pendientes = campos != null
+            ? listarCamposQuery.listarPagina(filtro, campos, pageable)
+            : listarPendientesQuery.listarPendientes(pageable);
 
         log.info("Se encontraron {} anteproyectos pendientes de {} totales",
                 pendientes.getNumberOfElements(), pendientes.getTotalElements());
 
-        return ResponseEntity.ok(pendientes);
+        return ResponseEntity.ok()
+            .eTag(EtagsProyecto.debil(pendientes))
+            .cacheControl(EtagsProyecto.REVALIDAR)
+            .body(pendientes);
     }
 
     /**
@@ -132,6 +186,117 @@ public class AnteproyectoController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
+    /**
+     * RF6: Iniciar subida reanudable del anteproyecto
+     * POST /api/submissions/anteproyecto/{proyectoId}/subidas?nombreArchivo=...&tamano=...
+     *
+     * Para PDFs grandes o conexiones inestables: el archivo se envía por fragmentos
+     * y un corte solo obliga a reenviar el fragmento en curso.
+     */
+    @PostMapping("/{proyectoId}/subidas")
+    @Operation(summary = "Iniciar subida reanudable",
+               description = "RF6: Abre una sesión para subir el anteproyecto por fragmentos")
+    public ResponseEntity<SesionSubida> iniciarSubida(
+            @PathVariable Long proyectoId,
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestParam(required = false) String nombreArchivo,
+            @RequestParam long tamano
+    ) {
+        log.info("POST /api/submissions/anteproyecto/{}/subidas - Usuario: {}, Tamaño: {}", proyectoId, userId, tamano);
+
+        SesionSubida sesion = subidaReanudableUseCase.iniciar(proyectoId, nombreArchivo, tamano, userId);
+
+        return ResponseEntity
+            .created(URI.create("/api/submissions/anteproyecto/" + proyectoId + "/subidas/" + sesion.getId()))
+            .header(UPLOAD_OFFSET, Long.toString(sesion.getRecibidos()))
+            .header(UPLOAD_LENGTH, Long.toString(sesion.getTamanoTotal()))
+            .body(sesion);
+    }
+
+    /**
+     * RF6: Enviar un fragmento de la subida
+     * PUT /api/submissions/anteproyecto/{proyectoId}/subidas/{sesionId}
+     *
+     * Cuerpo application/octet-stream. Upload-Offset debe ser el offset recibido y
+     * Upload-Checksum el SHA-256 del fragmento ("sha256 {base64}"). Responde con el
+     * nuevo offset; un 409 indica que hay que consultar el offset y reanudar desde ahí.
+     */
+    @PutMapping(value = "/{proyectoId}/subidas/{sesionId}", consumes = MediaType.APPLICATION_OCTET_STREAM_VALUE)
+    @Operation(summary = "Enviar fragmento", description = "RF6: Agrega un fragmento verificado a la subida")
+    public ResponseEntity<Void> enviarFragmento(
+            @PathVariable Long proyectoId,
+            @PathVariable String sesionId,
+            @RequestHeader("X-User-Id") Long userId,
+            @RequestHeader(UPLOAD_OFFSET) long offset,
+            @RequestHeader(value = UPLOAD_CHECKSUM, required = false) String checksum,
+            InputStream cuerpo
+    ) {
+        log.debug("PUT /api/submissions/anteproyecto/{}/subidas/{} - Offset: {}", proyectoId, sesionId, offset);
+
+        long recibidos = subidaReanudableUseCase.recibirFragmento(
+            proyectoId, sesionId, offset, checksum, cuerpo, userId);
+
+        return ResponseEntity.noContent()
+            .header(UPLOAD_OFFSET, Long.toString(recibidos))
+            .build();
+    }
+
+    /**
+     * RF6: Consultar el offset recibido para reanudar
+     * GET|HEAD /api/submissions/anteproyecto/{proyectoId}/subidas/{sesionId}
+     */
+    @GetMapping("/{proyectoId}/subidas/{sesionId}")
+    @Operation(summary = "Consultar subida", description = "RF6: Offset recibido de una subida reanudable")
+    public ResponseEntity<SesionSubida> consultarSubida(
+            @PathVariable Long proyectoId,
+            @PathVariable String sesionId,
+            @RequestHeader("X-User-Id") Long userId
+    ) {
+        SesionSubida sesion = subidaReanudableUseCase.consultar(proyectoId, sesionId, userId);
+
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noStore())
+            .header(UPLOAD_OFFSET, Long.toString(sesion.getRecibidos()))
+            .header(UPLOAD_LENGTH, Long.toString(sesion.getTamanoTotal()))
+            .body(sesion);
+    }
+
+    /**
+     * RF6: Finalizar la subida reanudable
+     * POST /api/submissions/anteproyecto/{proyectoId}/subidas/{sesionId}/finalizar
+     */
+    @PostMapping("/{proyectoId}/subidas/{sesionId}/finalizar")
+    @Operation(summary = "Finalizar subida", description = "RF6: Registra el anteproyecto con el archivo recibido")
+    public ResponseEntity<ProyectoResponse> finalizarSubida(
+            @PathVariable Long proyectoId,
+            @PathVariable String sesionId,
+            @RequestHeader("X-User-Id") Long userId
+    ) {
+        log.info("POST /api/submissions/anteproyecto/{}/subidas/{}/finalizar - Usuario: {}", proyectoId, sesionId, userId);
+
+        ProyectoResponse response = subidaReanudableUseCase.finalizar(proyectoId, sesionId, userId);
+
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    /**
+     * RF6: Cancelar la subida reanudable
+     * DELETE /api/submissions/anteproyecto/{proyectoId}/subidas/{sesionId}
+     */
+    @DeleteMapping("/{proyectoId}/subidas/{sesionId}")
+    @Operation(summary = "Cancelar subida", description = "RF6: Descarta una subida reanudable")
+    public ResponseEntity<Void> cancelarSubida(
+            @PathVariable Long proyectoId,
+            @PathVariable String sesionId,
+            @RequestHeader("X-User-Id") Long userId
+    ) {
+        log.info("DELETE /api/submissions/anteproyecto/{}/subidas/{} - Usuario: {}", proyectoId, sesionId, userId);
+
+        subidaReanudableUseCase.cancelar(proyectoId, sesionId, userId);
+
+        return ResponseEntity.noContent().build();
+    }
+
     /**
      * RF8: Asignar Evaluadores
      * POST /api/v2/submissions/anteproyecto/{proyectoId}/evaluadores
@@ -0,0 +1,160 @@
+package co.unicauca.submission.infrastructure.adapter.in.rest;
+
+import co.unicauca.submission.application.dto.response.ArchivoAlmacenado;
+import co.unicauca.submission.application.dto.response.EnlaceArchivoResponse;
+import co.unicauca.submission.application.dto.response.ValidacionDocumentoResponse;
+import co.unicauca.submission.application.port.in.IConsultarValidacionDocumentosQuery;
+import co.unicauca.submission.application.port.in.IEnlaceArchivoQuery;
+import co.unicauca.submission.application.port.in.IObtenerArchivoProyectoQuery;
+import co.unicauca.submission.application.port.in.IObtenerArchivoProyectoQuery.TipoArchivoProyecto;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.CacheControl;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * REST Controller para descarga de archivos de proyectos.
+ *
+ * Endpoints:
+ * - GET  /api/submissions/{id}/archivos/{tipo}          (tipo: formatoA | carta | anteproyecto)
+ * - GET  /api/submissions/{id}/archivos/{tipo}/vista-previa (PNG de la primera página)
+ * - POST /api/submissions/{id}/archivos/enlaces         (enlaces firmados de todos los archivos)
+ * - POST /api/submissions/{id}/archivos/{tipo}/enlace   (enlace firmado de un archivo)
+ * - GET  /api/submissions/{id}/documentos                (estado de validación de los PDFs)
+ *
+ * El envío (sendfile, Range, ETag) está en EnvioArchivo. Los enlaces firmados se
+ * sirven en /archivos/firmados/{token} (EnlaceFirmadoController).
+ */
+@RestController
+@RequestMapping("/api/submissions")
+@Tag(name = "Archivos", description = "Descarga de archivos de proyectos (Arquitectura Hexagonal)")
+public class ArchivoController {
+
+    private static final Logger log = LoggerFactory.getLogger(ArchivoController.class);
+
+    private final IObtenerArchivoProyectoQuery obtenerArchivoQuery;
+    private final IEnlaceArchivoQuery enlaceArchivoQuery;
+    private final IConsultarValidacionDocumentosQuery validacionQuery;
+
+    public ArchivoController(IObtenerArchivoProyectoQuery obtenerArchivoQuery,
+                             IEnlaceArchivoQuery enlaceArchivoQuery,
+                             IConsultarValidacionDocumentosQuery validacionQuery) {
+        this.obtenerArchivoQuery = obtenerArchivoQuery;
+        this.enlaceArchivoQuery = enlaceArchivoQuery;
+        this.validacionQuery = validacionQuery;
+    }
+
+    /**
+     * Descargar archivo de un proyecto
+     * GET /api/submissions/{id}/archivos/{tipo}
+     */
+    @GetMapping("/{id}/archivos/{tipo}")
+    @Operation(summary = "Descargar archivo de proyecto",
+               description = "Descarga el PDF del Formato A, la carta de aceptación o el anteproyecto. "
+                   + "Soporta descargas parciales (Range) y validación por ETag")
+    public void descargar(@PathVariable Long id,
+                          @PathVariable String tipo,
+                          HttpServletRequest request,
+                          HttpServletResponse response) throws IOException {
+        log.info("GET /api/submissions/{}/archivos/{}", id, tipo);
+
+        TipoArchivoProyecto tipoArchivo = TipoArchivoProyecto.desdeSegmento(tipo);
+        ArchivoAlmacenado archivo = obtenerArchivoQuery.obtenerArchivo(id, tipoArchivo);
+
+        EnvioArchivo.enviar(archivo, tipoArchivo.getSegmento() + "-" + id + ".pdf", request, response);
+    }
+
+    /**
+     * Vista previa de un documento
+     * GET /api/submissions/{id}/archivos/{tipo}/vista-previa?v={versionVistaPrevia}
+     *
+     * Para revisar la cola basta la portada: unos KB en lugar del PDF completo. Con la
+     * versión vigente (GET /documentos) la respuesta se cachea como inmutable; sin
+     * ella o con una versión vieja, el navegador revalida con el ETag.
+     */
+    @GetMapping("/{id}/archivos/{tipo}/vista-previa")
+    @Operation(summary = "Vista previa de archivo",
+               description = "PNG de la primera página de un documento válido del proyecto")
+    public void vistaPrevia(@PathVariable Long id,
+                            @PathVariable String tipo,
+                            @RequestParam(name = "v", required = false) String version,
+                            HttpServletRequest request,
+                            HttpServletResponse response) throws IOException {
+        log.debug("GET /api/submissions/{}/archivos/{}/vista-previa", id, tipo);
+
+        TipoArchivoProyecto tipoArchivo = TipoArchivoProyecto.desdeSegmento(tipo);
+        ArchivoAlmacenado vistaPrevia = obtenerArchivoQuery.obtenerVistaPrevia(id, tipoArchivo);
+        if (!vistaPrevia.getEtag().equals(version)) {
+            vistaPrevia = vistaPrevia.conEtag(vistaPrevia.getEtag(), false);
+        }
+
+        EnvioArchivo.enviar(vistaPrevia, tipoArchivo.getSegmento() + "-" + id + ".png",
+            MediaType.IMAGE_PNG, request, response);
+    }
+
+    /**
+     * Enlaces firmados de todos los archivos del proyecto
+     * POST /api/submissions/{id}/archivos/enlaces?usoUnico=false
+     *
+     * Con una sola llamada autenticada el evaluador obtiene enlaces para abrir cada
+     * PDF sin volver a pasar por JWT ni identity-service.
+     */
+    @PostMapping("/{id}/archivos/enlaces")
+    @Operation(summary = "Generar enlaces firmados",
+               description = "Enlaces temporales firmados para descargar los archivos del proyecto")
+    public ResponseEntity<List<EnlaceArchivoResponse>> generarEnlaces(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "false") boolean usoUnico) {
+        log.info("POST /api/submissions/{}/archivos/enlaces - usoUnico: {}", id, usoUnico);
+
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noStore())
+            .body(enlaceArchivoQuery.generarEnlaces(id, usoUnico));
+    }
+
+    /**
+     * Enlace firmado de un archivo
+     * POST /api/submissions/{id}/archivos/{tipo}/enlace?usoUnico=false
+     */
+    @PostMapping("/{id}/archivos/{tipo}/enlace")
+    @Operation(summary = "Generar enlace firmado",
+               description = "Enlace temporal firmado para descargar un archivo del proyecto")
+    public ResponseEntity<EnlaceArchivoResponse> generarEnlace(
+            @PathVariable Long id,
+            @PathVariable String tipo,
+            @RequestParam(defaultValue = "false") boolean usoUnico) {
+        log.info("POST /api/submissions/{}/archivos/{}/enlace - usoUnico: {}", id, tipo, usoUnico);
+
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noStore())
+            .body(enlaceArchivoQuery.generarEnlace(id, TipoArchivoProyecto.desdeSegmento(tipo), usoUnico));
+    }
+
+    /**
+     * Estado de validación de los documentos del proyecto
+     * GET /api/submissions/{id}/documentos
+     *
+     * La UI lo consulta periódicamente tras subir un PDF hasta que queda VALIDO
+     * o RECHAZADO.
+     */
+    @GetMapping("/{id}/documentos")
+    @Operation(summary = "Estado de validación de documentos",
+               description = "Estado de la validación asíncrona de cada PDF del proyecto, "
+                   + "con páginas y tamaño del texto o el motivo del rechazo")
+    public ResponseEntity<List<ValidacionDocumentoResponse>> consultarDocumentos(@PathVariable Long id) {
+        log.debug("GET /api/submissions/{}/documentos", id);
+
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noStore())
+            .body(validacionQuery.consultar(id));
+    }
+}
@@ -0,0 +1,58 @@
+package co.unicauca.submission.infrastructure.adapter.in.rest;
+
+import co.unicauca.submission.application.port.in.IEnlaceArchivoQuery;
+import co.unicauca.submission.application.port.in.IEnlaceArchivoQuery.ArchivoFirmado;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+
+/**
+ * REST Controller de descargas por enlace firmado.
+ *
+ * Endpoints:
+ * - GET /archivos/firmados/{token}
+ *
+ * Fuera de /api: el gateway enruta este path sin JWT ni verificación de rol. La
+ * autorización es el propio token (HMAC con vencimiento), verificado sin BD ni
+ * identity-service. Un enlace de uso único admite una sola petición, así que no
+ * sirve para visores que piden el PDF por rangos.
+ */
+@RestController
+@RequestMapping("/archivos/firmados")
+@Tag(name = "Archivos", description = "Descarga de archivos de proyectos (Arquitectura Hexagonal)")
+public class EnlaceFirmadoController {
+
+    private static final Logger log = LoggerFactory.getLogger(EnlaceFirmadoController.class);
+
+    private final IEnlaceArchivoQuery enlaceArchivoQuery;
+
+    public EnlaceFirmadoController(IEnlaceArchivoQuery enlaceArchivoQuery) {
+        this.enlaceArchivoQuery = enlaceArchivoQuery;
+    }
+
+    /**
+     * Descargar archivo por enlace firmado
+     * GET /archivos/firmados/{token}
+     */
+    @GetMapping("/{token}")
+    @Operation(summary = "Descargar por enlace firmado",
+               description = "Descarga el archivo de un enlace firmado vigente. Soporta Range y ETag")
+    public void descargar(@PathVariable String token,
+                          HttpServletRequest request,
+                          HttpServletResponse response) throws IOException {
+        ArchivoFirmado firmado = enlaceArchivoQuery.resolver(token);
+
+        log.debug("GET /archivos/firmados - {}", firmado.nombreArchivo());
+
+        EnvioArchivo.enviar(firmado.archivo(), firmado.nombreArchivo(), request, response);
+    }
+}
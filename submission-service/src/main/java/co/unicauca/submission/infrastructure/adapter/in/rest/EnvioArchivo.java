@@ -0,0 +1,144 @@
+package co.unicauca.submission.infrastructure.adapter.in.rest;
+
+import co.unicauca.submission.application.dto.response.ArchivoAlmacenado;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.MediaType;
+import org.springframework.web.context.request.ServletWebRequest;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+/**
+ * Envío de un archivo almacenado (PDF o vista previa PNG), compartido por la descarga autenticada (ArchivoController)
+ * y la de enlaces firmados (EnlaceFirmadoController).
+ *
+ * Un archivo en disco se envía directo: con Tomcat se delega en sendfile (el kernel
+ * copia del archivo al socket sin pasar por el heap) y, si el conector no lo soporta,
+ * se usa FileChannel.transferTo. Uno remoto (S3) se pide solo por el rango a enviar y
+ * se copia a la respuesta mientras llega. Soporta Range (un solo rango, para reanudar
+ * descargas), If-Range e If-None-Match con ETag fuerte.
+ */
+final class EnvioArchivo {
+
+    private static final Logger log = LoggerFactory.getLogger(EnvioArchivo.class);
+
+    // Atributos de request que Tomcat interpreta para enviar el archivo con sendfile
+    private static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    private static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    private static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    private static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private static final String CACHE_INMUTABLE = "private, max-age=31536000, immutable";
+    private static final String CACHE_REVALIDAR = "private, no-cache";
+
+    private EnvioArchivo() {
+    }
+
+    static void enviar(ArchivoAlmacenado archivo,
+                       String nombreArchivo,
+                       HttpServletRequest request,
+                       HttpServletResponse response) throws IOException {
+        enviar(archivo, nombreArchivo, MediaType.APPLICATION_PDF, request, response);
+    }
+
+    static void enviar(ArchivoAlmacenado archivo,
+                       String nombreArchivo,
+                       MediaType tipoContenido,
+                       HttpServletRequest request,
+                       HttpServletResponse response) throws IOException {
+        String etag = "\"" + archivo.getEtag() + "\"";
+        response.setHeader(HttpHeaders.CACHE_CONTROL, archivo.isInmutable() ? CACHE_INMUTABLE : CACHE_REVALIDAR);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+
+        // Responde 304 (If-None-Match) o 412 (If-Match) y agrega el ETag a la respuesta
+        if (new ServletWebRequest(request, response).checkNotModified(etag)) {
+            return;
+        }
+
+        long longitud = archivo.getTamano();
+        long inicio = 0;
+        long fin = longitud - 1;
+
+        String rango = request.getHeader(HttpHeaders.RANGE);
+        if (rango != null && rangoAplica(request.getHeader(HttpHeaders.IF_RANGE), etag)) {
+            try {
+                List<HttpRange> rangos = HttpRange.parseRanges(rango);
+                // Con varios rangos se ignora el encabezado y se envía el archivo completo
+                if (rangos.size() == 1) {
+                    inicio = rangos.get(0).getRangeStart(longitud);
+                    fin = rangos.get(0).getRangeEnd(longitud);
+                    if (inicio >= longitud || inicio > fin) {
+                        throw new IllegalArgumentException("Rango fuera del archivo");
+                    }
+                    response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
+                    response.setHeader(HttpHeaders.CONTENT_RANGE,
+                        "bytes " + inicio + "-" + fin + "/" + longitud);
+                }
+            } catch (IllegalArgumentException e) {
+                log.debug("Rango no satisfacible '{}' para archivo de {} bytes", rango, longitud);
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + longitud);
+                response.sendError(HttpServletResponse.SC_REQUESTED_RANGE_NOT_SATISFIABLE);
+                return;
+            }
+        }
+
+        long cantidad = fin - inicio + 1;
+        response.setContentType(tipoContenido.toString());
+        response.setContentLengthLong(cantidad);
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline()
+            .filename(nombreArchivo)
+            .build()
+            .toString());
+
+        if ("HEAD".equalsIgnoreCase(request.getMethod()) || cantidad == 0) {
+            return;
+        }
+
+        if (!archivo.enDisco()) {
+            try (InputStream contenido = archivo.abrir(inicio, fin)) {
+                contenido.transferTo(response.getOutputStream());
+            }
+            return;
+        }
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            // Tomcat envía el archivo con sendfile al terminar el request
+            request.setAttribute(SENDFILE_FILENAME, archivo.getUbicacion().toAbsolutePath().toString());
+            request.setAttribute(SENDFILE_START, inicio);
+            request.setAttribute(SENDFILE_END, fin + 1);
+            return;
+        }
+
+        try (FileChannel canal = FileChannel.open(archivo.getUbicacion(), StandardOpenOption.READ)) {
+            WritableByteChannel salida = Channels.newChannel(response.getOutputStream());
+            long posicion = inicio;
+            long restante = cantidad;
+            while (restante > 0) {
+                long enviados = canal.transferTo(posicion, restante, salida);
+                if (enviados <= 0) {
+                    break;
+                }
+                posicion += enviados;
+                restante -= enviados;
+            }
+        }
+    }
+
+    /**
+     * If-Range: el rango solo se respeta si el cliente aún tiene la misma versión.
+     */
+    private static boolean rangoAplica(String ifRange, String etag) {
+        return ifRange == null || ifRange.equals(etag);
+    }
+}
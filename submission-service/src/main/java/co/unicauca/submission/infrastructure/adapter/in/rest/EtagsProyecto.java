@@ -0,0 +1,59 @@
+package co.unicauca.submission.infrastructure.adapter.in.rest;
+
+import co.unicauca.submission.application.dto.response.PaginaCursorResponse;
+import co.unicauca.submission.application.dto.response.ProyectoParcialResponse;
+import co.unicauca.submission.application.dto.response.ProyectoResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.http.CacheControl;
+
+import java.util.List;
+
+/**
+ * ETag de las consultas de proyectos.
+ *
+ * - Proyecto individual: ETag fuerte derivado de la versión (@Version) del proyecto.
+ *   Cada UPDATE la incrementa, así que validar If-None-Match solo requiere la versión
+ *   actual, no cargar ni serializar el proyecto.
+ * - Listados (páginas o por cursor): ETag débil calculado sobre id y versión de cada
+ *   elemento (o sus valores, con selección de campos). Ahorra la serialización y el
+ *   envío, no la consulta.
+ */
+final class EtagsProyecto {
+
+    /** El cliente puede guardar la respuesta pero debe revalidarla antes de usarla */
+    static final CacheControl REVALIDAR = CacheControl.noCache().cachePrivate();
+
+    private EtagsProyecto() {
+    }
+
+    static String fuerte(Long proyectoId, Long version) {
+        return "\"p" + proyectoId + "-v" + version + "\"";
+    }
+
+    static String debil(Page<?> pagina) {
+        long hash = 17;
+        hash = 31 * hash + pagina.getNumber();
+        hash = 31 * hash + pagina.getSize();
+        hash = 31 * hash + pagina.getTotalElements();
+        return debil(hash, pagina.getContent());
+    }
+
+    static String debil(PaginaCursorResponse<?> pagina) {
+        long hash = 17;
+        hash = 31 * hash + (pagina.getSiguienteCursor() != null ? pagina.getSiguienteCursor().hashCode() : 0);
+        return debil(hash, pagina.getContenido());
+    }
+
+    private static String debil(long hash, List<?> contenido) {
+        for (Object elemento : contenido) {
+            if (elemento instanceof ProyectoResponse proyecto) {
+                hash = 31 * hash + (proyecto.getId() != null ? proyecto.getId() : 0);
+                hash = 31 * hash + (proyecto.getVersion() != null ? proyecto.getVersion() : 0);
+            } else if (elemento instanceof ProyectoParcialResponse parcial) {
+                // Con selección de campos la versión puede no estar entre ellos: se usan los valores
+                hash = 31 * hash + parcial.getCampos().hashCode();
+            }
+        }
+        return "W/\"" + Long.toHexString(hash) + "\"";
+    }
+}
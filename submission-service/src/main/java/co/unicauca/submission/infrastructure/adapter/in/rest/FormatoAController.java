@@ -1,13 +1,19 @@
 package co.unicauca.submission.infrastructure.adapter.in.rest;
 
+import co.unicauca.submission.application.dto.request.CampoProyecto;
 import co.unicauca.submission.application.dto.request.CrearFormatoARequest;
+import co.unicauca.submission.application.dto.request.CursorProyecto;
 import co.unicauca.submission.application.dto.request.EvaluarFormatoARequest;
+import co.unicauca.submission.application.dto.request.FiltroProyectos;
 import co.unicauca.submission.application.dto.request.ReenviarFormatoARequest;
+import co.unicauca.submission.application.dto.response.PaginaCursorResponse;
 import co.unicauca.submission.application.dto.response.ProyectoResponse;
 import co.unicauca.submission.application.port.in.ICrearFormatoAUseCase;
 import co.unicauca.submission.application.port.in.IEvaluarFormatoAUseCase;
 import co.unicauca.submission.application.port.in.IReenviarFormatoAUseCase;
 import co.unicauca.submission.application.port.in.IListarFormatoAPendientesQuery;
+import co.unicauca.submission.application.port.in.IListarCamposProyectoQuery;
+import co.unicauca.submission.domain.model.EstadoProyecto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -16,15 +22,18 @@ import org.slf4j.LoggerFactory;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.http.MediaType;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import co.unicauca.submission.application.port.in.IObtenerProyectoQuery;
 
 import java.io.IOException;
+import java.util.Set;
 
 /**
  * REST Controller V2 para operaciones de Formato A.
@@ -49,6 +58,7 @@ public class FormatoAController {
     private final IEvaluarFormatoAUseCase evaluarUseCase;
     private final IListarFormatoAPendientesQuery listarPendientesQuery;
     private final co.unicauca.submission.application.port.in.IObtenerProyectoQuery obtenerProyectoQuery;
+    private final IListarCamposProyectoQuery listarCamposQuery;
     private final ObjectMapper objectMapper;
 
     public FormatoAController(
@@ -58,6 +68,7 @@ public class FormatoAController {
             @org.springframework.beans.factory.annotation.Qualifier("listarFormatoAPendientesQueryEnriched")
             IListarFormatoAPendientesQuery listarPendientesQuery,
             co.unicauca.submission.application.port.in.IObtenerProyectoQuery obtenerProyectoQuery,
+            IListarCamposProyectoQuery listarCamposQuery,
             ObjectMapper objectMapper
     ) {
         this.crearUseCase = crearUseCase;
@@ -65,6 +76,7 @@ public class FormatoAController {
         this.evaluarUseCase = evaluarUseCase;
         this.listarPendientesQuery = listarPendientesQuery;
         this.obtenerProyectoQuery = obtenerProyectoQuery;
+        this.listarCamposQuery = listarCamposQuery;
         this.objectMapper = objectMapper;
     }
 
@@ -74,13 +86,21 @@ public class FormatoAController {
      *
      * Endpoint de compatibilidad para review-service.
      * Retorna información del proyecto si es un Formato A.
+     * Con If-None-Match vigente retorna 304 consultando solo la versión.
      */
     @GetMapping("/{id}")
     @Operation(summary = "Obtener Formato A por ID", description = "Obtiene información de un Formato A específico")
-    public ResponseEntity<ProyectoResponse> obtenerFormatoA(@PathVariable Long id) {
+    public ResponseEntity<ProyectoResponse> obtenerFormatoA(@PathVariable Long id, WebRequest request) {
         try {
             log.info("GET /api/submissions/formatoA/{}", id);
 
+            // El ETag solo se entregó con un 200, es decir, cuando era un Formato A
+            if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                    && request.checkNotModified(EtagsProyecto.fuerte(id, obtenerProyectoQuery.obtenerVersion(id)))) {
+                log.debug("Formato A {} sin cambios (304)", id);
+                return null;
+            }
+
             ProyectoResponse response = obtenerProyectoQuery.obtenerPorId(id);
 
             // Verificar que sea un proyecto de tipo Formato A (no Anteproyecto)
@@ -92,7 +112,10 @@ public class FormatoAController {
             }
 
             log.info("Formato A {} obtenido correctamente, estado: {}", id, response.getEstado());
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok()
+                .eTag(EtagsProyecto.fuerte(id, response.getVersion()))
+                .cacheControl(EtagsProyecto.REVALIDAR)
+                .body(response);
 
         } catch (co.unicauca.submission.domain.exception.ProyectoNotFoundException e) {
             log.error("Formato A {} no encontrado", id);
@@ -217,24 +240,56 @@ public class FormatoAController {
     /**
      * RF3: Listar Formatos A Pendientes
      * GET /api/submissions/formatoA/pendientes
+     *
+     * Responde con ETag débil de la página; si coincide con If-None-Match, Spring
+     * responde 304 sin serializar el contenido.
+     *
+     * Con ?fields=... se consultan y retornan solo esos campos, sin la información
+     * enriquecida desde identity-service.
+     *
+     * Con ?cursor=... (vacío para empezar) pagina por cursor en orden (fechaCreacion, id)
+     * y no cuenta el total; retorna el cursor para continuar.
      */
     @GetMapping("/pendientes")
     @Operation(summary = "Listar Formatos A pendientes", description = "RF3: El coordinador lista los Formatos A pendientes de evaluación")
-    public ResponseEntity<Page<ProyectoResponse>> listarPendientes(
+    public ResponseEntity<?> listarPendientes(
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) String cursor
     ) {
-        log.info("GET /api/submissions/formatoA/pendientes - page: {}, size: {}", page, size);
+        log.info("GET /api/submissions/formatoA/pendientes - page: {}, size: {}, cursor: {}", page, size, cursor);
+
+        Set<CampoProyecto> campos = CampoProyecto.desdeParametro(fields);
+        FiltroProyectos filtro = FiltroProyectos.porEstado(EstadoProyecto.EN_EVALUACION_COORDINADOR);
+
+        // Modo cursor (?cursor= vacío para empezar): sin COUNT y sin OFFSET
+        if (cursor != null) {
+            CursorProyecto despuesDe = CursorProyecto.decodificar(cursor);
+            PaginaCursorResponse<?> pendientes = campos != null
+                ? listarCamposQuery.listarDespuesDe(filtro, campos, despuesDe, size)
+                : listarPendientesQuery.listarPendientes(despuesDe, size);
+
+            return ResponseEntity.ok()
+                .eTag(EtagsProyecto.debil(pendientes))
+                .cacheControl(EtagsProyecto.REVALIDAR)
+                .body(pendientes);
+        }
 
         // Crear Pageable
         Pageable pageable = PageRequest.of(page, size);
 
         // Ejecutar query - las excepciones se propagan al GlobalExceptionHandler
-        Page<ProyectoResponse> pendientes = listarPendientesQuery.listarPendientes(pageable);
+        Page<?> pendientes = campos != null
+            ? listarCamposQuery.listarPagina(filtro, campos, pageable)
+            : listarPendientesQuery.listarPendientes(pageable);
 
         log.info("Se encontraron {} Formatos A pendientes", pendientes.getTotalElements());
 
-        return ResponseEntity.ok(pendientes);
+        return ResponseEntity.ok()
+            .eTag(EtagsProyecto.debil(pendientes))
+            .cacheControl(EtagsProyecto.REVALIDAR)
+            .body(pendientes);
     }
 }
 
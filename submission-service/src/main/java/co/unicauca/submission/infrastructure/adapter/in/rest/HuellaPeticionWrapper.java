@@ -0,0 +1,335 @@
+package co.unicauca.submission.infrastructure.adapter.in.rest;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.Part;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.MediaType;
+
+import java.io.BufferedReader;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+
+/**
+ * Calcula la huella (SHA-256) del contenido de una petición para IdempotenciaFilter.
+ *
+ * El cuerpo se resume a medida que el controlador lo lee, sin bufferizarlo; lo que
+ * no haya leído se consume al pedir la huella. En multipart el cuerpo lo interpreta
+ * el contenedor: cada parte se resume mientras el controlador la lee y la huella usa
+ * sus metadatos (nombre, archivo, tipo, tamaño) más ese resumen; solo se relee una
+ * parte que nadie leyó completa. En formularios se resumen los parámetros.
+ * Con el mismo contenido, la huella es la misma se haya ejecutado la petición o no.
+ */
+final class HuellaPeticionWrapper extends HttpServletRequestWrapper {
+
+    private static final Logger log = LoggerFactory.getLogger(HuellaPeticionWrapper.class);
+
+    private final MessageDigest resumenCuerpo = sha256();
+    private ServletInputStream cuerpo;
+    private List<Part> partes;
+
+    HuellaPeticionWrapper(HttpServletRequest request) {
+        super(request);
+    }
+
+    @Override
+    public ServletInputStream getInputStream() throws IOException {
+        if (cuerpo == null) {
+            cuerpo = new CuerpoResumido(super.getInputStream());
+        }
+        return cuerpo;
+    }
+
+    @Override
+    public BufferedReader getReader() throws IOException {
+        Charset charset = getCharacterEncoding() != null
+            ? Charset.forName(getCharacterEncoding())
+            : StandardCharsets.ISO_8859_1;
+        return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+
+    @Override
+    public Collection<Part> getParts() throws IOException, ServletException {
+        if (partes == null) {
+            List<Part> resumidas = new ArrayList<>();
+            for (Part parte : super.getParts()) {
+                resumidas.add(new ParteResumida(parte));
+            }
+            partes = List.copyOf(resumidas);
+        }
+        return partes;
+    }
+
+    @Override
+    public Part getPart(String name) throws IOException, ServletException {
+        for (Part parte : getParts()) {
+            if (parte.getName().equals(name)) {
+                return parte;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * @return la huella en hexadecimal, o null si no se pudo leer el contenido
+     */
+    String huella() {
+        try {
+            MessageDigest huella = sha256();
+            agregar(huella, Objects.toString(getQueryString(), ""));
+            if (esMultipart()) {
+                List<Part> ordenadas = new ArrayList<>(getParts());
+                ordenadas.sort(Comparator.comparing(Part::getName));
+                for (Part parte : ordenadas) {
+                    agregar(huella, parte.getName());
+                    agregar(huella, Objects.toString(parte.getSubmittedFileName(), ""));
+                    agregar(huella, Objects.toString(parte.getContentType(), ""));
+                    agregar(huella, Long.toString(parte.getSize()));
+                    huella.update(((ParteResumida) parte).resumen());
+                }
+            } else if (esFormulario()) {
+                for (Map.Entry<String, String[]> parametro : new TreeMap<>(getParameterMap()).entrySet()) {
+                    agregar(huella, parametro.getKey());
+                    for (String valor : parametro.getValue()) {
+                        agregar(huella, valor);
+                    }
+                }
+            } else {
+                getInputStream().transferTo(OutputStream.nullOutputStream());
+                huella.update(resumenCuerpo.digest());
+            }
+            return HexFormat.of().formatHex(huella.digest());
+        } catch (Exception e) {
+            log.warn("⚠️ No se pudo calcular la huella de {} {}: {}", getMethod(), getRequestURI(), e.getMessage());
+            return null;
+        }
+    }
+
+    private boolean esMultipart() {
+        return getContentType() != null && getContentType().startsWith("multipart/");
+    }
+
+    private boolean esFormulario() {
+        return getContentType() != null
+            && getContentType().startsWith(MediaType.APPLICATION_FORM_URLENCODED_VALUE);
+    }
+
+    /**
+     * Cada valor va precedido de su longitud, para que "ab"+"c" y "a"+"bc" no coincidan.
+     */
+    private static void agregar(MessageDigest huella, String valor) {
+        byte[] bytes = valor.getBytes(StandardCharsets.UTF_8);
+        huella.update(Integer.toString(bytes.length).getBytes(StandardCharsets.US_ASCII));
+        huella.update((byte) ':');
+        huella.update(bytes);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible en la JVM", e);
+        }
+    }
+
+    /**
+     * Parte multipart cuyo contenido se resume mientras se lee. El resumen queda
+     * guardado cuando un lector llega al final de la parte.
+     */
+    private static final class ParteResumida implements Part {
+
+        private final Part original;
+        private byte[] resumen;
+
+        private ParteResumida(Part original) {
+            this.original = original;
+        }
+
+        /**
+         * @return el resumen del contenido; si ningún lector llegó al final, se lee ahora
+         */
+        byte[] resumen() throws IOException {
+            if (resumen == null) {
+                try (InputStream contenido = getInputStream()) {
+                    contenido.transferTo(OutputStream.nullOutputStream());
+                }
+            }
+            return resumen;
+        }
+
+        @Override
+        public InputStream getInputStream() throws IOException {
+            MessageDigest lectura = sha256();
+            return new FilterInputStream(original.getInputStream()) {
+                private boolean terminado;
+
+                @Override
+                public int read() throws IOException {
+                    int b = super.read();
+                    if (b == -1) {
+                        terminar();
+                    } else {
+                        lectura.update((byte) b);
+                    }
+                    return b;
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) throws IOException {
+                    int n = super.read(b, off, len);
+                    if (n == -1) {
+                        terminar();
+                    } else if (n > 0) {
+                        lectura.update(b, off, n);
+                    }
+                    return n;
+                }
+
+                // skip, mark y reset del stream original dejarían el resumen incompleto
+                @Override
+                public long skip(long n) throws IOException {
+                    byte[] buffer = new byte[8192];
+                    long saltados = 0;
+                    while (saltados < n) {
+                        int leidos = read(buffer, 0, (int) Math.min(buffer.length, n - saltados));
+                        if (leidos == -1) {
+                            break;
+                        }
+                        saltados += leidos;
+                    }
+                    return saltados;
+                }
+
+                @Override
+                public boolean markSupported() {
+                    return false;
+                }
+
+                @Override
+                public synchronized void mark(int readlimit) {
+                }
+
+                @Override
+                public synchronized void reset() throws IOException {
+                    throw new IOException("mark/reset no soportado");
+                }
+
+                private void terminar() {
+                    if (!terminado) {
+                        terminado = true;
+                        resumen = lectura.digest();
+                    }
+                }
+            };
+        }
+
+        @Override
+        public String getContentType() {
+            return original.getContentType();
+        }
+
+        @Override
+        public String getName() {
+            return original.getName();
+        }
+
+        @Override
+        public String getSubmittedFileName() {
+            return original.getSubmittedFileName();
+        }
+
+        @Override
+        public long getSize() {
+            return original.getSize();
+        }
+
+        @Override
+        public void write(String fileName) throws IOException {
+            original.write(fileName);
+        }
+
+        @Override
+        public void delete() throws IOException {
+            original.delete();
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return original.getHeader(name);
+        }
+
+        @Override
+        public Collection<String> getHeaders(String name) {
+            return original.getHeaders(name);
+        }
+
+        @Override
+        public Collection<String> getHeaderNames() {
+            return original.getHeaderNames();
+        }
+    }
+
+    /**
+     * Stream del cuerpo que actualiza el resumen con cada byte leído.
+     */
+    private final class CuerpoResumido extends ServletInputStream {
+
+        private final ServletInputStream original;
+
+        private CuerpoResumido(ServletInputStream original) {
+            this.original = original;
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = original.read();
+            if (b != -1) {
+                resumenCuerpo.update((byte) b);
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int n = original.read(b, off, len);
+            if (n > 0) {
+                resumenCuerpo.update(b, off, n);
+            }
+            return n;
+        }
+
+        @Override
+        public boolean isFinished() {
+            return original.isFinished();
+        }
+
+        @Override
+        public boolean isReady() {
+            return original.isReady();
+        }
+
+        @Override
+        public void setReadListener(ReadListener readListener) {
+            original.setReadListener(readListener);
+        }
+    }
+}
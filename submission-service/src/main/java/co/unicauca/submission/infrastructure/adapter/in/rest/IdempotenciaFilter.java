@@ -0,0 +1,246 @@
+package co.unicauca.submission.infrastructure.adapter.in.rest;
+
+import co.unicauca.submission.infrastructure.adapter.in.rest.advice.GlobalExceptionHandler.ErrorResponse;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.ClavesIdempotenciaAdapter;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.entity.ClaveIdempotenciaEntity;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ScheduledFuture;
+
+/**
+ * Envíos idempotentes con la cabecera Idempotency-Key.
+ *
+ * Un cliente que reintenta un POST (timeout, red móvil) con la misma clave no crea
+ * un segundo proyecto ni vuelve a subir el PDF: recibe la respuesta guardada de la
+ * primera petición con Idempotent-Replayed: true. Mientras la primera sigue en
+ * curso, los duplicados reciben 409 con Retry-After; la petición en curso renueva
+ * su reserva para que una subida lenta no se tome por abandonada.
+ *
+ * Nunca se vuelve a ejecutar en silencio una petición ya completada: si el reintento
+ * trae otro contenido (huella SHA-256 distinta) o la respuesta original no se pudo
+ * guardar por su tamaño, se responde 422.
+ *
+ * Las claves son por usuario (X-User-Id, obligatorio con la cabecera) y se guardan
+ * en claves_idempotencia, así que funcionan entre instancias. Las peticiones sin
+ * cabecera no cambian.
+ */
+public class IdempotenciaFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(IdempotenciaFilter.class);
+
+    public static final String HEADER_CLAVE = "Idempotency-Key";
+    public static final String HEADER_REPETIDA = "Idempotent-Replayed";
+
+    private static final String HEADER_USUARIO = "X-User-Id";
+    private static final int LONGITUD_MAXIMA_CLAVE = 255;
+    private static final Set<String> METODOS_ESCRITURA = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    /**
+     * Errores transitorios: el cliente debe poder reintentar con la misma clave.
+     */
+    private static final Set<Integer> ESTADOS_REINTENTABLES = Set.of(408, 409, 429);
+
+    private final ClavesIdempotenciaAdapter claves;
+    private final ObjectMapper objectMapper;
+    private final int tamanoMaximoRespuesta;
+    private final TaskScheduler programador;
+    private final Duration intervaloRenovacion;
+
+    public IdempotenciaFilter(ClavesIdempotenciaAdapter claves, ObjectMapper objectMapper,
+                              int tamanoMaximoRespuesta, TaskScheduler programador,
+                              Duration intervaloRenovacion) {
+        this.claves = claves;
+        this.objectMapper = objectMapper;
+        this.tamanoMaximoRespuesta = tamanoMaximoRespuesta;
+        this.programador = programador;
+        this.intervaloRenovacion = intervaloRenovacion;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getHeader(HEADER_CLAVE) == null
+            || !METODOS_ESCRITURA.contains(request.getMethod());
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+        String clave = request.getHeader(HEADER_CLAVE).trim();
+        if (clave.isEmpty() || clave.length() > LONGITUD_MAXIMA_CLAVE) {
+            escribirError(response, HttpStatus.BAD_REQUEST, "Idempotency-Key inválida",
+                "La clave debe tener entre 1 y " + LONGITUD_MAXIMA_CLAVE + " caracteres");
+            return;
+        }
+
+        // Sin usuario, todas las peticiones compartirían el mismo espacio de claves
+        Long usuarioId = usuario(request);
+        if (usuarioId == null) {
+            escribirError(response, HttpStatus.BAD_REQUEST, "X-User-Id requerido",
+                "Las peticiones con Idempotency-Key deben identificar al usuario con X-User-Id");
+            return;
+        }
+
+        String metodo = request.getMethod();
+        String ruta = request.getRequestURI();
+        String propietario = UUID.randomUUID().toString();
+
+        if (claves.reservar(usuarioId, clave, metodo, ruta, propietario)) {
+            ejecutar(request, response, chain, usuarioId, clave, propietario);
+            return;
+        }
+
+        Optional<ClaveIdempotenciaEntity> existente = claves.buscar(usuarioId, clave);
+        if (existente.isEmpty()) {
+            // La reserva se liberó entre los dos pasos: el cliente puede reintentar ya
+            response.setHeader("Retry-After", "1");
+            escribirError(response, HttpStatus.CONFLICT, "Petición en curso",
+                "Otra petición con la misma Idempotency-Key está en curso");
+            return;
+        }
+
+        ClaveIdempotenciaEntity entidad = existente.get();
+        if (!entidad.getMetodo().equals(metodo) || !entidad.getRuta().equals(ruta)) {
+            escribirError(response, HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency-Key reutilizada",
+                "La clave ya se usó con " + entidad.getMetodo() + " " + entidad.getRuta());
+            return;
+        }
+
+        if (entidad.getEstado() == ClaveIdempotenciaEntity.Estado.EN_PROCESO) {
+            response.setHeader("Retry-After", "1");
+            escribirError(response, HttpStatus.CONFLICT, "Petición en curso",
+                "Otra petición con la misma Idempotency-Key está en curso");
+            return;
+        }
+
+        String huella = new HuellaPeticionWrapper(request).huella();
+        if (entidad.getHuella() != null && huella != null && !entidad.getHuella().equals(huella)) {
+            escribirError(response, HttpStatus.UNPROCESSABLE_ENTITY, "Idempotency-Key reutilizada",
+                "La clave ya se usó con otro contenido en " + metodo + " " + ruta);
+            return;
+        }
+
+        if (entidad.isRespuestaOmitida()) {
+            escribirError(response, HttpStatus.UNPROCESSABLE_ENTITY, "Respuesta no disponible",
+                "La petición original ya se ejecutó (estado " + entidad.getCodigoEstado()
+                    + ") pero su respuesta no se guardó por su tamaño; consulte el recurso en vez de reintentar");
+            return;
+        }
+
+        log.info("🔁 Repitiendo respuesta de {} {} - usuario: {}, clave: {}", metodo, ruta, usuarioId, clave);
+        response.setStatus(entidad.getCodigoEstado());
+        response.setHeader(HEADER_REPETIDA, "true");
+        if (entidad.getContentType() != null) {
+            response.setContentType(entidad.getContentType());
+        }
+        byte[] cuerpo = entidad.getCuerpo();
+        if (cuerpo != null && cuerpo.length > 0) {
+            response.setContentLength(cuerpo.length);
+            response.getOutputStream().write(cuerpo);
+        }
+    }
+
+    private void ejecutar(HttpServletRequest request, HttpServletResponse response, FilterChain chain,
+                          Long usuarioId, String clave, String propietario) throws ServletException, IOException {
+        HuellaPeticionWrapper peticion = new HuellaPeticionWrapper(request);
+        ContentCachingResponseWrapper respuesta = new ContentCachingResponseWrapper(response);
+        ScheduledFuture<?> renovacion = programador.scheduleAtFixedRate(
+            () -> renovar(usuarioId, clave, propietario),
+            Instant.now().plus(intervaloRenovacion), intervaloRenovacion);
+        boolean completada = false;
+        try {
+            chain.doFilter(peticion, respuesta);
+
+            int estado = respuesta.getStatus();
+            if (!ESTADOS_REINTENTABLES.contains(estado) && estado < 500) {
+                String huella = peticion.huella();
+                byte[] cuerpo = respuesta.getContentAsByteArray();
+                if (cuerpo.length <= tamanoMaximoRespuesta) {
+                    claves.completar(usuarioId, clave, propietario, estado, respuesta.getContentType(), cuerpo, huella);
+                } else {
+                    // Liberar la clave haría que un reintento ejecutara la petición otra vez
+                    log.warn("⚠️ Respuesta de {} bytes sin guardar para la Idempotency-Key {} del usuario {}",
+                        cuerpo.length, clave, usuarioId);
+                    claves.completarSinCuerpo(usuarioId, clave, propietario, estado, huella);
+                }
+                completada = true;
+            }
+        } finally {
+            renovacion.cancel(false);
+            if (!completada) {
+                liberar(usuarioId, clave, propietario);
+            }
+            respuesta.copyBodyToResponse();
+        }
+    }
+
+    private void renovar(Long usuarioId, String clave, String propietario) {
+        try {
+            if (!claves.renovar(usuarioId, clave, propietario)) {
+                log.warn("⚠️ La reserva de la Idempotency-Key {} del usuario {} ya no es de esta petición",
+                    clave, usuarioId);
+            }
+        } catch (Exception e) {
+            log.warn("⚠️ No se pudo renovar la Idempotency-Key {} del usuario {}: {}",
+                clave, usuarioId, e.getMessage());
+        }
+    }
+
+    private void liberar(Long usuarioId, String clave, String propietario) {
+        try {
+            claves.liberar(usuarioId, clave, propietario);
+        } catch (Exception e) {
+            // La reserva vence sola tras idempotencia.timeout-proceso-segundos sin renovarse
+            log.warn("⚠️ No se pudo liberar la Idempotency-Key {} del usuario {}: {}",
+                clave, usuarioId, e.getMessage());
+        }
+    }
+
+    private void escribirError(HttpServletResponse response, HttpStatus estado,
+                               String mensaje, String detalle) throws IOException {
+        ErrorResponse error = ErrorResponse.builder()
+            .success(false)
+            .message(mensaje)
+            .errors(List.of(detalle))
+            .timestamp(LocalDateTime.now())
+            .build();
+
+        response.setStatus(estado.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        response.setCharacterEncoding("UTF-8");
+        objectMapper.writeValue(response.getOutputStream(), error);
+    }
+
+    /**
+     * @return el usuario de X-User-Id, o null si falta o no es un número
+     */
+    private static Long usuario(HttpServletRequest request) {
+        String valor = request.getHeader(HEADER_USUARIO);
+        if (valor == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(valor.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package co.unicauca.submission.infrastructure.adapter.in.rest;
+
+import co.unicauca.submission.infrastructure.adapter.out.persistence.replica.EnrutadorDataSource;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.replica.EscriturasRecientes;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.util.Set;
+
+/**
+ * Lectura de las propias escrituras con réplica de lectura.
+ *
+ * Una petición que modifica datos y termina bien registra al usuario (X-User-Id);
+ * sus lecturas dentro de la ventana configurada se envían a la primaria en lugar
+ * de a la réplica.
+ *
+ * Las peticiones que modifican datos van enteras a la primaria: suelen leer antes de
+ * escribir (findById antes del TransactionTemplate) y esa lectura no puede venir de
+ * una réplica atrasada.
+ */
+public class LecturaPropiaInterceptor implements HandlerInterceptor {
+
+    private static final String HEADER_USUARIO = "X-User-Id";
+    private static final Set<String> METODOS_ESCRITURA = Set.of("POST", "PUT", "PATCH", "DELETE");
+
+    private final EscriturasRecientes escrituras;
+
+    public LecturaPropiaInterceptor(EscriturasRecientes escrituras) {
+        this.escrituras = escrituras;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (METODOS_ESCRITURA.contains(request.getMethod())) {
+            EnrutadorDataSource.usarPrimaria();
+            return true;
+        }
+        Long usuarioId = usuario(request);
+        if (usuarioId != null && escrituras.escribioRecientemente(usuarioId)) {
+            EnrutadorDataSource.usarPrimaria();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response,
+                                Object handler, Exception ex) {
+        EnrutadorDataSource.limpiar();
+
+        Long usuarioId = usuario(request);
+        if (usuarioId != null && ex == null && response.getStatus() < 400
+                && METODOS_ESCRITURA.contains(request.getMethod())) {
+            escrituras.registrar(usuarioId);
+        }
+    }
+
+    private static Long usuario(HttpServletRequest request) {
+        String valor = request.getHeader(HEADER_USUARIO);
+        if (valor == null) {
+            return null;
+        }
+        try {
+            return Long.valueOf(valor.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+}
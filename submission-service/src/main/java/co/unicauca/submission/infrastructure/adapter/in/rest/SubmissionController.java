@@ -1,16 +1,26 @@
 package co.unicauca.submission.infrastructure.adapter.in.rest;
 
+import co.unicauca.submission.application.dto.request.CampoProyecto;
+import co.unicauca.submission.application.dto.request.FiltroProyectos;
 import co.unicauca.submission.application.dto.response.ProyectoResponse;
+import co.unicauca.submission.application.port.in.IBuscarProyectosQuery;
+import co.unicauca.submission.application.port.in.IListarCamposProyectoQuery;
 import co.unicauca.submission.application.port.in.IObtenerProyectoQuery;
 import co.unicauca.submission.domain.model.EstadoProyecto;
+import co.unicauca.submission.domain.model.Modalidad;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
+import java.util.Set;
 
 /**
  * REST Controller para consultas (queries) de proyectos.
@@ -22,6 +32,10 @@ import java.util.List;
  * - GET /api/submissions/director/{directorId}
  * - GET /api/submissions/estado/{estado}
  * - GET /api/submissions
+ * - GET /api/submissions/buscar?q=...
+ *
+ * Los listados aceptan ?fields=id,titulo,estado,... para retornar solo esos campos
+ * (ver CampoProyecto); sin el parámetro retornan ProyectoResponse completo.
  */
 @RestController
 @RequestMapping("/api/submissions")
@@ -31,24 +45,42 @@ public class SubmissionController {
     private static final Logger log = LoggerFactory.getLogger(SubmissionController.class);
 
     private final IObtenerProyectoQuery obtenerProyectoQuery;
+    private final IListarCamposProyectoQuery listarCamposQuery;
+    private final IBuscarProyectosQuery buscarProyectosQuery;
 
-    public SubmissionController(IObtenerProyectoQuery obtenerProyectoQuery) {
+    public SubmissionController(IObtenerProyectoQuery obtenerProyectoQuery,
+                                IListarCamposProyectoQuery listarCamposQuery,
+                                IBuscarProyectosQuery buscarProyectosQuery) {
         this.obtenerProyectoQuery = obtenerProyectoQuery;
+        this.listarCamposQuery = listarCamposQuery;
+        this.buscarProyectosQuery = buscarProyectosQuery;
     }
 
     /**
      * Obtener proyecto por ID
      * GET /api/submissions/{id}
+     *
+     * Responde con ETag fuerte; con If-None-Match vigente retorna 304 consultando
+     * solo la versión del proyecto.
      */
     @GetMapping("/{id}")
     @Operation(summary = "Obtener proyecto por ID", description = "Consulta un proyecto específico")
-    public ResponseEntity<ProyectoResponse> obtenerPorId(@PathVariable Long id) {
+    public ResponseEntity<ProyectoResponse> obtenerPorId(@PathVariable Long id, WebRequest request) {
         try {
             log.info("GET /api/submissions/{}", id);
 
+            if (request.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                    && request.checkNotModified(EtagsProyecto.fuerte(id, obtenerProyectoQuery.obtenerVersion(id)))) {
+                log.debug("Proyecto {} sin cambios (304)", id);
+                return null;
+            }
+
             ProyectoResponse response = obtenerProyectoQuery.obtenerPorId(id);
 
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok()
+                .eTag(EtagsProyecto.fuerte(id, response.getVersion()))
+                .cacheControl(EtagsProyecto.REVALIDAR)
+                .body(response);
 
         } catch (Exception e) {
             log.error("Error al obtener proyecto {}: {}", id, e.getMessage(), e);
@@ -63,10 +95,16 @@ public class SubmissionController {
     @GetMapping("/estudiante/{estudianteId}")
     @Operation(summary = "Obtener proyectos de estudiante",
                description = "RF5: El estudiante consulta el estado de sus proyectos")
-    public ResponseEntity<List<ProyectoResponse>> obtenerPorEstudiante(@PathVariable Long estudianteId) {
+    public ResponseEntity<List<?>> obtenerPorEstudiante(@PathVariable Long estudianteId,
+                                                        @RequestParam(required = false) String fields) {
+        Set<CampoProyecto> campos = CampoProyecto.desdeParametro(fields);
         try {
             log.info("GET /api/submissions/estudiante/{}", estudianteId);
 
+            if (campos != null) {
+                return ResponseEntity.ok(listarCamposQuery.listar(FiltroProyectos.porEstudiante(estudianteId), campos));
+            }
+
             List<ProyectoResponse> proyectos = obtenerProyectoQuery.obtenerPorEstudiante(estudianteId);
 
             return ResponseEntity.ok(proyectos);
@@ -84,10 +122,16 @@ public class SubmissionController {
     @GetMapping("/director/{directorId}")
     @Operation(summary = "Obtener proyectos de director",
                description = "Consulta todos los proyectos donde el usuario es director")
-    public ResponseEntity<List<ProyectoResponse>> obtenerPorDirector(@PathVariable Long directorId) {
+    public ResponseEntity<List<?>> obtenerPorDirector(@PathVariable Long directorId,
+                                                      @RequestParam(required = false) String fields) {
+        Set<CampoProyecto> campos = CampoProyecto.desdeParametro(fields);
         try {
             log.info("GET /api/submissions/director/{}", directorId);
 
+            if (campos != null) {
+                return ResponseEntity.ok(listarCamposQuery.listar(FiltroProyectos.porDirector(directorId), campos));
+            }
+
             List<ProyectoResponse> proyectos = obtenerProyectoQuery.obtenerPorDirector(directorId);
 
             return ResponseEntity.ok(proyectos);
@@ -105,10 +149,16 @@ public class SubmissionController {
     @GetMapping("/estado/{estado}")
     @Operation(summary = "Obtener proyectos por estado",
                description = "Filtra proyectos por su estado actual")
-    public ResponseEntity<List<ProyectoResponse>> obtenerPorEstado(@PathVariable EstadoProyecto estado) {
+    public ResponseEntity<List<?>> obtenerPorEstado(@PathVariable EstadoProyecto estado,
+                                                    @RequestParam(required = false) String fields) {
+        Set<CampoProyecto> campos = CampoProyecto.desdeParametro(fields);
         try {
             log.info("GET /api/submissions/estado/{}", estado);
 
+            if (campos != null) {
+                return ResponseEntity.ok(listarCamposQuery.listar(FiltroProyectos.porEstado(estado), campos));
+            }
+
             List<ProyectoResponse> proyectos = obtenerProyectoQuery.obtenerPorEstado(estado);
 
             return ResponseEntity.ok(proyectos);
@@ -126,10 +176,15 @@ public class SubmissionController {
     @GetMapping
     @Operation(summary = "Obtener todos los proyectos",
                description = "Lista todos los proyectos del sistema")
-    public ResponseEntity<List<ProyectoResponse>> obtenerTodos() {
+    public ResponseEntity<List<?>> obtenerTodos(@RequestParam(required = false) String fields) {
+        Set<CampoProyecto> campos = CampoProyecto.desdeParametro(fields);
         try {
             log.info("GET /api/submissions");
 
+            if (campos != null) {
+                return ResponseEntity.ok(listarCamposQuery.listar(FiltroProyectos.todos(), campos));
+            }
+
             List<ProyectoResponse> proyectos = obtenerProyectoQuery.obtenerTodos();
 
             return ResponseEntity.ok(proyectos);
@@ -139,4 +194,30 @@ public class SubmissionController {
             return ResponseEntity.internalServerError().build();
         }
     }
+
+    /**
+     * Buscar proyectos por palabras clave
+     * GET /api/submissions/buscar?q=...&estado=...&modalidad=...
+     *
+     * Texto completo en título y objetivos, ordenado por relevancia.
+     */
+    @GetMapping("/buscar")
+    @Operation(summary = "Buscar proyectos",
+               description = "Busca por palabras clave en título y objetivos (español, con raíces). "
+                   + "Admite \"frase exacta\", -excluir y OR; filtra opcionalmente por estado y modalidad")
+    public ResponseEntity<Page<ProyectoResponse>> buscar(
+            @RequestParam String q,
+            @RequestParam(required = false) EstadoProyecto estado,
+            @RequestParam(required = false) Modalidad modalidad,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size
+    ) {
+        log.info("GET /api/submissions/buscar?q={} - estado: {}, modalidad: {}", q, estado, modalidad);
+
+        // Las validaciones del texto se propagan al GlobalExceptionHandler (400)
+        Page<ProyectoResponse> resultados = buscarProyectosQuery.buscar(q, estado, modalidad,
+            PageRequest.of(page, size));
+
+        return ResponseEntity.ok(resultados);
+    }
 }
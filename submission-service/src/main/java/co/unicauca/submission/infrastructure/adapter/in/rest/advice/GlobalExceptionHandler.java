@@ -3,6 +3,7 @@ package co.unicauca.submission.infrastructure.adapter.in.rest.advice;
 import co.unicauca.submission.domain.exception.*;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.MethodArgumentNotValidException;
@@ -50,6 +51,23 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
     }
 
+    /**
+     * Maneja excepciones de dominio: ArchivoNoEncontradoException
+     */
+    @ExceptionHandler(ArchivoNoEncontradoException.class)
+    public ResponseEntity<ErrorResponse> handleArchivoNoEncontrado(ArchivoNoEncontradoException ex) {
+        log.warn("Archivo no encontrado: {}", ex.getMessage());
+
+        ErrorResponse error = ErrorResponse.builder()
+            .success(false)
+            .message("Archivo no encontrado")
+            .errors(java.util.List.of(ex.getMessage()))
+            .timestamp(LocalDateTime.now())
+            .build();
+
+        return ResponseEntity.status(HttpStatus.NOT_FOUND).body(error);
+    }
+
     /**
      * Maneja excepciones de dominio: UsuarioNoAutorizadoException
      */
@@ -226,6 +244,23 @@ public class GlobalExceptionHandler {
         return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
     }
 
+    /**
+     * Maneja OptimisticLockingFailureException (otro usuario modificó el proyecto)
+     */
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ErrorResponse> handleOptimisticLocking(OptimisticLockingFailureException ex) {
+        log.warn("Modificación concurrente: {}", ex.getMessage());
+
+        ErrorResponse error = ErrorResponse.builder()
+            .success(false)
+            .message("El proyecto fue modificado por otra operación. Consulte de nuevo e intente otra vez")
+            .errors(java.util.List.of("Conflicto de versión"))
+            .timestamp(LocalDateTime.now())
+            .build();
+
+        return ResponseEntity.status(HttpStatus.CONFLICT).body(error);
+    }
+
     /**
      * Maneja excepciones genéricas no esperadas
      */
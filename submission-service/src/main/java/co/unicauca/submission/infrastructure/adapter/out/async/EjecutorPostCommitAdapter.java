@@ -0,0 +1,130 @@
+package co.unicauca.submission.infrastructure.adapter.out.async;
+
+import co.unicauca.submission.application.port.out.IEjecutorPostCommitPort;
+import co.unicauca.submission.infrastructure.config.PostCommitConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+
+/**
+ * Adaptador que ejecuta efectos secundarios después del commit.
+ * Implementa el puerto IEjecutorPostCommitPort.
+ *
+ * La tarea viaja como evento de aplicación y la recibe un TransactionalEventListener
+ * en fase AFTER_COMMIT, que la envía al executor acotado postCommitExecutor. Si falla
+ * o la cola está llena, se reprograma con backoff exponencial hasta agotar los intentos.
+ *
+ * Métricas: submission.postcommit.* del executor (cola, hilos activos, completadas)
+ * más los contadores rechazadas, reintentos y fallidas.
+ */
+@Component
+public class EjecutorPostCommitAdapter implements IEjecutorPostCommitPort {
+
+    private static final Logger log = LoggerFactory.getLogger(EjecutorPostCommitAdapter.class);
+
+    private final ApplicationEventPublisher eventPublisher;
+    private final ThreadPoolTaskExecutor executor;
+    private final TaskScheduler taskScheduler;
+    private final PostCommitConfig config;
+
+    private final Counter rechazadas;
+    private final Counter reintentos;
+    private final Counter fallidas;
+
+    public EjecutorPostCommitAdapter(ApplicationEventPublisher eventPublisher,
+                                     @Qualifier("postCommitExecutor") ThreadPoolTaskExecutor executor,
+                                     @Qualifier("taskScheduler") TaskScheduler taskScheduler,
+                                     PostCommitConfig config,
+                                     MeterRegistry meterRegistry) {
+        this.eventPublisher = eventPublisher;
+        this.executor = executor;
+        this.taskScheduler = taskScheduler;
+        this.config = config;
+
+        new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), "postCommitExecutor",
+            "submission.postcommit", Tags.empty()).bindTo(meterRegistry);
+        this.rechazadas = Counter.builder("submission.postcommit.rechazadas")
+            .description("Encolados rechazados por cola llena")
+            .register(meterRegistry);
+        this.reintentos = Counter.builder("submission.postcommit.reintentos")
+            .description("Reintentos de tareas fallidas")
+            .register(meterRegistry);
+        this.fallidas = Counter.builder("submission.postcommit.fallidas")
+            .description("Tareas que agotaron los intentos")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void ejecutarDespuesDelCommit(String descripcion, Runnable tarea) {
+        eventPublisher.publishEvent(new TareaPostCommit(descripcion, tarea));
+    }
+
+    /**
+     * Recibe la tarea cuando la transacción se confirma (o de inmediato si no había
+     * transacción). Si la transacción se revierte, la tarea se descarta.
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void alConfirmar(TareaPostCommit tarea) {
+        encolar(tarea, 1);
+    }
+
+    private void encolar(TareaPostCommit tarea, int intento) {
+        try {
+            executor.execute(() -> ejecutar(tarea, intento));
+        } catch (TaskRejectedException e) {
+            rechazadas.increment();
+            reprogramar(tarea, intento, "cola post-commit llena", e);
+        }
+    }
+
+    private void ejecutar(TareaPostCommit tarea, int intento) {
+        try {
+            tarea.accion().run();
+            log.debug("✅ Tarea post-commit '{}' completada (intento {})", tarea.descripcion(), intento);
+
+        } catch (Exception e) {
+            reprogramar(tarea, intento, e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reprograma la tarea con backoff exponencial; un rechazo por cola llena consume
+     * un intento igual que un fallo, para que la espera alivie la cola.
+     */
+    private void reprogramar(TareaPostCommit tarea, int intento, String motivo, Exception e) {
+        if (intento >= config.getMaxIntentos()) {
+            fallidas.increment();
+            log.error("❌ Tarea post-commit '{}' falló tras {} intentos: {}",
+                      tarea.descripcion(), intento, motivo, e);
+            return;
+        }
+
+        long espera = config.getBackoffInicialMs() << (intento - 1);
+        reintentos.increment();
+        log.warn("⚠️ Tarea post-commit '{}' falló (intento {}), reintento en {}ms: {}",
+                 tarea.descripcion(), intento, espera, motivo);
+
+        taskScheduler.schedule(() -> encolar(tarea, intento + 1),
+            Instant.now().plus(Duration.ofMillis(espera)));
+    }
+
+    /**
+     * Evento de aplicación que transporta la tarea hasta el commit.
+     */
+    record TareaPostCommit(String descripcion, Runnable accion) {
+    }
+}
@@ -0,0 +1,89 @@
+package co.unicauca.submission.infrastructure.adapter.out.cache;
+
+import co.unicauca.submission.application.dto.response.ProyectoResponse;
+import co.unicauca.submission.application.port.out.IProyectoCachePort;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.replica.EnrutadorDataSource;
+import co.unicauca.submission.infrastructure.config.ProyectoCacheConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Adaptador de caché de proyectos con Caffeine.
+ * Implementa el puerto IProyectoCachePort.
+ *
+ * Acotada por tamaño (W-TinyLFU) y por tiempo. ProyectoRepositoryAdapter invalida
+ * la entrada al confirmarse cada escritura. Caffeine carga cada clave de forma
+ * atómica, así que la invalidación espera a una carga en curso y la descarta. Por
+ * eso nunca queda en caché un estado anterior al último commit de esta instancia.
+ * La caché no se comparte ni se invalida entre instancias: una escritura confirmada
+ * en otra se ve aquí al vencer la entrada (cache.proyectos.expiracion-segundos).
+ *
+ * Con réplica de lectura, la carga se hace siempre en la primaria: una réplica
+ * atrasada dejaría en caché el estado anterior a una escritura ya invalidada. Las
+ * peticiones de un usuario con escritura reciente (primaria forzada) no usan la
+ * caché, así ven su propio cambio aunque otra instancia lo haya confirmado.
+ *
+ * Métricas: cache.gets (hit/miss), cache.evictions, cache.size con cache=proyectos.
+ */
+@Component
+public class ProyectoCacheAdapter implements IProyectoCachePort {
+
+    private static final Logger log = LoggerFactory.getLogger(ProyectoCacheAdapter.class);
+
+    private final Cache<Long, ProyectoResponse> cache;
+
+    public ProyectoCacheAdapter(ProyectoCacheConfig config, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+            .maximumSize(config.getTamanoMaximo())
+            .expireAfterWrite(Duration.ofSeconds(config.getExpiracionSegundos()))
+            .recordStats()
+            .build();
+
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "proyectos");
+    }
+
+    @Override
+    public ProyectoResponse obtener(Long proyectoId, Supplier<ProyectoResponse> cargador) {
+        if (EnrutadorDataSource.primariaForzada()) {
+            return cargador.get();
+        }
+        return cache.get(proyectoId, id -> EnrutadorDataSource.enPrimaria(cargador));
+    }
+
+    @Override
+    public Optional<ProyectoResponse> buscar(Long proyectoId) {
+        if (EnrutadorDataSource.primariaForzada()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(cache.getIfPresent(proyectoId));
+    }
+
+    @Override
+    public void invalidar(Long proyectoId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            cache.invalidate(proyectoId);
+            return;
+        }
+
+        // Invalidar antes del commit dejaría que una lectura concurrente volviera a
+        // cargar el estado anterior; se hace una vez confirmada la escritura
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                cache.invalidate(proyectoId);
+                log.debug("Proyecto {} invalidado en caché", proyectoId);
+            }
+        });
+    }
+}
@@ -103,93 +103,53 @@ public class IdentityServiceAdapter implements IIdentityServicePort {
         }
     }
 
+    /**
+     * Sin fallback: se llama desde la notificación post-commit, y si falla el
+     * ejecutor post-commit la reintenta en vez de avisar a un buzón fijo.
+     */
     @Override
     public String obtenerEmailCoordinador() {
-        try {
-            log.debug("Obteniendo email del coordinador");
-
-            // TODO: Implementar endpoint en identity-service para obtener usuarios por rol
-            // Por ahora usamos un email conocido
-            String url = identityServiceUrl + "/api/auth/users/by-role/COORDINADOR";
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("X-Service-Token", serviceToken);
-
-            HttpEntity<Void> requestEntity = new HttpEntity<>(headers);
-
-            try {
-                ResponseEntity<Map> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    requestEntity,
-                    Map.class
-                );
-
-                if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                    Map<String, Object> body = response.getBody();
-                    Map<String, Object> data = (Map<String, Object>) body.get("data");
-
-                    if (data != null) {
-                        String email = (String) data.get("email");
-                        log.info("✅ Email coordinador obtenido: {}", email);
-                        return email;
-                    }
-                }
-            } catch (Exception e) {
-                log.warn("⚠️ Endpoint de coordinador no disponible, usando fallback");
-            }
-
-            // Fallback
-            return "coordinador@unicauca.edu.co";
-
-        } catch (Exception e) {
-            log.error("Error al obtener email coordinador: {}", e.getMessage());
-            return "coordinador@unicauca.edu.co"; // Fallback
-        }
+        log.debug("Obteniendo email del coordinador");
+        String email = obtenerEmail("/api/auth/users/coordinador", "coordinador");
+        log.info("✅ Email coordinador obtenido: {}", email);
+        return email;
     }
 
+    /**
+     * Sin fallback, igual que {@link #obtenerEmailCoordinador()}.
+     */
     @Override
     public String obtenerEmailJefeDepartamento() {
-        try {
-            log.debug("Obteniendo email del jefe de departamento");
-
-            // TODO: Implementar endpoint en identity-service para obtener usuarios por rol
-            String url = identityServiceUrl + "/api/auth/users/by-role/JEFE_DEPARTAMENTO";
-
-            HttpHeaders headers = new HttpHeaders();
-            headers.set("X-Service-Token", serviceToken);
-
-            HttpEntity<Void> requestEntity = new HttpEntity<>(headers);
-
-            try {
-                ResponseEntity<Map> response = restTemplate.exchange(
-                    url,
-                    HttpMethod.GET,
-                    requestEntity,
-                    Map.class
-                );
-
-                if (response.getStatusCode().is2xxSuccessful() && response.getBody() != null) {
-                    Map<String, Object> body = response.getBody();
-                    Map<String, Object> data = (Map<String, Object>) body.get("data");
-
-                    if (data != null) {
-                        String email = (String) data.get("email");
-                        log.info("✅ Email jefe departamento obtenido: {}", email);
-                        return email;
-                    }
-                }
-            } catch (Exception e) {
-                log.warn("⚠️ Endpoint de jefe departamento no disponible, usando fallback");
-            }
-
-            // Fallback
-            return "jefe.depto@unicauca.edu.co";
+        log.debug("Obteniendo email del jefe de departamento");
+        String email = obtenerEmail("/api/auth/users/jefe-departamento", "jefe de departamento");
+        log.info("✅ Email jefe departamento obtenido: {}", email);
+        return email;
+    }
 
-        } catch (Exception e) {
-            log.error("Error al obtener email jefe departamento: {}", e.getMessage());
-            return "jefe.depto@unicauca.edu.co"; // Fallback
+    /**
+     * @throws org.springframework.web.client.RestClientException si identity-service no responde o responde con error
+     * @throws IllegalStateException si la respuesta no trae el email
+     */
+    private String obtenerEmail(String ruta, String cargo) {
+        String url = identityServiceUrl + ruta;
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set("X-Service-Token", serviceToken);
+
+        ResponseEntity<Map> response = restTemplate.exchange(
+            url,
+            HttpMethod.GET,
+            new HttpEntity<>(headers),
+            Map.class
+        );
+
+        Map<String, Object> body = response.getBody();
+        Map<String, Object> data = body != null ? (Map<String, Object>) body.get("data") : null;
+        String email = data != null ? (String) data.get("email") : null;
+        if (email == null || email.isBlank()) {
+            throw new IllegalStateException("Identity-service no devolvió el email del " + cargo);
         }
+        return email;
     }
 
     @Override
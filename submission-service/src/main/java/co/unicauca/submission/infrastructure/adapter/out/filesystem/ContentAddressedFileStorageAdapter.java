@@ -0,0 +1,241 @@
+package co.unicauca.submission.infrastructure.adapter.out.filesystem;
+
+import co.unicauca.submission.application.dto.response.ArchivoAlmacenado;
+import co.unicauca.submission.application.port.out.IFileStoragePort;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.ArchivoContenidoJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Optional;
+
+/**
+ * Adaptador de almacenamiento direccionado por contenido.
+ * Implementa el puerto IFileStoragePort.
+ *
+ * Calcula el SHA-256 del archivo mientras lo copia a disco y guarda cada contenido
+ * distinto una sola vez en {basePath}/blobs/ab/cd/{hash}. La tabla archivos_contenido
+ * lleva el conteo de referencias, de modo que reenviar el mismo PDF en varios intentos
+ * no ocupa espacio adicional.
+ *
+ * La ruta que retorna es el identificador estable "sha256:{hash}". Las rutas relativas
+ * guardadas por LocalFileStorageAdapter se siguen pudiendo leer y eliminar.
+ *
+ * La referencia que registra guardar se confirma con su propia transacción, antes
+ * de la del caso de uso; si el caso de uso falla, la libera con
+ * liberarNoConfirmados. El archivo de un blob sin referencias se borra después del
+ * commit que libera la última (EliminacionBlobs).
+ */
+@Component
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "content-addressed")
+public class ContentAddressedFileStorageAdapter implements IFileStoragePort {
+
+    private static final Logger log = LoggerFactory.getLogger(ContentAddressedFileStorageAdapter.class);
+
+    static final String PREFIJO_CONTENIDO = "sha256:";
+    static final String DIRECTORIO_BLOBS = "blobs";
+    static final String DIRECTORIO_TEMPORAL = ".tmp";
+
+    private final ArchivoContenidoJpaRepository archivoContenidoRepository;
+    private final EliminacionBlobs eliminacionBlobs;
+
+    @Value("${file.storage.base-path:./uploads}")
+    private String basePath;
+
+    @Value("${spring.servlet.multipart.max-file-size:10MB}")
+    private DataSize tamanoMaximoPdf;
+
+    public ContentAddressedFileStorageAdapter(ArchivoContenidoJpaRepository archivoContenidoRepository,
+                                              PlatformTransactionManager transactionManager) {
+        this.archivoContenidoRepository = archivoContenidoRepository;
+        this.eliminacionBlobs = new EliminacionBlobs(archivoContenidoRepository, transactionManager);
+    }
+
+    /**
+     * Guarda el contenido y registra una referencia a su blob.
+     * El directorio solicitado no influye en la ubicación física: dos archivos con
+     * los mismos bytes comparten blob sin importar el proyecto al que pertenecen.
+     */
+    @Override
+    @Transactional
+    public String guardarArchivo(InputStream contenido, String nombreArchivo, String directorio) {
+        return guardar(contenido, nombreArchivo);
+    }
+
+    /**
+     * Igual que guardarArchivo, pero valida el magic number y el tamaño en la misma
+     * pasada en que se calcula el hash y se escribe: cada byte se lee una sola vez.
+     */
+    @Override
+    @Transactional
+    public String guardarPdf(InputStream contenido, String nombreArchivo, String directorio) {
+        return guardar(new PdfIngestaInputStream(contenido, nombreArchivo, tamanoMaximoPdf.toBytes()),
+            nombreArchivo);
+    }
+
+    private String guardar(InputStream contenido, String nombreArchivo) {
+        Path temporal = null;
+        try {
+            Path dirTemporal = Paths.get(basePath, DIRECTORIO_BLOBS, DIRECTORIO_TEMPORAL);
+            Files.createDirectories(dirTemporal);
+            temporal = Files.createTempFile(dirTemporal, "upload-", ".part");
+
+            // Un solo recorrido: se copia a disco y se calcula el hash a la vez
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long tamano;
+            try (DigestInputStream entrada = new DigestInputStream(contenido, digest);
+                 OutputStream salida = Files.newOutputStream(temporal)) {
+                tamano = entrada.transferTo(salida);
+            }
+            String hash = HexFormat.of().formatHex(digest.digest());
+
+            // Primero la referencia: bloquea la fila hasta el commit, así un borrado
+            // concurrente del mismo blob no puede eliminar el archivo que vamos a usar
+            archivoContenidoRepository.agregarReferencia(hash, tamano);
+
+            Path blob = resolverBlob(hash);
+            if (Files.exists(blob)) {
+                log.info("Contenido duplicado, se reutiliza blob {} ({})", hash, nombreArchivo);
+            } else {
+                Files.createDirectories(blob.getParent());
+                try {
+                    Files.move(temporal, blob, StandardCopyOption.ATOMIC_MOVE);
+                    temporal = null;
+                    log.info("Blob guardado: {} ({} bytes, {})", hash, tamano, nombreArchivo);
+                } catch (FileAlreadyExistsException e) {
+                    log.info("Blob {} creado por otra subida concurrente", hash);
+                }
+            }
+
+            return PREFIJO_CONTENIDO + hash;
+
+        } catch (IOException e) {
+            log.error("Error al guardar archivo {}: {}", nombreArchivo, e.getMessage(), e);
+            throw new RuntimeException("No se pudo guardar el archivo: " + nombreArchivo, e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible en la JVM", e);
+        } finally {
+            LocalFileStorageAdapter.eliminarTemporal(temporal);
+        }
+    }
+
+    @Override
+    public InputStream obtenerArchivo(String ruta) {
+        try {
+            Path filePath = resolverRuta(ruta);
+
+            if (!Files.exists(filePath)) {
+                throw new RuntimeException("Archivo no encontrado: " + ruta);
+            }
+
+            log.debug("Obteniendo archivo: {}", ruta);
+
+            return Files.newInputStream(filePath);
+
+        } catch (IOException e) {
+            log.error("Error al obtener archivo {}: {}", ruta, e.getMessage(), e);
+            throw new RuntimeException("No se pudo obtener el archivo: " + ruta, e);
+        }
+    }
+
+    /**
+     * Los blobs usan el propio hash como ETag y son inmutables: los mismos bytes
+     * siempre quedan bajo el mismo identificador.
+     */
+    @Override
+    public Optional<ArchivoAlmacenado> describirArchivo(String ruta) {
+        if (!esIdentificadorContenido(ruta)) {
+            return LocalFileStorageAdapter.describir(Paths.get(basePath, ruta));
+        }
+
+        String hash = extraerHash(ruta);
+        return LocalFileStorageAdapter.describir(resolverBlob(hash))
+            .map(blob -> new ArchivoAlmacenado(blob.getUbicacion(), blob.getTamano(), hash, true));
+    }
+
+    /**
+     * Libera una referencia. El blob solo se borra cuando ya nadie lo referencia, y
+     * después del commit: si la transacción del llamador se revierte, la referencia
+     * vuelve y el archivo sigue ahí.
+     */
+    @Override
+    @Transactional
+    public void eliminarArchivo(String ruta) {
+        try {
+            if (!esIdentificadorContenido(ruta)) {
+                Path legado = Paths.get(basePath, ruta);
+                if (Files.deleteIfExists(legado)) {
+                    log.info("Archivo eliminado: {}", ruta);
+                } else {
+                    log.warn("Archivo no encontrado para eliminar: {}", ruta);
+                }
+                return;
+            }
+
+            String hash = extraerHash(ruta);
+
+            if (archivoContenidoRepository.liberarReferencia(hash) == 0) {
+                log.warn("Blob sin referencias registradas: {}", hash);
+                return;
+            }
+
+            if (archivoContenidoRepository.eliminarSinReferencias(hash) > 0) {
+                eliminacionBlobs.eliminarTrasCommit(hash, resolverBlob(hash),
+                    () -> log.info("Blob eliminado (sin referencias): {}", hash));
+            } else {
+                log.debug("Referencia liberada, el blob {} sigue en uso", hash);
+            }
+
+        } catch (IOException e) {
+            log.error("Error al eliminar archivo {}: {}", ruta, e.getMessage(), e);
+            throw new RuntimeException("No se pudo eliminar el archivo: " + ruta, e);
+        }
+    }
+
+    @Override
+    public boolean esPDF(InputStream contenido) {
+        return LocalFileStorageAdapter.tieneCabeceraPdf(contenido);
+    }
+
+    /**
+     * Ubicación física del blob: blobs/ab/cd/abcd... (dos niveles de 256 directorios).
+     */
+    private Path resolverBlob(String hash) {
+        return Paths.get(basePath, DIRECTORIO_BLOBS, hash.substring(0, 2), hash.substring(2, 4), hash);
+    }
+
+    private Path resolverRuta(String ruta) {
+        return esIdentificadorContenido(ruta)
+            ? resolverBlob(extraerHash(ruta))
+            : Paths.get(basePath, ruta);
+    }
+
+    private boolean esIdentificadorContenido(String ruta) {
+        return ruta != null && ruta.startsWith(PREFIJO_CONTENIDO);
+    }
+
+    private String extraerHash(String ruta) {
+        String hash = ruta.substring(PREFIJO_CONTENIDO.length());
+        if (!hash.matches("[0-9a-f]{64}")) {
+            throw new IllegalArgumentException("Identificador de contenido inválido: " + ruta);
+        }
+        return hash;
+    }
+}
@@ -0,0 +1,90 @@
+package co.unicauca.submission.infrastructure.adapter.out.filesystem;
+
+import co.unicauca.submission.infrastructure.adapter.out.persistence.ArchivoContenidoJpaRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+
+/**
+ * Borrado del archivo de un blob sin referencias, siempre después del commit.
+ *
+ * Si el archivo se borrara dentro de la transacción que libera la última referencia
+ * y esa transacción hiciera rollback, la referencia volvería pero el archivo no.
+ * Tras el commit, el borrado vuelve a bloquear la fila en una transacción propia y
+ * solo borra si sigue sin referencias: una subida del mismo contenido que llegó
+ * entre medias conserva el archivo, y una que llega durante el borrado espera el
+ * bloqueo y lo vuelve a escribir.
+ */
+final class EliminacionBlobs {
+
+    private static final Logger log = LoggerFactory.getLogger(EliminacionBlobs.class);
+
+    private final ArchivoContenidoJpaRepository archivoContenidoRepository;
+    private final TransactionTemplate transaccionPropia;
+
+    EliminacionBlobs(ArchivoContenidoJpaRepository archivoContenidoRepository,
+                     PlatformTransactionManager transactionManager) {
+        this.archivoContenidoRepository = archivoContenidoRepository;
+        this.transaccionPropia = new TransactionTemplate(transactionManager);
+        this.transaccionPropia.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Borra el blob cuando confirme la transacción actual; sin transacción, en el acto.
+     *
+     * @param alEliminar se ejecuta si el archivo se borró
+     */
+    void eliminarTrasCommit(String hash, Path blob, Runnable alEliminar) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            if (eliminarSiSinReferencias(hash, blob)) {
+                alEliminar.run();
+            }
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                try {
+                    if (eliminarSiSinReferencias(hash, blob)) {
+                        alEliminar.run();
+                    }
+                } catch (RuntimeException e) {
+                    // Queda un archivo sin referencias: lo borra la reconciliación
+                    log.warn("⚠️ No se pudo borrar el blob {} tras el commit: {}", hash, e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * @return true si el blob seguía sin referencias y se borró
+     */
+    boolean eliminarSiSinReferencias(String hash, Path blob) {
+        Boolean eliminado = transaccionPropia.execute(status -> {
+            // Crea la fila con 0 referencias si ya no existe, y la bloquea hasta el commit
+            archivoContenidoRepository.bloquearParaReconciliar(hash, 0, LocalDateTime.now());
+            if (archivoContenidoRepository.eliminarSinReferencias(hash) == 0) {
+                log.debug("El blob {} volvió a referenciarse, se conserva", hash);
+                return false;
+            }
+            try {
+                // Si el commit falla queda una fila sin referencias ni archivo: la próxima subida lo escribe
+                Files.deleteIfExists(blob);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return true;
+        });
+        return Boolean.TRUE.equals(eliminado);
+    }
+}
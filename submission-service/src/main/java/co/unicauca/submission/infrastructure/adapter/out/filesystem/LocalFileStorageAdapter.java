@@ -1,10 +1,13 @@
 package co.unicauca.submission.infrastructure.adapter.out.filesystem;
 
+import co.unicauca.submission.application.dto.response.ArchivoAlmacenado;
 import co.unicauca.submission.application.port.out.IFileStoragePort;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 
 import java.io.IOException;
 import java.io.InputStream;
@@ -12,6 +15,8 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -20,8 +25,11 @@ import java.util.UUID;
  *
  * Guarda archivos en el sistema de archivos local.
  * En producción podría reemplazarse por un adaptador de S3, MinIO, etc.
+ *
+ * Activo con file.storage.type=local (valor por defecto).
  */
 @Component
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "local", matchIfMissing = true)
 public class LocalFileStorageAdapter implements IFileStoragePort {
 
     private static final Logger log = LoggerFactory.getLogger(LocalFileStorageAdapter.class);
@@ -29,31 +37,18 @@ public class LocalFileStorageAdapter implements IFileStoragePort {
     @Value("${file.storage.base-path:./uploads}")
     private String basePath;
 
+    @Value("${spring.servlet.multipart.max-file-size:10MB}")
+    private DataSize tamanoMaximoPdf;
+
     @Override
     public String guardarArchivo(InputStream contenido, String nombreArchivo, String directorio) {
-        try {
-            // Crear directorio si no existe
-            Path dirPath = Paths.get(basePath, directorio);
-            Files.createDirectories(dirPath);
-
-            // Generar nombre único para evitar colisiones
-            String nombreUnico = generarNombreUnico(nombreArchivo);
-            Path filePath = dirPath.resolve(nombreUnico);
-
-            // Copiar archivo
-            Files.copy(contenido, filePath, StandardCopyOption.REPLACE_EXISTING);
-
-            // Retornar ruta relativa
-            String rutaRelativa = directorio + "/" + nombreUnico;
-
-            log.info("Archivo guardado: {}", rutaRelativa);
-
-            return rutaRelativa;
+        return escribir(contenido, nombreArchivo, directorio);
+    }
 
-        } catch (IOException e) {
-            log.error("Error al guardar archivo {}: {}", nombreArchivo, e.getMessage(), e);
-            throw new RuntimeException("No se pudo guardar el archivo: " + nombreArchivo, e);
-        }
+    @Override
+    public String guardarPdf(InputStream contenido, String nombreArchivo, String directorio) {
+        return escribir(new PdfIngestaInputStream(contenido, nombreArchivo, tamanoMaximoPdf.toBytes()),
+            nombreArchivo, directorio);
     }
 
     @Override
@@ -75,6 +70,11 @@ public class LocalFileStorageAdapter implements IFileStoragePort {
         }
     }
 
+    @Override
+    public Optional<ArchivoAlmacenado> describirArchivo(String ruta) {
+        return describir(Paths.get(basePath, ruta));
+    }
+
     @Override
     public void eliminarArchivo(String ruta) {
         try {
@@ -95,10 +95,22 @@ public class LocalFileStorageAdapter implements IFileStoragePort {
 
     @Override
     public boolean esPDF(InputStream contenido) {
+        return tieneCabeceraPdf(contenido);
+    }
+
+    /**
+     * Verificación del magic number compartida con ContentAddressedFileStorageAdapter.
+     */
+    static boolean tieneCabeceraPdf(InputStream contenido) {
         try {
-            // Leer los primeros 4 bytes para verificar el magic number de PDF
-            byte[] header = new byte[4];
-            contenido.read(header);
+            // Leer los primeros 4 bytes para verificar el magic number de PDF,
+            // devolviendo el stream a su posición para no corromper el archivo
+            if (!contenido.markSupported()) {
+                throw new IllegalArgumentException("esPDF requiere un stream con mark/reset; use guardarPdf");
+            }
+            contenido.mark(4);
+            byte[] header = contenido.readNBytes(4);
+            contenido.reset();
 
             // PDF magic number: %PDF
             String headerString = new String(header);
@@ -114,6 +126,75 @@ public class LocalFileStorageAdapter implements IFileStoragePort {
         }
     }
 
+    /**
+     * Escribe el archivo en un temporal del mismo directorio y lo publica con un
+     * rename atómico: nunca queda visible un archivo a medio escribir.
+     */
+    private String escribir(InputStream contenido, String nombreArchivo, String directorio) {
+        Path temporal = null;
+        try {
+            // Crear directorio si no existe
+            Path dirPath = Paths.get(basePath, directorio);
+            Files.createDirectories(dirPath);
+
+            // Generar nombre único para evitar colisiones
+            String nombreUnico = generarNombreUnico(nombreArchivo);
+            temporal = dirPath.resolve("." + nombreUnico + ".part");
+
+            // Copiar archivo (una sola pasada) y publicarlo
+            Files.copy(contenido, temporal);
+            Files.move(temporal, dirPath.resolve(nombreUnico), StandardCopyOption.ATOMIC_MOVE);
+            temporal = null;
+
+            // Retornar ruta relativa
+            String rutaRelativa = directorio + "/" + nombreUnico;
+
+            log.info("Archivo guardado: {}", rutaRelativa);
+
+            return rutaRelativa;
+
+        } catch (IOException e) {
+            log.error("Error al guardar archivo {}: {}", nombreArchivo, e.getMessage(), e);
+            throw new RuntimeException("No se pudo guardar el archivo: " + nombreArchivo, e);
+        } finally {
+            eliminarTemporal(temporal);
+        }
+    }
+
+    static void eliminarTemporal(Path temporal) {
+        if (temporal == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(temporal);
+        } catch (IOException e) {
+            log.warn("No se pudo eliminar el archivo temporal {}: {}", temporal, e.getMessage());
+        }
+    }
+
+    /**
+     * Metadatos de un archivo guardado por ruta relativa.
+     * El ETag se deriva de tamaño y fecha de modificación para no tener que leer el archivo;
+     * como la ruta no garantiza contenido fijo, no se marca como inmutable.
+     */
+    static Optional<ArchivoAlmacenado> describir(Path filePath) {
+        try {
+            if (!Files.isRegularFile(filePath)) {
+                return Optional.empty();
+            }
+
+            BasicFileAttributes atributos = Files.readAttributes(filePath, BasicFileAttributes.class);
+            String etag = Long.toHexString(atributos.size()) + "-"
+                + Long.toHexString(atributos.lastModifiedTime().toMillis());
+
+            return Optional.of(new ArchivoAlmacenado(filePath, atributos.size(), etag, false));
+
+        } catch (IOException e) {
+            log.error("Error al leer metadatos de {}: {}", filePath, e.getMessage(), e);
+            throw new RuntimeException("No se pudo obtener el archivo: " + filePath, e);
+        }
+    }
+
     /**
      * Genera un nombre único para el archivo agregando UUID.
      */
@@ -0,0 +1,100 @@
+package co.unicauca.submission.infrastructure.adapter.out.filesystem;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Stream de ingesta de PDFs: valida el archivo a medida que se lee.
+ *
+ * Comprueba el magic number (%PDF) con los primeros bytes que pasan y corta la
+ * lectura en cuanto se supera el tamaño máximo. Así la validación ocurre en la
+ * misma pasada en que el adaptador calcula el hash y escribe a disco, sin releer
+ * ni bufferizar el archivo.
+ *
+ * Si el contenido no es válido, read() lanza IllegalArgumentException y el
+ * adaptador descarta lo que haya escrito.
+ */
+public final class PdfIngestaInputStream extends FilterInputStream {
+
+    private static final byte[] MAGIC_PDF = {'%', 'P', 'D', 'F'};
+    private static final int TAMANO_BUFFER_SKIP = 8192;
+
+    private final String nombreArchivo;
+    private final long tamanoMaximo;
+    private long leidos;
+
+    public PdfIngestaInputStream(InputStream contenido, String nombreArchivo, long tamanoMaximo) {
+        super(contenido);
+        this.nombreArchivo = nombreArchivo;
+        this.tamanoMaximo = tamanoMaximo;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = in.read();
+        if (b == -1) {
+            verificarFin();
+        } else {
+            verificar(new byte[]{(byte) b}, 0, 1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        int n = in.read(b, off, len);
+        if (n == -1) {
+            verificarFin();
+        } else {
+            verificar(b, off, n);
+        }
+        return n;
+    }
+
+    /**
+     * Los bytes saltados también se validan: se leen por read() en vez de delegar el
+     * skip al stream subyacente, para que no escapen al magic number ni al límite.
+     */
+    @Override
+    public long skip(long n) throws IOException {
+        if (n <= 0) {
+            return 0;
+        }
+        byte[] buffer = new byte[(int) Math.min(n, TAMANO_BUFFER_SKIP)];
+        long saltados = 0;
+        while (saltados < n) {
+            int leidosAhora = read(buffer, 0, (int) Math.min(buffer.length, n - saltados));
+            if (leidosAhora == -1) {
+                break;
+            }
+            saltados += leidosAhora;
+        }
+        return saltados;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void verificar(byte[] b, int off, int n) {
+        // Solo los primeros bytes del archivo se comparan con el magic number
+        for (int i = 0; i < n && leidos + i < MAGIC_PDF.length; i++) {
+            if (b[off + i] != MAGIC_PDF[(int) leidos + i]) {
+                throw new IllegalArgumentException("El archivo " + nombreArchivo + " no es un PDF válido");
+            }
+        }
+        leidos += n;
+        if (leidos > tamanoMaximo) {
+            throw new IllegalArgumentException("El archivo " + nombreArchivo
+                + " excede el tamaño máximo permitido (" + tamanoMaximo / (1024 * 1024) + "MB)");
+        }
+    }
+
+    private void verificarFin() {
+        if (leidos < MAGIC_PDF.length) {
+            throw new IllegalArgumentException("El archivo " + nombreArchivo + " no es un PDF válido");
+        }
+    }
+}
@@ -0,0 +1,401 @@
+package co.unicauca.submission.infrastructure.adapter.out.filesystem;
+
+import co.unicauca.submission.infrastructure.adapter.out.persistence.ArchivoContenidoJpaRepository;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.ArchivoContenidoJpaRepository.ReferenciaArchivo;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.UsoAlmacenamientoJpaRepository;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.entity.ArchivoContenidoEntity;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.entity.UsoAlmacenamientoEntity;
+import co.unicauca.submission.infrastructure.config.ReconciliacionAlmacenamientoConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Reconciliación periódica del almacenamiento en disco con las rutas de la BD.
+ *
+ * Ningún flujo borra la versión anterior de un Formato A reenviado ni los PDFs de un
+ * proyecto rechazado, y un archivo escrito antes de que la transacción haga rollback
+ * no lo referencia nadie. Este componente recorre {basePath} con walkFileTree (un
+ * directorio abierto por nivel) y busca las rutas en la BD por lotes de tamanoLote:
+ * la memoria no depende de cuántos archivos haya.
+ *
+ * - Ruta relativa (LocalFileStorageAdapter) sin referencias y más antigua que
+ *   graciaHoras: se borra. Los nombres llevan UUID, nadie la va a referenciar después.
+ * - Blob "sha256:..." (ContentAddressedFileStorageAdapter): se bloquea su fila de
+ *   archivos_contenido y se compara el contador con el conteo real; sin referencias
+ *   se borra, con otro conteo se corrige. Un blob que recibió una referencia dentro
+ *   del período de gracia no se toca.
+ * - Temporales (".tmp", ".*.part") más antiguos que graciaHoras: se borran.
+ * - subidas/ y s3-cache/ tienen su propia limpieza y no se recorren.
+ *
+ * De paso calcula el uso por usuario (director del proyecto) y tipo de documento y
+ * reemplaza la tabla uso_almacenamiento. Con file.storage.type=s3 no hay nada que
+ * recorrer en disco y no se ejecuta.
+ *
+ * El recorrido corre en reconciliacionExecutor (un hilo propio): el scheduler de los
+ * @Scheduled es compartido y un recorrido largo retrasaría el relay del outbox y las
+ * limpiezas. Si al cumplirse el intervalo el anterior sigue en curso, se omite.
+ *
+ * Métricas (Micrometer):
+ * - submission.almacenamiento.bytes{tipo}: bytes referenciados según la última ejecución
+ * - submission.almacenamiento.huerfanos.eliminados / submission.almacenamiento.huerfanos.bytes
+ * - submission.almacenamiento.referencias.corregidas
+ */
+@Component
+@ConditionalOnProperty(name = "file.storage.reconciliacion.enabled", havingValue = "true")
+public class ReconciliadorAlmacenamiento {
+
+    private static final Logger log = LoggerFactory.getLogger(ReconciliadorAlmacenamiento.class);
+
+    static final List<String> TIPOS = List.of("FORMATO_A", "CARTA", "ANTEPROYECTO", "VISTA_PREVIA");
+
+    /** Directorios de primer nivel con limpieza propia (subidas reanudables, caché de S3) */
+    private static final Set<String> DIRECTORIOS_EXCLUIDOS = Set.of("subidas", "s3-cache");
+
+    private final ArchivoContenidoJpaRepository archivoContenidoRepository;
+    private final UsoAlmacenamientoJpaRepository usoRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final EliminacionBlobs eliminacionBlobs;
+    private final TaskExecutor executor;
+    private final ReconciliacionAlmacenamientoConfig config;
+    private final Path base;
+    private final Path blobs;
+    private final boolean habilitado;
+
+    private final Map<String, AtomicLong> bytesPorTipo = new LinkedHashMap<>();
+    private final Counter huerfanosEliminados;
+    private final Counter huerfanosBytes;
+    private final Counter referenciasCorregidas;
+
+    public ReconciliadorAlmacenamiento(ArchivoContenidoJpaRepository archivoContenidoRepository,
+                                       UsoAlmacenamientoJpaRepository usoRepository,
+                                       PlatformTransactionManager transactionManager,
+                                       @Qualifier("reconciliacionExecutor") TaskExecutor executor,
+                                       ReconciliacionAlmacenamientoConfig config,
+                                       MeterRegistry meterRegistry,
+                                       @Value("${file.storage.base-path:./uploads}") String basePath,
+                                       @Value("${file.storage.type:local}") String tipoAlmacenamiento) {
+        this.archivoContenidoRepository = archivoContenidoRepository;
+        this.usoRepository = usoRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.eliminacionBlobs = new EliminacionBlobs(archivoContenidoRepository, transactionManager);
+        this.executor = executor;
+        this.config = config;
+        this.base = Paths.get(basePath).toAbsolutePath().normalize();
+        this.blobs = base.resolve(ContentAddressedFileStorageAdapter.DIRECTORIO_BLOBS);
+        this.habilitado = !"s3".equals(tipoAlmacenamiento);
+
+        if (!habilitado) {
+            log.info("Reconciliación del almacenamiento desactivada: file.storage.type=s3");
+        }
+
+        for (String tipo : TIPOS) {
+            AtomicLong bytes = new AtomicLong();
+            bytesPorTipo.put(tipo, bytes);
+            Gauge.builder("submission.almacenamiento.bytes", bytes, AtomicLong::get)
+                .description("Bytes referenciados por tipo de documento (última reconciliación)")
+                .tag("tipo", tipo)
+                .register(meterRegistry);
+        }
+        this.huerfanosEliminados = Counter.builder("submission.almacenamiento.huerfanos.eliminados")
+            .description("Archivos sin referencias eliminados")
+            .register(meterRegistry);
+        this.huerfanosBytes = Counter.builder("submission.almacenamiento.huerfanos.bytes")
+            .description("Bytes liberados al eliminar archivos sin referencias")
+            .register(meterRegistry);
+        this.referenciasCorregidas = Counter.builder("submission.almacenamiento.referencias.corregidas")
+            .description("Blobs cuyo contador de referencias no coincidía con la BD")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(initialDelayString = "${file.storage.reconciliacion.intervalo-ms:21600000}",
+               fixedDelayString = "${file.storage.reconciliacion.intervalo-ms:21600000}")
+    public void reconciliarPeriodicamente() {
+        if (!habilitado) {
+            return;
+        }
+        try {
+            executor.execute(this::ejecutar);
+        } catch (TaskRejectedException e) {
+            log.warn("⚠️ La reconciliación anterior del almacenamiento sigue en curso; se omite esta ejecución");
+        }
+    }
+
+    private void ejecutar() {
+        try {
+            Resumen resumen = reconciliar(Instant.now().minus(Duration.ofHours(config.getGraciaHoras())));
+            log.info("🧹 Almacenamiento reconciliado: {} archivos revisados, {} huérfanos eliminados ({} bytes), "
+                     + "{} contadores corregidos", resumen.revisados(), resumen.eliminados(),
+                     resumen.bytesLiberados(), resumen.corregidos());
+        } catch (Exception e) {
+            log.error("❌ Error reconciliando el almacenamiento: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Recorre el almacenamiento una vez.
+     *
+     * @param limite los archivos modificados desde este instante no se eliminan ni corrigen
+     */
+    Resumen reconciliar(Instant limite) throws IOException {
+        Recorrido recorrido = new Recorrido(limite);
+        if (Files.isDirectory(base)) {
+            Files.walkFileTree(base, recorrido);
+        }
+        recorrido.procesarLote();
+
+        guardarUso(recorrido.uso);
+        recorrido.referenciadosPorTipo.forEach((tipo, bytes) -> bytesPorTipo.get(tipo).set(bytes));
+
+        return new Resumen(recorrido.revisados, recorrido.eliminados, recorrido.bytesLiberados,
+            recorrido.corregidos);
+    }
+
+    private void guardarUso(Map<ClaveUso, long[]> uso) {
+        LocalDateTime ahora = LocalDateTime.now();
+        List<UsoAlmacenamientoEntity> filas = uso.entrySet().stream()
+            .map(e -> new UsoAlmacenamientoEntity(e.getKey().usuarioId(), e.getKey().tipo(),
+                e.getValue()[0], e.getValue()[1], ahora))
+            .toList();
+
+        transactionTemplate.executeWithoutResult(status -> {
+            usoRepository.deleteAllInBatch();
+            usoRepository.saveAll(filas);
+        });
+    }
+
+    /**
+     * Estado de un recorrido. Solo el lote actual y el acumulado por usuario y tipo
+     * están en memoria.
+     */
+    private class Recorrido extends SimpleFileVisitor<Path> {
+
+        private final Instant limite;
+        private final List<Candidato> lote = new ArrayList<>(config.getTamanoLote());
+        private final Map<ClaveUso, long[]> uso = new HashMap<>();
+        private final Map<String, Long> referenciadosPorTipo = new HashMap<>();
+
+        private long revisados;
+        private long eliminados;
+        private long bytesLiberados;
+        private long corregidos;
+
+        Recorrido(Instant limite) {
+            this.limite = limite;
+            TIPOS.forEach(tipo -> referenciadosPorTipo.put(tipo, 0L));
+        }
+
+        @Override
+        public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) {
+            if (base.equals(dir.getParent()) && DIRECTORIOS_EXCLUIDOS.contains(dir.getFileName().toString())) {
+                return FileVisitResult.SKIP_SUBTREE;
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFile(Path archivo, BasicFileAttributes attrs) {
+            if (!attrs.isRegularFile()) {
+                return FileVisitResult.CONTINUE;
+            }
+            revisados++;
+            Instant modificado = attrs.lastModifiedTime().toInstant();
+
+            if (esTemporal(archivo)) {
+                if (modificado.isBefore(limite)) {
+                    eliminar(archivo, attrs.size());
+                }
+                return FileVisitResult.CONTINUE;
+            }
+
+            lote.add(new Candidato(archivo, ruta(archivo), attrs.size(), modificado));
+            if (lote.size() >= config.getTamanoLote()) {
+                procesarLote();
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFileFailed(Path archivo, IOException e) {
+            // Borrado entre el listado del directorio y la lectura de sus atributos
+            if (!(e instanceof NoSuchFileException)) {
+                log.warn("⚠️ No se pudo revisar {}: {}", archivo, e.getMessage());
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        void procesarLote() {
+            if (lote.isEmpty()) {
+                return;
+            }
+
+            // Lecturas en transacción de escritura: van a la primaria, no a una réplica atrasada
+            Map<String, List<ReferenciaArchivo>> referencias = transactionTemplate.execute(status ->
+                archivoContenidoRepository.buscarReferencias(lote.stream().map(Candidato::ruta).toList())
+                    .stream()
+                    .collect(Collectors.groupingBy(ReferenciaArchivo::getRuta)));
+
+            List<String> hashes = lote.stream().map(Candidato::hash).filter(Objects::nonNull).toList();
+            Map<String, ArchivoContenidoEntity> registrados = hashes.isEmpty() ? Map.of()
+                : transactionTemplate.execute(status -> archivoContenidoRepository.findAllById(hashes).stream()
+                    .collect(Collectors.toMap(ArchivoContenidoEntity::getHash, Function.identity())));
+
+            for (Candidato candidato : lote) {
+                List<ReferenciaArchivo> deCandidato = referencias.getOrDefault(candidato.ruta(), List.of());
+                contabilizar(candidato, deCandidato);
+
+                if (!candidato.modificado().isBefore(limite)) {
+                    continue;
+                }
+                if (candidato.hash() != null) {
+                    ArchivoContenidoEntity fila = registrados.get(candidato.hash());
+                    if (fila == null || fila.getReferencias() != deCandidato.size()) {
+                        reconciliarBlob(candidato);
+                    }
+                } else if (deCandidato.isEmpty()) {
+                    eliminar(candidato.archivo(), candidato.tamano());
+                }
+            }
+            lote.clear();
+        }
+
+        /**
+         * Suma el archivo una vez por cada usuario y tipo que lo referencia: un blob
+         * compartido cuenta para cada proyecto, pero una sola vez por tipo en el total.
+         */
+        private void contabilizar(Candidato candidato, List<ReferenciaArchivo> deCandidato) {
+            Set<ClaveUso> claves = deCandidato.stream()
+                .map(r -> new ClaveUso(r.getUsuarioId(), r.getTipo()))
+                .collect(Collectors.toSet());
+            for (ClaveUso clave : claves) {
+                long[] acumulado = uso.computeIfAbsent(clave, c -> new long[2]);
+                acumulado[0]++;
+                acumulado[1] += candidato.tamano();
+            }
+            claves.stream().map(ClaveUso::tipo).distinct()
+                .forEach(tipo -> referenciadosPorTipo.merge(tipo, candidato.tamano(), Long::sum));
+        }
+
+        /**
+         * Reconciliación de un blob dentro de una transacción con su fila bloqueada.
+         */
+        private void reconciliarBlob(Candidato candidato) {
+            LocalDateTime limiteBd = LocalDateTime.ofInstant(limite, ZoneId.systemDefault());
+            try {
+                Resultado resultado = transactionTemplate.execute(status -> {
+                    archivoContenidoRepository.bloquearParaReconciliar(candidato.hash(), candidato.tamano(),
+                        LocalDateTime.ofInstant(candidato.modificado(), ZoneId.systemDefault()));
+
+                    long reales = archivoContenidoRepository.contarReferencias(candidato.ruta());
+                    if (reales > 0) {
+                        return archivoContenidoRepository.corregirReferencias(candidato.hash(), (int) reales, limiteBd) > 0
+                            ? Resultado.CORREGIDO : Resultado.SIN_CAMBIOS;
+                    }
+                    if (archivoContenidoRepository.eliminarHuerfano(candidato.hash(), limiteBd) == 0) {
+                        return Resultado.SIN_CAMBIOS;
+                    }
+                    // El archivo se borra tras el commit, si nadie volvió a referenciar el blob
+                    eliminacionBlobs.eliminarTrasCommit(candidato.hash(), candidato.archivo(),
+                        () -> contarEliminado(candidato.archivo(), candidato.tamano()));
+                    return Resultado.ELIMINADO;
+                });
+
+                if (resultado == Resultado.CORREGIDO) {
+                    corregidos++;
+                    referenciasCorregidas.increment();
+                    log.info("Contador de referencias corregido para el blob {}", candidato.hash());
+                }
+            } catch (RuntimeException e) {
+                log.warn("⚠️ No se pudo reconciliar el blob {}: {}", candidato.hash(), e.getMessage());
+            }
+        }
+
+        private void eliminar(Path archivo, long tamano) {
+            try {
+                if (Files.deleteIfExists(archivo)) {
+                    contarEliminado(archivo, tamano);
+                }
+            } catch (IOException e) {
+                log.warn("⚠️ No se pudo eliminar el archivo huérfano {}: {}", archivo, e.getMessage());
+            }
+        }
+
+        private void contarEliminado(Path archivo, long tamano) {
+            eliminados++;
+            bytesLiberados += tamano;
+            huerfanosEliminados.increment();
+            huerfanosBytes.increment(tamano);
+            log.debug("Archivo sin referencias eliminado: {}", archivo);
+        }
+    }
+
+    private boolean esTemporal(Path archivo) {
+        return archivo.getFileName().toString().startsWith(".")
+            || archivo.getParent().equals(blobs.resolve(ContentAddressedFileStorageAdapter.DIRECTORIO_TEMPORAL));
+    }
+
+    /**
+     * La ruta con la que la BD referencia al archivo: "sha256:{hash}" para un blob,
+     * la ruta relativa a basePath para el resto.
+     */
+    private String ruta(Path archivo) {
+        String nombre = archivo.getFileName().toString();
+        if (archivo.startsWith(blobs) && nombre.matches("[0-9a-f]{64}")) {
+            return ContentAddressedFileStorageAdapter.PREFIJO_CONTENIDO + nombre;
+        }
+        return base.relativize(archivo).toString().replace(File.separatorChar, '/');
+    }
+
+    private enum Resultado { ELIMINADO, CORREGIDO, SIN_CAMBIOS }
+
+    record ClaveUso(Long usuarioId, String tipo) {
+    }
+
+    record Candidato(Path archivo, String ruta, long tamano, Instant modificado) {
+
+        /** Hash del blob, o null si es una ruta relativa */
+        String hash() {
+            return ruta.startsWith(ContentAddressedFileStorageAdapter.PREFIJO_CONTENIDO)
+                ? ruta.substring(ContentAddressedFileStorageAdapter.PREFIJO_CONTENIDO.length())
+                : null;
+        }
+    }
+
+    record Resumen(long revisados, long eliminados, long bytesLiberados, long corregidos) {
+    }
+}
@@ -0,0 +1,339 @@
+package co.unicauca.submission.infrastructure.adapter.out.filesystem;
+
+import co.unicauca.submission.application.dto.response.SesionSubida;
+import co.unicauca.submission.application.port.out.ISubidaReanudablePort;
+import co.unicauca.submission.domain.exception.ArchivoNoEncontradoException;
+import co.unicauca.submission.infrastructure.config.SubidaReanudableConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.channels.OverlappingFileLockException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.Properties;
+import java.util.UUID;
+
+/**
+ * Adaptador de subidas reanudables sobre el disco local.
+ * Implementa el puerto ISubidaReanudablePort.
+ *
+ * Cada sesión es un directorio {basePath}/subidas/{uuid} con:
+ * - sesion.properties: proyecto, usuario, nombre y tamaño declarado
+ * - datos.part: los bytes ya verificados; su tamaño es el offset recibido
+ *
+ * Un fragmento se copia primero a un temporal calculando su SHA-256 con un buffer
+ * fijo; solo si el checksum coincide se agrega a datos.part con FileChannel.transferTo.
+ * Así datos.part nunca contiene bytes sin verificar y un corte a mitad de fragmento
+ * no deja nada que limpiar. Un FileLock impide que dos fragmentos de la misma
+ * sesión se escriban a la vez.
+ *
+ * Las sesiones sin actividad durante file.upload.reanudable.expiracion-horas se
+ * eliminan periódicamente.
+ */
+@Component
+public class SubidaReanudableLocalAdapter implements ISubidaReanudablePort {
+
+    private static final Logger log = LoggerFactory.getLogger(SubidaReanudableLocalAdapter.class);
+
+    private static final String DIRECTORIO_SUBIDAS = "subidas";
+    private static final String ARCHIVO_SESION = "sesion.properties";
+    private static final String ARCHIVO_DATOS = "datos.part";
+    private static final int TAMANO_BUFFER = 8192;
+
+    private final Path directorioSubidas;
+    private final SubidaReanudableConfig config;
+    private final long tamanoMaximoPdf;
+
+    public SubidaReanudableLocalAdapter(SubidaReanudableConfig config,
+                                        @Value("${file.storage.base-path:./uploads}") String basePath,
+                                        @Value("${spring.servlet.multipart.max-file-size:10MB}") DataSize tamanoMaximoPdf) {
+        this.config = config;
+        this.directorioSubidas = Paths.get(basePath, DIRECTORIO_SUBIDAS);
+        this.tamanoMaximoPdf = tamanoMaximoPdf.toBytes();
+    }
+
+    @Override
+    public SesionSubida crear(Long proyectoId, Long usuarioId, String nombreArchivo, long tamanoTotal) {
+        if (tamanoTotal <= 0 || tamanoTotal > tamanoMaximoPdf) {
+            throw new IllegalArgumentException("El tamaño del archivo debe estar entre 1 byte y "
+                + tamanoMaximoPdf / (1024 * 1024) + "MB");
+        }
+
+        String id = UUID.randomUUID().toString();
+        Path directorio = directorioSubidas.resolve(id);
+        try {
+            Files.createDirectories(directorio);
+            Files.createFile(directorio.resolve(ARCHIVO_DATOS));
+
+            Properties propiedades = new Properties();
+            propiedades.setProperty("proyectoId", proyectoId.toString());
+            propiedades.setProperty("usuarioId", usuarioId.toString());
+            propiedades.setProperty("nombreArchivo", nombreArchivo);
+            propiedades.setProperty("tamanoTotal", Long.toString(tamanoTotal));
+
+            // La sesión existe a partir del rename: buscar() nunca ve metadatos a medias
+            Path temporal = directorio.resolve(ARCHIVO_SESION + ".tmp");
+            try (OutputStream salida = Files.newOutputStream(temporal)) {
+                propiedades.store(salida, null);
+            }
+            Files.move(temporal, directorio.resolve(ARCHIVO_SESION), StandardCopyOption.ATOMIC_MOVE);
+
+            log.debug("Sesión de subida creada: {}", directorio);
+
+            return new SesionSubida(id, proyectoId, usuarioId, nombreArchivo, tamanoTotal, 0, Instant.now());
+
+        } catch (IOException e) {
+            log.error("Error al crear sesión de subida para {}: {}", nombreArchivo, e.getMessage(), e);
+            eliminarDirectorio(directorio);
+            throw new RuntimeException("No se pudo crear la sesión de subida: " + nombreArchivo, e);
+        }
+    }
+
+    @Override
+    public Optional<SesionSubida> buscar(String sesionId) {
+        Path directorio = resolverSesion(sesionId);
+        if (directorio == null || !Files.exists(directorio.resolve(ARCHIVO_SESION))) {
+            return Optional.empty();
+        }
+
+        try {
+            Properties propiedades = new Properties();
+            try (InputStream entrada = Files.newInputStream(directorio.resolve(ARCHIVO_SESION))) {
+                propiedades.load(entrada);
+            }
+            Path datos = directorio.resolve(ARCHIVO_DATOS);
+
+            return Optional.of(new SesionSubida(
+                sesionId,
+                Long.valueOf(propiedades.getProperty("proyectoId")),
+                Long.valueOf(propiedades.getProperty("usuarioId")),
+                propiedades.getProperty("nombreArchivo"),
+                Long.parseLong(propiedades.getProperty("tamanoTotal")),
+                Files.size(datos),
+                Files.getLastModifiedTime(datos).toInstant()
+            ));
+
+        } catch (NoSuchFileException e) {
+            // Eliminada entre la comprobación y la lectura (cancelada o expirada)
+            return Optional.empty();
+        } catch (IOException e) {
+            log.error("Error al leer sesión de subida {}: {}", sesionId, e.getMessage(), e);
+            throw new RuntimeException("No se pudo leer la sesión de subida: " + sesionId, e);
+        }
+    }
+
+    @Override
+    public long agregarFragmento(String sesionId, long offset, InputStream contenido, byte[] sha256) {
+        SesionSubida sesion = buscar(sesionId)
+            .orElseThrow(() -> new ArchivoNoEncontradoException("Sesión de subida no encontrada o expirada: " + sesionId));
+
+        Path directorio = directorioSubidas.resolve(sesionId);
+        Path fragmento = null;
+
+        try (FileChannel datos = FileChannel.open(directorio.resolve(ARCHIVO_DATOS), StandardOpenOption.WRITE);
+             FileLock bloqueo = bloquear(datos, sesionId)) {
+
+            // El offset se valida bajo el bloqueo: es el tamaño real de lo ya verificado
+            long recibidos = datos.size();
+            if (offset != recibidos) {
+                throw new IllegalStateException("El fragmento empieza en " + offset
+                    + " pero la sesión tiene " + recibidos + " bytes recibidos");
+            }
+
+            long limite = Math.min(config.getTamanoMaximoFragmento().toBytes(), sesion.getTamanoTotal() - recibidos);
+
+            // 1. Copiar el fragmento a un temporal calculando su SHA-256
+            fragmento = Files.createTempFile(directorio, "fragmento-", ".part");
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            long tamano;
+            try (DigestInputStream entrada = new DigestInputStream(contenido, digest);
+                 OutputStream salida = Files.newOutputStream(fragmento)) {
+                tamano = copiarHasta(entrada, salida, limite);
+            }
+
+            if (tamano == 0) {
+                throw new IllegalArgumentException("El fragmento está vacío");
+            }
+            if (!MessageDigest.isEqual(digest.digest(), sha256)) {
+                throw new IllegalArgumentException("El checksum del fragmento no coincide; reenvíelo desde el offset "
+                    + offset);
+            }
+
+            // 2. Agregar el fragmento verificado sin pasar los bytes por el heap
+            try (FileChannel origen = FileChannel.open(fragmento, StandardOpenOption.READ)) {
+                datos.position(recibidos);
+                long transferidos = 0;
+                while (transferidos < tamano) {
+                    transferidos += origen.transferTo(transferidos, tamano - transferidos, datos);
+                }
+            }
+            // El offset confirmado al cliente debe sobrevivir a un reinicio
+            datos.force(false);
+
+            return recibidos + tamano;
+
+        } catch (NoSuchFileException e) {
+            throw new ArchivoNoEncontradoException("Sesión de subida no encontrada o expirada: " + sesionId);
+        } catch (IOException e) {
+            log.error("Error al recibir fragmento de la sesión {}: {}", sesionId, e.getMessage(), e);
+            throw new RuntimeException("No se pudo recibir el fragmento de la sesión: " + sesionId, e);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible en la JVM", e);
+        } finally {
+            LocalFileStorageAdapter.eliminarTemporal(fragmento);
+        }
+    }
+
+    @Override
+    public InputStream abrirContenido(String sesionId) {
+        Path directorio = resolverSesion(sesionId);
+        try {
+            if (directorio == null) {
+                throw new NoSuchFileException(sesionId);
+            }
+            return Files.newInputStream(directorio.resolve(ARCHIVO_DATOS));
+        } catch (NoSuchFileException e) {
+            throw new ArchivoNoEncontradoException("Sesión de subida no encontrada o expirada: " + sesionId);
+        } catch (IOException e) {
+            log.error("Error al abrir la sesión de subida {}: {}", sesionId, e.getMessage(), e);
+            throw new RuntimeException("No se pudo abrir la sesión de subida: " + sesionId, e);
+        }
+    }
+
+    @Override
+    public void eliminar(String sesionId) {
+        Path directorio = resolverSesion(sesionId);
+        if (directorio != null) {
+            eliminarDirectorio(directorio);
+        }
+    }
+
+    /**
+     * Elimina las sesiones abandonadas (sin fragmentos durante el período de expiración).
+     */
+    @Scheduled(fixedDelayString = "${file.upload.reanudable.intervalo-limpieza-ms:900000}")
+    public void limpiarAbandonadas() {
+        try {
+            int eliminadas = eliminarInactivasDesde(Instant.now().minus(Duration.ofHours(config.getExpiracionHoras())));
+            if (eliminadas > 0) {
+                log.info("🧹 {} sesiones de subida abandonadas eliminadas", eliminadas);
+            }
+        } catch (Exception e) {
+            log.error("❌ Error limpiando sesiones de subida: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * @return cantidad de sesiones eliminadas
+     */
+    int eliminarInactivasDesde(Instant limite) throws IOException {
+        if (!Files.isDirectory(directorioSubidas)) {
+            return 0;
+        }
+
+        int eliminadas = 0;
+        try (DirectoryStream<Path> sesiones = Files.newDirectoryStream(directorioSubidas)) {
+            for (Path directorio : sesiones) {
+                if (ultimaActividad(directorio).isBefore(limite)) {
+                    eliminarDirectorio(directorio);
+                    eliminadas++;
+                }
+            }
+        }
+        return eliminadas;
+    }
+
+    /**
+     * Lo más reciente entre el último fragmento agregado y el directorio: un fragmento
+     * en curso crea su temporal en el directorio y lo mantiene fuera de la limpieza.
+     */
+    private Instant ultimaActividad(Path directorio) throws IOException {
+        Instant actividad = Files.getLastModifiedTime(directorio).toInstant();
+        Path datos = directorio.resolve(ARCHIVO_DATOS);
+        if (Files.exists(datos)) {
+            Instant ultimoFragmento = Files.getLastModifiedTime(datos).toInstant();
+            if (ultimoFragmento.isAfter(actividad)) {
+                actividad = ultimoFragmento;
+            }
+        }
+        return actividad;
+    }
+
+    private FileLock bloquear(FileChannel datos, String sesionId) throws IOException {
+        FileLock bloqueo;
+        try {
+            bloqueo = datos.tryLock();
+        } catch (OverlappingFileLockException e) {
+            bloqueo = null;
+        }
+        if (bloqueo == null) {
+            throw new IllegalStateException("Hay otro fragmento en curso para la sesión " + sesionId);
+        }
+        return bloqueo;
+    }
+
+    /**
+     * Copia hasta el límite con un buffer fijo; más bytes que el límite invalidan el fragmento.
+     */
+    private static long copiarHasta(InputStream entrada, OutputStream salida, long limite) throws IOException {
+        byte[] buffer = new byte[TAMANO_BUFFER];
+        long copiados = 0;
+        int leidos;
+        while ((leidos = entrada.read(buffer)) != -1) {
+            copiados += leidos;
+            if (copiados > limite) {
+                throw new IllegalArgumentException("El fragmento excede el máximo permitido (" + limite
+                    + " bytes: límite por fragmento o tamaño restante del archivo)");
+            }
+            salida.write(buffer, 0, leidos);
+        }
+        return copiados;
+    }
+
+    /**
+     * Solo se aceptan UUID canónicos: el identificador nunca puede salir de subidas/.
+     */
+    private Path resolverSesion(String sesionId) {
+        try {
+            if (sesionId == null || !UUID.fromString(sesionId).toString().equals(sesionId)) {
+                return null;
+            }
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        return directorioSubidas.resolve(sesionId);
+    }
+
+    private void eliminarDirectorio(Path directorio) {
+        try (DirectoryStream<Path> archivos = Files.newDirectoryStream(directorio)) {
+            for (Path archivo : archivos) {
+                Files.deleteIfExists(archivo);
+            }
+            Files.deleteIfExists(directorio);
+        } catch (NoSuchFileException e) {
+            // Ya eliminada
+        } catch (IOException e) {
+            log.warn("No se pudo eliminar la sesión de subida {}: {}", directorio, e.getMessage());
+        }
+    }
+}
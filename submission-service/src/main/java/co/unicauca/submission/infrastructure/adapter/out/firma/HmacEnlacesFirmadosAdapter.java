@@ -0,0 +1,168 @@
+package co.unicauca.submission.infrastructure.adapter.out.firma;
+
+import co.unicauca.submission.application.port.out.IEnlacesFirmadosPort;
+import co.unicauca.submission.domain.exception.UsuarioNoAutorizadoException;
+import co.unicauca.submission.infrastructure.config.EnlacesFirmadosConfig;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Adaptador de enlaces firmados con HMAC-SHA256.
+ * Implementa el puerto IEnlacesFirmadosPort.
+ *
+ * Token: base64url("{expira}|{nonce}|{nombre}|{ruta}") + "." + base64url(hmac).
+ * La verificación es local: firma, vencimiento y, para los de uso único, una
+ * ventana en memoria (Caffeine) con los nonces ya usados. Cada nonce se recuerda
+ * hasta que vence su enlace, así que la ventana no crece más allá de los enlaces vigentes.
+ */
+@Component
+public class HmacEnlacesFirmadosAdapter implements IEnlacesFirmadosPort {
+
+    private static final Logger log = LoggerFactory.getLogger(HmacEnlacesFirmadosAdapter.class);
+
+    private static final String ALGORITMO = "HmacSHA256";
+    private static final String SEPARADOR = "|";
+    private static final int BYTES_NONCE = 16;
+
+    private static final Base64.Encoder BASE64 = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder BASE64_DECODER = Base64.getUrlDecoder();
+
+    private final Mac prototipo;
+    private final Duration vigencia;
+    private final Clock reloj;
+    private final SecureRandom aleatorio = new SecureRandom();
+    private final Cache<String, Instant> usados;
+
+    @Autowired
+    public HmacEnlacesFirmadosAdapter(EnlacesFirmadosConfig config) {
+        this(config, Clock.systemUTC());
+    }
+
+    HmacEnlacesFirmadosAdapter(EnlacesFirmadosConfig config, Clock reloj) {
+        this.vigencia = Duration.ofSeconds(config.getVigenciaSegundos());
+        this.reloj = reloj;
+        this.prototipo = crearMac(clave(config.getSecreto()));
+        this.usados = Caffeine.newBuilder()
+            .maximumSize(config.getVentanaUsoUnico())
+            .ticker(() -> reloj.millis() * 1_000_000)
+            .expireAfter(new Expiry<String, Instant>() {
+                @Override
+                public long expireAfterCreate(String nonce, Instant expira, long ahora) {
+                    // Se recuerda el nonce mientras su enlace siga vigente
+                    return Math.max(0, Duration.between(reloj.instant(), expira).toNanos());
+                }
+
+                @Override
+                public long expireAfterUpdate(String nonce, Instant expira, long ahora, long restante) {
+                    return restante;
+                }
+
+                @Override
+                public long expireAfterRead(String nonce, Instant expira, long ahora, long restante) {
+                    return restante;
+                }
+            })
+            .build();
+    }
+
+    @Override
+    public EnlaceFirmado firmar(String ruta, String nombreArchivo, boolean usoUnico) {
+        Instant expira = reloj.instant().plus(vigencia);
+        String nonce = usoUnico ? generarNonce() : "";
+
+        String datos = expira.getEpochSecond() + SEPARADOR + nonce + SEPARADOR + nombreArchivo + SEPARADOR + ruta;
+        String token = BASE64.encodeToString(datos.getBytes(StandardCharsets.UTF_8))
+            + "." + BASE64.encodeToString(hmac(datos));
+
+        return new EnlaceFirmado(token, expira);
+    }
+
+    @Override
+    public DestinoEnlace verificar(String token) {
+        int punto = token != null ? token.indexOf('.') : -1;
+        if (punto <= 0) {
+            throw new UsuarioNoAutorizadoException("Enlace de descarga inválido");
+        }
+
+        String datos;
+        byte[] firma;
+        try {
+            datos = new String(BASE64_DECODER.decode(token.substring(0, punto)), StandardCharsets.UTF_8);
+            firma = BASE64_DECODER.decode(token.substring(punto + 1));
+        } catch (IllegalArgumentException e) {
+            throw new UsuarioNoAutorizadoException("Enlace de descarga inválido");
+        }
+
+        if (!MessageDigest.isEqual(hmac(datos), firma)) {
+            throw new UsuarioNoAutorizadoException("Enlace de descarga inválido");
+        }
+
+        // La firma es válida: el contenido lo generó firmar() y tiene los 4 campos
+        String[] campos = datos.split("\\|", 4);
+        Instant expira = Instant.ofEpochSecond(Long.parseLong(campos[0]));
+        if (!reloj.instant().isBefore(expira)) {
+            throw new UsuarioNoAutorizadoException("El enlace de descarga venció");
+        }
+
+        String nonce = campos[1];
+        if (!nonce.isEmpty() && usados.asMap().putIfAbsent(nonce, expira) != null) {
+            log.warn("Intento de reutilizar un enlace de uso único");
+            throw new UsuarioNoAutorizadoException("El enlace de descarga ya fue usado");
+        }
+
+        return new DestinoEnlace(campos[3], campos[2]);
+    }
+
+    private byte[] hmac(String datos) {
+        try {
+            // Mac no es thread-safe: se clona el prototipo ya inicializado con la clave
+            Mac mac = (Mac) prototipo.clone();
+            return mac.doFinal(datos.getBytes(StandardCharsets.UTF_8));
+        } catch (CloneNotSupportedException e) {
+            throw new IllegalStateException("El proveedor de " + ALGORITMO + " no admite clonar", e);
+        }
+    }
+
+    private String generarNonce() {
+        byte[] nonce = new byte[BYTES_NONCE];
+        aleatorio.nextBytes(nonce);
+        return BASE64.encodeToString(nonce);
+    }
+
+    private static byte[] clave(String secreto) {
+        if (secreto == null || secreto.isBlank()) {
+            log.warn("file.enlaces-firmados.secreto no está configurado: se usa una clave aleatoria "
+                + "y los enlaces solo valen en esta instancia hasta que se reinicie");
+            byte[] aleatoria = new byte[32];
+            new SecureRandom().nextBytes(aleatoria);
+            return aleatoria;
+        }
+        return secreto.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static Mac crearMac(byte[] clave) {
+        try {
+            Mac mac = Mac.getInstance(ALGORITMO);
+            mac.init(new SecretKeySpec(clave, ALGORITMO));
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITMO + " no disponible en la JVM", e);
+        }
+    }
+}
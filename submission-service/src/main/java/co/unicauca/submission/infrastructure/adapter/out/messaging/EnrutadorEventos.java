@@ -0,0 +1,56 @@
+package co.unicauca.submission.infrastructure.adapter.out.messaging;
+
+import co.unicauca.submission.domain.event.DomainEvent;
+import co.unicauca.submission.infrastructure.config.RabbitMQConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Resuelve exchange y routing key de cada tipo de evento de dominio.
+ * Compartido por la publicación directa y por el outbox.
+ */
+final class EnrutadorEventos {
+
+    private static final Logger log = LoggerFactory.getLogger(EnrutadorEventos.class);
+
+    private EnrutadorEventos() {
+    }
+
+    /**
+     * Determina el exchange según el tipo de evento.
+     */
+    static String determinarExchange(DomainEvent event) {
+        String eventType = event.getEventType();
+
+        return switch (eventType) {
+            case "FormatoACreado", "FormatoAReenviado", "FormatoAEvaluado" ->
+                RabbitMQConfig.FORMATO_A_EXCHANGE;
+            case "AnteproyectoSubido", "EvaluadoresAsignados", "AnteproyectoEvaluado" ->
+                RabbitMQConfig.ANTEPROYECTO_EXCHANGE;
+            default -> {
+                log.warn("Tipo de evento desconocido: {}, usando exchange por defecto", eventType);
+                yield RabbitMQConfig.FORMATO_A_EXCHANGE;
+            }
+        };
+    }
+
+    /**
+     * Determina el routing key según el tipo de evento.
+     */
+    static String determinarRoutingKey(DomainEvent event) {
+        String eventType = event.getEventType();
+
+        return switch (eventType) {
+            case "FormatoACreado" -> RabbitMQConfig.FORMATO_A_ENVIADO_KEY;
+            case "FormatoAReenviado" -> RabbitMQConfig.FORMATO_A_REENVIADO_KEY;
+            case "AnteproyectoSubido" -> RabbitMQConfig.ANTEPROYECTO_ENVIADO_KEY;
+            case "FormatoAEvaluado" -> "formatoa.evaluado";  // Para review-service
+            case "EvaluadoresAsignados" -> "evaluadores.asignados";  // Para review-service
+            case "AnteproyectoEvaluado" -> "anteproyecto.evaluado";  // Para review-service
+            default -> {
+                log.warn("Tipo de evento desconocido: {}", eventType);
+                yield "unknown";
+            }
+        };
+    }
+}
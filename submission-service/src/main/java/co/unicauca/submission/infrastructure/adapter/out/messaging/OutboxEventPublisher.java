@@ -0,0 +1,84 @@
+package co.unicauca.submission.infrastructure.adapter.out.messaging;
+
+import co.unicauca.submission.application.port.out.IEventPublisherPort;
+import co.unicauca.submission.domain.event.DomainEvent;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.OutboxEventoJpaRepository;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.entity.OutboxEventoEntity;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * Adaptador de publicación de eventos basado en outbox transaccional.
+ * Implementa el puerto IEventPublisherPort.
+ *
+ * publish() solo inserta el evento en outbox_eventos dentro de la transacción del
+ * caso de uso: el evento queda registrado si y solo si el cambio de estado se
+ * confirma, y el request no espera al broker. OutboxRelay lo publica después.
+ * Exige una transacción activa (MANDATORY): registrarlo fuera de la del cambio de
+ * estado, p. ej. en una tarea post-commit, podría perder el evento.
+ */
+@Component
+@ConditionalOnProperty(name = "messaging.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxEventPublisher implements IEventPublisherPort {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxEventPublisher.class);
+
+    private final OutboxEventoJpaRepository outboxRepository;
+    private final MessageConverter messageConverter;
+
+    public OutboxEventPublisher(OutboxEventoJpaRepository outboxRepository,
+                                MessageConverter messageConverter) {
+        this.outboxRepository = outboxRepository;
+        this.messageConverter = messageConverter;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(DomainEvent event) {
+        outboxRepository.save(crearEntrada(event));
+
+        log.debug("📝 Evento {} registrado en outbox (aggregate {})",
+                  event.getEventType(), event.getAggregateId());
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publishAll(List<DomainEvent> events) {
+        if (events == null || events.isEmpty()) {
+            log.debug("No hay eventos para publicar");
+            return;
+        }
+
+        outboxRepository.saveAll(events.stream().map(this::crearEntrada).toList());
+
+        log.debug("📝 {} eventos registrados en outbox", events.size());
+    }
+
+    /**
+     * Serializa el evento con el mismo MessageConverter que usa RabbitTemplate,
+     * conservando el encabezado de tipo para los consumidores.
+     */
+    private OutboxEventoEntity crearEntrada(DomainEvent event) {
+        Message mensaje = messageConverter.toMessage(event, new MessageProperties());
+        Object tipoJava = mensaje.getMessageProperties().getHeader(OutboxRelay.TYPE_ID_HEADER);
+
+        OutboxEventoEntity entrada = new OutboxEventoEntity();
+        entrada.setAggregateId(event.getAggregateId());
+        entrada.setTipoEvento(event.getEventType());
+        entrada.setTipoJava(tipoJava != null ? tipoJava.toString() : null);
+        entrada.setExchange(EnrutadorEventos.determinarExchange(event));
+        entrada.setRoutingKey(EnrutadorEventos.determinarRoutingKey(event));
+        entrada.setPayload(new String(mensaje.getBody(), StandardCharsets.UTF_8));
+        return entrada;
+    }
+}
@@ -0,0 +1,239 @@
+package co.unicauca.submission.infrastructure.adapter.out.messaging;
+
+import co.unicauca.submission.infrastructure.adapter.out.persistence.OutboxEventoJpaRepository;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.entity.OutboxEventoEntity;
+import co.unicauca.submission.infrastructure.config.OutboxConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.AmqpException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageDeliveryMode;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.connection.CorrelationData;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Relay del outbox transaccional: publica en RabbitMQ los eventos de outbox_eventos.
+ *
+ * En cada ciclo reclama un lote con FOR UPDATE SKIP LOCKED (varias instancias del
+ * servicio pueden correr el relay sin publicar dos veces el mismo lote), envía todos
+ * los mensajes y luego espera las confirmaciones del broker (publisher confirms).
+ * Los confirmados se marcan como publicados; los rechazados o sin confirmación se
+ * reprograman con backoff exponencial. La entrega es al menos una vez: cada mensaje
+ * lleva messageId "outbox-{id}" para que los consumidores descarten duplicados.
+ *
+ * Métricas (Micrometer):
+ * - submission.outbox.pendientes: eventos sin publicar
+ * - submission.outbox.lag: antigüedad (s) del evento pendiente más viejo
+ * - submission.outbox.publicados / submission.outbox.fallidos
+ * - submission.outbox.latencia: desde el registro del evento hasta la confirmación
+ */
+@Component
+@ConditionalOnProperty(name = "messaging.outbox.enabled", havingValue = "true", matchIfMissing = true)
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    /** Encabezado de tipo que agrega Jackson2JsonMessageConverter */
+    static final String TYPE_ID_HEADER = "__TypeId__";
+
+    private final OutboxEventoJpaRepository outboxRepository;
+    private final RabbitTemplate rabbitTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final OutboxConfig config;
+
+    private final AtomicLong pendientes = new AtomicLong();
+    private final AtomicLong lagSegundos = new AtomicLong();
+    private final Counter publicados;
+    private final Counter fallidos;
+    private final Timer latencia;
+
+    public OutboxRelay(OutboxEventoJpaRepository outboxRepository,
+                       RabbitTemplate rabbitTemplate,
+                       PlatformTransactionManager transactionManager,
+                       OutboxConfig config,
+                       MeterRegistry meterRegistry) {
+        this.outboxRepository = outboxRepository;
+        this.rabbitTemplate = rabbitTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.config = config;
+
+        Gauge.builder("submission.outbox.pendientes", pendientes, AtomicLong::get)
+            .description("Eventos del outbox pendientes de publicar")
+            .register(meterRegistry);
+        Gauge.builder("submission.outbox.lag", lagSegundos, AtomicLong::get)
+            .description("Antigüedad del evento pendiente más viejo")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        this.publicados = Counter.builder("submission.outbox.publicados")
+            .description("Eventos confirmados por el broker")
+            .register(meterRegistry);
+        this.fallidos = Counter.builder("submission.outbox.fallidos")
+            .description("Intentos de publicación fallidos (se reintentan)")
+            .register(meterRegistry);
+        this.latencia = Timer.builder("submission.outbox.latencia")
+            .description("Tiempo desde el registro del evento hasta su confirmación")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Publica lotes mientras vengan llenos; luego actualiza las métricas de lag.
+     */
+    @Scheduled(fixedDelayString = "${messaging.outbox.intervalo-ms:500}")
+    public void publicarPendientes() {
+        try {
+            Integer procesados;
+            do {
+                procesados = transactionTemplate.execute(status -> procesarLote());
+            } while (procesados != null && procesados == config.getTamanoLote());
+
+            actualizarMetricas();
+
+        } catch (Exception e) {
+            log.error("❌ Error en el relay del outbox: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Borra los eventos ya publicados que superan el período de retención.
+     */
+    @Scheduled(fixedDelayString = "${messaging.outbox.intervalo-limpieza-ms:3600000}")
+    public void limpiarPublicados() {
+        try {
+            LocalDateTime limite = LocalDateTime.now().minusHours(config.getRetencionHoras());
+            Integer eliminados = transactionTemplate.execute(
+                status -> outboxRepository.eliminarPublicadosAntesDe(limite));
+
+            if (eliminados != null && eliminados > 0) {
+                log.info("🧹 {} eventos publicados eliminados del outbox", eliminados);
+            }
+        } catch (Exception e) {
+            log.error("❌ Error limpiando el outbox: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Reclama, envía y confirma un lote. Corre dentro de una transacción: las filas
+     * reclamadas quedan bloqueadas hasta registrar el resultado de cada envío.
+     *
+     * @return cantidad de eventos reclamados
+     */
+    private int procesarLote() {
+        List<OutboxEventoEntity> lote = outboxRepository.reclamarPendientes(
+            LocalDateTime.now(), config.getTamanoLote());
+
+        if (lote.isEmpty()) {
+            return 0;
+        }
+
+        log.debug("📤 Relay: publicando lote de {} eventos", lote.size());
+
+        // 1. Enviar todo el lote sin esperar: las confirmaciones llegan en paralelo
+        Map<OutboxEventoEntity, CorrelationData> enviados = new LinkedHashMap<>();
+        for (OutboxEventoEntity evento : lote) {
+            CorrelationData correlacion = new CorrelationData(idMensaje(evento));
+            try {
+                rabbitTemplate.send(evento.getExchange(), evento.getRoutingKey(),
+                    construirMensaje(evento), correlacion);
+                enviados.put(evento, correlacion);
+            } catch (AmqpException e) {
+                registrarFallo(evento, "Error enviando: " + e.getMessage());
+            }
+        }
+
+        // 2. Esperar las confirmaciones con un plazo común para todo el lote
+        long plazo = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(config.getTimeoutConfirmacionMs());
+        for (Map.Entry<OutboxEventoEntity, CorrelationData> envio : enviados.entrySet()) {
+            OutboxEventoEntity evento = envio.getKey();
+            try {
+                CorrelationData.Confirm confirmacion = envio.getValue().getFuture()
+                    .get(Math.max(0, plazo - System.nanoTime()), TimeUnit.NANOSECONDS);
+
+                if (confirmacion.isAck()) {
+                    registrarPublicado(evento);
+                } else {
+                    registrarFallo(evento, "Rechazado por el broker: " + confirmacion.getReason());
+                }
+            } catch (TimeoutException e) {
+                registrarFallo(evento, "Sin confirmación del broker en " + config.getTimeoutConfirmacionMs() + "ms");
+            } catch (ExecutionException e) {
+                registrarFallo(evento, "Error en la confirmación: " + e.getCause().getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                registrarFallo(evento, "Relay interrumpido");
+            }
+        }
+
+        return lote.size();
+    }
+
+    private Message construirMensaje(OutboxEventoEntity evento) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(MessageProperties.CONTENT_TYPE_JSON);
+        properties.setContentEncoding(StandardCharsets.UTF_8.name());
+        properties.setDeliveryMode(MessageDeliveryMode.PERSISTENT);
+        properties.setMessageId(idMensaje(evento));
+        if (evento.getTipoJava() != null) {
+            properties.setHeader(TYPE_ID_HEADER, evento.getTipoJava());
+        }
+        return new Message(evento.getPayload().getBytes(StandardCharsets.UTF_8), properties);
+    }
+
+    private String idMensaje(OutboxEventoEntity evento) {
+        return "outbox-" + evento.getId();
+    }
+
+    private void registrarPublicado(OutboxEventoEntity evento) {
+        LocalDateTime ahora = LocalDateTime.now();
+        evento.setFechaPublicacion(ahora);
+        evento.setUltimoError(null);
+
+        publicados.increment();
+        latencia.record(Duration.between(evento.getFechaCreacion(), ahora));
+
+        log.debug("✅ Evento {} ({}) publicado → {}", evento.getId(), evento.getTipoEvento(), evento.getRoutingKey());
+    }
+
+    private void registrarFallo(OutboxEventoEntity evento, String error) {
+        int intentos = evento.getIntentos() + 1;
+        long espera = Math.min(1L << Math.min(intentos, 20), config.getBackoffMaximoSegundos());
+
+        evento.setIntentos(intentos);
+        evento.setUltimoError(error.length() > 1000 ? error.substring(0, 1000) : error);
+        evento.setProximoIntento(LocalDateTime.now().plusSeconds(espera));
+
+        fallidos.increment();
+
+        log.warn("⚠️ Evento {} ({}) no publicado, intento {}. Reintento en {}s: {}",
+                 evento.getId(), evento.getTipoEvento(), intentos, espera, error);
+    }
+
+    private void actualizarMetricas() {
+        pendientes.set(outboxRepository.countByFechaPublicacionIsNull());
+
+        LocalDateTime masAntiguo = outboxRepository.fechaPendienteMasAntigua();
+        lagSegundos.set(masAntiguo != null
+            ? Math.max(0, Duration.between(masAntiguo, LocalDateTime.now()).toSeconds())
+            : 0);
+    }
+}
@@ -1,6 +1,7 @@
 package co.unicauca.submission.infrastructure.adapter.out.messaging;
 
 import co.unicauca.submission.application.port.out.INotificationPort;
+import co.unicauca.submission.application.port.out.INotificationPort.NotificacionDocumento;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
@@ -14,6 +15,10 @@ import java.util.Map;
  * Implementa el puerto INotificationPort.
  *
  * Las notificaciones serán consumidas por el notification-service.
+ * Las de documentos enviados llegan con los datos ya resueltos por el caso de uso
+ * (NotificacionDocumento): no se relee el proyecto ni se consulta identity-service.
+ * Sus fallos de publicación se propagan: se envían desde el ejecutor post-commit,
+ * que reintenta la tarea.
  */
 @Component
 public class RabbitMQNotificationAdapter implements INotificationPort {
@@ -38,44 +43,39 @@ public class RabbitMQNotificationAdapter implements INotificationPort {
 
     @Override
     public void enviarNotificacion(String destinatario, String asunto, String mensaje, Map<String, Object> datos) {
-        try {
-            // Construir mensaje en el formato esperado por notification-service
-            Map<String, Object> notificacion = new HashMap<>();
-
-            // NotificationType - Mapear el tipo interno a los valores válidos del enum
-            String tipoInterno = (String) datos.getOrDefault("tipo", "DOCUMENT_SUBMITTED");
-            String notificationType = mapearTipoNotificacion(tipoInterno);
-            notificacion.put("notificationType", notificationType);
-
-            // Channel
-            notificacion.put("channel", "EMAIL");
-
-            // Recipients (lista de objetos con email)
-            Map<String, String> recipient = new HashMap<>();
-            recipient.put("email", destinatario);
-            recipient.put("name", destinatario.split("@")[0]); // Nombre simplificado del email
-            notificacion.put("recipients", java.util.List.of(recipient));
-
-            // Business Context (datos del dominio)
-            Map<String, Object> businessContext = new HashMap<>();
-            businessContext.putAll(datos);
-            businessContext.put("subject", asunto); // Agregar asunto al contexto
-            businessContext.put("customMessage", mensaje); // Agregar mensaje custom al contexto
-            notificacion.put("businessContext", businessContext);
-
-            // Campos opcionales
-            notificacion.put("message", null); // Usar plantilla por defecto
-            notificacion.put("templateId", null); // Usar plantilla por defecto del tipo
-            notificacion.put("forceFail", false);
-
-            // Publicar directamente a la cola (sin exchange)
-            rabbitTemplate.convertAndSend(NOTIFICATIONS_QUEUE, notificacion);
-
-            log.info("📧 Notificación '{}' enviada a cola '{}' para: {}", notificationType, NOTIFICATIONS_QUEUE, destinatario);
-
-        } catch (Exception e) {
-            log.error("❌ Error al enviar notificación: {}", e.getMessage(), e);
-        }
+        // Construir mensaje en el formato esperado por notification-service
+        Map<String, Object> notificacion = new HashMap<>();
+
+        // NotificationType - Mapear el tipo interno a los valores válidos del enum
+        String tipoInterno = (String) datos.getOrDefault("tipo", "DOCUMENT_SUBMITTED");
+        String notificationType = mapearTipoNotificacion(tipoInterno);
+        notificacion.put("notificationType", notificationType);
+
+        // Channel
+        notificacion.put("channel", "EMAIL");
+
+        // Recipients (lista de objetos con email)
+        Map<String, String> recipient = new HashMap<>();
+        recipient.put("email", destinatario);
+        recipient.put("name", destinatario.split("@")[0]); // Nombre simplificado del email
+        notificacion.put("recipients", java.util.List.of(recipient));
+
+        // Business Context (datos del dominio)
+        Map<String, Object> businessContext = new HashMap<>();
+        businessContext.putAll(datos);
+        businessContext.put("subject", asunto); // Agregar asunto al contexto
+        businessContext.put("customMessage", mensaje); // Agregar mensaje custom al contexto
+        notificacion.put("businessContext", businessContext);
+
+        // Campos opcionales
+        notificacion.put("message", null); // Usar plantilla por defecto
+        notificacion.put("templateId", null); // Usar plantilla por defecto del tipo
+        notificacion.put("forceFail", false);
+
+        // Publicar directamente a la cola (sin exchange)
+        rabbitTemplate.convertAndSend(NOTIFICATIONS_QUEUE, notificacion);
+
+        log.info("📧 Notificación '{}' enviada a cola '{}' para: {}", notificationType, NOTIFICATIONS_QUEUE, destinatario);
     }
 
     /**
@@ -101,118 +101,50 @@ public class RabbitMQNotificationAdapter implements INotificationPort {
     }
 
     @Override
-    public void notificarCoordinadorFormatoAEnviado(Long proyectoId, int version) {
-        try {
-            log.info("Notificando coordinador sobre Formato A - ProyectoID: {}, Version: {}",
-                    proyectoId, version);
-
-            // Obtener información del proyecto
-            co.unicauca.submission.domain.model.Proyecto proyecto = repositoryPort
-                .findById(co.unicauca.submission.domain.model.ProyectoId.of(proyectoId))
-                .orElse(null);
-
-            if (proyecto == null) {
-                log.warn("No se pudo obtener proyecto {} para notificación", proyectoId);
-                return;
-            }
-
-            // Obtener información del director
-            String submittedBy = "Docente Director";
-            try {
-                co.unicauca.submission.application.port.out.IIdentityServicePort.UsuarioInfo director =
-                    identityServicePort.obtenerUsuario(proyecto.getParticipantes().getDirectorId());
-                if (director != null) {
-                    submittedBy = director.nombreCompleto();
-                }
-            } catch (Exception e) {
-                log.warn("No se pudo obtener nombre del director: {}", e.getMessage());
-            }
-
-            // Construir datos con TODOS los campos requeridos
-            Map<String, Object> datos = new HashMap<>();
-            datos.put("proyectoId", proyectoId);
-            datos.put("tipo", "FORMATO_A_ENVIADO");
-
-            // Campos requeridos por DOCUMENT_SUBMITTED
-            datos.put("projectTitle", proyecto.getTitulo().getValue());
-            datos.put("documentType", "FORMATO_A");
-            datos.put("submittedBy", submittedBy);
-            datos.put("submissionDate", java.time.LocalDateTime.now().toString());
-            datos.put("documentVersion", version);
-
-            // Obtener email del coordinador
-            String emailCoordinador = identityServicePort.obtenerEmailCoordinador();
-
-            enviarNotificacion(
-                emailCoordinador,
-                "Nuevo Formato A para evaluación",
-                String.format("Se ha enviado el Formato A (versión %d) del proyecto '%s' para su evaluación.",
-                             version, proyecto.getTitulo().getValue()),
-                datos
-            );
-
-            log.info("✅ Notificación enviada exitosamente al coordinador");
-
-        } catch (Exception e) {
-            log.error("❌ Error al notificar coordinador: {}", e.getMessage(), e);
-        }
+    public void notificarCoordinadorFormatoAEnviado(NotificacionDocumento notificacion) {
+        log.info("Notificando coordinador sobre Formato A - ProyectoID: {}, Version: {}",
+                notificacion.proyectoId(), notificacion.version());
+
+        enviarNotificacion(
+            notificacion.emailDestinatario(),
+            "Nuevo Formato A para evaluación",
+            String.format("Se ha enviado el Formato A (versión %d) del proyecto '%s' para su evaluación.",
+                         notificacion.version(), notificacion.tituloProyecto()),
+            datosDocumento(notificacion, "FORMATO_A_ENVIADO", "FORMATO_A")
+        );
+
+        log.info("✅ Notificación enviada exitosamente al coordinador");
     }
 
     @Override
-    public void notificarJefeDepartamentoAnteproyecto(Long proyectoId) {
-        try {
-            log.info("Notificando jefe de departamento sobre anteproyecto - ProyectoID: {}", proyectoId);
-
-            // Obtener información del proyecto
-            co.unicauca.submission.domain.model.Proyecto proyecto = repositoryPort
-                .findById(co.unicauca.submission.domain.model.ProyectoId.of(proyectoId))
-                .orElse(null);
-
-            if (proyecto == null) {
-                log.warn("No se pudo obtener proyecto {} para notificación", proyectoId);
-                return;
-            }
-
-            // Obtener información del director
-            String submittedBy = "Docente Director";
-            try {
-                co.unicauca.submission.application.port.out.IIdentityServicePort.UsuarioInfo director =
-                    identityServicePort.obtenerUsuario(proyecto.getParticipantes().getDirectorId());
-                if (director != null) {
-                    submittedBy = director.nombreCompleto();
-                }
-            } catch (Exception e) {
-                log.warn("No se pudo obtener nombre del director: {}", e.getMessage());
-            }
-
-            // Construir datos con TODOS los campos requeridos
-            Map<String, Object> datos = new HashMap<>();
-            datos.put("proyectoId", proyectoId);
-            datos.put("tipo", "ANTEPROYECTO_ENVIADO");
-
-            // Campos requeridos por DOCUMENT_SUBMITTED
-            datos.put("projectTitle", proyecto.getTitulo().getValue());
-            datos.put("documentType", "ANTEPROYECTO");
-            datos.put("submittedBy", submittedBy);
-            datos.put("submissionDate", java.time.LocalDateTime.now().toString());
-            datos.put("documentVersion", 1); // Anteproyecto siempre es versión 1
-
-            // Obtener email del jefe de departamento
-            String emailJefe = identityServicePort.obtenerEmailJefeDepartamento();
-
-            enviarNotificacion(
-                emailJefe,
-                "Nuevo Anteproyecto para asignar evaluadores",
-                String.format("Se ha subido el anteproyecto del proyecto '%s'. Por favor asigne evaluadores.",
-                             proyecto.getTitulo().getValue()),
-                datos
-            );
-
-            log.info("✅ Notificación enviada exitosamente al jefe de departamento");
+    public void notificarJefeDepartamentoAnteproyecto(NotificacionDocumento notificacion) {
+        log.info("Notificando jefe de departamento sobre anteproyecto - ProyectoID: {}",
+                notificacion.proyectoId());
+
+        enviarNotificacion(
+            notificacion.emailDestinatario(),
+            "Nuevo Anteproyecto para asignar evaluadores",
+            String.format("Se ha subido el anteproyecto del proyecto '%s'. Por favor asigne evaluadores.",
+                         notificacion.tituloProyecto()),
+            datosDocumento(notificacion, "ANTEPROYECTO_ENVIADO", "ANTEPROYECTO")
+        );
+
+        log.info("✅ Notificación enviada exitosamente al jefe de departamento");
+    }
 
-        } catch (Exception e) {
-            log.error("❌ Error al notificar jefe departamento: {}", e.getMessage(), e);
-        }
+    /**
+     * Construye los datos con TODOS los campos requeridos por DOCUMENT_SUBMITTED.
+     */
+    private Map<String, Object> datosDocumento(NotificacionDocumento notificacion, String tipo, String documentType) {
+        Map<String, Object> datos = new HashMap<>();
+        datos.put("proyectoId", notificacion.proyectoId());
+        datos.put("tipo", tipo);
+        datos.put("projectTitle", notificacion.tituloProyecto());
+        datos.put("documentType", documentType);
+        datos.put("submittedBy", notificacion.enviadoPor() != null ? notificacion.enviadoPor() : "Docente Director");
+        datos.put("submissionDate", java.time.LocalDateTime.now().toString());
+        datos.put("documentVersion", notificacion.version());
+        return datos;
     }
 
     @Override
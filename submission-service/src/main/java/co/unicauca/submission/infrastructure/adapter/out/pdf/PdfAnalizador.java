@@ -0,0 +1,152 @@
+package co.unicauca.submission.infrastructure.adapter.out.pdf;
+
+import co.unicauca.submission.infrastructure.config.ValidacionPdfConfig;
+import org.apache.pdfbox.Loader;
+import org.apache.pdfbox.io.IOUtils;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.encryption.InvalidPasswordException;
+import org.apache.pdfbox.rendering.ImageType;
+import org.apache.pdfbox.rendering.PDFRenderer;
+import org.apache.pdfbox.text.PDFTextStripper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+/**
+ * Análisis estructural de un PDF con PDFBox.
+ *
+ * Abre el documento desde disco (los streams internos se cachean en archivos
+ * temporales, no en el heap), rechaza los cifrados o sin páginas y cuenta el texto
+ * extraíble sin retenerlo. Un PDF que PDFBox no puede interpretar se rechaza como dañado.
+ *
+ * Con el documento ya abierto, renderiza además la primera página de los válidos
+ * como PNG pequeño (vista previa para la triage de la cola de Formatos A).
+ */
+@Component
+public class PdfAnalizador {
+
+    private static final Logger log = LoggerFactory.getLogger(PdfAnalizador.class);
+
+    /**
+     * Resultado del análisis: valido con páginas, caracteres y vista previa (PNG, null
+     * si no se pudo generar), o rechazado con motivo.
+     */
+    public record Resultado(boolean valido, Integer paginas, Long caracteresTexto, String motivoRechazo,
+                            byte[] vistaPrevia) {
+
+        static Resultado valido(int paginas, long caracteresTexto, byte[] vistaPrevia) {
+            return new Resultado(true, paginas, caracteresTexto, null, vistaPrevia);
+        }
+
+        static Resultado rechazado(String motivo) {
+            return new Resultado(false, null, null, motivo, null);
+        }
+    }
+
+    private final int anchoVistaPrevia;
+
+    public PdfAnalizador() {
+        this(new ValidacionPdfConfig());
+    }
+
+    @Autowired
+    public PdfAnalizador(ValidacionPdfConfig config) {
+        this.anchoVistaPrevia = config.getAnchoVistaPrevia();
+    }
+
+    /**
+     * @throws IOException solo si el archivo no se puede leer (error transitorio del
+     *                     almacenamiento); los problemas del PDF se devuelven como rechazo
+     */
+    public Resultado analizar(Path archivo) throws IOException {
+        if (!Files.isReadable(archivo)) {
+            throw new NoSuchFileException(archivo.toString());
+        }
+
+        try (PDDocument documento = Loader.loadPDF(archivo.toFile(), "", null, null,
+                IOUtils.createTempFileOnlyStreamCache())) {
+
+            // Abre sin contraseña de usuario pero tiene restricciones (contraseña de propietario)
+            if (documento.isEncrypted()) {
+                return Resultado.rechazado("El PDF está cifrado");
+            }
+
+            int paginas = documento.getNumberOfPages();
+            if (paginas == 0) {
+                return Resultado.rechazado("El PDF no tiene páginas");
+            }
+
+            ContadorCaracteres contador = new ContadorCaracteres();
+            new PDFTextStripper().writeText(documento, contador);
+
+            return Resultado.valido(paginas, contador.total, renderizarVistaPrevia(documento));
+
+        } catch (InvalidPasswordException e) {
+            return Resultado.rechazado("El PDF está protegido con contraseña");
+        } catch (IOException e) {
+            return Resultado.rechazado("El PDF está dañado: " + e.getMessage());
+        }
+    }
+
+    /**
+     * PNG de la primera página escalado a anchoVistaPrevia. Una página que no se puede
+     * renderizar (fuentes o imágenes rotas) no invalida el documento: queda sin vista previa.
+     */
+    private byte[] renderizarVistaPrevia(PDDocument documento) {
+        if (anchoVistaPrevia <= 0) {
+            return null;
+        }
+        try {
+            PDRectangle pagina = documento.getPage(0).getCropBox();
+            boolean rotada = documento.getPage(0).getRotation() % 180 != 0;
+            float ancho = rotada ? pagina.getHeight() : pagina.getWidth();
+            float escala = ancho > 0 ? Math.min(1f, anchoVistaPrevia / ancho) : 1f;
+
+            BufferedImage imagen = new PDFRenderer(documento).renderImage(0, escala, ImageType.RGB);
+            ByteArrayOutputStream png = new ByteArrayOutputStream(32 * 1024);
+            ImageIO.write(imagen, "png", png);
+            return png.toByteArray();
+
+        } catch (IOException | RuntimeException e) {
+            log.warn("⚠️ No se pudo generar la vista previa: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Writer que solo cuenta: el texto extraído nunca se acumula en memoria.
+     */
+    private static final class ContadorCaracteres extends Writer {
+
+        private long total;
+
+        @Override
+        public void write(char[] cbuf, int off, int len) {
+            total += len;
+        }
+
+        @Override
+        public void write(String str, int off, int len) {
+            total += len;
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+}
@@ -0,0 +1,313 @@
+package co.unicauca.submission.infrastructure.adapter.out.pdf;
+
+import co.unicauca.submission.application.dto.response.ArchivoAlmacenado;
+import co.unicauca.submission.application.dto.response.ValidacionDocumentoResponse.Estado;
+import co.unicauca.submission.application.port.out.IFileStoragePort;
+import co.unicauca.submission.application.port.out.IProyectoCachePort;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.ProyectoJpaRepository;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.ValidacionDocumentoJpaRepository;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.entity.ValidacionDocumentoEntity;
+import co.unicauca.submission.infrastructure.config.ValidacionPdfConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Worker de validación asíncrona de PDFs (tabla validaciones_documento).
+ *
+ * En cada ciclo reclama con FOR UPDATE SKIP LOCKED tantas validaciones pendientes
+ * como hilos libres tenga su pool, las marca EN_PROCESO y confirma; el análisis
+ * (PdfAnalizador) corre fuera de la transacción. Así varias instancias reparten el
+ * trabajo, ninguna acumula más de lo que puede analizar y una subida masiva solo
+ * alarga la cola, sin afectar la latencia de las peticiones.
+ *
+ * Un PDF dañado o cifrado se rechaza de inmediato. Un error leyendo el
+ * almacenamiento se reintenta con backoff exponencial hasta maxIntentos. Las filas
+ * que quedan EN_PROCESO por una caída se reencolan tras timeoutProcesoSegundos.
+ *
+ * La vista previa de los válidos (PNG de la primera página) se guarda en el
+ * almacenamiento junto al PDF. Si el documento se reenvió durante el análisis, el
+ * resultado se descarta y la vista previa recién guardada se elimina.
+ *
+ * Las páginas y el tamaño del texto quedan en la fila de la validación y se
+ * exponen en la consulta del proyecto por ID. Al registrar un resultado, el worker
+ * sube la versión del proyecto en la misma transacción e invalida su caché, para
+ * que el ETag y la caché no sirvan el estado anterior.
+ *
+ * Métricas (Micrometer):
+ * - submission.validacion.validos / submission.validacion.rechazados
+ * - submission.validacion.reintentos
+ * - submission.validacion.duracion: tiempo de análisis por documento
+ */
+@Component
+@ConditionalOnProperty(name = "async.validacion-pdf.enabled", havingValue = "true", matchIfMissing = true)
+public class ValidacionPdfWorker {
+
+    private static final Logger log = LoggerFactory.getLogger(ValidacionPdfWorker.class);
+
+    /** Directorio de las vistas previas cuando la ruta del PDF no tiene uno (p. ej. sha256:...) */
+    private static final String DIRECTORIO_VISTAS_PREVIAS = "vistas-previas";
+
+    private final ValidacionDocumentoJpaRepository repository;
+    private final ProyectoJpaRepository proyectoRepository;
+    private final IProyectoCachePort cachePort;
+    private final IFileStoragePort fileStoragePort;
+    private final PdfAnalizador analizador;
+    private final ThreadPoolTaskExecutor executor;
+    private final TransactionTemplate transactionTemplate;
+    private final ValidacionPdfConfig config;
+
+    /** Un permiso por hilo del pool: limita lo reclamado a lo que se puede analizar ya */
+    private final Semaphore libres;
+
+    private final Counter validos;
+    private final Counter rechazados;
+    private final Counter reintentos;
+    private final Timer duracion;
+
+    public ValidacionPdfWorker(ValidacionDocumentoJpaRepository repository,
+                               ProyectoJpaRepository proyectoRepository,
+                               IProyectoCachePort cachePort,
+                               IFileStoragePort fileStoragePort,
+                               PdfAnalizador analizador,
+                               @Qualifier("validacionPdfExecutor") ThreadPoolTaskExecutor executor,
+                               PlatformTransactionManager transactionManager,
+                               ValidacionPdfConfig config,
+                               MeterRegistry meterRegistry) {
+        this.repository = repository;
+        this.proyectoRepository = proyectoRepository;
+        this.cachePort = cachePort;
+        this.fileStoragePort = fileStoragePort;
+        this.analizador = analizador;
+        this.executor = executor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.config = config;
+        this.libres = new Semaphore(config.getHilos());
+
+        this.validos = Counter.builder("submission.validacion.validos")
+            .description("Documentos validados correctamente")
+            .register(meterRegistry);
+        this.rechazados = Counter.builder("submission.validacion.rechazados")
+            .description("Documentos rechazados (dañados, cifrados o ilegibles)")
+            .register(meterRegistry);
+        this.reintentos = Counter.builder("submission.validacion.reintentos")
+            .description("Validaciones reprogramadas por errores del almacenamiento")
+            .register(meterRegistry);
+        this.duracion = Timer.builder("submission.validacion.duracion")
+            .description("Tiempo de análisis de un PDF")
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${async.validacion-pdf.intervalo-ms:1000}")
+    public void procesarPendientes() {
+        try {
+            LocalDateTime ahora = LocalDateTime.now();
+            Integer liberadas = transactionTemplate.execute(status -> repository.liberarAtascadas(
+                ahora.minusSeconds(config.getTimeoutProcesoSegundos()), ahora));
+            if (liberadas != null && liberadas > 0) {
+                log.warn("⚠️ {} validaciones abandonadas en proceso devueltas a la cola", liberadas);
+            }
+
+            int disponibles = libres.drainPermits();
+            if (disponibles == 0) {
+                return;
+            }
+
+            List<Reclamada> lote;
+            try {
+                lote = transactionTemplate.execute(status -> reclamar(disponibles));
+            } catch (RuntimeException e) {
+                libres.release(disponibles);
+                throw e;
+            }
+
+            libres.release(disponibles - lote.size());
+            for (Reclamada validacion : lote) {
+                enviar(validacion);
+            }
+
+        } catch (Exception e) {
+            log.error("❌ Error en el worker de validación de PDFs: {}", e.getMessage(), e);
+        }
+    }
+
+    private List<Reclamada> reclamar(int cantidad) {
+        LocalDateTime ahora = LocalDateTime.now();
+        return repository.reclamarPendientes(ahora, cantidad).stream()
+            .map(entity -> {
+                entity.setEstado(Estado.EN_PROCESO);
+                entity.setIntentos(entity.getIntentos() + 1);
+                entity.setFechaActualizacion(ahora);
+                return new Reclamada(entity);
+            })
+            .toList();
+    }
+
+    private void enviar(Reclamada validacion) {
+        try {
+            executor.execute(() -> {
+                try {
+                    validar(validacion);
+                } finally {
+                    libres.release();
+                }
+            });
+        } catch (TaskRejectedException e) {
+            // No debería ocurrir (hay un permiso por hilo); queda EN_PROCESO y se reencola por timeout
+            libres.release();
+            log.warn("⚠️ Validación {} rechazada por el pool: {}", validacion.id(), e.getMessage());
+        }
+    }
+
+    void validar(Reclamada validacion) {
+        try {
+            ArchivoAlmacenado archivo = fileStoragePort.describirArchivo(validacion.ruta())
+                .orElseThrow(() -> new NoSuchFileException(validacion.ruta()));
+
+            PdfAnalizador.Resultado resultado = duracion.recordCallable(() -> analizar(archivo));
+
+            if (resultado.valido()) {
+                String vistaPrevia = guardarVistaPrevia(validacion, resultado.vistaPrevia());
+                if (registrar(validacion, Estado.VALIDO, resultado.paginas(), resultado.caracteresTexto(),
+                        null, vistaPrevia) == 0 && vistaPrevia != null) {
+                    descartarVistaPrevia(vistaPrevia);
+                }
+                validos.increment();
+                log.debug("✅ {} del proyecto {} válido: {} páginas", validacion.tipo(),
+                          validacion.proyectoId(), resultado.paginas());
+            } else {
+                rechazar(validacion, resultado.motivoRechazo());
+            }
+
+        } catch (Exception e) {
+            reintentarORechazar(validacion, e);
+        }
+    }
+
+    /**
+     * PDFBox necesita acceso aleatorio: un archivo remoto (S3) se baja a un temporal
+     * propio del worker, fuera de las peticiones, y se borra al terminar.
+     */
+    private PdfAnalizador.Resultado analizar(ArchivoAlmacenado archivo) throws Exception {
+        if (archivo.enDisco()) {
+            return analizador.analizar(archivo.getUbicacion());
+        }
+        Path temporal = Files.createTempFile("validacion-", ".pdf");
+        try {
+            if (archivo.getTamano() > 0) {
+                try (InputStream contenido = archivo.abrir(0, archivo.getTamano() - 1)) {
+                    Files.copy(contenido, temporal, StandardCopyOption.REPLACE_EXISTING);
+                }
+            }
+            return analizador.analizar(temporal);
+        } finally {
+            Files.deleteIfExists(temporal);
+        }
+    }
+
+    /**
+     * @return ruta de la vista previa, o null si no hay o no se pudo guardar (el
+     *         documento sigue siendo válido, solo se sirve sin miniatura)
+     */
+    private String guardarVistaPrevia(Reclamada validacion, byte[] png) {
+        if (png == null) {
+            return null;
+        }
+        try {
+            int separador = validacion.ruta().lastIndexOf('/');
+            String directorio = separador > 0 ? validacion.ruta().substring(0, separador) : DIRECTORIO_VISTAS_PREVIAS;
+            return fileStoragePort.guardarArchivo(new ByteArrayInputStream(png),
+                "vista-previa-" + validacion.tipo().toLowerCase() + ".png", directorio);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ No se pudo guardar la vista previa de {} del proyecto {}: {}",
+                     validacion.tipo(), validacion.proyectoId(), e.getMessage());
+            return null;
+        }
+    }
+
+    private void descartarVistaPrevia(String vistaPrevia) {
+        try {
+            fileStoragePort.eliminarArchivo(vistaPrevia);
+        } catch (RuntimeException e) {
+            log.warn("⚠️ No se pudo eliminar la vista previa obsoleta {}: {}", vistaPrevia, e.getMessage());
+        }
+    }
+
+    private void reintentarORechazar(Reclamada validacion, Exception e) {
+        String error = e instanceof NoSuchFileException
+            ? "Archivo no encontrado en el almacenamiento"
+            : "Error leyendo el documento: " + e.getMessage();
+
+        if (validacion.intentos() >= config.getMaxIntentos()) {
+            rechazar(validacion, error);
+            return;
+        }
+
+        long espera = config.getBackoffInicialMs() << Math.min(validacion.intentos() - 1, 20);
+        LocalDateTime ahora = LocalDateTime.now();
+        transactionTemplate.executeWithoutResult(status -> repository.reprogramar(
+            validacion.id(), validacion.ruta(), ahora.plusNanos(espera * 1_000_000), truncar(error), ahora));
+        reintentos.increment();
+
+        log.warn("⚠️ Validación de {} del proyecto {} falló (intento {}). Reintento en {}ms: {}",
+                 validacion.tipo(), validacion.proyectoId(), validacion.intentos(), espera, error);
+    }
+
+    private void rechazar(Reclamada validacion, String motivo) {
+        registrar(validacion, Estado.RECHAZADO, null, null, motivo, null);
+        rechazados.increment();
+        log.warn("🚫 {} del proyecto {} rechazado: {}", validacion.tipo(), validacion.proyectoId(), motivo);
+    }
+
+    /**
+     * @return 0 si el resultado se descartó porque el documento cambió durante el análisis
+     */
+    private int registrar(Reclamada validacion, Estado estado, Integer paginas, Long caracteres,
+                          String motivo, String vistaPrevia) {
+        Integer actualizadas = transactionTemplate.execute(status -> {
+            int filas = repository.registrarResultado(
+                validacion.id(), validacion.ruta(), estado.name(), paginas, caracteres,
+                truncar(motivo), vistaPrevia, LocalDateTime.now());
+            if (filas > 0) {
+                proyectoRepository.incrementarVersion(validacion.proyectoId());
+                cachePort.invalidar(validacion.proyectoId());
+            }
+            return filas;
+        });
+        return actualizadas != null ? actualizadas : 0;
+    }
+
+    private static String truncar(String texto) {
+        return texto != null && texto.length() > 1000 ? texto.substring(0, 1000) : texto;
+    }
+
+    /**
+     * Copia inmutable de la fila reclamada, para usarla fuera de la transacción.
+     */
+    record Reclamada(Long id, Long proyectoId, String tipo, String ruta, int intentos) {
+
+        Reclamada(ValidacionDocumentoEntity entity) {
+            this(entity.getId(), entity.getProyectoId(), entity.getTipo(), entity.getRuta(), entity.getIntentos());
+        }
+    }
+}
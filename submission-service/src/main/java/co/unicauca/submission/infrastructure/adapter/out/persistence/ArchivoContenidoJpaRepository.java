@@ -0,0 +1,162 @@
+package co.unicauca.submission.infrastructure.adapter.out.persistence;
+
+import co.unicauca.submission.infrastructure.adapter.out.persistence.entity.ArchivoContenidoEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * JPA Repository para el conteo de referencias de blobs.
+ *
+ * Las operaciones de conteo son sentencias únicas (upsert / update condicional)
+ * para que dos subidas concurrentes del mismo contenido no pierdan referencias.
+ *
+ * Incluye también las consultas del reconciliador del almacenamiento: qué filas
+ * apuntan a una ruta (blob "sha256:..." o ruta relativa) y la corrección del conteo.
+ */
+@Repository
+public interface ArchivoContenidoJpaRepository extends JpaRepository<ArchivoContenidoEntity, String> {
+
+    /**
+     * Registra una referencia al blob: lo crea con 1 referencia o incrementa el contador.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO archivos_contenido (hash, tamano, referencias, fecha_creacion, fecha_modificacion)
+            VALUES (:hash, :tamano, 1, now(), now())
+            ON CONFLICT (hash) DO UPDATE
+               SET referencias = archivos_contenido.referencias + 1,
+                   fecha_modificacion = now()
+            """, nativeQuery = true)
+    void agregarReferencia(@Param("hash") String hash, @Param("tamano") long tamano);
+
+    /**
+     * Libera una referencia al blob.
+     *
+     * @return filas afectadas (0 si el blob no estaba registrado)
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE archivos_contenido
+               SET referencias = referencias - 1,
+                   fecha_modificacion = now()
+             WHERE hash = :hash AND referencias > 0
+            """, nativeQuery = true)
+    int liberarReferencia(@Param("hash") String hash);
+
+    /**
+     * Elimina el registro del blob si ya no tiene referencias.
+     * La fila queda bloqueada hasta el commit, de modo que una subida concurrente
+     * del mismo contenido espera a que el archivo se haya borrado.
+     *
+     * @return 1 si se eliminó, 0 si aún tiene referencias
+     */
+    @Modifying
+    @Query(value = "DELETE FROM archivos_contenido WHERE hash = :hash AND referencias = 0", nativeQuery = true)
+    int eliminarSinReferencias(@Param("hash") String hash);
+
+    /**
+     * Una referencia a un archivo desde la BD: el tipo de documento y el usuario al que
+     * se le atribuye (el director del proyecto).
+     */
+    interface ReferenciaArchivo {
+        String getRuta();
+
+        String getTipo();
+
+        Long getUsuarioId();
+    }
+
+    /**
+     * Referencias a las rutas dadas, una fila por columna que apunta a cada ruta.
+     * Un mismo blob puede aparecer varias veces (varios proyectos o varios documentos
+     * con los mismos bytes): la cantidad de filas es su conteo real de referencias.
+     *
+     * validaciones_documento.ruta no se consulta: siempre coincide con la columna
+     * del proyecto y no registra una referencia propia.
+     */
+    @Query(value = """
+            SELECT ruta_pdf_formatoa AS ruta, 'FORMATO_A' AS tipo, director_id AS "usuarioId"
+              FROM proyectos WHERE ruta_pdf_formatoa IN (:rutas)
+            UNION ALL
+            SELECT ruta_carta, 'CARTA', director_id
+              FROM proyectos WHERE ruta_carta IN (:rutas)
+            UNION ALL
+            SELECT ruta_pdf_anteproyecto, 'ANTEPROYECTO', director_id
+              FROM proyectos WHERE ruta_pdf_anteproyecto IN (:rutas)
+            UNION ALL
+            SELECT v.ruta_vista_previa, 'VISTA_PREVIA', p.director_id
+              FROM validaciones_documento v
+              JOIN proyectos p ON p.id = v.proyecto_id
+             WHERE v.ruta_vista_previa IN (:rutas)
+            """, nativeQuery = true)
+    List<ReferenciaArchivo> buscarReferencias(@Param("rutas") Collection<String> rutas);
+
+    /**
+     * Conteo real de referencias a una ruta; mismas columnas que buscarReferencias.
+     */
+    @Query(value = """
+            SELECT (SELECT count(*) FROM proyectos WHERE ruta_pdf_formatoa = :ruta)
+                 + (SELECT count(*) FROM proyectos WHERE ruta_carta = :ruta)
+                 + (SELECT count(*) FROM proyectos WHERE ruta_pdf_anteproyecto = :ruta)
+                 + (SELECT count(*) FROM validaciones_documento WHERE ruta_vista_previa = :ruta)
+            """, nativeQuery = true)
+    long contarReferencias(@Param("ruta") String ruta);
+
+    /**
+     * Bloquea la fila del blob hasta el commit, creándola si el archivo quedó sin
+     * registrar (rollback después de escribirlo). Una subida concurrente del mismo
+     * contenido espera en agregarReferencia a que termine la reconciliación.
+     * La fila nueva lleva como fecha la del archivo, no la actual.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO archivos_contenido (hash, tamano, referencias, fecha_creacion, fecha_modificacion)
+            VALUES (:hash, :tamano, 0, :fechaArchivo, :fechaArchivo)
+            ON CONFLICT (hash) DO UPDATE
+               SET tamano = archivos_contenido.tamano
+            """, nativeQuery = true)
+    void bloquearParaReconciliar(@Param("hash") String hash,
+                                 @Param("tamano") long tamano,
+                                 @Param("fechaArchivo") LocalDateTime fechaArchivo);
+
+    /**
+     * Elimina el registro de un blob sin referencias reales, salvo que haya recibido
+     * una referencia después del límite: esa subida puede no haber confirmado aún la
+     * transacción que guarda la ruta en el proyecto.
+     *
+     * @return 1 si se eliminó
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM archivos_contenido
+             WHERE hash = :hash
+               AND fecha_modificacion < :limite
+            """, nativeQuery = true)
+    int eliminarHuerfano(@Param("hash") String hash, @Param("limite") LocalDateTime limite);
+
+    /**
+     * Ajusta el contador al conteo real (reenvíos y rechazos que no liberaron la
+     * referencia), con la misma salvedad de eliminarHuerfano.
+     *
+     * @return 1 si el contador cambió
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE archivos_contenido
+               SET referencias = :referencias,
+                   fecha_modificacion = now()
+             WHERE hash = :hash
+               AND referencias <> :referencias
+               AND fecha_modificacion < :limite
+            """, nativeQuery = true)
+    int corregirReferencias(@Param("hash") String hash,
+                            @Param("referencias") int referencias,
+                            @Param("limite") LocalDateTime limite);
+}
@@ -0,0 +1,125 @@
+package co.unicauca.submission.infrastructure.adapter.out.persistence;
+
+import co.unicauca.submission.infrastructure.adapter.out.persistence.entity.ClaveIdempotenciaEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * JPA Repository para las claves de idempotencia.
+ */
+@Repository
+public interface ClaveIdempotenciaJpaRepository extends JpaRepository<ClaveIdempotenciaEntity, Long> {
+
+    Optional<ClaveIdempotenciaEntity> findByUsuarioIdAndClave(Long usuarioId, String clave);
+
+    /**
+     * Reserva la clave para ejecutar la petición. Una clave vencida, o una reserva
+     * EN_PROCESO sin renovar desde limiteProceso (la instancia que la tomó se cayó),
+     * se puede volver a tomar.
+     *
+     * @return 1 si la clave quedó reservada; 0 si otra petición ya la tiene
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO claves_idempotencia (usuario_id, clave, metodo, ruta, estado, propietario,
+                                             fecha_creacion, renovada, expira)
+            VALUES (:usuarioId, :clave, :metodo, :ruta, 'EN_PROCESO', :propietario, :ahora, :ahora, :expira)
+            ON CONFLICT (usuario_id, clave) DO UPDATE
+               SET metodo = EXCLUDED.metodo,
+                   ruta = EXCLUDED.ruta,
+                   estado = 'EN_PROCESO',
+                   codigo_estado = NULL,
+                   content_type = NULL,
+                   cuerpo = NULL,
+                   respuesta_omitida = FALSE,
+                   huella = NULL,
+                   propietario = EXCLUDED.propietario,
+                   fecha_creacion = EXCLUDED.fecha_creacion,
+                   renovada = EXCLUDED.renovada,
+                   expira = EXCLUDED.expira
+             WHERE claves_idempotencia.expira < :ahora
+                OR (claves_idempotencia.estado = 'EN_PROCESO' AND claves_idempotencia.renovada < :limiteProceso)
+            """, nativeQuery = true)
+    int reservar(@Param("usuarioId") Long usuarioId,
+                 @Param("clave") String clave,
+                 @Param("metodo") String metodo,
+                 @Param("ruta") String ruta,
+                 @Param("propietario") String propietario,
+                 @Param("ahora") LocalDateTime ahora,
+                 @Param("expira") LocalDateTime expira,
+                 @Param("limiteProceso") LocalDateTime limiteProceso);
+
+    /**
+     * Renueva la reserva de una petición que sigue en curso, para que no se tome
+     * por abandonada.
+     *
+     * @return 0 si la reserva ya no es del propietario
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE claves_idempotencia
+               SET renovada = :ahora
+             WHERE usuario_id = :usuarioId
+               AND clave = :clave
+               AND estado = 'EN_PROCESO'
+               AND propietario = :propietario
+            """, nativeQuery = true)
+    int renovar(@Param("usuarioId") Long usuarioId,
+                @Param("clave") String clave,
+                @Param("propietario") String propietario,
+                @Param("ahora") LocalDateTime ahora);
+
+    /**
+     * Guarda la respuesta de la petición original. Con respuestaOmitida el cuerpo
+     * no se guarda (superó el tamaño máximo).
+     *
+     * @return 0 si la reserva ya no es del propietario
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE claves_idempotencia
+               SET estado = 'COMPLETADA',
+                   codigo_estado = :codigoEstado,
+                   content_type = :contentType,
+                   cuerpo = :cuerpo,
+                   respuesta_omitida = :respuestaOmitida,
+                   huella = :huella
+             WHERE usuario_id = :usuarioId
+               AND clave = :clave
+               AND estado = 'EN_PROCESO'
+               AND propietario = :propietario
+            """, nativeQuery = true)
+    int completar(@Param("usuarioId") Long usuarioId,
+                  @Param("clave") String clave,
+                  @Param("propietario") String propietario,
+                  @Param("codigoEstado") int codigoEstado,
+                  @Param("contentType") String contentType,
+                  @Param("cuerpo") byte[] cuerpo,
+                  @Param("respuestaOmitida") boolean respuestaOmitida,
+                  @Param("huella") String huella);
+
+    /**
+     * Libera una reserva cuya petición falló, para que un reintento la ejecute.
+     */
+    @Modifying
+    @Query(value = """
+            DELETE FROM claves_idempotencia
+             WHERE usuario_id = :usuarioId
+               AND clave = :clave
+               AND estado = 'EN_PROCESO'
+               AND propietario = :propietario
+            """, nativeQuery = true)
+    int liberar(@Param("usuarioId") Long usuarioId,
+                @Param("clave") String clave,
+                @Param("propietario") String propietario);
+
+    @Modifying
+    @Query(value = "DELETE FROM claves_idempotencia WHERE expira < :ahora", nativeQuery = true)
+    int eliminarExpiradas(@Param("ahora") LocalDateTime ahora);
+}
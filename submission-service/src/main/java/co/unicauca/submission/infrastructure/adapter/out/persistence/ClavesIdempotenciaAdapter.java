@@ -0,0 +1,100 @@
+package co.unicauca.submission.infrastructure.adapter.out.persistence;
+
+import co.unicauca.submission.infrastructure.adapter.out.persistence.entity.ClaveIdempotenciaEntity;
+import co.unicauca.submission.infrastructure.config.IdempotenciaConfig;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Persistencia de las claves de idempotencia usadas por IdempotenciaFilter.
+ *
+ * Cada operación es una transacción corta e independiente de la petición: la
+ * reserva debe quedar visible para otras instancias antes de ejecutar la petición.
+ */
+@Component
+@ConditionalOnProperty(name = "idempotencia.enabled", havingValue = "true", matchIfMissing = true)
+public class ClavesIdempotenciaAdapter {
+
+    private static final Logger log = LoggerFactory.getLogger(ClavesIdempotenciaAdapter.class);
+
+    private final ClaveIdempotenciaJpaRepository repository;
+    private final IdempotenciaConfig config;
+
+    public ClavesIdempotenciaAdapter(ClaveIdempotenciaJpaRepository repository, IdempotenciaConfig config) {
+        this.repository = repository;
+        this.config = config;
+    }
+
+    /**
+     * @return true si la petición debe ejecutarse; false si la clave ya está tomada
+     */
+    @Transactional
+    public boolean reservar(Long usuarioId, String clave, String metodo, String ruta, String propietario) {
+        LocalDateTime ahora = LocalDateTime.now();
+        return repository.reservar(usuarioId, clave, metodo, ruta, propietario, ahora,
+            ahora.plusHours(config.getTtlHoras()),
+            ahora.minusSeconds(config.getTimeoutProcesoSegundos())) > 0;
+    }
+
+    @Transactional(readOnly = true)
+    public Optional<ClaveIdempotenciaEntity> buscar(Long usuarioId, String clave) {
+        return repository.findByUsuarioIdAndClave(usuarioId, clave);
+    }
+
+    /**
+     * @return false si la reserva ya no es del propietario
+     */
+    @Transactional
+    public boolean renovar(Long usuarioId, String clave, String propietario) {
+        return repository.renovar(usuarioId, clave, propietario, LocalDateTime.now()) > 0;
+    }
+
+    @Transactional
+    public void completar(Long usuarioId, String clave, String propietario, int codigoEstado,
+                          String contentType, byte[] cuerpo, String huella) {
+        registrarCompletada(usuarioId, clave,
+            repository.completar(usuarioId, clave, propietario, codigoEstado, contentType, cuerpo, false, huella));
+    }
+
+    /**
+     * Completa la clave sin guardar la respuesta: los reintentos se rechazan.
+     */
+    @Transactional
+    public void completarSinCuerpo(Long usuarioId, String clave, String propietario, int codigoEstado,
+                                   String huella) {
+        registrarCompletada(usuarioId, clave,
+            repository.completar(usuarioId, clave, propietario, codigoEstado, null, null, true, huella));
+    }
+
+    @Transactional
+    public void liberar(Long usuarioId, String clave, String propietario) {
+        repository.liberar(usuarioId, clave, propietario);
+    }
+
+    private void registrarCompletada(Long usuarioId, String clave, int actualizadas) {
+        if (actualizadas == 0) {
+            log.warn("⚠️ La reserva de la Idempotency-Key {} del usuario {} ya no era de esta petición",
+                clave, usuarioId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${idempotencia.intervalo-limpieza-ms:3600000}")
+    @Transactional
+    public void limpiarExpiradas() {
+        try {
+            int eliminadas = repository.eliminarExpiradas(LocalDateTime.now());
+            if (eliminadas > 0) {
+                log.info("🧹 {} claves de idempotencia vencidas eliminadas", eliminadas);
+            }
+        } catch (Exception e) {
+            log.error("❌ Error limpiando claves de idempotencia: {}", e.getMessage(), e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package co.unicauca.submission.infrastructure.adapter.out.persistence;
+
+import co.unicauca.submission.infrastructure.adapter.out.persistence.entity.OutboxEventoEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * JPA Repository para el outbox de eventos.
+ */
+@Repository
+public interface OutboxEventoJpaRepository extends JpaRepository<OutboxEventoEntity, Long> {
+
+    /**
+     * Reclama un lote de eventos pendientes cuyo próximo intento ya venció.
+     * FOR UPDATE SKIP LOCKED: varias instancias del relay toman lotes disjuntos
+     * sin esperarse; las filas quedan bloqueadas hasta el fin de la transacción.
+     */
+    @Query(value = """
+            SELECT * FROM outbox_eventos
+             WHERE fecha_publicacion IS NULL
+               AND proximo_intento <= :ahora
+             ORDER BY id
+             LIMIT :lote
+               FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<OutboxEventoEntity> reclamarPendientes(@Param("ahora") LocalDateTime ahora, @Param("lote") int lote);
+
+    /**
+     * Cantidad de eventos aún no publicados.
+     */
+    long countByFechaPublicacionIsNull();
+
+    /**
+     * Fecha de creación del evento pendiente más antiguo (null si no hay pendientes).
+     */
+    @Query("SELECT MIN(o.fechaCreacion) FROM OutboxEventoEntity o WHERE o.fechaPublicacion IS NULL")
+    LocalDateTime fechaPendienteMasAntigua();
+
+    /**
+     * Elimina los eventos publicados antes de la fecha dada.
+     */
+    @Modifying
+    @Query("DELETE FROM OutboxEventoEntity o WHERE o.fechaPublicacion < :limite")
+    int eliminarPublicadosAntesDe(@Param("limite") LocalDateTime limite);
+}
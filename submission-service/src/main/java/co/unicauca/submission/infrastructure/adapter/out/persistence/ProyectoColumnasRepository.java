@@ -0,0 +1,189 @@
+package co.unicauca.submission.infrastructure.adapter.out.persistence;
+
+import co.unicauca.submission.application.dto.request.CampoProyecto;
+import co.unicauca.submission.application.dto.request.CursorProyecto;
+import co.unicauca.submission.application.dto.request.FiltroProyectos;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.entity.ProyectoEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Consultas de proyectos que leen solo algunas columnas (sparse fieldsets).
+ *
+ * Arma con Criteria un SELECT de tuplas con las columnas pedidas, de modo que ni
+ * los textos largos (objetivos, rutas) ni el resto de la fila se leen ni se
+ * transfieren si el listado no los necesita. No se cargan entidades, así que
+ * tampoco ocupan el contexto de persistencia.
+ */
+@Component
+class ProyectoColumnasRepository {
+
+    private final EntityManager entityManager;
+
+    ProyectoColumnasRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    List<Map<CampoProyecto, Object>> buscar(FiltroProyectos filtro, Set<CampoProyecto> columnas) {
+        return consulta(filtro, columnas, Pageable.unpaged()).getResultList().stream()
+            .map(tupla -> aColumnas(tupla, columnas))
+            .toList();
+    }
+
+    Page<Map<CampoProyecto, Object>> buscarPagina(FiltroProyectos filtro, Set<CampoProyecto> columnas,
+                                                  Pageable pageable) {
+        TypedQuery<Tuple> consulta = consulta(filtro, columnas, pageable);
+        consulta.setFirstResult((int) pageable.getOffset());
+        consulta.setMaxResults(pageable.getPageSize());
+
+        List<Map<CampoProyecto, Object>> contenido = consulta.getResultList().stream()
+            .map(tupla -> aColumnas(tupla, columnas))
+            .toList();
+
+        return PageableExecutionUtils.getPage(contenido, pageable, () -> contar(filtro));
+    }
+
+    /**
+     * Listado por cursor en orden (fechaCreacion, id): pide tamano + 1 filas para
+     * saber si hay siguiente, sin COUNT ni OFFSET.
+     */
+    Slice<Map<CampoProyecto, Object>> buscarDespuesDe(FiltroProyectos filtro, Set<CampoProyecto> columnas,
+                                                      CursorProyecto despuesDe, int tamano) {
+        Pageable pageable = PageRequest.of(0, tamano, Sort.by("fechaCreacion", "id"));
+        TypedQuery<Tuple> consulta = consulta(filtro, columnas, pageable, despuesDe);
+        consulta.setMaxResults(tamano + 1);
+
+        List<Map<CampoProyecto, Object>> contenido = new ArrayList<>(consulta.getResultList().stream()
+            .map(tupla -> aColumnas(tupla, columnas))
+            .toList());
+        boolean tieneSiguiente = contenido.size() > tamano;
+        if (tieneSiguiente) {
+            contenido.remove(tamano);
+        }
+        return new SliceImpl<>(contenido, pageable, tieneSiguiente);
+    }
+
+    private TypedQuery<Tuple> consulta(FiltroProyectos filtro, Set<CampoProyecto> columnas, Pageable pageable) {
+        return consulta(filtro, columnas, pageable, null);
+    }
+
+    private TypedQuery<Tuple> consulta(FiltroProyectos filtro, Set<CampoProyecto> columnas, Pageable pageable,
+                                       CursorProyecto despuesDe) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<ProyectoEntity> root = query.from(ProyectoEntity.class);
+
+        List<Selection<?>> selecciones = new ArrayList<>();
+        for (CampoProyecto columna : columnas) {
+            selecciones.add(root.get(atributo(columna)).alias(columna.name()));
+        }
+
+        List<Predicate> predicados = new ArrayList<>(List.of(predicados(filtro, cb, root)));
+        if (despuesDe != null) {
+            // (fechaCreacion, id) > (cursor.fechaCreacion, cursor.id). Criteria no tiene
+            // comparación de filas; el >= redundante le da al índice el punto de partida
+            Path<LocalDateTime> fechaCreacion = root.get("fechaCreacion");
+            Path<Long> id = root.get("id");
+            predicados.add(cb.greaterThanOrEqualTo(fechaCreacion, despuesDe.fechaCreacion()));
+            predicados.add(cb.or(
+                cb.greaterThan(fechaCreacion, despuesDe.fechaCreacion()),
+                cb.and(cb.equal(fechaCreacion, despuesDe.fechaCreacion()), cb.greaterThan(id, despuesDe.id()))));
+        }
+
+        query.multiselect(selecciones).where(predicados.toArray(Predicate[]::new));
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+        }
+        return entityManager.createQuery(query);
+    }
+
+    private long contar(FiltroProyectos filtro) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<ProyectoEntity> root = query.from(ProyectoEntity.class);
+        query.select(cb.count(root)).where(predicados(filtro, cb, root));
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private Predicate[] predicados(FiltroProyectos filtro, CriteriaBuilder cb, Root<ProyectoEntity> root) {
+        List<Predicate> predicados = new ArrayList<>();
+        if (filtro.estado() != null) {
+            predicados.add(cb.equal(root.get("estado"), filtro.estado()));
+        }
+        if (filtro.directorId() != null) {
+            predicados.add(cb.equal(root.get("directorId"), filtro.directorId()));
+        }
+        if (filtro.estudianteId() != null) {
+            predicados.add(cb.or(
+                cb.equal(root.get("estudiante1Id"), filtro.estudianteId()),
+                cb.equal(root.get("estudiante2Id"), filtro.estudianteId())));
+        }
+        return predicados.toArray(Predicate[]::new);
+    }
+
+    private Map<CampoProyecto, Object> aColumnas(Tuple tupla, Set<CampoProyecto> columnas) {
+        Map<CampoProyecto, Object> valores = new EnumMap<>(CampoProyecto.class);
+        for (CampoProyecto columna : columnas) {
+            Object valor = tupla.get(columna.name());
+            // Igual que ProyectoMapper: los objetivos específicos se guardan separados por ";"
+            if (columna == CampoProyecto.OBJETIVOS_ESPECIFICOS && valor != null) {
+                valor = Arrays.asList(((String) valor).split(";"));
+            }
+            valores.put(columna, valor);
+        }
+        return valores;
+    }
+
+    /**
+     * Atributo de ProyectoEntity que guarda el campo.
+     */
+    private static String atributo(CampoProyecto columna) {
+        return switch (columna) {
+            case ID -> "id";
+            case VERSION -> "version";
+            case TITULO -> "titulo";
+            case MODALIDAD -> "modalidad";
+            case OBJETIVO_GENERAL -> "objetivoGeneral";
+            case OBJETIVOS_ESPECIFICOS -> "objetivosEspecificos";
+            case DIRECTOR_ID -> "directorId";
+            case CODIRECTOR_ID -> "codirectorId";
+            case ESTUDIANTE1_ID -> "estudiante1Id";
+            case ESTUDIANTE2_ID -> "estudiante2Id";
+            case ESTADO -> "estado";
+            case NUMERO_INTENTO -> "numeroIntento";
+            case RUTA_PDF_FORMATO_A -> "rutaPdfFormatoA";
+            case RUTA_CARTA -> "rutaCarta";
+            case RUTA_PDF_ANTEPROYECTO -> "rutaPdfAnteproyecto";
+            case FECHA_ENVIO_ANTEPROYECTO -> "fechaEnvioAnteproyecto";
+            case EVALUADOR1_ID -> "evaluador1Id";
+            case EVALUADOR2_ID -> "evaluador2Id";
+            case FECHA_CREACION -> "fechaCreacion";
+            case FECHA_MODIFICACION -> "fechaModificacion";
+            default -> throw new IllegalArgumentException("Campo derivado, sin columna: " + columna);
+        };
+    }
+}
@@ -4,12 +4,16 @@ import co.unicauca.submission.domain.model.EstadoProyecto;
 import co.unicauca.submission.infrastructure.adapter.out.persistence.entity.ProyectoEntity;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * JPA Repository para ProyectoEntity.
@@ -28,6 +32,44 @@ public interface ProyectoJpaRepository extends JpaRepository<ProyectoEntity, Lon
      */
     Page<ProyectoEntity> findByEstado(EstadoProyecto estado, Pageable pageable);
 
+    /**
+     * Primeros proyectos de un estado en orden (fechaCreacion, id), sin COUNT.
+     */
+    @Query("SELECT p FROM ProyectoEntity p WHERE p.estado = :estado ORDER BY p.fechaCreacion, p.id")
+    Slice<ProyectoEntity> findVentanaByEstado(@Param("estado") EstadoProyecto estado, Pageable pageable);
+
+    /**
+     * Proyectos de un estado posteriores a (fechaCreacion, id), sin COUNT. La
+     * comparación de filas recorre idx_proyectos_estado_fecha_creacion_id desde el
+     * cursor, sin OFFSET.
+     */
+    @Query("SELECT p FROM ProyectoEntity p WHERE p.estado = :estado "
+         + "AND (p.fechaCreacion, p.id) > (:fechaCreacion, :id) ORDER BY p.fechaCreacion, p.id")
+    Slice<ProyectoEntity> findVentanaByEstadoDespuesDe(@Param("estado") EstadoProyecto estado,
+                                                       @Param("fechaCreacion") LocalDateTime fechaCreacion,
+                                                       @Param("id") Long id,
+                                                       Pageable pageable);
+
+    /**
+     * Búsqueda de texto completo ordenada por relevancia (ts_rank con los pesos de V9) y luego por id.
+     * Usa la columna generada busqueda y su índice GIN (V9); no está mapeada en la
+     * entidad porque solo la escribe PostgreSQL. estado y modalidad son opcionales.
+     */
+    @Query(value = "SELECT p.* FROM proyectos p, websearch_to_tsquery('spanish', :texto) consulta "
+                 + "WHERE p.busqueda @@ consulta "
+                 + "AND (CAST(:estado AS varchar) IS NULL OR p.estado = CAST(:estado AS varchar)) "
+                 + "AND (CAST(:modalidad AS varchar) IS NULL OR p.modalidad = CAST(:modalidad AS varchar)) "
+                 + "ORDER BY ts_rank(p.busqueda, consulta) DESC, p.id",
+           countQuery = "SELECT count(*) FROM proyectos p "
+                 + "WHERE p.busqueda @@ websearch_to_tsquery('spanish', :texto) "
+                 + "AND (CAST(:estado AS varchar) IS NULL OR p.estado = CAST(:estado AS varchar)) "
+                 + "AND (CAST(:modalidad AS varchar) IS NULL OR p.modalidad = CAST(:modalidad AS varchar))",
+           nativeQuery = true)
+    Page<ProyectoEntity> buscarTexto(@Param("texto") String texto,
+                                     @Param("estado") String estado,
+                                     @Param("modalidad") String modalidad,
+                                     Pageable pageable);
+
     /**
      * Busca proyectos por director.
      */
@@ -38,5 +80,27 @@ public interface ProyectoJpaRepository extends JpaRepository<ProyectoEntity, Lon
      */
     @Query("SELECT p FROM ProyectoEntity p WHERE p.estudiante1Id = :estudianteId OR p.estudiante2Id = :estudianteId")
     List<ProyectoEntity> findByEstudianteId(@Param("estudianteId") Long estudianteId);
+
+    /**
+     * Proyecto activo del estudiante, si lo tiene. Búsqueda por clave primaria en
+     * estudiantes_proyecto_activo (mantenida por trigger, ver V5).
+     */
+    @Query(value = "SELECT proyecto_id FROM estudiantes_proyecto_activo WHERE estudiante_id = :estudianteId",
+           nativeQuery = true)
+    Optional<Long> findProyectoActivoIdByEstudianteId(@Param("estudianteId") Long estudianteId);
+
+    /**
+     * Solo la versión del proyecto (validación de ETag sin cargar la entidad).
+     */
+    @Query("SELECT p.version FROM ProyectoEntity p WHERE p.id = :id")
+    Optional<Long> findVersionById(@Param("id") Long id);
+
+    /**
+     * Sube la versión sin cargar la entidad, para un cambio del proyecto que no pasa
+     * por el aggregate (el resultado de validar uno de sus documentos): así cambia su ETag.
+     */
+    @Modifying
+    @Query("UPDATE ProyectoEntity p SET p.version = p.version + 1 WHERE p.id = :id")
+    int incrementarVersion(@Param("id") Long id);
 }
 
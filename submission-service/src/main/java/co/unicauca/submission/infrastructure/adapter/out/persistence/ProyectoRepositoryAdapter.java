@@ -1,19 +1,35 @@
 package co.unicauca.submission.infrastructure.adapter.out.persistence;
 
+import co.unicauca.submission.application.dto.request.CampoProyecto;
+import co.unicauca.submission.application.dto.request.CursorProyecto;
+import co.unicauca.submission.application.dto.request.FiltroProyectos;
+import co.unicauca.submission.application.port.out.IProyectoCachePort;
 import co.unicauca.submission.application.port.out.IProyectoRepositoryPort;
+import co.unicauca.submission.domain.exception.EstudianteYaTieneProyectoException;
 import co.unicauca.submission.domain.model.EstadoProyecto;
+import co.unicauca.submission.domain.model.Modalidad;
 import co.unicauca.submission.domain.model.Proyecto;
 import co.unicauca.submission.domain.model.ProyectoId;
 import co.unicauca.submission.infrastructure.adapter.out.persistence.entity.ProyectoEntity;
 import co.unicauca.submission.infrastructure.adapter.out.persistence.mapper.ProyectoMapper;
 import org.slf4j.Logger;
+import jakarta.persistence.EntityManager;
 import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 /**
@@ -23,18 +39,34 @@ import java.util.stream.Collectors;
  * Responsabilidad:
  * - Convertir Domain Model ↔ JPA Entity
  * - Delegar operaciones CRUD a Spring Data JPA
+ * - Invalidar la caché de proyectos en cada escritura (al confirmarse)
  */
 @Component
 public class ProyectoRepositoryAdapter implements IProyectoRepositoryPort {
 
     private static final Logger log = LoggerFactory.getLogger(ProyectoRepositoryAdapter.class);
 
+    // Restricción de V5: un estudiante solo puede estar en un proyecto activo
+    private static final String RESTRICCION_ESTUDIANTE_ACTIVO = "uk_estudiante_proyecto_activo";
+    // Proyectos por ciclo flush/clear en saveAll (los INSERT van en lotes JDBC de hibernate.jdbc.batch_size)
+    private static final int TAMANO_BLOQUE_IMPORTACION = 500;
+
+    private static final Pattern ESTUDIANTE_DUPLICADO = Pattern.compile("\\(estudiante_id\\)=\\((\\d+)\\)");
+
     private final ProyectoJpaRepository jpaRepository;
     private final ProyectoMapper mapper;
+    private final EntityManager entityManager;
+    private final IProyectoCachePort cachePort;
+    private final ProyectoColumnasRepository columnasRepository;
 
-    public ProyectoRepositoryAdapter(ProyectoJpaRepository jpaRepository, ProyectoMapper mapper) {
+    public ProyectoRepositoryAdapter(ProyectoJpaRepository jpaRepository, ProyectoMapper mapper,
+                                     EntityManager entityManager, IProyectoCachePort cachePort,
+                                     ProyectoColumnasRepository columnasRepository) {
         this.jpaRepository = jpaRepository;
         this.mapper = mapper;
+        this.entityManager = entityManager;
+        this.cachePort = cachePort;
+        this.columnasRepository = columnasRepository;
     }
 
     @Override
@@ -44,11 +76,19 @@ public class ProyectoRepositoryAdapter implements IProyectoRepositoryPort {
         // Convertir Domain → Entity
         ProyectoEntity entity = mapper.toEntity(proyecto);
 
-        // Guardar en BD
-        ProyectoEntity savedEntity = jpaRepository.save(entity);
+        // Guardar en BD. El flush inmediato hace que una violación de la regla de
+        // estudiante activo (envíos concurrentes) se traduzca aquí y no en el commit
+        ProyectoEntity savedEntity;
+        try {
+            savedEntity = jpaRepository.saveAndFlush(entity);
+        } catch (DataIntegrityViolationException e) {
+            throw traducirViolacion(e);
+        }
 
         log.debug("Proyecto guardado con ID: {}", savedEntity.getId());
 
+        cachePort.invalidar(savedEntity.getId());
+
         // Convertir Entity → Domain y retornar
         Proyecto savedProyecto = mapper.toDomain(savedEntity);
 
@@ -58,6 +98,49 @@ public class ProyectoRepositoryAdapter implements IProyectoRepositoryPort {
         return savedProyecto;
     }
 
+    /**
+     * Persiste por bloques: tras cada bloque se hace flush (los INSERT salen en lotes
+     * JDBC) y se limpia el contexto de persistencia para que la memoria no crezca con
+     * el tamaño de la importación.
+     */
+    @Override
+    @Transactional
+    public List<Proyecto> saveAll(List<Proyecto> proyectos) {
+        log.info("Guardando {} proyectos en lote", proyectos.size());
+
+        // Solo los proyectos que ya existían pueden estar en caché
+        proyectos.stream()
+            .filter(proyecto -> proyecto.getId() != null && proyecto.getId().getValue() != null)
+            .forEach(proyecto -> cachePort.invalidar(proyecto.getId().getValue()));
+
+        List<Proyecto> guardados = new ArrayList<>(proyectos.size());
+        try {
+            for (int inicio = 0; inicio < proyectos.size(); inicio += TAMANO_BLOQUE_IMPORTACION) {
+                List<ProyectoEntity> bloque = proyectos
+                    .subList(inicio, Math.min(inicio + TAMANO_BLOQUE_IMPORTACION, proyectos.size()))
+                    .stream()
+                    .map(mapper::toEntity)
+                    .toList();
+
+                for (ProyectoEntity savedEntity : jpaRepository.saveAll(bloque)) {
+                    Proyecto savedProyecto = mapper.toDomain(savedEntity);
+                    savedProyecto.setId(ProyectoId.of(savedEntity.getId()));
+                    guardados.add(savedProyecto);
+                }
+
+                // flush por el repositorio: el proxy de Spring Data traduce la violación a
+                // DataIntegrityViolationException; EntityManager.flush la lanzaría sin traducir
+                jpaRepository.flush();
+                entityManager.clear();
+            }
+        } catch (DataIntegrityViolationException e) {
+            throw traducirViolacion(e);
+        }
+
+        log.info("✅ {} proyectos guardados en lote", guardados.size());
+        return guardados;
+    }
+
     @Override
     public Optional<Proyecto> findById(ProyectoId id) {
         log.debug("Buscando proyecto por ID: {}", id.getValue());
@@ -70,6 +153,11 @@ public class ProyectoRepositoryAdapter implements IProyectoRepositoryPort {
             });
     }
 
+    @Override
+    public Optional<Long> findVersionById(ProyectoId id) {
+        return jpaRepository.findVersionById(id.getValue());
+    }
+
     @Override
     public List<Proyecto> findByEstado(EstadoProyecto estado) {
         log.debug("Buscando proyectos por estado: {}", estado);
@@ -97,6 +185,62 @@ public class ProyectoRepositoryAdapter implements IProyectoRepositoryPort {
         });
     }
 
+    @Override
+    public Slice<Proyecto> findByEstadoDespuesDe(EstadoProyecto estado, CursorProyecto despuesDe, int tamano) {
+        log.debug("Buscando proyectos por estado con cursor: {}, después de: {}, tamaño: {}",
+                estado, despuesDe, tamano);
+
+        // Slice pide tamano + 1 filas para saber si hay siguiente; el offset siempre es 0
+        Pageable limite = PageRequest.of(0, tamano);
+        Slice<ProyectoEntity> entities = despuesDe == null
+            ? jpaRepository.findVentanaByEstado(estado, limite)
+            : jpaRepository.findVentanaByEstadoDespuesDe(estado, despuesDe.fechaCreacion(), despuesDe.id(), limite);
+
+        return entities.map(entity -> {
+            Proyecto proyecto = mapper.toDomain(entity);
+            proyecto.setId(ProyectoId.of(entity.getId()));
+            return proyecto;
+        });
+    }
+
+    @Override
+    public Page<Proyecto> buscarTexto(String texto, EstadoProyecto estado, Modalidad modalidad, Pageable pageable) {
+        log.debug("Búsqueda de texto '{}' - estado: {}, modalidad: {}, page: {}, size: {}",
+                texto, estado, modalidad, pageable.getPageNumber(), pageable.getPageSize());
+
+        return jpaRepository.buscarTexto(texto,
+                estado != null ? estado.name() : null,
+                modalidad != null ? modalidad.name() : null,
+                pageable)
+            .map(entity -> {
+                Proyecto proyecto = mapper.toDomain(entity);
+                proyecto.setId(ProyectoId.of(entity.getId()));
+                return proyecto;
+            });
+    }
+
+    @Override
+    public List<Map<CampoProyecto, Object>> findColumnas(FiltroProyectos filtro, Set<CampoProyecto> columnas) {
+        log.debug("Buscando columnas {} de proyectos con filtro {}", columnas, filtro);
+        return columnasRepository.buscar(filtro, columnas);
+    }
+
+    @Override
+    public Page<Map<CampoProyecto, Object>> findColumnasPage(FiltroProyectos filtro, Set<CampoProyecto> columnas,
+                                                             Pageable pageable) {
+        log.debug("Buscando columnas {} de proyectos con filtro {}, page: {}, size: {}",
+                columnas, filtro, pageable.getPageNumber(), pageable.getPageSize());
+        return columnasRepository.buscarPagina(filtro, columnas, pageable);
+    }
+
+    @Override
+    public Slice<Map<CampoProyecto, Object>> findColumnasDespuesDe(FiltroProyectos filtro, Set<CampoProyecto> columnas,
+                                                                   CursorProyecto despuesDe, int tamano) {
+        log.debug("Buscando columnas {} de proyectos con filtro {}, después de: {}, tamaño: {}",
+                columnas, filtro, despuesDe, tamano);
+        return columnasRepository.buscarDespuesDe(filtro, columnas, despuesDe, tamano);
+    }
+
     @Override
     public List<Proyecto> findByDirectorId(Long directorId) {
         log.debug("Buscando proyectos del director: {}", directorId);
@@ -123,6 +267,13 @@ public class ProyectoRepositoryAdapter implements IProyectoRepositoryPort {
             .collect(Collectors.toList());
     }
 
+    @Override
+    public Optional<ProyectoId> findProyectoActivoByEstudianteId(Long estudianteId) {
+        log.debug("Buscando proyecto activo del estudiante: {}", estudianteId);
+
+        return jpaRepository.findProyectoActivoIdByEstudianteId(estudianteId).map(ProyectoId::of);
+    }
+
     @Override
     public boolean existsById(ProyectoId id) {
         log.debug("Verificando existencia del proyecto: {}", id.getValue());
@@ -133,6 +284,22 @@ public class ProyectoRepositoryAdapter implements IProyectoRepositoryPort {
     public void delete(ProyectoId id) {
         log.debug("Eliminando proyecto: {}", id.getValue());
         jpaRepository.deleteById(id.getValue());
+        cachePort.invalidar(id.getValue());
     }
-}
 
+    /**
+     * Convierte la violación de uk_estudiante_proyecto_activo en la excepción de
+     * dominio; cualquier otra violación se propaga sin cambios.
+     */
+    private RuntimeException traducirViolacion(DataIntegrityViolationException e) {
+        String detalle = e.getMostSpecificCause().getMessage();
+        if (detalle == null || !detalle.contains(RESTRICCION_ESTUDIANTE_ACTIVO)) {
+            return e;
+        }
+
+        Matcher matcher = ESTUDIANTE_DUPLICADO.matcher(detalle);
+        Long estudianteId = matcher.find() ? Long.valueOf(matcher.group(1)) : null;
+        log.warn("Envío concurrente rechazado: estudiante {} ya tiene proyecto activo", estudianteId);
+        return new EstudianteYaTieneProyectoException(estudianteId);
+    }
+}
@@ -0,0 +1,13 @@
+package co.unicauca.submission.infrastructure.adapter.out.persistence;
+
+import co.unicauca.submission.infrastructure.adapter.out.persistence.entity.UsoAlmacenamientoEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * JPA Repository para el reporte de uso del almacenamiento.
+ * La reconciliación lo reemplaza completo en una transacción (deleteAllInBatch + saveAll).
+ */
+@Repository
+public interface UsoAlmacenamientoJpaRepository extends JpaRepository<UsoAlmacenamientoEntity, Long> {
+}
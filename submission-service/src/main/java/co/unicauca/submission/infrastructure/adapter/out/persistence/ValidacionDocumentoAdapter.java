@@ -0,0 +1,81 @@
+package co.unicauca.submission.infrastructure.adapter.out.persistence;
+
+import co.unicauca.submission.application.dto.response.ValidacionDocumentoResponse;
+import co.unicauca.submission.application.port.in.IObtenerArchivoProyectoQuery.TipoArchivoProyecto;
+import co.unicauca.submission.application.port.out.IEjecutorPostCommitPort;
+import co.unicauca.submission.application.port.out.IFileStoragePort;
+import co.unicauca.submission.application.port.out.IValidacionDocumentoPort;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.entity.ValidacionDocumentoEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Adaptador de persistencia de las validaciones de documentos.
+ * Implementa el puerto IValidacionDocumentoPort.
+ */
+@Component
+public class ValidacionDocumentoAdapter implements IValidacionDocumentoPort {
+
+    private final ValidacionDocumentoJpaRepository repository;
+    private final IFileStoragePort fileStoragePort;
+    private final IEjecutorPostCommitPort postCommitPort;
+
+    public ValidacionDocumentoAdapter(ValidacionDocumentoJpaRepository repository,
+                                      IFileStoragePort fileStoragePort,
+                                      IEjecutorPostCommitPort postCommitPort) {
+        this.repository = repository;
+        this.fileStoragePort = fileStoragePort;
+        this.postCommitPort = postCommitPort;
+    }
+
+    @Override
+    @Transactional
+    public void registrar(Long proyectoId, TipoArchivoProyecto tipo, String ruta) {
+        Optional<String> vistaPreviaAnterior = repository.bloquearVistaPrevia(proyectoId, tipo.name());
+
+        repository.registrarPendiente(proyectoId, tipo.name(), ruta, LocalDateTime.now());
+
+        // Si la transacción se revierte, la fila conserva la vista previa y no se libera
+        vistaPreviaAnterior.ifPresent(anterior -> postCommitPort.ejecutarDespuesDelCommit(
+            "Liberar vista previa " + tipo.getSegmento() + " " + proyectoId,
+            () -> fileStoragePort.eliminarArchivo(anterior)));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ValidacionDocumentoResponse> buscarPorProyecto(Long proyectoId) {
+        return repository.findByProyectoIdOrderByTipo(proyectoId).stream()
+            .map(ValidacionDocumentoAdapter::toResponse)
+            .toList();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<ValidacionDocumentoResponse> buscar(Long proyectoId, TipoArchivoProyecto tipo) {
+        return repository.findByProyectoIdAndTipo(proyectoId, tipo.name())
+            .map(ValidacionDocumentoAdapter::toResponse);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<String> buscarVistaPrevia(Long proyectoId, TipoArchivoProyecto tipo) {
+        return repository.findByProyectoIdAndTipo(proyectoId, tipo.name())
+            .map(ValidacionDocumentoEntity::getRutaVistaPrevia);
+    }
+
+    private static ValidacionDocumentoResponse toResponse(ValidacionDocumentoEntity entity) {
+        return new ValidacionDocumentoResponse(
+            TipoArchivoProyecto.valueOf(entity.getTipo()).getSegmento(),
+            entity.getEstado(),
+            entity.getPaginas(),
+            entity.getCaracteresTexto(),
+            entity.getMotivoRechazo(),
+            ValidacionDocumentoResponse.versionVistaPrevia(entity.getRutaVistaPrevia()),
+            entity.getFechaActualizacion()
+        );
+    }
+}
@@ -0,0 +1,133 @@
+package co.unicauca.submission.infrastructure.adapter.out.persistence;
+
+import co.unicauca.submission.infrastructure.adapter.out.persistence.entity.ValidacionDocumentoEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * JPA Repository para las validaciones asíncronas de documentos.
+ */
+@Repository
+public interface ValidacionDocumentoJpaRepository extends JpaRepository<ValidacionDocumentoEntity, Long> {
+
+    List<ValidacionDocumentoEntity> findByProyectoIdOrderByTipo(Long proyectoId);
+
+    Optional<ValidacionDocumentoEntity> findByProyectoIdAndTipo(Long proyectoId, String tipo);
+
+    /**
+     * Ruta de la vista previa del documento vigente, bloqueando la fila hasta el
+     * commit: el worker no puede registrar una nueva mientras se reemplaza el documento.
+     */
+    @Query(value = """
+            SELECT ruta_vista_previa FROM validaciones_documento
+             WHERE proyecto_id = :proyectoId
+               AND tipo = :tipo
+               FOR UPDATE
+            """, nativeQuery = true)
+    Optional<String> bloquearVistaPrevia(@Param("proyectoId") Long proyectoId, @Param("tipo") String tipo);
+
+    /**
+     * Registra el documento como PENDIENTE. Un reenvío reemplaza la fila del mismo
+     * tipo y descarta el resultado anterior, incluida la vista previa.
+     */
+    @Modifying
+    @Query(value = """
+            INSERT INTO validaciones_documento
+                   (proyecto_id, tipo, ruta, estado, intentos, proximo_intento, fecha_creacion, fecha_actualizacion)
+            VALUES (:proyectoId, :tipo, :ruta, 'PENDIENTE', 0, :ahora, :ahora, :ahora)
+            ON CONFLICT (proyecto_id, tipo) DO UPDATE
+               SET ruta = EXCLUDED.ruta,
+                   estado = 'PENDIENTE',
+                   paginas = NULL,
+                   caracteres_texto = NULL,
+                   motivo_rechazo = NULL,
+                   ruta_vista_previa = NULL,
+                   intentos = 0,
+                   proximo_intento = EXCLUDED.proximo_intento,
+                   fecha_actualizacion = EXCLUDED.fecha_actualizacion
+            """, nativeQuery = true)
+    void registrarPendiente(@Param("proyectoId") Long proyectoId,
+                            @Param("tipo") String tipo,
+                            @Param("ruta") String ruta,
+                            @Param("ahora") LocalDateTime ahora);
+
+    /**
+     * Reclama un lote de validaciones pendientes cuyo próximo intento ya venció.
+     * FOR UPDATE SKIP LOCKED: varias instancias del worker toman lotes disjuntos.
+     */
+    @Query(value = """
+            SELECT * FROM validaciones_documento
+             WHERE estado = 'PENDIENTE'
+               AND proximo_intento <= :ahora
+             ORDER BY proximo_intento, id
+             LIMIT :lote
+               FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<ValidacionDocumentoEntity> reclamarPendientes(@Param("ahora") LocalDateTime ahora, @Param("lote") int lote);
+
+    /**
+     * Devuelve a PENDIENTE las validaciones que llevan demasiado tiempo en proceso
+     * (el worker que las tomó se cayó).
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE validaciones_documento
+               SET estado = 'PENDIENTE', proximo_intento = :ahora
+             WHERE estado = 'EN_PROCESO'
+               AND fecha_actualizacion < :limite
+            """, nativeQuery = true)
+    int liberarAtascadas(@Param("limite") LocalDateTime limite, @Param("ahora") LocalDateTime ahora);
+
+    /**
+     * Registra el resultado del análisis. Solo aplica si la fila sigue en proceso con
+     * la misma ruta: si el documento se reenvió mientras tanto, el resultado se descarta.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE validaciones_documento
+               SET estado = :estado,
+                   paginas = :paginas,
+                   caracteres_texto = :caracteresTexto,
+                   motivo_rechazo = :motivoRechazo,
+                   ruta_vista_previa = :rutaVistaPrevia,
+                   fecha_actualizacion = :ahora
+             WHERE id = :id
+               AND ruta = :ruta
+               AND estado = 'EN_PROCESO'
+            """, nativeQuery = true)
+    int registrarResultado(@Param("id") Long id,
+                           @Param("ruta") String ruta,
+                           @Param("estado") String estado,
+                           @Param("paginas") Integer paginas,
+                           @Param("caracteresTexto") Long caracteresTexto,
+                           @Param("motivoRechazo") String motivoRechazo,
+                           @Param("rutaVistaPrevia") String rutaVistaPrevia,
+                           @Param("ahora") LocalDateTime ahora);
+
+    /**
+     * Vuelve a encolar una validación que falló por un error transitorio.
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE validaciones_documento
+               SET estado = 'PENDIENTE',
+                   proximo_intento = :proximoIntento,
+                   motivo_rechazo = :error,
+                   fecha_actualizacion = :ahora
+             WHERE id = :id
+               AND ruta = :ruta
+               AND estado = 'EN_PROCESO'
+            """, nativeQuery = true)
+    int reprogramar(@Param("id") Long id,
+                    @Param("ruta") String ruta,
+                    @Param("proximoIntento") LocalDateTime proximoIntento,
+                    @Param("error") String error,
+                    @Param("ahora") LocalDateTime ahora);
+}
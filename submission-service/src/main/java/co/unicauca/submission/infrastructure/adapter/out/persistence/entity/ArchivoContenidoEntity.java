@@ -0,0 +1,78 @@
+package co.unicauca.submission.infrastructure.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity JPA con el conteo de referencias de un blob almacenado por contenido.
+ *
+ * La clave es el SHA-256 (hex) de los bytes del archivo. Las altas y bajas de
+ * referencias se hacen con consultas atómicas en ArchivoContenidoJpaRepository;
+ * esta entidad solo se usa para lectura.
+ */
+@Entity
+@Table(name = "archivos_contenido")
+public class ArchivoContenidoEntity {
+
+    @Id
+    @Column(length = 64)
+    private String hash;
+
+    @Column(nullable = false)
+    private Long tamano;
+
+    @Column(nullable = false)
+    private Integer referencias;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime fechaCreacion;
+
+    @Column(nullable = false)
+    private LocalDateTime fechaModificacion;
+
+    public ArchivoContenidoEntity() {
+    }
+
+    // Getters y Setters
+
+    public String getHash() {
+        return hash;
+    }
+
+    public void setHash(String hash) {
+        this.hash = hash;
+    }
+
+    public Long getTamano() {
+        return tamano;
+    }
+
+    public void setTamano(Long tamano) {
+        this.tamano = tamano;
+    }
+
+    public Integer getReferencias() {
+        return referencias;
+    }
+
+    public void setReferencias(Integer referencias) {
+        this.referencias = referencias;
+    }
+
+    public LocalDateTime getFechaCreacion() {
+        return fechaCreacion;
+    }
+
+    public void setFechaCreacion(LocalDateTime fechaCreacion) {
+        this.fechaCreacion = fechaCreacion;
+    }
+
+    public LocalDateTime getFechaModificacion() {
+        return fechaModificacion;
+    }
+
+    public void setFechaModificacion(LocalDateTime fechaModificacion) {
+        this.fechaModificacion = fechaModificacion;
+    }
+}
@@ -0,0 +1,194 @@
+package co.unicauca.submission.infrastructure.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity JPA para una clave de idempotencia (tabla claves_idempotencia).
+ */
+@Entity
+@Table(name = "claves_idempotencia")
+public class ClaveIdempotenciaEntity {
+
+    public enum Estado {
+        /** La petición original se está ejecutando */
+        EN_PROCESO,
+        /** Respuesta guardada; los reintentos la reciben tal cual */
+        COMPLETADA
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long usuarioId;
+
+    @Column(nullable = false)
+    private String clave;
+
+    @Column(nullable = false, length = 10)
+    private String metodo;
+
+    @Column(nullable = false, length = 500)
+    private String ruta;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Estado estado;
+
+    private Integer codigoEstado;
+
+    private String contentType;
+
+    @Column(columnDefinition = "bytea")
+    private byte[] cuerpo;
+
+    /** La respuesta superó el tamaño máximo y no se guardó */
+    @Column(nullable = false)
+    private boolean respuestaOmitida;
+
+    /** SHA-256 del contenido de la petición original */
+    @Column(length = 64)
+    private String huella;
+
+    /** Identifica la petición que tiene la reserva */
+    @Column(length = 36)
+    private String propietario;
+
+    @Column(nullable = false)
+    private LocalDateTime fechaCreacion;
+
+    /** Última renovación de la reserva por la petición en curso */
+    @Column(nullable = false)
+    private LocalDateTime renovada;
+
+    @Column(nullable = false)
+    private LocalDateTime expira;
+
+    public ClaveIdempotenciaEntity() {
+    }
+
+    // Getters y Setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getUsuarioId() {
+        return usuarioId;
+    }
+
+    public void setUsuarioId(Long usuarioId) {
+        this.usuarioId = usuarioId;
+    }
+
+    public String getClave() {
+        return clave;
+    }
+
+    public void setClave(String clave) {
+        this.clave = clave;
+    }
+
+    public String getMetodo() {
+        return metodo;
+    }
+
+    public void setMetodo(String metodo) {
+        this.metodo = metodo;
+    }
+
+    public String getRuta() {
+        return ruta;
+    }
+
+    public void setRuta(String ruta) {
+        this.ruta = ruta;
+    }
+
+    public Estado getEstado() {
+        return estado;
+    }
+
+    public void setEstado(Estado estado) {
+        this.estado = estado;
+    }
+
+    public Integer getCodigoEstado() {
+        return codigoEstado;
+    }
+
+    public void setCodigoEstado(Integer codigoEstado) {
+        this.codigoEstado = codigoEstado;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public void setContentType(String contentType) {
+        this.contentType = contentType;
+    }
+
+    public byte[] getCuerpo() {
+        return cuerpo;
+    }
+
+    public void setCuerpo(byte[] cuerpo) {
+        this.cuerpo = cuerpo;
+    }
+
+    public boolean isRespuestaOmitida() {
+        return respuestaOmitida;
+    }
+
+    public void setRespuestaOmitida(boolean respuestaOmitida) {
+        this.respuestaOmitida = respuestaOmitida;
+    }
+
+    public String getHuella() {
+        return huella;
+    }
+
+    public void setHuella(String huella) {
+        this.huella = huella;
+    }
+
+    public String getPropietario() {
+        return propietario;
+    }
+
+    public void setPropietario(String propietario) {
+        this.propietario = propietario;
+    }
+
+    public LocalDateTime getFechaCreacion() {
+        return fechaCreacion;
+    }
+
+    public void setFechaCreacion(LocalDateTime fechaCreacion) {
+        this.fechaCreacion = fechaCreacion;
+    }
+
+    public LocalDateTime getRenovada() {
+        return renovada;
+    }
+
+    public void setRenovada(LocalDateTime renovada) {
+        this.renovada = renovada;
+    }
+
+    public LocalDateTime getExpira() {
+        return expira;
+    }
+
+    public void setExpira(LocalDateTime expira) {
+        this.expira = expira;
+    }
+}
@@ -12,13 +12,26 @@ import java.time.LocalDateTime;
  *
  * NOTA: Esta entidad NO tiene lógica de negocio.
  * Solo es un contenedor de datos para JPA.
+ *
+ * El esquema lo gestiona Flyway (db/migration); los índices declarados aquí
+ * documentan los creados en V2__create_proyectos_query_indexes.sql y V8.
+ *
+ * El id sale de una secuencia con optimizador pooled (V6): Hibernate reserva 50
+ * ids por consulta y puede agrupar los INSERT en lotes JDBC, cosa que IDENTITY
+ * impide porque obliga a ejecutar cada INSERT para conocer su id.
  */
 @Entity
-@Table(name = "proyectos")
+@Table(name = "proyectos", indexes = {
+    @Index(name = "idx_proyectos_estado_fecha_creacion_id", columnList = "estado, fechaCreacion, id"),
+    @Index(name = "idx_proyectos_director", columnList = "directorId"),
+    @Index(name = "idx_proyectos_estudiante1", columnList = "estudiante1Id"),
+    @Index(name = "idx_proyectos_estudiante2", columnList = "estudiante2Id")
+})
 public class ProyectoEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "proyectos_id_seq")
+    @SequenceGenerator(name = "proyectos_id_seq", sequenceName = "proyectos_id_seq", allocationSize = 50)
     private Long id;
 
     // Información básica
@@ -78,6 +91,11 @@ public class ProyectoEntity {
     @Column(nullable = false)
     private LocalDateTime fechaModificacion;
 
+    // Bloqueo optimista; también identifica la versión del recurso en los ETag
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     // Constructores
     public ProyectoEntity() {
         this.fechaCreacion = LocalDateTime.now();
@@ -243,5 +261,13 @@ public class ProyectoEntity {
     public void setFechaModificacion(LocalDateTime fechaModificacion) {
         this.fechaModificacion = fechaModificacion;
     }
+
+    public Long getVersion() {
+        return version;
+    }
+
+    public void setVersion(Long version) {
+        this.version = version;
+    }
 }
 
@@ -0,0 +1,95 @@
+package co.unicauca.submission.infrastructure.adapter.out.persistence.entity;
+
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity JPA con el uso del almacenamiento de un usuario para un tipo de archivo
+ * (tabla uso_almacenamiento). La reescribe completa cada reconciliación.
+ */
+@Entity
+@Table(name = "uso_almacenamiento")
+public class UsoAlmacenamientoEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long usuarioId;
+
+    @Column(nullable = false, length = 20)
+    private String tipo;
+
+    @Column(nullable = false)
+    private Long archivos;
+
+    @Column(nullable = false)
+    private Long bytes;
+
+    @Column(nullable = false)
+    private LocalDateTime fechaCalculo;
+
+    public UsoAlmacenamientoEntity() {
+    }
+
+    public UsoAlmacenamientoEntity(Long usuarioId, String tipo, Long archivos, Long bytes,
+                                   LocalDateTime fechaCalculo) {
+        this.usuarioId = usuarioId;
+        this.tipo = tipo;
+        this.archivos = archivos;
+        this.bytes = bytes;
+        this.fechaCalculo = fechaCalculo;
+    }
+
+    // Getters y Setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getUsuarioId() {
+        return usuarioId;
+    }
+
+    public void setUsuarioId(Long usuarioId) {
+        this.usuarioId = usuarioId;
+    }
+
+    public String getTipo() {
+        return tipo;
+    }
+
+    public void setTipo(String tipo) {
+        this.tipo = tipo;
+    }
+
+    public Long getArchivos() {
+        return archivos;
+    }
+
+    public void setArchivos(Long archivos) {
+        this.archivos = archivos;
+    }
+
+    public Long getBytes() {
+        return bytes;
+    }
+
+    public void setBytes(Long bytes) {
+        this.bytes = bytes;
+    }
+
+    public LocalDateTime getFechaCalculo() {
+        return fechaCalculo;
+    }
+
+    public void setFechaCalculo(LocalDateTime fechaCalculo) {
+        this.fechaCalculo = fechaCalculo;
+    }
+}
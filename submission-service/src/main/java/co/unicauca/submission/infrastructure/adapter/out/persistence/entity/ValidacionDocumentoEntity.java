@@ -0,0 +1,162 @@
+package co.unicauca.submission.infrastructure.adapter.out.persistence.entity;
+
+import co.unicauca.submission.application.dto.response.ValidacionDocumentoResponse.Estado;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity JPA para la validación asíncrona de un documento (tabla validaciones_documento).
+ */
+@Entity
+@Table(name = "validaciones_documento")
+public class ValidacionDocumentoEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private Long proyectoId;
+
+    @Column(nullable = false, length = 20)
+    private String tipo;
+
+    @Column(nullable = false, length = 500)
+    private String ruta;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Estado estado;
+
+    private Integer paginas;
+
+    private Long caracteresTexto;
+
+    @Column(length = 1000)
+    private String motivoRechazo;
+
+    @Column(length = 500)
+    private String rutaVistaPrevia;
+
+    @Column(nullable = false)
+    private Integer intentos;
+
+    @Column(nullable = false)
+    private LocalDateTime proximoIntento;
+
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime fechaCreacion;
+
+    @Column(nullable = false)
+    private LocalDateTime fechaActualizacion;
+
+    public ValidacionDocumentoEntity() {
+    }
+
+    // Getters y Setters
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getProyectoId() {
+        return proyectoId;
+    }
+
+    public void setProyectoId(Long proyectoId) {
+        this.proyectoId = proyectoId;
+    }
+
+    public String getTipo() {
+        return tipo;
+    }
+
+    public void setTipo(String tipo) {
+        this.tipo = tipo;
+    }
+
+    public String getRuta() {
+        return ruta;
+    }
+
+    public void setRuta(String ruta) {
+        this.ruta = ruta;
+    }
+
+    public Estado getEstado() {
+        return estado;
+    }
+
+    public void setEstado(Estado estado) {
+        this.estado = estado;
+    }
+
+    public Integer getPaginas() {
+        return paginas;
+    }
+
+    public void setPaginas(Integer paginas) {
+        this.paginas = paginas;
+    }
+
+    public Long getCaracteresTexto() {
+        return caracteresTexto;
+    }
+
+    public void setCaracteresTexto(Long caracteresTexto) {
+        this.caracteresTexto = caracteresTexto;
+    }
+
+    public String getMotivoRechazo() {
+        return motivoRechazo;
+    }
+
+    public void setMotivoRechazo(String motivoRechazo) {
+        this.motivoRechazo = motivoRechazo;
+    }
+
+    public String getRutaVistaPrevia() {
+        return rutaVistaPrevia;
+    }
+
+    public void setRutaVistaPrevia(String rutaVistaPrevia) {
+        this.rutaVistaPrevia = rutaVistaPrevia;
+    }
+
+    public Integer getIntentos() {
+        return intentos;
+    }
+
+    public void setIntentos(Integer intentos) {
+        this.intentos = intentos;
+    }
+
+    public LocalDateTime getProximoIntento() {
+        return proximoIntento;
+    }
+
+    public void setProximoIntento(LocalDateTime proximoIntento) {
+        this.proximoIntento = proximoIntento;
+    }
+
+    public LocalDateTime getFechaCreacion() {
+        return fechaCreacion;
+    }
+
+    public void setFechaCreacion(LocalDateTime fechaCreacion) {
+        this.fechaCreacion = fechaCreacion;
+    }
+
+    public LocalDateTime getFechaActualizacion() {
+        return fechaActualizacion;
+    }
+
+    public void setFechaActualizacion(LocalDateTime fechaActualizacion) {
+        this.fechaActualizacion = fechaActualizacion;
+    }
+}
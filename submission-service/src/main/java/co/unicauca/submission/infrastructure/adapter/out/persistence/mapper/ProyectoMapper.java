@@ -27,6 +27,8 @@ public class ProyectoMapper {
         if (proyecto.getId() != null) {
             entity.setId(proyecto.getId().getValue());
         }
+        // La versión leída viaja de vuelta: si otro guardó antes, el UPDATE falla
+        entity.setVersion(proyecto.getVersion());
 
         // Información básica
         entity.setTitulo(proyecto.getTitulo().getValue());
@@ -110,8 +112,9 @@ public class ProyectoMapper {
             carta
         );
 
-        // Setear ID (después del factory method)
+        // Setear ID y versión (después del factory method)
         proyecto.setId(ProyectoId.of(entity.getId()));
+        proyecto.setVersion(entity.getVersion());
 
         // Restaurar estado (sobreescribir el estado inicial del factory)
         // NOTA: Esto es un hack necesario para reconstruir desde BD
@@ -130,6 +133,10 @@ public class ProyectoMapper {
             restaurarAnteproyecto(proyecto, entity, pdfAnteproyecto);
         }
 
+        // Restaurar auditoría: el factory las inicializa en now(), y fechaCreacion
+        // es además la clave del cursor de los listados
+        proyecto.restaurarFechas(entity.getFechaCreacion(), entity.getFechaModificacion());
+
         return proyecto;
     }
 
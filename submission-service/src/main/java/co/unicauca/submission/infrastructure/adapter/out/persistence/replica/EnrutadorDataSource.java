@@ -0,0 +1,85 @@
+package co.unicauca.submission.infrastructure.adapter.out.persistence.replica;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+/**
+ * DataSource que envía las transacciones de solo lectura a la réplica y todo lo
+ * demás a la primaria.
+ *
+ * Debe ir envuelto en un LazyConnectionDataSourceProxy: la marca readOnly de la
+ * transacción se fija después de que el gestor de transacciones pide la conexión,
+ * así que la decisión solo es correcta si la conexión física se toma en la
+ * primera sentencia.
+ *
+ * Las lecturas vuelven a la primaria cuando:
+ * - el hilo lo pidió con usarPrimaria() (lectura propia tras una escritura del usuario)
+ *   o la lectura va a guardarse en caché (enPrimaria)
+ * - la réplica está atrasada más de lo permitido (MonitorReplica)
+ */
+public class EnrutadorDataSource extends AbstractRoutingDataSource {
+
+    public enum Destino {
+        PRIMARIA,
+        REPLICA
+    }
+
+    private static final ThreadLocal<Boolean> PRIMARIA_FORZADA = new ThreadLocal<>();
+
+    private final BooleanSupplier replicaDisponible;
+
+    public EnrutadorDataSource(Object primaria, Object replica, BooleanSupplier replicaDisponible) {
+        this.replicaDisponible = replicaDisponible;
+        setTargetDataSources(Map.of(Destino.PRIMARIA, primaria, Destino.REPLICA, replica));
+        setDefaultTargetDataSource(primaria);
+    }
+
+    /**
+     * Las lecturas de este hilo van a la primaria hasta llamar a limpiar().
+     */
+    public static void usarPrimaria() {
+        PRIMARIA_FORZADA.set(Boolean.TRUE);
+    }
+
+    public static void limpiar() {
+        PRIMARIA_FORZADA.remove();
+    }
+
+    public static boolean primariaForzada() {
+        return PRIMARIA_FORZADA.get() != null;
+    }
+
+    /**
+     * Ejecuta la lectura contra la primaria y restaura el enrutamiento anterior del
+     * hilo. Para lecturas cuyo resultado se guarda en caché.
+     */
+    public static <T> T enPrimaria(Supplier<T> lectura) {
+        if (primariaForzada()) {
+            return lectura.get();
+        }
+        usarPrimaria();
+        try {
+            return lectura.get();
+        } finally {
+            limpiar();
+        }
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return destinoActual();
+    }
+
+    Destino destinoActual() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+                || PRIMARIA_FORZADA.get() != null
+                || !replicaDisponible.getAsBoolean()) {
+            return Destino.PRIMARIA;
+        }
+        return Destino.REPLICA;
+    }
+}
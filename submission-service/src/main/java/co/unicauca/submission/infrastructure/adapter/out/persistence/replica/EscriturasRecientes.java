@@ -0,0 +1,34 @@
+package co.unicauca.submission.infrastructure.adapter.out.persistence.replica;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import java.time.Duration;
+
+/**
+ * Usuarios que escribieron hace menos de la ventana configurada. Sus lecturas se
+ * sirven desde la primaria para que vean su propio cambio aunque la réplica no lo
+ * haya recibido todavía.
+ *
+ * Es memoria de cada instancia: una lectura que llegue a otra instancia dentro de
+ * la ventana puede ver la réplica atrasada.
+ */
+public class EscriturasRecientes {
+
+    private final Cache<Long, Boolean> usuarios;
+
+    public EscriturasRecientes(Duration ventana, long maximoUsuarios) {
+        this.usuarios = Caffeine.newBuilder()
+            .expireAfterWrite(ventana)
+            .maximumSize(maximoUsuarios)
+            .build();
+    }
+
+    public void registrar(Long usuarioId) {
+        usuarios.put(usuarioId, Boolean.TRUE);
+    }
+
+    public boolean escribioRecientemente(Long usuarioId) {
+        return usuarios.getIfPresent(usuarioId) != null;
+    }
+}
@@ -0,0 +1,76 @@
+package co.unicauca.submission.infrastructure.adapter.out.persistence.replica;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Mide el retraso de la réplica y la retira del enrutamiento cuando supera el
+ * máximo configurado o no responde; las lecturas vuelven a la primaria hasta que
+ * se pone al día.
+ *
+ * Si la réplica no tiene WAL pendiente el retraso es 0 aunque la última transacción
+ * reproducida sea vieja (primaria sin escrituras). Sobre una base que no es standby
+ * las funciones de recuperación devuelven NULL y el retraso también cuenta como 0.
+ *
+ * Métrica: submission.datasource.replica.retraso (segundos).
+ */
+public class MonitorReplica {
+
+    private static final Logger log = LoggerFactory.getLogger(MonitorReplica.class);
+
+    private static final String CONSULTA_RETRASO = """
+            SELECT CASE
+                     WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0
+                     ELSE EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp())
+                   END
+            """;
+
+    private final JdbcTemplate replica;
+    private final long retrasoMaximoSegundos;
+
+    private final AtomicBoolean disponible = new AtomicBoolean(true);
+    private final AtomicLong retrasoSegundos = new AtomicLong();
+
+    public MonitorReplica(DataSource replica, long retrasoMaximoSegundos, MeterRegistry meterRegistry) {
+        this.replica = new JdbcTemplate(replica);
+        this.retrasoMaximoSegundos = retrasoMaximoSegundos;
+
+        Gauge.builder("submission.datasource.replica.retraso", retrasoSegundos, AtomicLong::get)
+            .description("Retraso de la réplica de lectura respecto de la primaria")
+            .baseUnit("seconds")
+            .register(meterRegistry);
+    }
+
+    public boolean isDisponible() {
+        return disponible.get();
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.intervalo-verificacion-ms:5000}")
+    public void verificar() {
+        boolean estaba = disponible.get();
+        try {
+            Double retraso = replica.queryForObject(CONSULTA_RETRASO, Double.class);
+            long segundos = retraso != null ? Math.max(0, retraso.longValue()) : 0;
+            retrasoSegundos.set(segundos);
+            disponible.set(segundos <= retrasoMaximoSegundos);
+        } catch (Exception e) {
+            disponible.set(false);
+            log.debug("Réplica sin respuesta: {}", e.getMessage());
+        }
+
+        if (estaba && !disponible.get()) {
+            log.warn("⚠️ Réplica retirada (retraso {}s, máximo {}s): las lecturas van a la primaria",
+                     retrasoSegundos.get(), retrasoMaximoSegundos);
+        } else if (!estaba && disponible.get()) {
+            log.info("✅ Réplica al día (retraso {}s): vuelve a atender lecturas", retrasoSegundos.get());
+        }
+    }
+}
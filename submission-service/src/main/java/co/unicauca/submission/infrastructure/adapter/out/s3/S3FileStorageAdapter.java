@@ -0,0 +1,336 @@
+package co.unicauca.submission.infrastructure.adapter.out.s3;
+
+import co.unicauca.submission.application.dto.response.ArchivoAlmacenado;
+import co.unicauca.submission.application.port.out.IFileStoragePort;
+import co.unicauca.submission.infrastructure.adapter.out.filesystem.PdfIngestaInputStream;
+import co.unicauca.submission.infrastructure.config.S3StorageConfig;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.core.exception.SdkException;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.NoSuchBucketException;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.NoSuchFileException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Adaptador de almacenamiento en S3 o compatible (MinIO).
+ * Implementa el puerto IFileStoragePort.
+ *
+ * Activo con file.storage.type=s3. La ruta que retorna es la clave del objeto,
+ * {directorio}/{nombre}_{uuid}.pdf, con el mismo formato que LocalFileStorageAdapter:
+ * un directorio de uploads copiado al bucket se sigue pudiendo leer.
+ *
+ * Las subidas mayores que una parte usan multipart: el stream se corta en partes
+ * de tamanoParte y hasta concurrencia partes viajan en paralelo mientras se sigue
+ * leyendo la petición. Si algo falla (incluida la validación del PDF) la subida se
+ * aborta y no queda nada en el bucket.
+ *
+ * describirArchivo solo hace HeadObject (tamaño y existencia); la descarga por HTTP
+ * pide a S3 únicamente el rango que envía, cuando lo envía. Las claves nunca se
+ * sobrescriben (llevan UUID), así que un hash de la clave sirve de ETag fuerte.
+ */
+@Component
+@ConditionalOnProperty(name = "file.storage.type", havingValue = "s3")
+public class S3FileStorageAdapter implements IFileStoragePort {
+
+    private static final Logger log = LoggerFactory.getLogger(S3FileStorageAdapter.class);
+
+    /** Mínimo de S3 para todas las partes salvo la última */
+    static final long TAMANO_MINIMO_PARTE = DataSize.ofMegabytes(5).toBytes();
+
+    private static final String CONTENT_TYPE_PDF = "application/pdf";
+    private static final String CONTENT_TYPE_BINARIO = "application/octet-stream";
+
+    private final S3Client s3;
+    private final Executor executor;
+    private final S3StorageConfig config;
+    private final DataSize tamanoMaximoPdf;
+
+    public S3FileStorageAdapter(S3Client s3,
+                                @Qualifier("s3TransferExecutor") Executor executor,
+                                S3StorageConfig config,
+                                @Value("${spring.servlet.multipart.max-file-size:10MB}") DataSize tamanoMaximoPdf) {
+        this.s3 = s3;
+        this.executor = executor;
+        this.config = config;
+        this.tamanoMaximoPdf = tamanoMaximoPdf;
+    }
+
+    @PostConstruct
+    void verificarBucket() {
+        try {
+            s3.headBucket(b -> b.bucket(config.getBucket()));
+        } catch (NoSuchBucketException e) {
+            if (!config.isCrearBucket()) {
+                throw new IllegalStateException("El bucket " + config.getBucket() + " no existe", e);
+            }
+            s3.createBucket(b -> b.bucket(config.getBucket()));
+            log.info("Bucket {} creado", config.getBucket());
+        }
+    }
+
+    @Override
+    public String guardarArchivo(InputStream contenido, String nombreArchivo, String directorio) {
+        return escribir(contenido, nombreArchivo, directorio, CONTENT_TYPE_BINARIO);
+    }
+
+    @Override
+    public String guardarPdf(InputStream contenido, String nombreArchivo, String directorio) {
+        return escribir(new PdfIngestaInputStream(contenido, nombreArchivo, tamanoMaximoPdf.toBytes()),
+            nombreArchivo, directorio, CONTENT_TYPE_PDF);
+    }
+
+    @Override
+    public InputStream obtenerArchivo(String ruta) {
+        try {
+            log.debug("Obteniendo objeto: {}", ruta);
+
+            // Se lee directo de la respuesta HTTP, sin bajar el objeto completo
+            return s3.getObject(b -> b.bucket(config.getBucket()).key(ruta));
+
+        } catch (NoSuchKeyException e) {
+            throw new RuntimeException("Archivo no encontrado: " + ruta);
+        } catch (SdkException e) {
+            log.error("Error al obtener objeto {}: {}", ruta, e.getMessage(), e);
+            throw new RuntimeException("No se pudo obtener el archivo: " + ruta, e);
+        }
+    }
+
+    /**
+     * Solo consulta los metadatos (HeadObject); el contenido se lee por rangos al
+     * enviarlo. Como la clave nunca cambia de contenido, su hash sirve de ETag y el
+     * archivo se marca inmutable.
+     */
+    @Override
+    public Optional<ArchivoAlmacenado> describirArchivo(String ruta) {
+        try {
+            long tamano = s3.headObject(b -> b.bucket(config.getBucket()).key(ruta)).contentLength();
+            return Optional.of(new ArchivoAlmacenado(
+                (inicio, fin) -> leerRango(ruta, inicio, fin), tamano, hashClave(ruta), true));
+
+        } catch (NoSuchKeyException e) {
+            return Optional.empty();
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return Optional.empty();
+            }
+            log.error("Error al consultar objeto {}: {}", ruta, e.getMessage(), e);
+            throw new RuntimeException("No se pudo obtener el archivo: " + ruta, e);
+        } catch (SdkException e) {
+            log.error("Error al consultar objeto {}: {}", ruta, e.getMessage(), e);
+            throw new RuntimeException("No se pudo obtener el archivo: " + ruta, e);
+        }
+    }
+
+    @Override
+    public void eliminarArchivo(String ruta) {
+        try {
+            s3.deleteObject(b -> b.bucket(config.getBucket()).key(ruta));
+            log.info("Objeto eliminado: {}", ruta);
+
+        } catch (SdkException e) {
+            log.error("Error al eliminar objeto {}: {}", ruta, e.getMessage(), e);
+            throw new RuntimeException("No se pudo eliminar el archivo: " + ruta, e);
+        }
+    }
+
+    @Override
+    public boolean esPDF(InputStream contenido) {
+        try {
+            // Leer los primeros 4 bytes para verificar el magic number de PDF,
+            // devolviendo el stream a su posición para no corromper el archivo
+            if (!contenido.markSupported()) {
+                throw new IllegalArgumentException("esPDF requiere un stream con mark/reset; use guardarPdf");
+            }
+            contenido.mark(4);
+            byte[] header = contenido.readNBytes(4);
+            contenido.reset();
+
+            // PDF magic number: %PDF
+            boolean isPdf = new String(header).equals("%PDF");
+
+            log.debug("Verificación de PDF: {}", isPdf);
+
+            return isPdf;
+
+        } catch (IOException e) {
+            log.error("Error al verificar PDF: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private String escribir(InputStream contenido, String nombreArchivo, String directorio, String contentType) {
+        String clave = directorio + "/" + generarNombreUnico(nombreArchivo);
+        int tamanoParte = (int) Math.max(config.getTamanoParte().toBytes(), TAMANO_MINIMO_PARTE);
+
+        try {
+            byte[] primera = contenido.readNBytes(tamanoParte);
+
+            if (primera.length < tamanoParte) {
+                s3.putObject(b -> b.bucket(config.getBucket()).key(clave).contentType(contentType),
+                    RequestBody.fromBytes(primera));
+            } else {
+                subirMultipart(contenido, clave, contentType, primera, tamanoParte);
+            }
+
+            log.info("Objeto guardado: {}", clave);
+
+            return clave;
+
+        } catch (IOException | SdkException e) {
+            log.error("Error al guardar archivo {}: {}", nombreArchivo, e.getMessage(), e);
+            throw new RuntimeException("No se pudo guardar el archivo: " + nombreArchivo, e);
+        }
+    }
+
+    /**
+     * Sube el resto del stream en partes paralelas. Un semáforo limita las partes en
+     * vuelo: si S3 va más lento que la petición, se deja de leer en lugar de acumular
+     * partes en memoria.
+     */
+    private void subirMultipart(InputStream contenido, String clave, String contentType,
+                                byte[] primera, int tamanoParte) throws IOException {
+        String uploadId = s3.createMultipartUpload(
+            b -> b.bucket(config.getBucket()).key(clave).contentType(contentType)).uploadId();
+
+        Semaphore enVuelo = new Semaphore(config.getConcurrencia());
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        List<CompletableFuture<CompletedPart>> partes = new ArrayList<>();
+
+        try {
+            byte[] parte = primera;
+            int numero = 1;
+            while (parte.length > 0) {
+                enVuelo.acquire();
+                if (error.get() != null) {
+                    enVuelo.release();
+                    break;
+                }
+                partes.add(enviarParte(clave, uploadId, numero++, parte, enVuelo, error));
+                parte = contenido.readNBytes(tamanoParte);
+            }
+
+            List<CompletedPart> completadas = new ArrayList<>(partes.size());
+            for (CompletableFuture<CompletedPart> parteEnviada : partes) {
+                completadas.add(parteEnviada.join());
+            }
+
+            s3.completeMultipartUpload(b -> b.bucket(config.getBucket()).key(clave).uploadId(uploadId)
+                .multipartUpload(m -> m.parts(completadas)));
+
+            log.debug("Multipart {} completado: {} partes", clave, completadas.size());
+
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            abortar(clave, uploadId, partes);
+            throw new IOException("Subida interrumpida", e);
+        } catch (CompletionException e) {
+            abortar(clave, uploadId, partes);
+            if (e.getCause() instanceof SdkException sdk) {
+                throw sdk;
+            }
+            throw new IOException("Error subiendo una parte: " + e.getCause().getMessage(), e.getCause());
+        } catch (IOException | RuntimeException e) {
+            // Incluye la IllegalArgumentException de la validación del PDF
+            abortar(clave, uploadId, partes);
+            throw e;
+        }
+    }
+
+    private CompletableFuture<CompletedPart> enviarParte(String clave, String uploadId, int numero, byte[] datos,
+                                                         Semaphore enVuelo, AtomicReference<Throwable> error) {
+        try {
+            return CompletableFuture
+                .supplyAsync(() -> {
+                    String etag = s3.uploadPart(b -> b.bucket(config.getBucket()).key(clave)
+                            .uploadId(uploadId).partNumber(numero).contentLength((long) datos.length),
+                        RequestBody.fromBytes(datos)).eTag();
+                    return CompletedPart.builder().partNumber(numero).eTag(etag).build();
+                }, executor)
+                .whenComplete((parte, e) -> {
+                    if (e != null) {
+                        error.compareAndSet(null, e);
+                    }
+                    enVuelo.release();
+                });
+        } catch (RejectedExecutionException e) {
+            enVuelo.release();
+            throw e;
+        }
+    }
+
+    private void abortar(String clave, String uploadId, List<CompletableFuture<CompletedPart>> partes) {
+        // Esperar las partes en vuelo: una parte que termina después del abort queda huérfana
+        partes.forEach(parte -> parte.exceptionally(e -> null).join());
+        try {
+            s3.abortMultipartUpload(b -> b.bucket(config.getBucket()).key(clave).uploadId(uploadId));
+            log.debug("Multipart {} abortado", clave);
+        } catch (SdkException e) {
+            log.warn("No se pudo abortar el multipart {} ({}): {}", clave, uploadId, e.getMessage());
+        }
+    }
+
+    /**
+     * Pide a S3 solo el rango indicado; los bytes se leen de la respuesta HTTP.
+     */
+    private InputStream leerRango(String ruta, long inicio, long fin) throws IOException {
+        try {
+            return s3.getObject(b -> b.bucket(config.getBucket()).key(ruta).range("bytes=" + inicio + "-" + fin));
+        } catch (NoSuchKeyException e) {
+            throw new NoSuchFileException(ruta);
+        } catch (SdkException e) {
+            throw new IOException(e.getMessage(), e);
+        }
+    }
+
+    private static String hashClave(String ruta) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(ruta.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 no disponible en la JVM", e);
+        }
+    }
+
+    /**
+     * Genera un nombre único para el archivo agregando UUID.
+     */
+    private static String generarNombreUnico(String nombreOriginal) {
+        String extension = "";
+        int dotIndex = nombreOriginal.lastIndexOf('.');
+
+        if (dotIndex > 0) {
+            extension = nombreOriginal.substring(dotIndex);
+            nombreOriginal = nombreOriginal.substring(0, dotIndex);
+        }
+
+        String uuid = UUID.randomUUID().toString().substring(0, 8);
+        return nombreOriginal + "_" + uuid + extension;
+    }
+}
@@ -0,0 +1,53 @@
+package co.unicauca.submission.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración de los enlaces de descarga firmados (HmacEnlacesFirmadosAdapter).
+ */
+@Configuration
+@ConfigurationProperties(prefix = "file.enlaces-firmados")
+public class EnlacesFirmadosConfig {
+
+    /**
+     * Clave HMAC. Debe ser la misma en todas las instancias del servicio; si se deja
+     * vacía se genera una al arrancar y los enlaces dejan de valer al reiniciar.
+     */
+    private String secreto = "";
+
+    /**
+     * Vigencia de cada enlace desde su emisión.
+     */
+    private long vigenciaSegundos = 300;
+
+    /**
+     * Enlaces de uso único recordados a la vez. Es una ventana en memoria de cada
+     * instancia: acota la repetición de un enlace, no la impide entre instancias.
+     */
+    private long ventanaUsoUnico = 100_000;
+
+    public String getSecreto() {
+        return secreto;
+    }
+
+    public void setSecreto(String secreto) {
+        this.secreto = secreto;
+    }
+
+    public long getVigenciaSegundos() {
+        return vigenciaSegundos;
+    }
+
+    public void setVigenciaSegundos(long vigenciaSegundos) {
+        this.vigenciaSegundos = vigenciaSegundos;
+    }
+
+    public long getVentanaUsoUnico() {
+        return ventanaUsoUnico;
+    }
+
+    public void setVentanaUsoUnico(long ventanaUsoUnico) {
+        this.ventanaUsoUnico = ventanaUsoUnico;
+    }
+}
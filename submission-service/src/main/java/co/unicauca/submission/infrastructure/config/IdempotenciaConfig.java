@@ -0,0 +1,119 @@
+package co.unicauca.submission.infrastructure.config;
+
+import co.unicauca.submission.infrastructure.adapter.in.rest.IdempotenciaFilter;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.ClavesIdempotenciaAdapter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.time.Duration;
+
+/**
+ * Configuración de la cabecera Idempotency-Key en los envíos.
+ *
+ * El filtro se registra aquí y no como @Component para que solo cubra
+ * /api/submissions/* y no entre en los tests @WebMvcTest de los controladores.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "idempotencia")
+public class IdempotenciaConfig {
+
+    private boolean enabled = true;
+
+    /**
+     * Tiempo durante el cual se repite la respuesta guardada para la misma clave.
+     */
+    private int ttlHoras = 24;
+
+    /**
+     * Una reserva EN_PROCESO sin renovar durante este tiempo se considera abandonada
+     * (la instancia se cayó a mitad de la petición) y se puede volver a tomar. La
+     * petición en curso la renueva cada tercio de este tiempo, así que no acota
+     * lo que puede durar una subida.
+     */
+    private int timeoutProcesoSegundos = 120;
+
+    /**
+     * Respuestas más grandes no se guardan: la clave queda completada sin cuerpo y
+     * los reintentos reciben 422 en vez de volver a ejecutar la petición.
+     */
+    private int tamanoMaximoRespuesta = 64 * 1024;
+
+    /**
+     * Hilos del scheduler de renovaciones. Es propio para que el relay del outbox, el
+     * reconciliador o las limpiezas no retrasen una renovación hasta que la reserva
+     * venza con la petición todavía en curso.
+     */
+    private int hilosRenovacion = 2;
+
+    @Bean
+    @ConditionalOnProperty(name = "idempotencia.enabled", havingValue = "true", matchIfMissing = true)
+    public ThreadPoolTaskScheduler idempotenciaScheduler() {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(hilosRenovacion);
+        scheduler.setThreadNamePrefix("idempotencia-renovacion-");
+        // Las renovaciones de peticiones ya terminadas no se quedan en la cola
+        scheduler.setRemoveOnCancelPolicy(true);
+        return scheduler;
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "idempotencia.enabled", havingValue = "true", matchIfMissing = true)
+    public FilterRegistrationBean<IdempotenciaFilter> idempotenciaFilter(ClavesIdempotenciaAdapter claves,
+                                                                         ObjectMapper objectMapper,
+                                                                         @Qualifier("idempotenciaScheduler")
+                                                                         TaskScheduler programador) {
+        Duration intervaloRenovacion = Duration.ofSeconds(Math.max(1, timeoutProcesoSegundos / 3));
+        FilterRegistrationBean<IdempotenciaFilter> registro = new FilterRegistrationBean<>(
+            new IdempotenciaFilter(claves, objectMapper, tamanoMaximoRespuesta, programador, intervaloRenovacion));
+        registro.addUrlPatterns("/api/submissions/*");
+        registro.setName("idempotenciaFilter");
+        return registro;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getTtlHoras() {
+        return ttlHoras;
+    }
+
+    public void setTtlHoras(int ttlHoras) {
+        this.ttlHoras = ttlHoras;
+    }
+
+    public int getTimeoutProcesoSegundos() {
+        return timeoutProcesoSegundos;
+    }
+
+    public void setTimeoutProcesoSegundos(int timeoutProcesoSegundos) {
+        this.timeoutProcesoSegundos = timeoutProcesoSegundos;
+    }
+
+    public int getHilosRenovacion() {
+        return hilosRenovacion;
+    }
+
+    public void setHilosRenovacion(int hilosRenovacion) {
+        this.hilosRenovacion = hilosRenovacion;
+    }
+
+    public int getTamanoMaximoRespuesta() {
+        return tamanoMaximoRespuesta;
+    }
+
+    public void setTamanoMaximoRespuesta(int tamanoMaximoRespuesta) {
+        this.tamanoMaximoRespuesta = tamanoMaximoRespuesta;
+    }
+}
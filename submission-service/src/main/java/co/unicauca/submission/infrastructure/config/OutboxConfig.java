@@ -0,0 +1,93 @@
+package co.unicauca.submission.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.task.TaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * Configuración del outbox transaccional de eventos.
+ * Habilita el scheduling usado por el relay (OutboxRelay).
+ *
+ * El scheduler de los @Scheduled se declara aquí porque hay otros TaskScheduler en
+ * el contexto (renovación de Idempotency-Key) y Spring Boot solo crea el suyo si no
+ * existe ninguno. Se configura con spring.task.scheduling.*, como el de Boot.
+ */
+@Configuration
+@EnableScheduling
+@ConfigurationProperties(prefix = "messaging.outbox")
+public class OutboxConfig {
+
+    /**
+     * true = los eventos se insertan en outbox_eventos y los publica el relay.
+     * false = publicación directa a RabbitMQ dentro del request.
+     */
+    private boolean enabled = true;
+
+    /**
+     * Cantidad máxima de eventos que reclama el relay por ciclo.
+     */
+    private int tamanoLote = 100;
+
+    /**
+     * Tiempo máximo de espera por las confirmaciones del broker (publisher confirms).
+     */
+    private long timeoutConfirmacionMs = 5000;
+
+    /**
+     * Espera máxima entre reintentos de un evento que falló (backoff exponencial).
+     */
+    private long backoffMaximoSegundos = 300;
+
+    /**
+     * Horas que se conservan los eventos ya publicados antes de borrarlos.
+     */
+    private long retencionHoras = 72;
+
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(TaskSchedulerBuilder builder) {
+        return builder.build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getTamanoLote() {
+        return tamanoLote;
+    }
+
+    public void setTamanoLote(int tamanoLote) {
+        this.tamanoLote = tamanoLote;
+    }
+
+    public long getTimeoutConfirmacionMs() {
+        return timeoutConfirmacionMs;
+    }
+
+    public void setTimeoutConfirmacionMs(long timeoutConfirmacionMs) {
+        this.timeoutConfirmacionMs = timeoutConfirmacionMs;
+    }
+
+    public long getBackoffMaximoSegundos() {
+        return backoffMaximoSegundos;
+    }
+
+    public void setBackoffMaximoSegundos(long backoffMaximoSegundos) {
+        this.backoffMaximoSegundos = backoffMaximoSegundos;
+    }
+
+    public long getRetencionHoras() {
+        return retencionHoras;
+    }
+
+    public void setRetencionHoras(long retencionHoras) {
+        this.retencionHoras = retencionHoras;
+    }
+}
@@ -0,0 +1,86 @@
+package co.unicauca.submission.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Configuración del executor para efectos posteriores al commit
+ * (enriquecimiento de eventos, outbox y notificaciones).
+ *
+ * Pool y cola acotados: si identity-service o el broker se vuelven lentos, las tareas
+ * se acumulan en la cola y luego se rechazan (con métrica), en lugar de retener
+ * hilos del request o conexiones del pool de Hikari.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "async.post-commit")
+public class PostCommitConfig {
+
+    private int hilos = 4;
+    private int hilosMaximos = 8;
+    private int capacidadCola = 500;
+
+    /**
+     * Intentos totales por tarea (el primero más los reintentos).
+     */
+    private int maxIntentos = 3;
+
+    /**
+     * Espera antes del primer reintento; se duplica en cada intento.
+     */
+    private long backoffInicialMs = 1000;
+
+    @Bean
+    public ThreadPoolTaskExecutor postCommitExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(hilos);
+        executor.setMaxPoolSize(hilosMaximos);
+        executor.setQueueCapacity(capacidadCola);
+        executor.setThreadNamePrefix("post-commit-");
+        // Al apagar, terminar las tareas ya encoladas
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    public int getHilos() {
+        return hilos;
+    }
+
+    public void setHilos(int hilos) {
+        this.hilos = hilos;
+    }
+
+    public int getHilosMaximos() {
+        return hilosMaximos;
+    }
+
+    public void setHilosMaximos(int hilosMaximos) {
+        this.hilosMaximos = hilosMaximos;
+    }
+
+    public int getCapacidadCola() {
+        return capacidadCola;
+    }
+
+    public void setCapacidadCola(int capacidadCola) {
+        this.capacidadCola = capacidadCola;
+    }
+
+    public int getMaxIntentos() {
+        return maxIntentos;
+    }
+
+    public void setMaxIntentos(int maxIntentos) {
+        this.maxIntentos = maxIntentos;
+    }
+
+    public long getBackoffInicialMs() {
+        return backoffInicialMs;
+    }
+
+    public void setBackoffInicialMs(long backoffInicialMs) {
+        this.backoffInicialMs = backoffInicialMs;
+    }
+}
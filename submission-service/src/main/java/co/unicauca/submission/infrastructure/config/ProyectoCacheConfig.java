@@ -0,0 +1,39 @@
+package co.unicauca.submission.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Configuración de la caché en proceso de GET /api/submissions/{id}.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "cache.proyectos")
+public class ProyectoCacheConfig {
+
+    private long tamanoMaximo = 10_000;
+
+    /**
+     * Vida máxima de una entrada. Las escrituras de esta instancia invalidan al
+     * instante, pero la caché es de cada instancia y no hay invalidación entre
+     * ellas: con varias réplicas del servicio, una escritura hecha en otra puede
+     * tardar hasta este tiempo en verse. Por eso es corto; subirlo solo es seguro
+     * con una única instancia.
+     */
+    private long expiracionSegundos = 30;
+
+    public long getTamanoMaximo() {
+        return tamanoMaximo;
+    }
+
+    public void setTamanoMaximo(long tamanoMaximo) {
+        this.tamanoMaximo = tamanoMaximo;
+    }
+
+    public long getExpiracionSegundos() {
+        return expiracionSegundos;
+    }
+
+    public void setExpiracionSegundos(long expiracionSegundos) {
+        this.expiracionSegundos = expiracionSegundos;
+    }
+}
@@ -0,0 +1,73 @@
+package co.unicauca.submission.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Configuración de la reconciliación del almacenamiento local (ReconciliadorAlmacenamiento).
+ */
+@Configuration
+@ConfigurationProperties(prefix = "file.storage.reconciliacion")
+public class ReconciliacionAlmacenamientoConfig {
+
+    /**
+     * false = no se reconcilia en esta instancia. Con varias instancias sobre el mismo
+     * disco basta activarla en una.
+     */
+    private boolean enabled = false;
+
+    /**
+     * Antigüedad mínima de un archivo sin referencias para borrarlo. Debe superar de
+     * sobra la duración de una petición: un archivo recién escrito todavía no está
+     * referenciado hasta que la transacción del proyecto confirma.
+     */
+    private long graciaHoras = 24;
+
+    /**
+     * Rutas que se buscan en la BD por consulta. Acota la memoria del recorrido: solo
+     * un lote está en memoria a la vez, sin importar cuántos archivos haya.
+     */
+    private int tamanoLote = 500;
+
+    /**
+     * Un solo hilo y sin cola: a lo sumo un recorrido a la vez, fuera del scheduler
+     * compartido de los @Scheduled.
+     */
+    @Bean
+    @ConditionalOnProperty(name = "file.storage.reconciliacion.enabled", havingValue = "true")
+    public ThreadPoolTaskExecutor reconciliacionExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(0);
+        executor.setThreadNamePrefix("reconciliacion-");
+        return executor;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getGraciaHoras() {
+        return graciaHoras;
+    }
+
+    public void setGraciaHoras(long graciaHoras) {
+        this.graciaHoras = graciaHoras;
+    }
+
+    public int getTamanoLote() {
+        return tamanoLote;
+    }
+
+    public void setTamanoLote(int tamanoLote) {
+        this.tamanoLote = tamanoLote;
+    }
+}
@@ -0,0 +1,188 @@
+package co.unicauca.submission.infrastructure.config;
+
+import co.unicauca.submission.infrastructure.adapter.in.rest.LecturaPropiaInterceptor;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.replica.EnrutadorDataSource;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.replica.EscriturasRecientes;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.replica.MonitorReplica;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.flyway.FlywayDataSource;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Réplica de lectura para las consultas de submission-service.
+ *
+ * Con datasource.replica.enabled=true las transacciones @Transactional(readOnly = true)
+ * (queries de proyectos, pendientes, archivos) se atienden desde la réplica y las
+ * escrituras, Flyway, el outbox y los workers siguen en la primaria
+ * (spring.datasource). Sin réplica configurada no cambia nada.
+ *
+ * Pool de la réplica: datasource.replica.hikari.* (mismas claves que spring.datasource.hikari).
+ */
+@Configuration
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReplicaDataSourceConfig {
+
+    private boolean enabled = false;
+
+    private String url;
+
+    private String username;
+
+    private String password;
+
+    /**
+     * Tiempo tras una escritura del usuario durante el cual sus lecturas van a la
+     * primaria. Debe cubrir el retraso normal de la réplica.
+     */
+    private long ventanaLecturaPropiaSegundos = 5;
+
+    /**
+     * Usuarios con escritura reciente recordados a la vez (por instancia).
+     */
+    private long maximoUsuariosRecientes = 100_000;
+
+    /**
+     * Retraso a partir del cual la réplica deja de atender lecturas.
+     */
+    private long retrasoMaximoSegundos = 30;
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public String getUrl() {
+        return url;
+    }
+
+    public void setUrl(String url) {
+        this.url = url;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public void setUsername(String username) {
+        this.username = username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public void setPassword(String password) {
+        this.password = password;
+    }
+
+    public long getVentanaLecturaPropiaSegundos() {
+        return ventanaLecturaPropiaSegundos;
+    }
+
+    public void setVentanaLecturaPropiaSegundos(long ventanaLecturaPropiaSegundos) {
+        this.ventanaLecturaPropiaSegundos = ventanaLecturaPropiaSegundos;
+    }
+
+    public long getMaximoUsuariosRecientes() {
+        return maximoUsuariosRecientes;
+    }
+
+    public void setMaximoUsuariosRecientes(long maximoUsuariosRecientes) {
+        this.maximoUsuariosRecientes = maximoUsuariosRecientes;
+    }
+
+    public long getRetrasoMaximoSegundos() {
+        return retrasoMaximoSegundos;
+    }
+
+    public void setRetrasoMaximoSegundos(long retrasoMaximoSegundos) {
+        this.retrasoMaximoSegundos = retrasoMaximoSegundos;
+    }
+
+    /**
+     * Beans del enrutamiento; solo existen con la réplica habilitada. Al definir el
+     * DataSource, el de Spring Boot no se crea: la primaria se arma aquí con las
+     * mismas propiedades spring.datasource.*.
+     */
+    @Configuration
+    @ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+    static class Enrutamiento implements WebMvcConfigurer {
+
+        private final ReplicaDataSourceConfig config;
+
+        Enrutamiento(ReplicaDataSourceConfig config) {
+            this.config = config;
+        }
+
+        @Bean
+        @FlywayDataSource
+        @ConfigurationProperties(prefix = "spring.datasource.hikari")
+        public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+            HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+            dataSource.setPoolName("primaria");
+            return dataSource;
+        }
+
+        @Bean
+        @ConfigurationProperties(prefix = "datasource.replica.hikari")
+        public HikariDataSource replicaDataSource(DataSourceProperties properties) {
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .driverClassName(properties.determineDriverClassName())
+                .url(config.getUrl())
+                .username(config.getUsername())
+                .password(config.getPassword())
+                .build();
+            dataSource.setPoolName("replica");
+            dataSource.setReadOnly(true);
+            return dataSource;
+        }
+
+        @Bean
+        public MonitorReplica monitorReplica(@Qualifier("replicaDataSource") DataSource replica,
+                                             MeterRegistry meterRegistry) {
+            return new MonitorReplica(replica, config.getRetrasoMaximoSegundos(), meterRegistry);
+        }
+
+        @Bean
+        @Primary
+        public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaria,
+                                     @Qualifier("replicaDataSource") DataSource replica,
+                                     MonitorReplica monitor) {
+            EnrutadorDataSource enrutador = new EnrutadorDataSource(primaria, replica, monitor::isDisponible);
+            enrutador.afterPropertiesSet();
+            // La conexión física se elige en la primera sentencia, con readOnly ya fijado
+            return new LazyConnectionDataSourceProxy(enrutador);
+        }
+
+        @Bean
+        public EscriturasRecientes escriturasRecientes() {
+            return new EscriturasRecientes(Duration.ofSeconds(config.getVentanaLecturaPropiaSegundos()),
+                config.getMaximoUsuariosRecientes());
+        }
+
+        @Override
+        public void addInterceptors(InterceptorRegistry registry) {
+            registry.addInterceptor(new LecturaPropiaInterceptor(escriturasRecientes()));
+        }
+    }
+}
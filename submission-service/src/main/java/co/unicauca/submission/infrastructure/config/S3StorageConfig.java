@@ -0,0 +1,203 @@
+package co.unicauca.submission.infrastructure.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.unit.DataSize;
+import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
+import software.amazon.awssdk.auth.credentials.AwsCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
+import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.http.apache.ApacheHttpClient;
+import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
+
+import java.net.URI;
+
+/**
+ * Configuración del almacenamiento en S3 o compatible (MinIO), activo con
+ * file.storage.type=s3 (S3FileStorageAdapter).
+ *
+ * Con S3 los archivos dejan de depender del volumen de un contenedor y el servicio
+ * puede correr con varias réplicas.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "file.storage.s3")
+public class S3StorageConfig {
+
+    private String bucket = "submission-files";
+
+    /**
+     * Endpoint del servicio; vacío = AWS S3. Para MinIO: http://minio:9000
+     */
+    private String endpoint = "";
+
+    private String region = "us-east-1";
+
+    /**
+     * Credenciales estáticas; vacías = cadena por defecto de AWS (variables de
+     * entorno, perfil, rol de la instancia).
+     */
+    private String accessKey = "";
+
+    private String secretKey = "";
+
+    /**
+     * Direccionamiento bucket-en-ruta (http://host/bucket/clave). MinIO lo requiere.
+     */
+    private boolean pathStyle = true;
+
+    /**
+     * Tamaño de cada parte en las subidas multipart. S3 exige al menos 5MB; los
+     * archivos menores que una parte se suben con un solo PUT.
+     */
+    private DataSize tamanoParte = DataSize.ofMegabytes(8);
+
+    /**
+     * Partes de un mismo archivo que se suben en paralelo. También acota la memoria
+     * de una subida: a lo sumo concurrencia + 1 partes en buffer.
+     */
+    private int concurrencia = 4;
+
+    /**
+     * Hilos compartidos por todas las subidas en curso.
+     */
+    private int hilos = 16;
+
+    /**
+     * Crea el bucket al arrancar si no existe (entornos de desarrollo con MinIO).
+     */
+    private boolean crearBucket = false;
+
+    /**
+     * Conexiones al bucket para descargas, además de las de subida: cada descarga
+     * en curso ocupa una mientras copia su rango al cliente.
+     */
+    private int conexionesDescarga = 32;
+
+    @Bean(destroyMethod = "close")
+    @ConditionalOnProperty(name = "file.storage.type", havingValue = "s3")
+    public S3Client s3Client() {
+        S3ClientBuilder builder = S3Client.builder()
+            .region(Region.of(region))
+            .credentialsProvider(credenciales())
+            .forcePathStyle(pathStyle)
+            // Una conexión por hilo de subida, más las de descargas y HEAD
+            .httpClientBuilder(ApacheHttpClient.builder().maxConnections(hilos + conexionesDescarga));
+
+        if (!endpoint.isBlank()) {
+            builder.endpointOverride(URI.create(endpoint));
+        }
+        return builder.build();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "file.storage.type", havingValue = "s3")
+    public ThreadPoolTaskExecutor s3TransferExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(hilos);
+        executor.setMaxPoolSize(hilos);
+        executor.setThreadNamePrefix("s3-transfer-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+
+    private AwsCredentialsProvider credenciales() {
+        if (accessKey.isBlank()) {
+            return DefaultCredentialsProvider.create();
+        }
+        return StaticCredentialsProvider.create(AwsBasicCredentials.create(accessKey, secretKey));
+    }
+
+    public String getBucket() {
+        return bucket;
+    }
+
+    public void setBucket(String bucket) {
+        this.bucket = bucket;
+    }
+
+    public String getEndpoint() {
+        return endpoint;
+    }
+
+    public void setEndpoint(String endpoint) {
+        this.endpoint = endpoint;
+    }
+
+    public String getRegion() {
+        return region;
+    }
+
+    public void setRegion(String region) {
+        this.region = region;
+    }
+
+    public String getAccessKey() {
+        return accessKey;
+    }
+
+    public void setAccessKey(String accessKey) {
+        this.accessKey = accessKey;
+    }
+
+    public String getSecretKey() {
+        return secretKey;
+    }
+
+    public void setSecretKey(String secretKey) {
+        this.secretKey = secretKey;
+    }
+
+    public boolean isPathStyle() {
+        return pathStyle;
+    }
+
+    public void setPathStyle(boolean pathStyle) {
+        this.pathStyle = pathStyle;
+    }
+
+    public DataSize getTamanoParte() {
+        return tamanoParte;
+    }
+
+    public void setTamanoParte(DataSize tamanoParte) {
+        this.tamanoParte = tamanoParte;
+    }
+
+    public int getConcurrencia() {
+        return concurrencia;
+    }
+
+    public void setConcurrencia(int concurrencia) {
+        this.concurrencia = concurrencia;
+    }
+
+    public int getHilos() {
+        return hilos;
+    }
+
+    public void setHilos(int hilos) {
+        this.hilos = hilos;
+    }
+
+    public boolean isCrearBucket() {
+        return crearBucket;
+    }
+
+    public void setCrearBucket(boolean crearBucket) {
+        this.crearBucket = crearBucket;
+    }
+
+    public int getConexionesDescarga() {
+        return conexionesDescarga;
+    }
+
+    public void setConexionesDescarga(int conexionesDescarga) {
+        this.conexionesDescarga = conexionesDescarga;
+    }
+}
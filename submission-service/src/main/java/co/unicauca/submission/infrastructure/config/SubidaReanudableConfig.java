@@ -0,0 +1,40 @@
+package co.unicauca.submission.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.util.unit.DataSize;
+
+/**
+ * Configuración de las subidas reanudables por fragmentos (SubidaReanudableLocalAdapter).
+ */
+@Configuration
+@ConfigurationProperties(prefix = "file.upload.reanudable")
+public class SubidaReanudableConfig {
+
+    /**
+     * Tamaño máximo de un fragmento. Cada fragmento se escribe a un temporal antes
+     * de verificarlo, así que acota el disco por petición, no la memoria.
+     */
+    private DataSize tamanoMaximoFragmento = DataSize.ofMegabytes(5);
+
+    /**
+     * Horas sin recibir fragmentos tras las cuales una sesión se considera abandonada.
+     */
+    private long expiracionHoras = 24;
+
+    public DataSize getTamanoMaximoFragmento() {
+        return tamanoMaximoFragmento;
+    }
+
+    public void setTamanoMaximoFragmento(DataSize tamanoMaximoFragmento) {
+        this.tamanoMaximoFragmento = tamanoMaximoFragmento;
+    }
+
+    public long getExpiracionHoras() {
+        return expiracionHoras;
+    }
+
+    public void setExpiracionHoras(long expiracionHoras) {
+        this.expiracionHoras = expiracionHoras;
+    }
+}
@@ -0,0 +1,107 @@
+package co.unicauca.submission.infrastructure.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Configuración del worker de validación asíncrona de PDFs (ValidacionPdfWorker).
+ *
+ * El pool es fijo: analizar un PDF es CPU y memoria, así que la cantidad de hilos
+ * acota cuántos se analizan a la vez sin importar cuántos se suban.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "async.validacion-pdf")
+public class ValidacionPdfConfig {
+
+    /**
+     * false = no se corre el worker en esta instancia (los documentos quedan PENDIENTE).
+     */
+    private boolean enabled = true;
+
+    private int hilos = 2;
+
+    /**
+     * Intentos ante errores de lectura del almacenamiento, antes de rechazar el documento.
+     * Un PDF dañado se rechaza en el primer intento.
+     */
+    private int maxIntentos = 3;
+
+    /**
+     * Espera antes del primer reintento; se duplica en cada intento.
+     */
+    private long backoffInicialMs = 5000;
+
+    /**
+     * Tiempo tras el cual una validación en proceso se considera abandonada y se reencola.
+     */
+    private long timeoutProcesoSegundos = 300;
+
+    /**
+     * Ancho en píxeles de la vista previa de la primera página; 0 = no generar.
+     * A 320 px la portada de un Formato A ocupa unos 20-40 KB en PNG.
+     */
+    private int anchoVistaPrevia = 320;
+
+    @Bean
+    public ThreadPoolTaskExecutor validacionPdfExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(hilos);
+        executor.setMaxPoolSize(hilos);
+        // El worker solo reclama tantas validaciones como hilos libres: la cola es holgura
+        executor.setQueueCapacity(hilos);
+        executor.setThreadNamePrefix("validacion-pdf-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    public int getAnchoVistaPrevia() {
+        return anchoVistaPrevia;
+    }
+
+    public void setAnchoVistaPrevia(int anchoVistaPrevia) {
+        this.anchoVistaPrevia = anchoVistaPrevia;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public int getHilos() {
+        return hilos;
+    }
+
+    public void setHilos(int hilos) {
+        this.hilos = hilos;
+    }
+
+    public int getMaxIntentos() {
+        return maxIntentos;
+    }
+
+    public void setMaxIntentos(int maxIntentos) {
+        this.maxIntentos = maxIntentos;
+    }
+
+    public long getBackoffInicialMs() {
+        return backoffInicialMs;
+    }
+
+    public void setBackoffInicialMs(long backoffInicialMs) {
+        this.backoffInicialMs = backoffInicialMs;
+    }
+
+    public long getTimeoutProcesoSegundos() {
+        return timeoutProcesoSegundos;
+    }
+
+    public void setTimeoutProcesoSegundos(long timeoutProcesoSegundos) {
+        this.timeoutProcesoSegundos = timeoutProcesoSegundos;
+    }
+}
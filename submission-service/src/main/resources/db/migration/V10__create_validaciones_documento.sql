@@ -0,0 +1,37 @@
+-- V10__create_validaciones_documento.sql
+-- Validación asíncrona de los PDFs subidos. La subida solo comprueba magic number y
+-- tamaño; un worker acotado analiza la estructura del PDF después del commit,
+-- rechaza los dañados o cifrados y registra páginas y tamaño del texto.
+--
+-- Una fila por documento vigente de cada proyecto (tipo: FORMATO_A, CARTA,
+-- ANTEPROYECTO). Reenviar un documento reemplaza la fila y la vuelve a PENDIENTE.
+-- La tabla es también la cola de trabajo: el worker reclama las pendientes con
+-- FOR UPDATE SKIP LOCKED, igual que el relay del outbox.
+
+CREATE TABLE IF NOT EXISTS validaciones_documento (
+    id BIGSERIAL PRIMARY KEY,
+    proyecto_id BIGINT NOT NULL REFERENCES proyectos(id) ON DELETE CASCADE,
+    tipo VARCHAR(20) NOT NULL,
+    ruta VARCHAR(500) NOT NULL,
+    estado VARCHAR(20) NOT NULL,
+    paginas INTEGER,
+    caracteres_texto BIGINT,
+    motivo_rechazo VARCHAR(1000),
+    intentos INTEGER NOT NULL DEFAULT 0,
+    proximo_intento TIMESTAMP(6) NOT NULL,
+    fecha_creacion TIMESTAMP(6) NOT NULL,
+    fecha_actualizacion TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_validaciones_documento_proyecto_tipo UNIQUE (proyecto_id, tipo)
+);
+
+-- El worker solo recorre las pendientes; las ya validadas no ocupan el índice
+CREATE INDEX IF NOT EXISTS idx_validaciones_documento_pendientes
+    ON validaciones_documento (proximo_intento, id)
+    WHERE estado = 'PENDIENTE';
+
+-- Recuperación de validaciones que quedaron en proceso tras una caída del worker
+CREATE INDEX IF NOT EXISTS idx_validaciones_documento_en_proceso
+    ON validaciones_documento (fecha_actualizacion)
+    WHERE estado = 'EN_PROCESO';
+
+COMMENT ON TABLE validaciones_documento IS 'Estado de la validación asíncrona de los PDFs de cada proyecto (cola del worker de validación)';
@@ -0,0 +1,27 @@
+-- V11__create_claves_idempotencia.sql
+-- Claves de idempotencia de las peticiones que modifican datos (header Idempotency-Key).
+--
+-- Un reintento del cliente o del gateway con la misma clave recibe la respuesta
+-- original en lugar de volver a guardar PDFs, consumir un intento y publicar
+-- eventos. La fila se reserva (EN_PROCESO) antes de ejecutar la petición: la clave
+-- única hace que de dos peticiones concurrentes con la misma clave solo una se
+-- ejecute. Las claves vencen (expira) y se purgan periódicamente.
+
+CREATE TABLE IF NOT EXISTS claves_idempotencia (
+    id BIGSERIAL PRIMARY KEY,
+    usuario_id BIGINT NOT NULL,
+    clave VARCHAR(255) NOT NULL,
+    metodo VARCHAR(10) NOT NULL,
+    ruta VARCHAR(500) NOT NULL,
+    estado VARCHAR(20) NOT NULL,
+    codigo_estado INTEGER,
+    content_type VARCHAR(255),
+    cuerpo BYTEA,
+    fecha_creacion TIMESTAMP(6) NOT NULL,
+    expira TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_claves_idempotencia_usuario_clave UNIQUE (usuario_id, clave)
+);
+
+CREATE INDEX IF NOT EXISTS idx_claves_idempotencia_expira ON claves_idempotencia (expira);
+
+COMMENT ON TABLE claves_idempotencia IS 'Respuestas guardadas por Idempotency-Key para repetir reintentos sin reejecutarlos';
@@ -0,0 +1,11 @@
+-- V12__add_vista_previa_validaciones_documento.sql
+-- Vista previa (PNG de la primera página) de cada documento válido. La genera el
+-- worker de validación en la misma pasada en que analiza el PDF y la guarda en el
+-- almacenamiento junto al archivo; aquí queda su ruta.
+--
+-- Un reenvío vuelve la fila a PENDIENTE y limpia la ruta: la vista previa anterior
+-- se libera después del commit.
+
+ALTER TABLE validaciones_documento ADD COLUMN IF NOT EXISTS ruta_vista_previa VARCHAR(500);
+
+COMMENT ON COLUMN validaciones_documento.ruta_vista_previa IS 'Ruta en el almacenamiento del PNG de la primera página (solo documentos VALIDO)';
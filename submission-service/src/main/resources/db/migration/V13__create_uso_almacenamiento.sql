@@ -0,0 +1,31 @@
+-- V13__create_uso_almacenamiento.sql
+-- Reconciliación del almacenamiento (ReconciliadorAlmacenamiento).
+--
+-- Ningún flujo borra la versión anterior de un Formato A reenviado ni los PDFs de un
+-- proyecto rechazado, y un archivo escrito antes de que la transacción haga rollback
+-- queda huérfano. El reconciliador recorre el árbol de archivos por lotes y busca
+-- las rutas de cada lote en las columnas que las referencian: estos índices hacen
+-- que cada búsqueda sea por clave sin importar cuántos proyectos haya.
+
+CREATE INDEX IF NOT EXISTS idx_proyectos_ruta_pdf_formatoa ON proyectos(ruta_pdf_formatoa);
+CREATE INDEX IF NOT EXISTS idx_proyectos_ruta_carta ON proyectos(ruta_carta) WHERE ruta_carta IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_proyectos_ruta_pdf_anteproyecto
+    ON proyectos(ruta_pdf_anteproyecto)
+    WHERE ruta_pdf_anteproyecto IS NOT NULL;
+CREATE INDEX IF NOT EXISTS idx_validaciones_documento_ruta_vista_previa
+    ON validaciones_documento(ruta_vista_previa)
+    WHERE ruta_vista_previa IS NOT NULL;
+
+-- Uso del almacenamiento por usuario (director del proyecto) y tipo de archivo,
+-- calculado en la última reconciliación. Cada ejecución reemplaza todas las filas.
+CREATE TABLE IF NOT EXISTS uso_almacenamiento (
+    id BIGSERIAL PRIMARY KEY,
+    usuario_id BIGINT NOT NULL,
+    tipo VARCHAR(20) NOT NULL,
+    archivos BIGINT NOT NULL,
+    bytes BIGINT NOT NULL,
+    fecha_calculo TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_uso_almacenamiento_usuario_tipo UNIQUE (usuario_id, tipo)
+);
+
+COMMENT ON TABLE uso_almacenamiento IS 'Archivos y bytes referenciados por usuario y tipo según la última reconciliación del almacenamiento';
@@ -0,0 +1,23 @@
+-- V14__add_huella_propietario_claves_idempotencia.sql
+-- Endurece las claves de idempotencia (V11).
+--
+-- huella: SHA-256 del contenido de la petición original. Un reintento con la misma
+-- clave y otro contenido se rechaza en vez de recibir la respuesta de otra petición.
+--
+-- propietario y renovada: la petición que reservó la clave la renueva mientras se
+-- ejecuta. Solo una reserva sin renovar se considera abandonada, así una subida
+-- lenta no se vuelve a ejecutar en paralelo; y solo el propietario puede completar
+-- o liberar la clave.
+--
+-- respuesta_omitida: la petición terminó pero su respuesta era demasiado grande para
+-- guardarse. Los reintentos se rechazan en vez de volver a ejecutarla.
+
+ALTER TABLE claves_idempotencia
+    ADD COLUMN IF NOT EXISTS huella VARCHAR(64),
+    ADD COLUMN IF NOT EXISTS propietario VARCHAR(36),
+    ADD COLUMN IF NOT EXISTS renovada TIMESTAMP(6),
+    ADD COLUMN IF NOT EXISTS respuesta_omitida BOOLEAN NOT NULL DEFAULT FALSE;
+
+UPDATE claves_idempotencia SET renovada = fecha_creacion WHERE renovada IS NULL;
+
+ALTER TABLE claves_idempotencia ALTER COLUMN renovada SET NOT NULL;
@@ -0,0 +1,81 @@
+-- V15__tolerar_conflictos_previos_proyecto_activo.sql
+-- Datos previos a V5: si un estudiante ya estaba en varios proyectos activos, la
+-- carga inicial de V5 registró el más antiguo y omitió los demás sin avisar. Como
+-- el trigger hacía DELETE + INSERT en cada cambio de estado, esos otros proyectos
+-- quedaban sin poder avanzar (violación de uk_estudiante_proyecto_activo).
+--
+-- Como una restricción NOT VALID, los conflictos anteriores se toleran: un
+-- proyecto donde el estudiante ya estaba activo puede seguir cambiando de estado,
+-- y cuando el proyecto registrado termina pasa a registrarse el siguiente. Solo se
+-- rechazan los conflictos nuevos. Los que existan se avisan con un WARNING para
+-- depurarlos.
+--
+-- Los estados activos deben coincidir con EstadoProyecto (estadoFinal = false).
+
+CREATE OR REPLACE FUNCTION estado_proyecto_activo(estado VARCHAR) RETURNS BOOLEAN AS $$
+    SELECT estado IN ('FORMATO_A_DILIGENCIADO', 'EN_EVALUACION_COORDINADOR', 'CORRECCIONES_SOLICITADAS',
+                      'FORMATO_A_APROBADO', 'ANTEPROYECTO_ENVIADO', 'ANTEPROYECTO_EN_EVALUACION');
+$$ LANGUAGE sql IMMUTABLE;
+
+CREATE OR REPLACE FUNCTION sincronizar_estudiantes_proyecto_activo() RETURNS TRIGGER AS $$
+DECLARE
+    estudiante BIGINT;
+BEGIN
+    DELETE FROM estudiantes_proyecto_activo WHERE proyecto_id = NEW.id;
+
+    IF estado_proyecto_activo(NEW.estado) THEN
+        FOREACH estudiante IN ARRAY ARRAY[NEW.estudiante1id, NEW.estudiante2id] LOOP
+            CONTINUE WHEN estudiante IS NULL;
+            IF TG_OP = 'UPDATE' AND estado_proyecto_activo(OLD.estado)
+               AND estudiante IN (OLD.estudiante1id, OLD.estudiante2id) THEN
+                -- Ya estaba activo en este proyecto: un conflicto anterior a V5 se tolera
+                INSERT INTO estudiantes_proyecto_activo (estudiante_id, proyecto_id) VALUES (estudiante, NEW.id)
+                ON CONFLICT (estudiante_id) DO NOTHING;
+            ELSE
+                -- Un estudiante repetido (en otro proyecto activo) viola uk_estudiante_proyecto_activo
+                INSERT INTO estudiantes_proyecto_activo (estudiante_id, proyecto_id) VALUES (estudiante, NEW.id);
+            END IF;
+        END LOOP;
+    END IF;
+
+    -- Un estudiante que queda libre pero sigue en otro proyecto activo (conflicto
+    -- anterior a V5) pasa a tener registrado ese proyecto
+    IF TG_OP = 'UPDATE' AND estado_proyecto_activo(OLD.estado) THEN
+        INSERT INTO estudiantes_proyecto_activo (estudiante_id, proyecto_id)
+        SELECT DISTINCT ON (e.estudiante_id) e.estudiante_id, p.id
+        FROM (VALUES (OLD.estudiante1id), (OLD.estudiante2id)) AS e(estudiante_id)
+        JOIN proyectos p ON (p.estudiante1id = e.estudiante_id OR p.estudiante2id = e.estudiante_id)
+                        AND estado_proyecto_activo(p.estado)
+        WHERE e.estudiante_id IS NOT NULL
+        ORDER BY e.estudiante_id, p.id
+        ON CONFLICT (estudiante_id) DO NOTHING;
+    END IF;
+
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DO $$
+DECLARE
+    conflictos TEXT;
+BEGIN
+    SELECT string_agg(c.estudiante_id || ' (proyectos ' || c.proyectos || ')', '; ')
+    INTO conflictos
+    FROM (
+        SELECT e.estudiante_id, string_agg(e.proyecto_id::text, ', ' ORDER BY e.proyecto_id) AS proyectos
+        FROM (
+            SELECT estudiante1id AS estudiante_id, id AS proyecto_id FROM proyectos
+            WHERE estado_proyecto_activo(estado)
+            UNION ALL
+            SELECT estudiante2id, id FROM proyectos
+            WHERE estudiante2id IS NOT NULL AND estado_proyecto_activo(estado)
+        ) e
+        GROUP BY e.estudiante_id
+        HAVING count(*) > 1
+    ) c;
+
+    IF conflictos IS NOT NULL THEN
+        RAISE WARNING 'Estudiantes con más de un proyecto activo (se registra el más antiguo): %', conflictos;
+    END IF;
+END;
+$$;
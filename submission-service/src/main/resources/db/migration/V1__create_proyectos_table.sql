@@ -0,0 +1,44 @@
+-- V1__create_proyectos_table.sql
+-- Migración base: esquema de la tabla proyectos tal como lo generaba ddl-auto.
+-- En bases existentes Flyway hace baseline en esta versión (baseline-on-migrate)
+-- y no la vuelve a ejecutar.
+
+CREATE TABLE IF NOT EXISTS proyectos (
+    id BIGSERIAL PRIMARY KEY,
+
+    -- Información básica
+    titulo VARCHAR(500) NOT NULL,
+    modalidad VARCHAR(50) NOT NULL
+        CHECK (modalidad IN ('INVESTIGACION', 'PRACTICA_PROFESIONAL')),
+    objetivo_general VARCHAR(1000) NOT NULL,
+    objetivos_especificos VARCHAR(3000) NOT NULL,
+
+    -- Participantes
+    director_id BIGINT NOT NULL,
+    codirector_id BIGINT,
+    estudiante1id BIGINT NOT NULL,
+    estudiante2id BIGINT,
+
+    -- Estado
+    estado VARCHAR(50) NOT NULL
+        CHECK (estado IN ('FORMATO_A_DILIGENCIADO', 'EN_EVALUACION_COORDINADOR', 'CORRECCIONES_SOLICITADAS',
+                          'FORMATO_A_APROBADO', 'FORMATO_A_RECHAZADO', 'ANTEPROYECTO_ENVIADO',
+                          'ANTEPROYECTO_EN_EVALUACION', 'ANTEPROYECTO_APROBADO', 'ANTEPROYECTO_RECHAZADO')),
+
+    -- Formato A
+    numero_intento INTEGER NOT NULL,
+    ruta_pdf_formatoa VARCHAR(500) NOT NULL,
+    ruta_carta VARCHAR(500),
+
+    -- Anteproyecto
+    ruta_pdf_anteproyecto VARCHAR(500),
+    fecha_envio_anteproyecto TIMESTAMP(6),
+    evaluador1id BIGINT,
+    evaluador2id BIGINT,
+
+    -- Auditoría
+    fecha_creacion TIMESTAMP(6) NOT NULL,
+    fecha_modificacion TIMESTAMP(6) NOT NULL
+);
+
+COMMENT ON TABLE proyectos IS 'Aggregate Proyecto: Formato A, anteproyecto y estado del trabajo de grado';
@@ -0,0 +1,13 @@
+-- V2__create_proyectos_query_indexes.sql
+-- Índices derivados de las consultas de ProyectoJpaRepository.
+-- ProyectoJpaRepositoryQueryPlanTest verifica que ninguna consulta vuelva a un Seq Scan.
+
+-- findByEstado (paginado y sin paginar); fecha_creacion permite ordenar los listados de pendientes
+CREATE INDEX IF NOT EXISTS idx_proyectos_estado_fecha_creacion ON proyectos(estado, fecha_creacion);
+
+-- findByDirectorId
+CREATE INDEX IF NOT EXISTS idx_proyectos_director ON proyectos(director_id);
+
+-- findByEstudianteId (estudiante1 OR estudiante2 → BitmapOr sobre ambos índices)
+CREATE INDEX IF NOT EXISTS idx_proyectos_estudiante1 ON proyectos(estudiante1id);
+CREATE INDEX IF NOT EXISTS idx_proyectos_estudiante2 ON proyectos(estudiante2id);
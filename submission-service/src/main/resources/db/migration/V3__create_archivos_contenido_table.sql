@@ -0,0 +1,14 @@
+-- V3__create_archivos_contenido_table.sql
+-- Tabla de conteo de referencias para el almacenamiento direccionado por contenido.
+-- Cada blob (SHA-256 de sus bytes) se guarda una sola vez en disco; esta tabla
+-- registra cuántas rutas de proyectos apuntan a él.
+
+CREATE TABLE IF NOT EXISTS archivos_contenido (
+    hash VARCHAR(64) PRIMARY KEY,
+    tamano BIGINT NOT NULL,
+    referencias INTEGER NOT NULL,
+    fecha_creacion TIMESTAMP(6) NOT NULL,
+    fecha_modificacion TIMESTAMP(6) NOT NULL
+);
+
+COMMENT ON TABLE archivos_contenido IS 'Conteo de referencias de los blobs almacenados por contenido (SHA-256)';
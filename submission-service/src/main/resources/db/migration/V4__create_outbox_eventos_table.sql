@@ -0,0 +1,30 @@
+-- V4__create_outbox_eventos_table.sql
+-- Outbox transaccional: los casos de uso insertan aquí sus eventos en la misma
+-- transacción que el cambio de estado, y un relay los publica en RabbitMQ.
+
+CREATE TABLE IF NOT EXISTS outbox_eventos (
+    id BIGSERIAL PRIMARY KEY,
+    aggregate_id BIGINT,
+    tipo_evento VARCHAR(100) NOT NULL,
+    tipo_java VARCHAR(255),
+    exchange VARCHAR(100) NOT NULL,
+    routing_key VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    fecha_creacion TIMESTAMP(6) NOT NULL,
+    intentos INTEGER NOT NULL DEFAULT 0,
+    proximo_intento TIMESTAMP(6) NOT NULL,
+    ultimo_error VARCHAR(1000),
+    fecha_publicacion TIMESTAMP(6)
+);
+
+-- El relay solo recorre los pendientes; los publicados no ocupan el índice
+CREATE INDEX IF NOT EXISTS idx_outbox_eventos_pendientes
+    ON outbox_eventos (proximo_intento, id)
+    WHERE fecha_publicacion IS NULL;
+
+-- Limpieza periódica de eventos ya publicados
+CREATE INDEX IF NOT EXISTS idx_outbox_eventos_fecha_publicacion
+    ON outbox_eventos (fecha_publicacion)
+    WHERE fecha_publicacion IS NOT NULL;
+
+COMMENT ON TABLE outbox_eventos IS 'Eventos de dominio pendientes de publicar en RabbitMQ (transactional outbox)';
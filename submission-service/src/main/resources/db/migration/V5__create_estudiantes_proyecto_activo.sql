@@ -0,0 +1,60 @@
+-- V5__create_estudiantes_proyecto_activo.sql
+-- Regla de negocio: un estudiante solo puede estar en UN proyecto activo a la vez.
+--
+-- El estudiante puede estar en estudiante1id o en estudiante2id, así que un índice
+-- único parcial sobre proyectos no alcanza a cubrir ambas columnas. Un trigger
+-- mantiene esta tabla con una fila por estudiante en proyecto activo: la clave
+-- primaria hace cumplir la regla ante envíos concurrentes y la validación previa
+-- (EstudianteValidationService) es una búsqueda por clave, sin importar cuántos
+-- proyectos tenga el estudiante en su historial.
+--
+-- Los estados activos deben coincidir con EstadoProyecto (estadoFinal = false).
+
+CREATE TABLE IF NOT EXISTS estudiantes_proyecto_activo (
+    estudiante_id BIGINT NOT NULL,
+    proyecto_id BIGINT NOT NULL REFERENCES proyectos(id) ON DELETE CASCADE,
+    CONSTRAINT uk_estudiante_proyecto_activo PRIMARY KEY (estudiante_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_estudiantes_proyecto_activo_proyecto ON estudiantes_proyecto_activo(proyecto_id);
+
+COMMENT ON TABLE estudiantes_proyecto_activo IS 'Estudiantes con proyecto activo; la mantiene el trigger trg_proyectos_estudiantes_activos';
+
+CREATE OR REPLACE FUNCTION sincronizar_estudiantes_proyecto_activo() RETURNS TRIGGER AS $$
+BEGIN
+    DELETE FROM estudiantes_proyecto_activo WHERE proyecto_id = NEW.id;
+
+    IF NEW.estado IN ('FORMATO_A_DILIGENCIADO', 'EN_EVALUACION_COORDINADOR', 'CORRECCIONES_SOLICITADAS',
+                      'FORMATO_A_APROBADO', 'ANTEPROYECTO_ENVIADO', 'ANTEPROYECTO_EN_EVALUACION') THEN
+        -- Un estudiante repetido (en otro proyecto activo) viola uk_estudiante_proyecto_activo
+        INSERT INTO estudiantes_proyecto_activo (estudiante_id, proyecto_id) VALUES (NEW.estudiante1id, NEW.id);
+        IF NEW.estudiante2id IS NOT NULL THEN
+            INSERT INTO estudiantes_proyecto_activo (estudiante_id, proyecto_id) VALUES (NEW.estudiante2id, NEW.id);
+        END IF;
+    END IF;
+
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_proyectos_estudiantes_activos ON proyectos;
+CREATE TRIGGER trg_proyectos_estudiantes_activos
+    AFTER INSERT OR UPDATE OF estado, estudiante1id, estudiante2id ON proyectos
+    FOR EACH ROW EXECUTE FUNCTION sincronizar_estudiantes_proyecto_activo();
+
+-- Carga inicial. Si los datos existentes ya violan la regla, se conserva el
+-- proyecto activo más antiguo de cada estudiante.
+INSERT INTO estudiantes_proyecto_activo (estudiante_id, proyecto_id)
+SELECT e.estudiante_id, e.proyecto_id
+FROM (
+    SELECT estudiante1id AS estudiante_id, id AS proyecto_id FROM proyectos
+    WHERE estado IN ('FORMATO_A_DILIGENCIADO', 'EN_EVALUACION_COORDINADOR', 'CORRECCIONES_SOLICITADAS',
+                     'FORMATO_A_APROBADO', 'ANTEPROYECTO_ENVIADO', 'ANTEPROYECTO_EN_EVALUACION')
+    UNION ALL
+    SELECT estudiante2id, id FROM proyectos
+    WHERE estudiante2id IS NOT NULL
+      AND estado IN ('FORMATO_A_DILIGENCIADO', 'EN_EVALUACION_COORDINADOR', 'CORRECCIONES_SOLICITADAS',
+                     'FORMATO_A_APROBADO', 'ANTEPROYECTO_ENVIADO', 'ANTEPROYECTO_EN_EVALUACION')
+) e
+ORDER BY e.proyecto_id
+ON CONFLICT (estudiante_id) DO NOTHING;
@@ -0,0 +1,9 @@
+-- V6__proyectos_id_sequence_pooled.sql
+-- ProyectoEntity pasa de IDENTITY a SEQUENCE con optimizador pooled (allocationSize = 50)
+-- para habilitar los INSERT en lote de Hibernate. El incremento de la secuencia debe
+-- coincidir con allocationSize: cada nextval reserva un bloque de 50 ids.
+--
+-- Se reutiliza la secuencia del BIGSERIAL. Con pooled, el valor devuelto es el límite
+-- superior del bloque, así que los ids nuevos siguen siendo mayores que los existentes.
+
+ALTER SEQUENCE proyectos_id_seq INCREMENT BY 50;
@@ -0,0 +1,5 @@
+-- V7__add_proyectos_version.sql
+-- Versión para bloqueo optimista (@Version en ProyectoEntity) y ETag de los endpoints
+-- de consulta. Se incrementa en cada UPDATE; las filas existentes parten de 0.
+
+ALTER TABLE proyectos ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
@@ -0,0 +1,11 @@
+-- V8__create_proyectos_estado_fecha_id_index.sql
+-- Paginación por cursor (keyset) de los listados de pendientes: WHERE estado = ?
+-- AND (fecha_creacion, id) > (?, ?) ORDER BY fecha_creacion, id. Con id en el índice
+-- la búsqueda arranca directo en la posición del cursor y no hace falta ordenar,
+-- así que una página profunda cuesta lo mismo que la primera.
+--
+-- El índice anterior (estado, fecha_creacion) es prefijo del nuevo y se elimina.
+
+CREATE INDEX IF NOT EXISTS idx_proyectos_estado_fecha_creacion_id ON proyectos(estado, fecha_creacion, id);
+
+DROP INDEX IF EXISTS idx_proyectos_estado_fecha_creacion;
@@ -0,0 +1,18 @@
+-- V9__add_proyectos_busqueda_texto.sql
+-- Búsqueda de texto completo sobre título y objetivos (GET /api/submissions/buscar).
+--
+-- busqueda es una columna generada: PostgreSQL la recalcula en cada INSERT/UPDATE,
+-- así que el índice GIN se mantiene al escribir sin código en la aplicación. Usa
+-- el diccionario 'spanish' (stemming: "evaluación" y "evaluaciones" coinciden) y
+-- pesos para el ranking: título (A) > objetivo general (B) > objetivos específicos (C).
+-- Los objetivos específicos se guardan separados por ";", que el parser ya trata
+-- como separador de palabras.
+
+ALTER TABLE proyectos ADD COLUMN IF NOT EXISTS busqueda tsvector
+    GENERATED ALWAYS AS (
+        setweight(to_tsvector('spanish', titulo), 'A') ||
+        setweight(to_tsvector('spanish', objetivo_general), 'B') ||
+        setweight(to_tsvector('spanish', objetivos_especificos), 'C')
+    ) STORED;
+
+CREATE INDEX IF NOT EXISTS idx_proyectos_busqueda ON proyectos USING GIN (busqueda);
@@ -0,0 +1,175 @@
+package co.unicauca.submission.infrastructure.adapter.in.rest;
+
+import co.unicauca.submission.application.dto.response.ArchivoAlmacenado;
+import co.unicauca.submission.application.port.in.IConsultarValidacionDocumentosQuery;
+import co.unicauca.submission.application.port.in.IEnlaceArchivoQuery;
+import co.unicauca.submission.application.port.in.IObtenerArchivoProyectoQuery;
+import co.unicauca.submission.application.port.in.IObtenerArchivoProyectoQuery.TipoArchivoProyecto;
+import co.unicauca.submission.domain.exception.ArchivoNoEncontradoException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Tests del endpoint de descarga: rangos, validación por ETag y caché.
+ */
+@WebMvcTest(ArchivoController.class)
+@DisplayName("ArchivoController - descarga de archivos")
+class ArchivoControllerTest {
+
+    private static final String URL = "/api/submissions/7/archivos/formatoA";
+    private static final String HASH = "ab".repeat(32);
+    private static final byte[] CONTENIDO = "%PDF-1.4 contenido de prueba".getBytes();
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private IObtenerArchivoProyectoQuery obtenerArchivoQuery;
+
+    @MockBean
+    private IEnlaceArchivoQuery enlaceArchivoQuery;
+
+    @MockBean
+    private IConsultarValidacionDocumentosQuery validacionQuery;
+
+    @TempDir
+    Path directorio;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Path archivo = Files.write(directorio.resolve(HASH), CONTENIDO);
+        when(obtenerArchivoQuery.obtenerArchivo(eq(7L), eq(TipoArchivoProyecto.FORMATO_A)))
+            .thenReturn(new ArchivoAlmacenado(archivo, CONTENIDO.length, HASH, true));
+    }
+
+    @Test
+    @DisplayName("Sin Range, debe enviar el archivo completo con ETag y caché inmutable")
+    void sinRange_debeEnviarArchivoCompleto() throws Exception {
+        mockMvc.perform(get(URL))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + HASH + "\""))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "private, max-age=31536000, immutable"))
+            .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+            .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, CONTENIDO.length))
+            .andExpect(content().contentType("application/pdf"))
+            .andExpect(content().bytes(CONTENIDO));
+    }
+
+    @Test
+    @DisplayName("Con Range, debe enviar solo el segmento solicitado")
+    void conRange_debeEnviarContenidoParcial() throws Exception {
+        mockMvc.perform(get(URL).header(HttpHeaders.RANGE, "bytes=5-"))
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string(HttpHeaders.CONTENT_RANGE,
+                "bytes 5-" + (CONTENIDO.length - 1) + "/" + CONTENIDO.length))
+            .andExpect(content().bytes(java.util.Arrays.copyOfRange(CONTENIDO, 5, CONTENIDO.length)));
+    }
+
+    @Test
+    @DisplayName("Con If-Range de otra versión, debe ignorar el rango")
+    void conIfRangeDistinto_debeEnviarArchivoCompleto() throws Exception {
+        mockMvc.perform(get(URL)
+                .header(HttpHeaders.RANGE, "bytes=0-3")
+                .header(HttpHeaders.IF_RANGE, "\"otra-version\""))
+            .andExpect(status().isOk())
+            .andExpect(content().bytes(CONTENIDO));
+    }
+
+    @Test
+    @DisplayName("Con rango fuera del archivo, debe responder 416")
+    void conRangoInvalido_debeResponder416() throws Exception {
+        mockMvc.perform(get(URL).header(HttpHeaders.RANGE, "bytes=1000-2000"))
+            .andExpect(status().isRequestedRangeNotSatisfiable())
+            .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + CONTENIDO.length));
+    }
+
+    @Test
+    @DisplayName("Con un archivo remoto, debe pedir solo el rango y enviarlo")
+    void conArchivoRemoto_debePedirSoloElRango() throws Exception {
+        java.util.List<String> rangosPedidos = new java.util.ArrayList<>();
+        when(obtenerArchivoQuery.obtenerArchivo(eq(7L), eq(TipoArchivoProyecto.ANTEPROYECTO)))
+            .thenReturn(new ArchivoAlmacenado((inicio, fin) -> {
+                rangosPedidos.add(inicio + "-" + fin);
+                return new java.io.ByteArrayInputStream(
+                    java.util.Arrays.copyOfRange(CONTENIDO, (int) inicio, (int) fin + 1));
+            }, CONTENIDO.length, HASH, true));
+
+        mockMvc.perform(get("/api/submissions/7/archivos/anteproyecto").header(HttpHeaders.RANGE, "bytes=5-9"))
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 5-9/" + CONTENIDO.length))
+            .andExpect(content().bytes(java.util.Arrays.copyOfRange(CONTENIDO, 5, 10)));
+
+        org.junit.jupiter.api.Assertions.assertEquals(java.util.List.of("5-9"), rangosPedidos);
+    }
+
+    @Test
+    @DisplayName("Con If-None-Match vigente, debe responder 304 sin cuerpo")
+    void conIfNoneMatchVigente_debeResponder304() throws Exception {
+        mockMvc.perform(get(URL).header(HttpHeaders.IF_NONE_MATCH, "\"" + HASH + "\""))
+            .andExpect(status().isNotModified())
+            .andExpect(content().bytes(new byte[0]));
+    }
+
+    @Test
+    @DisplayName("Con archivo inexistente, debe responder 404")
+    void conArchivoInexistente_debeResponder404() throws Exception {
+        when(obtenerArchivoQuery.obtenerArchivo(eq(7L), eq(TipoArchivoProyecto.ANTEPROYECTO)))
+            .thenThrow(new ArchivoNoEncontradoException(7L, "anteproyecto"));
+
+        mockMvc.perform(get("/api/submissions/7/archivos/anteproyecto"))
+            .andExpect(status().isNotFound());
+    }
+
+    @Test
+    @DisplayName("Con archivo rechazado por la validación, debe responder 409")
+    void conArchivoRechazado_debeResponder409() throws Exception {
+        when(obtenerArchivoQuery.obtenerArchivo(eq(7L), eq(TipoArchivoProyecto.ANTEPROYECTO)))
+            .thenThrow(new IllegalStateException("El archivo anteproyecto del proyecto 7 fue rechazado"));
+
+        mockMvc.perform(get("/api/submissions/7/archivos/anteproyecto"))
+            .andExpect(status().isConflict());
+    }
+
+    @Test
+    @DisplayName("Con la versión vigente, debe servir la vista previa PNG con caché inmutable")
+    void vistaPreviaConVersionVigente_debeCachearInmutable() throws Exception {
+        byte[] png = {(byte) 0x89, 'P', 'N', 'G'};
+        Path archivo = Files.write(directorio.resolve("vista-previa.png"), png);
+        when(obtenerArchivoQuery.obtenerVistaPrevia(eq(7L), eq(TipoArchivoProyecto.FORMATO_A)))
+            .thenReturn(new ArchivoAlmacenado(archivo, png.length, "0a1b2c3d4e5f6071", true));
+
+        mockMvc.perform(get(URL + "/vista-previa").param("v", "0a1b2c3d4e5f6071"))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("image/png"))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "private, max-age=31536000, immutable"))
+            .andExpect(content().bytes(png));
+
+        // Sin versión (o con una vieja) se revalida con el ETag
+        mockMvc.perform(get(URL + "/vista-previa"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "private, no-cache"))
+            .andExpect(header().string(HttpHeaders.ETAG, "\"0a1b2c3d4e5f6071\""));
+    }
+
+    @Test
+    @DisplayName("Con tipo desconocido, debe responder 400")
+    void conTipoDesconocido_debeResponder400() throws Exception {
+        mockMvc.perform(get("/api/submissions/7/archivos/otro"))
+            .andExpect(status().isBadRequest());
+    }
+}
@@ -0,0 +1,367 @@
+package co.unicauca.submission.infrastructure.adapter.in.rest;
+
+import co.unicauca.submission.infrastructure.adapter.out.persistence.ClavesIdempotenciaAdapter;
+import co.unicauca.submission.infrastructure.config.IdempotenciaConfig;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.entity.ClaveIdempotenciaEntity;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockMultipartHttpServletRequest;
+import org.springframework.mock.web.MockPart;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios del filtro Idempotency-Key con el adapter de persistencia simulado.
+ */
+@DisplayName("IdempotenciaFilter - envíos idempotentes")
+class IdempotenciaFilterTest {
+
+    private static final String RUTA = "/api/submissions/formatoA";
+    private static final String CLAVE = "3f1c9a2e-clave";
+
+    private ClavesIdempotenciaAdapter claves;
+    private TaskScheduler programador;
+    private ScheduledFuture<?> renovacion;
+    private IdempotenciaFilter filter;
+    private AtomicInteger ejecuciones;
+    private FilterChain chain;
+
+    @BeforeEach
+    void setUp() {
+        claves = mock(ClavesIdempotenciaAdapter.class);
+        programador = mock(TaskScheduler.class);
+        renovacion = mock(ScheduledFuture.class);
+        doReturn(renovacion).when(programador).scheduleAtFixedRate(any(Runnable.class), any(Instant.class), any(Duration.class));
+        filter = new IdempotenciaFilter(claves, new ObjectMapper().registerModule(new JavaTimeModule()), 1024,
+            programador, Duration.ofSeconds(40));
+        ejecuciones = new AtomicInteger();
+        chain = (request, response) -> {
+            ejecuciones.incrementAndGet();
+            ((HttpServletResponse) response).setStatus(201);
+            response.setContentType("application/json");
+            response.getWriter().write("{\"id\":42}");
+        };
+    }
+
+    @Test
+    @DisplayName("Cuando la clave es nueva, debe ejecutar la petición y guardar la respuesta")
+    void cuandoClaveNueva_debeEjecutarYGuardar() throws Exception {
+        when(claves.reservar(eq(7L), eq(CLAVE), eq("POST"), eq(RUTA), anyString())).thenReturn(true);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(peticion(), response, chain);
+
+        assertEquals(1, ejecuciones.get());
+        assertEquals(201, response.getStatus());
+        assertEquals("{\"id\":42}", response.getContentAsString());
+        verify(claves).completar(eq(7L), eq(CLAVE), anyString(), eq(201), eq("application/json"),
+            eq("{\"id\":42}".getBytes()), eq(huella(peticion())));
+        verify(claves, never()).liberar(any(), any(), any());
+        verify(renovacion).cancel(false);
+    }
+
+    @Test
+    @DisplayName("Cuando la clave ya está completada, debe repetir la respuesta sin ejecutar")
+    void cuandoClaveCompletada_debeRepetirRespuesta() throws Exception {
+        ClaveIdempotenciaEntity entidad = entidad(ClaveIdempotenciaEntity.Estado.COMPLETADA, "POST", RUTA);
+        entidad.setCodigoEstado(201);
+        entidad.setContentType("application/json");
+        entidad.setCuerpo("{\"id\":42}".getBytes());
+        entidad.setHuella(huella(peticion()));
+        when(claves.reservar(eq(7L), eq(CLAVE), eq("POST"), eq(RUTA), anyString())).thenReturn(false);
+        when(claves.buscar(7L, CLAVE)).thenReturn(Optional.of(entidad));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(peticion(), response, chain);
+
+        assertEquals(0, ejecuciones.get());
+        assertEquals(201, response.getStatus());
+        assertEquals("true", response.getHeader(IdempotenciaFilter.HEADER_REPETIDA));
+        assertEquals("{\"id\":42}", response.getContentAsString());
+    }
+
+    @Test
+    @DisplayName("Cuando la petición original sigue en curso, debe responder 409 con Retry-After")
+    void cuandoClaveEnProceso_debeResponderConflicto() throws Exception {
+        when(claves.reservar(eq(7L), eq(CLAVE), eq("POST"), eq(RUTA), anyString())).thenReturn(false);
+        when(claves.buscar(7L, CLAVE))
+            .thenReturn(Optional.of(entidad(ClaveIdempotenciaEntity.Estado.EN_PROCESO, "POST", RUTA)));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(peticion(), response, chain);
+
+        assertEquals(0, ejecuciones.get());
+        assertEquals(409, response.getStatus());
+        assertNotNull(response.getHeader("Retry-After"));
+    }
+
+    @Test
+    @DisplayName("Cuando la clave se usó en otra ruta, debe responder 422")
+    void cuandoClaveEnOtraRuta_debeResponder422() throws Exception {
+        when(claves.reservar(eq(7L), eq(CLAVE), eq("POST"), eq(RUTA), anyString())).thenReturn(false);
+        when(claves.buscar(7L, CLAVE)).thenReturn(Optional.of(
+            entidad(ClaveIdempotenciaEntity.Estado.COMPLETADA, "POST", "/api/submissions/formatoA/1/reenviar")));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(peticion(), response, chain);
+
+        assertEquals(0, ejecuciones.get());
+        assertEquals(422, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("Cuando la petición falla con 5xx, debe liberar la clave para el reintento")
+    void cuandoErrorServidor_debeLiberarClave() throws Exception {
+        when(claves.reservar(eq(7L), eq(CLAVE), eq("POST"), eq(RUTA), anyString())).thenReturn(true);
+        FilterChain fallida = (request, response) ->
+            ((HttpServletResponse) response).setStatus(503);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(peticion(), response, fallida);
+
+        assertEquals(503, response.getStatus());
+        verify(claves).liberar(eq(7L), eq(CLAVE), anyString());
+        verify(claves, never()).completar(any(), any(), any(), anyInt(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Cuando no hay cabecera Idempotency-Key, no debe intervenir")
+    void cuandoSinCabecera_noDebeIntervenir() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", RUTA);
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> ejecuciones.incrementAndGet());
+
+        assertEquals(1, ejecuciones.get());
+        verifyNoInteractions(claves);
+    }
+
+    @Test
+    @DisplayName("Cuando el reintento trae otro contenido, debe responder 422 sin repetir ni ejecutar")
+    void cuandoContenidoDistinto_debeResponder422() throws Exception {
+        ClaveIdempotenciaEntity entidad = entidad(ClaveIdempotenciaEntity.Estado.COMPLETADA, "POST", RUTA);
+        entidad.setCodigoEstado(201);
+        entidad.setCuerpo("{\"id\":42}".getBytes());
+        entidad.setHuella(huella(peticionConPdf("%PDF-1.7 original")));
+        when(claves.reservar(eq(7L), eq(CLAVE), eq("POST"), eq(RUTA), anyString())).thenReturn(false);
+        when(claves.buscar(7L, CLAVE)).thenReturn(Optional.of(entidad));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(peticionConPdf("%PDF-1.7 otro"), response, chain);
+
+        assertEquals(0, ejecuciones.get());
+        assertEquals(422, response.getStatus());
+        assertNull(response.getHeader(IdempotenciaFilter.HEADER_REPETIDA));
+    }
+
+    @Test
+    @DisplayName("Cuando el cuerpo es el mismo, la huella no debe depender de si se leyó al ejecutar")
+    void cuandoMismoCuerpo_huellaDebeCoincidir() throws Exception {
+        when(claves.reservar(eq(7L), eq(CLAVE), eq("PATCH"), eq(RUTA), anyString())).thenReturn(true);
+        FilterChain leeCuerpo = (request, response) -> {
+            request.getInputStream().readNBytes(5);
+            ((HttpServletResponse) response).setStatus(200);
+        };
+
+        filter.doFilter(peticionJson("{\"decision\":\"APROBADO\"}"), new MockHttpServletResponse(), leeCuerpo);
+
+        verify(claves).completar(eq(7L), eq(CLAVE), anyString(), eq(200), any(), any(),
+            eq(huella(peticionJson("{\"decision\":\"APROBADO\"}"))));
+        assertNotEquals(huella(peticionJson("{\"decision\":\"APROBADO\"}")),
+            huella(peticionJson("{\"decision\":\"RECHAZADO\"}")));
+    }
+
+    @Test
+    @DisplayName("Cuando la respuesta supera el tamaño máximo, debe completar sin cuerpo y no liberar la clave")
+    void cuandoRespuestaGrande_debeCompletarSinCuerpo() throws Exception {
+        when(claves.reservar(eq(7L), eq(CLAVE), eq("POST"), eq(RUTA), anyString())).thenReturn(true);
+        FilterChain grande = (request, response) -> {
+            ((HttpServletResponse) response).setStatus(201);
+            response.getWriter().write("x".repeat(2048));
+        };
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(peticion(), response, grande);
+
+        assertEquals(2048, response.getContentAsString().length());
+        verify(claves).completarSinCuerpo(eq(7L), eq(CLAVE), anyString(), eq(201), any());
+        verify(claves, never()).liberar(any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Cuando la respuesta original no se guardó, el reintento debe recibir 422 sin ejecutar")
+    void cuandoRespuestaOmitida_debeResponder422() throws Exception {
+        ClaveIdempotenciaEntity entidad = entidad(ClaveIdempotenciaEntity.Estado.COMPLETADA, "POST", RUTA);
+        entidad.setCodigoEstado(201);
+        entidad.setRespuestaOmitida(true);
+        when(claves.reservar(eq(7L), eq(CLAVE), eq("POST"), eq(RUTA), anyString())).thenReturn(false);
+        when(claves.buscar(7L, CLAVE)).thenReturn(Optional.of(entidad));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(peticion(), response, chain);
+
+        assertEquals(0, ejecuciones.get());
+        assertEquals(422, response.getStatus());
+    }
+
+    @Test
+    @DisplayName("Cuando falta X-User-Id, debe responder 400 sin reservar la clave")
+    void cuandoSinUsuario_debeResponder400() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", RUTA);
+        request.addHeader(IdempotenciaFilter.HEADER_CLAVE, CLAVE);
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+
+        assertEquals(0, ejecuciones.get());
+        assertEquals(400, response.getStatus());
+        verifyNoInteractions(claves);
+    }
+
+    @Test
+    @DisplayName("Mientras la petición se ejecuta, debe renovar su reserva con el mismo propietario")
+    void mientrasSeEjecuta_debeRenovarReserva() throws Exception {
+        ArgumentCaptor<String> propietario = ArgumentCaptor.forClass(String.class);
+        when(claves.reservar(eq(7L), eq(CLAVE), eq("POST"), eq(RUTA), propietario.capture())).thenReturn(true);
+        ArgumentCaptor<Runnable> tarea = ArgumentCaptor.forClass(Runnable.class);
+
+        filter.doFilter(peticion(), new MockHttpServletResponse(), chain);
+
+        verify(programador).scheduleAtFixedRate(tarea.capture(), any(Instant.class), eq(Duration.ofSeconds(40)));
+        tarea.getValue().run();
+        verify(claves).renovar(7L, CLAVE, propietario.getValue());
+        verify(claves).completar(eq(7L), eq(CLAVE), eq(propietario.getValue()), anyInt(), any(), any(), any());
+        verify(renovacion).cancel(false);
+    }
+
+    @Test
+    @DisplayName("Con el scheduler compartido bloqueado, la reserva debe seguir renovándose")
+    void conSchedulerCompartidoBloqueado_debeRenovarReserva() throws Exception {
+        ThreadPoolTaskScheduler compartido = new ThreadPoolTaskScheduler();
+        compartido.initialize();
+        ThreadPoolTaskScheduler renovaciones = new IdempotenciaConfig().idempotenciaScheduler();
+        renovaciones.initialize();
+        CountDownLatch desbloquear = new CountDownLatch(1);
+        CountDownLatch renovada = new CountDownLatch(1);
+        try {
+            // Un @Scheduled largo (reconciliador, relay) ocupa el único hilo compartido
+            compartido.execute(() -> {
+                try {
+                    desbloquear.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            when(claves.reservar(eq(7L), eq(CLAVE), eq("POST"), eq(RUTA), anyString())).thenReturn(true);
+            when(claves.renovar(eq(7L), eq(CLAVE), anyString())).thenAnswer(invocation -> {
+                renovada.countDown();
+                return true;
+            });
+            IdempotenciaFilter conScheduler = new IdempotenciaFilter(claves, new ObjectMapper(), 1024,
+                renovaciones, Duration.ofMillis(50));
+            FilterChain lenta = (request, response) -> {
+                try {
+                    assertTrue(renovada.await(5, TimeUnit.SECONDS), "la reserva no se renovó");
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                ((HttpServletResponse) response).setStatus(201);
+            };
+
+            conScheduler.doFilter(peticion(), new MockHttpServletResponse(), lenta);
+
+            verify(claves).completar(eq(7L), eq(CLAVE), anyString(), eq(201), any(), any(), any());
+        } finally {
+            desbloquear.countDown();
+            compartido.shutdown();
+            renovaciones.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Cuando el controlador lee una parte multipart, la huella no debe volver a leerla")
+    void cuandoControladorLeeParte_huellaNoDebeReleerla() throws Exception {
+        when(claves.reservar(eq(7L), eq(CLAVE), eq("POST"), eq(RUTA), anyString())).thenReturn(true);
+        AtomicInteger lecturas = new AtomicInteger();
+        MockMultipartHttpServletRequest request = (MockMultipartHttpServletRequest) peticionConPdf("%PDF-1.7 a");
+        request.addPart(new MockPart("carta", "carta.pdf", "%PDF-1.7 carta".getBytes()) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                lecturas.incrementAndGet();
+                return super.getInputStream();
+            }
+        });
+        FilterChain leePartes = (peticion, response) -> {
+            ((HttpServletRequest) peticion).getPart("carta").getInputStream().readAllBytes();
+            ((HttpServletResponse) response).setStatus(201);
+        };
+
+        filter.doFilter(request, new MockHttpServletResponse(), leePartes);
+
+        assertEquals(1, lecturas.get());
+        MockMultipartHttpServletRequest igual = (MockMultipartHttpServletRequest) peticionConPdf("%PDF-1.7 a");
+        igual.addPart(new MockPart("carta", "carta.pdf", "%PDF-1.7 carta".getBytes()));
+        verify(claves).completar(eq(7L), eq(CLAVE), anyString(), eq(201), any(), any(), eq(huella(igual)));
+    }
+
+    private MockHttpServletRequest peticion() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", RUTA);
+        request.addHeader(IdempotenciaFilter.HEADER_CLAVE, CLAVE);
+        request.addHeader("X-User-Id", "7");
+        return request;
+    }
+
+    private MockHttpServletRequest peticionConPdf(String contenido) {
+        MockMultipartHttpServletRequest request = new MockMultipartHttpServletRequest();
+        request.setMethod("POST");
+        request.setRequestURI(RUTA);
+        request.addHeader(IdempotenciaFilter.HEADER_CLAVE, CLAVE);
+        request.addHeader("X-User-Id", "7");
+        request.addPart(new MockPart("pdf", "formatoA.pdf", contenido.getBytes()));
+        return request;
+    }
+
+    private MockHttpServletRequest peticionJson(String json) {
+        MockHttpServletRequest request = peticion();
+        request.setMethod("PATCH");
+        request.setContentType("application/json");
+        request.setContent(json.getBytes());
+        return request;
+    }
+
+    private static String huella(MockHttpServletRequest request) {
+        return new HuellaPeticionWrapper(request).huella();
+    }
+
+    private ClaveIdempotenciaEntity entidad(ClaveIdempotenciaEntity.Estado estado, String metodo, String ruta) {
+        ClaveIdempotenciaEntity entidad = new ClaveIdempotenciaEntity();
+        entidad.setUsuarioId(7L);
+        entidad.setClave(CLAVE);
+        entidad.setMetodo(metodo);
+        entidad.setRuta(ruta);
+        entidad.setEstado(estado);
+        return entidad;
+    }
+}
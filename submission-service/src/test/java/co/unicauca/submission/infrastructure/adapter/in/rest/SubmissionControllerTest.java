@@ -0,0 +1,119 @@
+package co.unicauca.submission.infrastructure.adapter.in.rest;
+
+import co.unicauca.submission.application.dto.request.CampoProyecto;
+import co.unicauca.submission.application.dto.request.FiltroProyectos;
+import co.unicauca.submission.application.dto.response.ProyectoParcialResponse;
+import co.unicauca.submission.application.dto.response.ProyectoResponse;
+import co.unicauca.submission.application.port.in.IBuscarProyectosQuery;
+import co.unicauca.submission.application.port.in.IListarCamposProyectoQuery;
+import co.unicauca.submission.application.port.in.IObtenerProyectoQuery;
+import co.unicauca.submission.domain.model.EstadoProyecto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Tests de las consultas de proyectos: ETag fuerte con respuestas 304 y
+ * selección de campos en los listados.
+ */
+@WebMvcTest(SubmissionController.class)
+@DisplayName("SubmissionController - ETag y selección de campos")
+class SubmissionControllerTest {
+
+    private static final String URL = "/api/submissions/7";
+    private static final String ETAG = "\"p7-v3\"";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockBean
+    private IObtenerProyectoQuery obtenerProyectoQuery;
+
+    @MockBean
+    private IListarCamposProyectoQuery listarCamposQuery;
+
+    @MockBean
+    private IBuscarProyectosQuery buscarProyectosQuery;
+
+    @BeforeEach
+    void setUp() {
+        ProyectoResponse proyecto = new ProyectoResponse();
+        proyecto.setId(7L);
+        proyecto.setVersion(3L);
+        proyecto.setTitulo("Sistema de gestión de trabajos de grado");
+        when(obtenerProyectoQuery.obtenerPorId(7L)).thenReturn(proyecto);
+        when(obtenerProyectoQuery.obtenerVersion(7L)).thenReturn(3L);
+    }
+
+    @Test
+    @DisplayName("Sin If-None-Match, debe retornar el proyecto con ETag de su versión")
+    void sinIfNoneMatch_debeRetornarProyectoConEtag() throws Exception {
+        mockMvc.perform(get(URL))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+            .andExpect(jsonPath("$.version").value(3));
+
+        verify(obtenerProyectoQuery, never()).obtenerVersion(7L);
+    }
+
+    @Test
+    @DisplayName("Con If-None-Match vigente, debe retornar 304 sin cargar el proyecto")
+    void conEtagVigente_debeRetornar304() throws Exception {
+        mockMvc.perform(get(URL).header(HttpHeaders.IF_NONE_MATCH, ETAG))
+            .andExpect(status().isNotModified())
+            .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+            .andExpect(content().string(""));
+
+        verify(obtenerProyectoQuery, never()).obtenerPorId(7L);
+    }
+
+    @Test
+    @DisplayName("Con If-None-Match de otra versión, debe retornar el proyecto actual")
+    void conEtagAnterior_debeRetornarProyecto() throws Exception {
+        mockMvc.perform(get(URL).header(HttpHeaders.IF_NONE_MATCH, "\"p7-v2\""))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+            .andExpect(jsonPath("$.id").value(7));
+    }
+
+    @Test
+    @DisplayName("Con fields, debe retornar solo los campos pedidos")
+    void conFields_debeRetornarSoloCamposPedidos() throws Exception {
+        Set<CampoProyecto> campos = EnumSet.of(CampoProyecto.ID, CampoProyecto.TITULO, CampoProyecto.ESTADO);
+        when(listarCamposQuery.listar(FiltroProyectos.porDirector(5L), campos)).thenReturn(List.of(
+            ProyectoParcialResponse.de(Map.of(
+                CampoProyecto.ID, 7L,
+                CampoProyecto.TITULO, "Sistema de gestión de trabajos de grado",
+                CampoProyecto.ESTADO, EstadoProyecto.EN_EVALUACION_COORDINADOR), campos)));
+
+        mockMvc.perform(get("/api/submissions/director/5").param("fields", "titulo,estado,id"))
+            .andExpect(status().isOk())
+            .andExpect(content().json(
+                "[{\"id\":7,\"titulo\":\"Sistema de gestión de trabajos de grado\","
+                    + "\"estado\":\"EN_EVALUACION_COORDINADOR\"}]", true));
+
+        verify(obtenerProyectoQuery, never()).obtenerPorDirector(5L);
+    }
+
+    @Test
+    @DisplayName("Con un campo desconocido en fields, debe retornar 400")
+    void conCampoDesconocido_debeRetornar400() throws Exception {
+        mockMvc.perform(get("/api/submissions/director/5").param("fields", "id,contrasena"))
+            .andExpect(status().isBadRequest());
+    }
+}
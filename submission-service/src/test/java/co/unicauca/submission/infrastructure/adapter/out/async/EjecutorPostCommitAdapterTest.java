@@ -0,0 +1,138 @@
+package co.unicauca.submission.infrastructure.adapter.out.async;
+
+import co.unicauca.submission.infrastructure.config.PostCommitConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios del executor de efectos posteriores al commit.
+ * El listener se invoca directamente, como lo haría Spring tras el commit.
+ */
+@DisplayName("EjecutorPostCommitAdapter - ejecución acotada con reintentos")
+class EjecutorPostCommitAdapterTest {
+
+    private PostCommitConfig config;
+    private ThreadPoolTaskExecutor executor;
+    private ThreadPoolTaskScheduler scheduler;
+    private SimpleMeterRegistry meterRegistry;
+    private EjecutorPostCommitAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        config = new PostCommitConfig();
+        config.setHilos(1);
+        config.setHilosMaximos(1);
+        config.setCapacidadCola(1);
+        config.setMaxIntentos(3);
+        config.setBackoffInicialMs(10);
+
+        executor = config.postCommitExecutor();
+        executor.initialize();
+        scheduler = new ThreadPoolTaskScheduler();
+        scheduler.initialize();
+        meterRegistry = new SimpleMeterRegistry();
+
+        adapter = new EjecutorPostCommitAdapter(evento -> { }, executor, scheduler, config, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+        scheduler.shutdown();
+    }
+
+    @Test
+    @DisplayName("Cuando la tarea falla, debe reintentarla hasta que tenga éxito")
+    void cuandoTareaFalla_debeReintentar() throws Exception {
+        AtomicInteger ejecuciones = new AtomicInteger();
+        CountDownLatch completada = new CountDownLatch(1);
+
+        adapter.alConfirmar(new EjecutorPostCommitAdapter.TareaPostCommit("prueba", () -> {
+            if (ejecuciones.incrementAndGet() < 3) {
+                throw new IllegalStateException("identity-service no responde");
+            }
+            completada.countDown();
+        }));
+
+        assertTrue(completada.await(5, TimeUnit.SECONDS));
+        assertEquals(3, ejecuciones.get());
+        assertEquals(2.0, meterRegistry.counter("submission.postcommit.reintentos").count());
+        assertEquals(0.0, meterRegistry.counter("submission.postcommit.fallidas").count());
+    }
+
+    @Test
+    @DisplayName("Cuando la tarea agota los intentos, debe contarla como fallida")
+    void cuandoAgotaIntentos_debeContarFallida() throws Exception {
+        AtomicInteger ejecuciones = new AtomicInteger();
+
+        adapter.alConfirmar(new EjecutorPostCommitAdapter.TareaPostCommit("prueba", () -> {
+            ejecuciones.incrementAndGet();
+            throw new IllegalStateException("siempre falla");
+        }));
+
+        long limite = System.currentTimeMillis() + 5000;
+        while (meterRegistry.counter("submission.postcommit.fallidas").count() == 0
+                && System.currentTimeMillis() < limite) {
+            Thread.sleep(10);
+        }
+
+        assertEquals(1.0, meterRegistry.counter("submission.postcommit.fallidas").count());
+        assertEquals(config.getMaxIntentos(), ejecuciones.get());
+    }
+
+    @Test
+    @DisplayName("Cuando la cola está llena, debe rechazar la tarea sin bloquear")
+    void cuandoColaLlena_debeRechazar() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        EjecutorPostCommitAdapter.TareaPostCommit bloqueante =
+            new EjecutorPostCommitAdapter.TareaPostCommit("lenta", () -> {
+                try {
+                    liberar.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+        // Un hilo ocupado y un lugar en la cola: la tercera tarea se rechaza
+        adapter.alConfirmar(bloqueante);
+        adapter.alConfirmar(bloqueante);
+        adapter.alConfirmar(bloqueante);
+
+        assertEquals(1.0, meterRegistry.counter("submission.postcommit.rechazadas").count());
+        liberar.countDown();
+    }
+
+    @Test
+    @DisplayName("Cuando la cola estaba llena, debe ejecutar la tarea rechazada al liberarse")
+    void cuandoColaLlena_debeReintentarTareaRechazada() throws Exception {
+        CountDownLatch liberar = new CountDownLatch(1);
+        CountDownLatch completada = new CountDownLatch(1);
+        EjecutorPostCommitAdapter.TareaPostCommit bloqueante =
+            new EjecutorPostCommitAdapter.TareaPostCommit("lenta", () -> {
+                try {
+                    liberar.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+
+        adapter.alConfirmar(bloqueante);
+        adapter.alConfirmar(bloqueante);
+        adapter.alConfirmar(new EjecutorPostCommitAdapter.TareaPostCommit("notificación", completada::countDown));
+        liberar.countDown();
+
+        assertTrue(completada.await(5, TimeUnit.SECONDS));
+        assertEquals(0.0, meterRegistry.counter("submission.postcommit.fallidas").count());
+    }
+}
@@ -0,0 +1,132 @@
+package co.unicauca.submission.infrastructure.adapter.out.cache;
+
+import co.unicauca.submission.application.dto.response.ProyectoResponse;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.replica.EnrutadorDataSource;
+import co.unicauca.submission.infrastructure.config.ProyectoCacheConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios de la caché de proyectos.
+ */
+@DisplayName("ProyectoCacheAdapter - caché de proyectos por ID")
+class ProyectoCacheAdapterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ProyectoCacheAdapter adapter;
+    private AtomicInteger cargas;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        adapter = new ProyectoCacheAdapter(new ProyectoCacheConfig(), meterRegistry);
+        cargas = new AtomicInteger();
+    }
+
+    @AfterEach
+    void tearDown() {
+        EnrutadorDataSource.limpiar();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Cuando el proyecto ya está en caché, no debe volver a cargarlo")
+    void cuandoProyectoEnCache_noDebeCargar() {
+        adapter.obtener(1L, this::cargar);
+        adapter.obtener(1L, this::cargar);
+
+        assertEquals(1, cargas.get());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "proyectos").tag("result", "hit")
+            .functionCounter().count());
+    }
+
+    @Test
+    @DisplayName("Cuando el cargador falla, no debe guardar nada")
+    void cuandoCargadorFalla_noDebeGuardar() {
+        assertThrows(IllegalStateException.class,
+            () -> adapter.obtener(1L, () -> { throw new IllegalStateException("no existe"); }));
+
+        adapter.obtener(1L, this::cargar);
+        assertEquals(1, cargas.get());
+    }
+
+    @Test
+    @DisplayName("Cuando se invalida dentro de una transacción, debe aplicarse solo tras el commit")
+    void cuandoInvalidarEnTransaccion_debeEsperarCommit() {
+        adapter.obtener(1L, this::cargar);
+
+        TransactionSynchronizationManager.initSynchronization();
+        adapter.invalidar(1L);
+
+        // Antes del commit sigue sirviendo el último estado confirmado
+        adapter.obtener(1L, this::cargar);
+        assertEquals(1, cargas.get());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        adapter.obtener(1L, this::cargar);
+        assertEquals(2, cargas.get());
+    }
+
+    @Test
+    @DisplayName("Cuando se invalida fuera de una transacción, debe aplicarse de inmediato")
+    void cuandoInvalidarSinTransaccion_debeAplicarDeInmediato() {
+        adapter.obtener(1L, this::cargar);
+        adapter.invalidar(1L);
+        adapter.obtener(1L, this::cargar);
+
+        assertEquals(2, cargas.get());
+    }
+
+    @Test
+    @DisplayName("Cuando la réplica está atrasada tras una escritura, debe cargar desde la primaria")
+    void cuandoReplicaAtrasada_debeCargarDesdePrimaria() {
+        // La réplica aún tiene la versión 1; la primaria ya confirmó la 2
+        ProyectoResponse response = adapter.obtener(1L, () -> version(EnrutadorDataSource.primariaForzada() ? 2L : 1L));
+
+        assertEquals(2L, response.getVersion());
+        assertEquals(2L, adapter.buscar(1L).orElseThrow().getVersion());
+        assertFalse(EnrutadorDataSource.primariaForzada());
+    }
+
+    @Test
+    @DisplayName("Cuando el usuario escribió recientemente, no debe usar la caché")
+    void cuandoEscrituraReciente_noDebeUsarCache() {
+        adapter.obtener(1L, () -> version(1L));
+
+        // Escritura confirmada en otra instancia: esta caché no se invalidó
+        EnrutadorDataSource.usarPrimaria();
+        assertEquals(2L, adapter.obtener(1L, () -> version(2L)).getVersion());
+        assertTrue(adapter.buscar(1L).isEmpty());
+        assertTrue(EnrutadorDataSource.primariaForzada());
+
+        EnrutadorDataSource.limpiar();
+        assertEquals(1L, adapter.buscar(1L).orElseThrow().getVersion());
+    }
+
+    private static ProyectoResponse version(Long version) {
+        ProyectoResponse response = new ProyectoResponse();
+        response.setId(1L);
+        response.setVersion(version);
+        return response;
+    }
+
+    private ProyectoResponse cargar() {
+        cargas.incrementAndGet();
+        ProyectoResponse response = new ProyectoResponse();
+        response.setId(1L);
+        return response;
+    }
+}
@@ -0,0 +1,66 @@
+package co.unicauca.submission.infrastructure.adapter.out.client;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios de la consulta de emails por rol: sin fallback, para que la
+ * notificación post-commit que los usa se reintente si identity-service falla.
+ */
+@DisplayName("IdentityServiceAdapter - emails de coordinador y jefe de departamento")
+class IdentityServiceAdapterTest {
+
+    private RestTemplate restTemplate;
+    private IdentityServiceAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        restTemplate = mock(RestTemplate.class);
+        adapter = new IdentityServiceAdapter(restTemplate);
+        ReflectionTestUtils.setField(adapter, "identityServiceUrl", "http://identity:8081");
+        ReflectionTestUtils.setField(adapter, "serviceToken", "token");
+    }
+
+    @Test
+    @DisplayName("Cuando identity-service responde, debe devolver el email del coordinador")
+    void cuandoRespondeConEmail_debeDevolverlo() {
+        when(restTemplate.exchange(eq("http://identity:8081/api/auth/users/coordinador"),
+                eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class)))
+            .thenReturn(ResponseEntity.ok(Map.of("data", Map.of("email", "coordinacion@unicauca.edu.co"))));
+
+        assertEquals("coordinacion@unicauca.edu.co", adapter.obtenerEmailCoordinador());
+    }
+
+    @Test
+    @DisplayName("Cuando identity-service no responde, el error debe propagarse")
+    void cuandoNoResponde_debePropagarError() {
+        when(restTemplate.exchange(any(String.class), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class)))
+            .thenThrow(new ResourceAccessException("Connection refused"));
+
+        assertThrows(ResourceAccessException.class, () -> adapter.obtenerEmailCoordinador());
+        assertThrows(ResourceAccessException.class, () -> adapter.obtenerEmailJefeDepartamento());
+    }
+
+    @Test
+    @DisplayName("Cuando la respuesta no trae email, debe fallar en vez de usar un email por defecto")
+    void cuandoRespuestaSinEmail_debeFallar() {
+        when(restTemplate.exchange(any(String.class), eq(HttpMethod.GET), any(HttpEntity.class), eq(Map.class)))
+            .thenReturn(ResponseEntity.ok(Map.of("success", true)));
+
+        assertThrows(IllegalStateException.class, () -> adapter.obtenerEmailJefeDepartamento());
+    }
+}
@@ -0,0 +1,167 @@
+package co.unicauca.submission.infrastructure.adapter.out.filesystem;
+
+import co.unicauca.submission.application.port.out.IFileStoragePort;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.ArchivoContenidoJpaRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica el conteo de referencias del almacenamiento direccionado por contenido:
+ * el mismo contenido comparte blob y el blob solo se borra con la última referencia.
+ *
+ * Cada llamada al adaptador confirma su propia transacción, como en producción.
+ * Corre contra PostgreSQL en Testcontainers.
+ * Se omite automáticamente si Docker no está disponible.
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.hibernate.ddl-auto=validate",
+    "file.storage.type=content-addressed"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ContentAddressedFileStorageAdapter.class)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("ContentAddressedFileStorageAdapter - conteo de referencias")
+class ContentAddressedFileStorageAdapterTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static final Path BASE_PATH = crearDirectorioBase();
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+        registry.add("file.storage.base-path", BASE_PATH::toString);
+    }
+
+    private static final byte[] PDF = "%PDF-1.7\ncontenido compartido".getBytes();
+
+    @Autowired
+    private ContentAddressedFileStorageAdapter adapter;
+
+    @Autowired
+    private ArchivoContenidoJpaRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Cuando se guarda dos veces el mismo contenido, debe haber un blob con dos referencias")
+    void cuandoMismoContenidoDosVeces_debeCompartirBlob() throws IOException {
+        String primera = adapter.guardarPdf(new ByteArrayInputStream(PDF), "formatoA_v1.pdf", "proyectos/1");
+        String segunda = adapter.guardarPdf(new ByteArrayInputStream(PDF), "formatoA_v2.pdf", "proyectos/2");
+
+        assertEquals(primera, segunda);
+        String hash = primera.substring(ContentAddressedFileStorageAdapter.PREFIJO_CONTENIDO.length());
+        assertEquals(2, repository.findById(hash).orElseThrow().getReferencias());
+        assertEquals(1, contarBlobs(hash));
+    }
+
+    @Test
+    @DisplayName("Cuando se liberan las referencias, el blob debe borrarse solo con la última")
+    void cuandoSeLiberanReferencias_debeBorrarBlobConLaUltima() throws IOException {
+        String ruta = adapter.guardarPdf(new ByteArrayInputStream(PDF), "formatoA_v1.pdf", "proyectos/1");
+        adapter.guardarPdf(new ByteArrayInputStream(PDF), "formatoA_v2.pdf", "proyectos/2");
+        String hash = ruta.substring(ContentAddressedFileStorageAdapter.PREFIJO_CONTENIDO.length());
+
+        adapter.eliminarArchivo(ruta);
+
+        assertEquals(1, repository.findById(hash).orElseThrow().getReferencias());
+        assertEquals(1, contarBlobs(hash));
+        assertArrayEquals(PDF, adapter.obtenerArchivo(ruta).readAllBytes());
+
+        adapter.eliminarArchivo(ruta);
+
+        assertTrue(repository.findById(hash).isEmpty());
+        assertEquals(0, contarBlobs(hash));
+    }
+
+    @Test
+    @DisplayName("Cuando la transacción que libera la última referencia se revierte, el blob debe conservarse")
+    void cuandoLiberacionSeRevierte_debeConservarBlob() throws IOException {
+        String ruta = adapter.guardarPdf(new ByteArrayInputStream(PDF), "formatoA_v1.pdf", "proyectos/1");
+        String hash = ruta.substring(ContentAddressedFileStorageAdapter.PREFIJO_CONTENIDO.length());
+
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+            adapter.eliminarArchivo(ruta);
+            assertEquals(1, contarBlobsSinError(hash), "El archivo no debe borrarse antes del commit");
+            status.setRollbackOnly();
+        });
+
+        assertEquals(1, repository.findById(hash).orElseThrow().getReferencias());
+        assertArrayEquals(PDF, adapter.obtenerArchivo(ruta).readAllBytes());
+    }
+
+    @Test
+    @DisplayName("Cuando el caso de uso falla tras guardar, liberarNoConfirmados debe liberar la referencia")
+    void cuandoOperacionFalla_debeLiberarReferencia() throws IOException {
+        String ruta = adapter.guardarPdf(new ByteArrayInputStream(PDF), "formatoA_v1.pdf", "proyectos/1");
+        String hash = ruta.substring(ContentAddressedFileStorageAdapter.PREFIJO_CONTENIDO.length());
+        RuntimeException causa = new IllegalStateException("el estudiante ya tiene un proyecto activo");
+
+        IFileStoragePort.liberarNoConfirmados(adapter, List.of(ruta), causa);
+
+        assertTrue(repository.findById(hash).isEmpty());
+        assertEquals(0, contarBlobs(hash));
+        assertEquals(0, causa.getSuppressed().length);
+    }
+
+    private long contarBlobsSinError(String hash) {
+        try {
+            return contarBlobs(hash);
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long contarBlobs(String hash) throws IOException {
+        Path blobs = BASE_PATH.resolve(ContentAddressedFileStorageAdapter.DIRECTORIO_BLOBS);
+        if (!Files.exists(blobs)) {
+            return 0;
+        }
+        try (Stream<Path> archivos = Files.walk(blobs)) {
+            return archivos.filter(Files::isRegularFile)
+                .filter(archivo -> archivo.getFileName().toString().equals(hash))
+                .count();
+        }
+    }
+
+    private static Path crearDirectorioBase() {
+        try {
+            return Files.createTempDirectory("content-addressed-test");
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
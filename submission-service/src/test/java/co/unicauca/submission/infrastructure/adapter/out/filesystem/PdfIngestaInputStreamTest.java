@@ -0,0 +1,104 @@
+package co.unicauca.submission.infrastructure.adapter.out.filesystem;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios de la validación en línea de PDFs.
+ */
+@DisplayName("PdfIngestaInputStream - validación en una pasada")
+class PdfIngestaInputStreamTest {
+
+    @Test
+    @DisplayName("Cuando el contenido es un PDF dentro del límite, debe pasar intacto")
+    void cuandoPdfValido_debePasarIntacto() throws Exception {
+        byte[] pdf = "%PDF-1.7\ncontenido".getBytes();
+        ByteArrayOutputStream salida = new ByteArrayOutputStream();
+
+        try (InputStream entrada = new PdfIngestaInputStream(new ByteArrayInputStream(pdf), "a.pdf", 1024)) {
+            entrada.transferTo(salida);
+        }
+
+        assertArrayEquals(pdf, salida.toByteArray());
+    }
+
+    @Test
+    @DisplayName("Cuando el magic number no es %PDF, debe rechazar al leer")
+    void cuandoNoEsPdf_debeLanzarExcepcion() {
+        InputStream entrada = new PdfIngestaInputStream(
+            new ByteArrayInputStream("PK\u0003\u0004zip".getBytes()), "a.docx", 1024);
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+            () -> entrada.transferTo(new ByteArrayOutputStream()));
+        assertTrue(ex.getMessage().contains("no es un PDF"));
+    }
+
+    @Test
+    @DisplayName("Cuando el magic number llega fragmentado, debe validarlo igual")
+    void cuandoMagicFragmentado_debeValidar() throws Exception {
+        InputStream entrada = new PdfIngestaInputStream(
+            new ByteArrayInputStream("%PDF-1.4".getBytes()), "a.pdf", 1024);
+        byte[] buffer = new byte[2];
+
+        assertEquals(2, entrada.read(buffer, 0, 2));
+        assertEquals(2, entrada.read(buffer, 0, 2));
+        assertEquals('-', entrada.read());
+    }
+
+    @Test
+    @DisplayName("Cuando el archivo es más corto que el magic number, debe rechazar")
+    void cuandoArchivoMuyCorto_debeLanzarExcepcion() {
+        InputStream entrada = new PdfIngestaInputStream(
+            new ByteArrayInputStream("%PD".getBytes()), "a.pdf", 1024);
+
+        assertThrows(IllegalArgumentException.class,
+            () -> entrada.transferTo(new ByteArrayOutputStream()));
+    }
+
+    @Test
+    @DisplayName("Cuando se supera el tamaño máximo, debe cortar la lectura")
+    void cuandoExcedeTamano_debeLanzarExcepcion() {
+        byte[] pdf = ("%PDF" + "x".repeat(100)).getBytes();
+        InputStream entrada = new PdfIngestaInputStream(new ByteArrayInputStream(pdf), "a.pdf", 50);
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+            () -> entrada.transferTo(new ByteArrayOutputStream()));
+        assertTrue(ex.getMessage().contains("excede"));
+    }
+
+    @Test
+    @DisplayName("Cuando se salta el encabezado, debe validarlo igual")
+    void cuandoSkipSobreEncabezadoInvalido_debeLanzarExcepcion() {
+        InputStream entrada = new PdfIngestaInputStream(
+            new ByteArrayInputStream("PK\u0003\u0004zip".getBytes()), "a.docx", 1024);
+
+        assertThrows(IllegalArgumentException.class, () -> entrada.skip(4));
+    }
+
+    @Test
+    @DisplayName("Cuando se salta contenido, debe contarlo para el tamaño máximo")
+    void cuandoSkipExcedeTamano_debeLanzarExcepcion() throws Exception {
+        byte[] pdf = ("%PDF" + "x".repeat(100)).getBytes();
+        InputStream entrada = new PdfIngestaInputStream(new ByteArrayInputStream(pdf), "a.pdf", 50);
+
+        assertEquals(40, entrada.skip(40));
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> entrada.skip(20));
+        assertTrue(ex.getMessage().contains("excede"));
+    }
+
+    @Test
+    @DisplayName("Cuando se salta más allá del final, debe devolver los bytes realmente saltados")
+    void cuandoSkipPasaDelFinal_debeDevolverSaltados() throws Exception {
+        InputStream entrada = new PdfIngestaInputStream(
+            new ByteArrayInputStream("%PDF-1.4".getBytes()), "a.pdf", 1024);
+
+        assertEquals(8, entrada.skip(100));
+        assertEquals(-1, entrada.read());
+    }
+}
@@ -0,0 +1,311 @@
+package co.unicauca.submission.infrastructure.adapter.out.filesystem;
+
+import co.unicauca.submission.infrastructure.adapter.out.persistence.ArchivoContenidoJpaRepository;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.ArchivoContenidoJpaRepository.ReferenciaArchivo;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.UsoAlmacenamientoJpaRepository;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.entity.ArchivoContenidoEntity;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.entity.UsoAlmacenamientoEntity;
+import co.unicauca.submission.infrastructure.config.ReconciliacionAlmacenamientoConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionSystemException;
+import org.springframework.transaction.support.AbstractPlatformTransactionManager;
+import org.springframework.transaction.support.DefaultTransactionStatus;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios de la reconciliación del almacenamiento sobre un directorio temporal.
+ * Los repositorios son mocks: las consultas se prueban contra PostgreSQL en
+ * ArchivoContenidoJpaRepositoryTest. Las transacciones son simuladas pero disparan
+ * las sincronizaciones de commit, como las reales.
+ */
+@DisplayName("ReconciliadorAlmacenamiento - huérfanos y uso por usuario")
+class ReconciliadorAlmacenamientoTest {
+
+    private static final String HASH = "ab".repeat(32);
+
+    @TempDir
+    Path basePath;
+
+    private ArchivoContenidoJpaRepository archivoContenidoRepository;
+    private UsoAlmacenamientoJpaRepository usoRepository;
+    private ReconciliacionAlmacenamientoConfig config;
+    private SimpleMeterRegistry meterRegistry;
+    private TransaccionesSimuladas transacciones;
+    private ReconciliadorAlmacenamiento reconciliador;
+
+    private final Instant limite = Instant.now().minus(Duration.ofHours(24));
+
+    @BeforeEach
+    void setUp() {
+        archivoContenidoRepository = mock(ArchivoContenidoJpaRepository.class);
+        usoRepository = mock(UsoAlmacenamientoJpaRepository.class);
+        config = new ReconciliacionAlmacenamientoConfig();
+        meterRegistry = new SimpleMeterRegistry();
+        when(archivoContenidoRepository.buscarReferencias(anyCollection())).thenReturn(List.of());
+        transacciones = new TransaccionesSimuladas();
+
+        reconciliador = new ReconciliadorAlmacenamiento(archivoContenidoRepository, usoRepository,
+            transacciones, Runnable::run, config, meterRegistry, basePath.toString(), "content-addressed");
+    }
+
+    @Test
+    @DisplayName("Cuando un archivo antiguo no tiene referencias, debe eliminarlo y conservar los referenciados")
+    void cuandoArchivoAntiguoSinReferencias_debeEliminar() throws Exception {
+        Path huerfano = archivo("proyectos/formatoA/7/a-formatoA_v1.pdf", 10, true);
+        Path vigente = archivo("proyectos/formatoA/7/b-formatoA_v2.pdf", 20, true);
+        Path reciente = archivo("proyectos/formatoA/7/c-formatoA_v3.pdf", 30, false);
+        when(archivoContenidoRepository.buscarReferencias(anyCollection())).thenReturn(List.of(
+            referencia("proyectos/formatoA/7/b-formatoA_v2.pdf", "FORMATO_A", 7L)));
+
+        ReconciliadorAlmacenamiento.Resumen resumen = reconciliador.reconciliar(limite);
+
+        assertFalse(Files.exists(huerfano));
+        assertTrue(Files.exists(vigente));
+        assertTrue(Files.exists(reciente), "Dentro del período de gracia puede estar por confirmarse");
+        assertEquals(3, resumen.revisados());
+        assertEquals(1, resumen.eliminados());
+        assertEquals(10, resumen.bytesLiberados());
+        assertEquals(1.0, meterRegistry.counter("submission.almacenamiento.huerfanos.eliminados").count());
+    }
+
+    @Test
+    @DisplayName("Cuando hay temporales abandonados, debe eliminarlos sin recorrer subidas ni la caché de S3")
+    void cuandoTemporalesAbandonados_debeEliminarlos() throws Exception {
+        Path parcial = archivo("proyectos/formatoA/7/.x-formatoA.pdf.part", 5, true);
+        Path temporalBlob = archivo("blobs/.tmp/upload-1.part", 5, true);
+        Path sesion = archivo("subidas/123/datos.part", 5, true);
+        Path cache = archivo("s3-cache/proyectos/x.pdf", 5, true);
+
+        reconciliador.reconciliar(limite);
+
+        assertFalse(Files.exists(parcial));
+        assertFalse(Files.exists(temporalBlob));
+        assertTrue(Files.exists(sesion));
+        assertTrue(Files.exists(cache));
+        verify(archivoContenidoRepository, never()).buscarReferencias(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Cuando el contador de un blob no coincide con la BD, debe reconciliarlo con la fila bloqueada")
+    void cuandoContadorBlobNoCoincide_debeReconciliar() throws Exception {
+        Path blob = archivo("blobs/ab/ab/" + HASH, 40, true);
+        when(archivoContenidoRepository.findAllById(List.of(HASH))).thenReturn(List.of(fila(HASH, 2)));
+        when(archivoContenidoRepository.contarReferencias("sha256:" + HASH)).thenReturn(0L);
+        when(archivoContenidoRepository.eliminarHuerfano(eq(HASH), any())).thenAnswer(invocation -> {
+            assertTrue(Files.exists(blob), "El archivo no debe borrarse antes del commit");
+            return 1;
+        });
+        when(archivoContenidoRepository.eliminarSinReferencias(HASH)).thenReturn(1);
+
+        ReconciliadorAlmacenamiento.Resumen resumen = reconciliador.reconciliar(limite);
+
+        verify(archivoContenidoRepository).bloquearParaReconciliar(eq(HASH), eq(40L), any());
+        assertFalse(Files.exists(blob));
+        assertEquals(1, resumen.eliminados());
+    }
+
+    @Test
+    @DisplayName("Cuando el commit de la reconciliación falla, no debe borrar el blob")
+    void cuandoCommitFalla_noDebeBorrarBlob() throws Exception {
+        Path blob = archivo("blobs/ab/ab/" + HASH, 40, true);
+        when(archivoContenidoRepository.findAllById(List.of(HASH))).thenReturn(List.of(fila(HASH, 2)));
+        when(archivoContenidoRepository.contarReferencias("sha256:" + HASH)).thenReturn(0L);
+        when(archivoContenidoRepository.eliminarHuerfano(eq(HASH), any())).thenAnswer(invocation -> {
+            transacciones.fallarCommit = true;
+            return 1;
+        });
+
+        ReconciliadorAlmacenamiento.Resumen resumen = reconciliador.reconciliar(limite);
+
+        assertTrue(Files.exists(blob));
+        assertEquals(0, resumen.eliminados());
+        verify(archivoContenidoRepository, never()).eliminarSinReferencias(any());
+    }
+
+    @Test
+    @DisplayName("Cuando el blob se vuelve a referenciar antes del borrado, debe conservarlo")
+    void cuandoBlobReferenciadoTrasCommit_debeConservarlo() throws Exception {
+        Path blob = archivo("blobs/ab/ab/" + HASH, 40, true);
+        when(archivoContenidoRepository.findAllById(List.of(HASH))).thenReturn(List.of(fila(HASH, 2)));
+        when(archivoContenidoRepository.contarReferencias("sha256:" + HASH)).thenReturn(0L);
+        when(archivoContenidoRepository.eliminarHuerfano(eq(HASH), any())).thenReturn(1);
+        // Una subida del mismo contenido registró su referencia entre el commit y el borrado
+        when(archivoContenidoRepository.eliminarSinReferencias(HASH)).thenReturn(0);
+
+        ReconciliadorAlmacenamiento.Resumen resumen = reconciliador.reconciliar(limite);
+
+        assertTrue(Files.exists(blob));
+        assertEquals(0, resumen.eliminados());
+    }
+
+    @Test
+    @DisplayName("Cuando la reconciliación anterior sigue en curso, debe omitir la ejecución")
+    void cuandoReconciliacionEnCurso_debeOmitir() throws Exception {
+        archivo("proyectos/formatoA/7/a-formatoA_v1.pdf", 10, true);
+        ReconciliadorAlmacenamiento ocupado = new ReconciliadorAlmacenamiento(archivoContenidoRepository,
+            usoRepository, transacciones, tarea -> {
+                throw new TaskRejectedException("executor ocupado");
+            }, config, meterRegistry, basePath.toString(), "content-addressed");
+
+        assertDoesNotThrow(ocupado::reconciliarPeriodicamente);
+        verify(archivoContenidoRepository, never()).buscarReferencias(anyCollection());
+    }
+
+    @Test
+    @DisplayName("Cuando el blob recibió una referencia en el período de gracia, no debe eliminarlo")
+    void cuandoBlobReferenciadoRecientemente_noDebeEliminar() throws Exception {
+        Path blob = archivo("blobs/ab/ab/" + HASH, 40, true);
+        when(archivoContenidoRepository.findAllById(List.of(HASH))).thenReturn(List.of(fila(HASH, 1)));
+        when(archivoContenidoRepository.contarReferencias("sha256:" + HASH)).thenReturn(0L);
+        when(archivoContenidoRepository.eliminarHuerfano(eq(HASH), any())).thenReturn(0);
+
+        ReconciliadorAlmacenamiento.Resumen resumen = reconciliador.reconciliar(limite);
+
+        assertTrue(Files.exists(blob));
+        assertEquals(0, resumen.eliminados());
+    }
+
+    @Test
+    @DisplayName("Cuando el contador de un blob coincide, no debe bloquear su fila")
+    void cuandoContadorBlobCoincide_noDebeBloquear() throws Exception {
+        archivo("blobs/ab/ab/" + HASH, 40, true);
+        when(archivoContenidoRepository.findAllById(List.of(HASH))).thenReturn(List.of(fila(HASH, 1)));
+        when(archivoContenidoRepository.buscarReferencias(anyCollection())).thenReturn(List.of(
+            referencia("sha256:" + HASH, "ANTEPROYECTO", 3L)));
+
+        reconciliador.reconciliar(limite);
+
+        verify(archivoContenidoRepository, never()).bloquearParaReconciliar(any(), anyLong(), any());
+    }
+
+    @Test
+    @DisplayName("Cuando hay más archivos que el tamaño de lote, debe consultar la BD por lotes")
+    void cuandoMuchosArchivos_debeConsultarPorLotes() throws Exception {
+        config.setTamanoLote(2);
+        for (int i = 0; i < 5; i++) {
+            archivo("proyectos/anteproyecto/1/" + i + "-anteproyecto.pdf", 1, false);
+        }
+
+        reconciliador.reconciliar(limite);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<String>> rutas = ArgumentCaptor.forClass(Collection.class);
+        verify(archivoContenidoRepository, times(3)).buscarReferencias(rutas.capture());
+        assertTrue(rutas.getAllValues().stream().allMatch(lote -> lote.size() <= 2));
+    }
+
+    @Test
+    @DisplayName("Debe reportar el uso por usuario y tipo, contando una vez cada archivo por usuario")
+    void debeReportarUsoPorUsuarioYTipo() throws Exception {
+        archivo("blobs/ab/ab/" + HASH, 100, false);
+        archivo("proyectos/formatoA/7/carta.pdf", 30, false);
+        when(archivoContenidoRepository.buscarReferencias(anyCollection())).thenReturn(List.of(
+            // El mismo PDF como Formato A de dos proyectos del director 7 y de uno del director 8
+            referencia("sha256:" + HASH, "FORMATO_A", 7L),
+            referencia("sha256:" + HASH, "FORMATO_A", 7L),
+            referencia("sha256:" + HASH, "FORMATO_A", 8L),
+            referencia("proyectos/formatoA/7/carta.pdf", "CARTA", 7L)));
+
+        reconciliador.reconciliar(limite);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<UsoAlmacenamientoEntity>> filas = ArgumentCaptor.forClass(List.class);
+        verify(usoRepository).deleteAllInBatch();
+        verify(usoRepository).saveAll(filas.capture());
+        assertEquals(100L, bytes(filas.getValue(), 7L, "FORMATO_A"));
+        assertEquals(100L, bytes(filas.getValue(), 8L, "FORMATO_A"));
+        assertEquals(30L, bytes(filas.getValue(), 7L, "CARTA"));
+        assertEquals(100.0, meterRegistry.get("submission.almacenamiento.bytes").tag("tipo", "FORMATO_A")
+            .gauge().value());
+    }
+
+    private Path archivo(String ruta, int tamano, boolean antiguo) throws Exception {
+        Path archivo = basePath.resolve(ruta);
+        Files.createDirectories(archivo.getParent());
+        Files.write(archivo, new byte[tamano]);
+        if (antiguo) {
+            Files.setLastModifiedTime(archivo, FileTime.from(limite.minus(Duration.ofHours(24))));
+        }
+        return archivo;
+    }
+
+    private static long bytes(List<UsoAlmacenamientoEntity> filas, Long usuarioId, String tipo) {
+        return filas.stream()
+            .filter(f -> f.getUsuarioId().equals(usuarioId) && f.getTipo().equals(tipo))
+            .findFirst().orElseThrow()
+            .getBytes();
+    }
+
+    private static ArchivoContenidoEntity fila(String hash, int referencias) {
+        ArchivoContenidoEntity entity = new ArchivoContenidoEntity();
+        entity.setHash(hash);
+        entity.setReferencias(referencias);
+        return entity;
+    }
+
+    /**
+     * Gestor de transacciones sin recursos que ejecuta las sincronizaciones de commit.
+     */
+    private static class TransaccionesSimuladas extends AbstractPlatformTransactionManager {
+
+        boolean fallarCommit;
+
+        @Override
+        protected Object doGetTransaction() {
+            return new Object();
+        }
+
+        @Override
+        protected void doBegin(Object transaction, TransactionDefinition definition) {
+        }
+
+        @Override
+        protected void doCommit(DefaultTransactionStatus status) {
+            if (fallarCommit) {
+                fallarCommit = false;
+                throw new TransactionSystemException("commit fallido");
+            }
+        }
+
+        @Override
+        protected void doRollback(DefaultTransactionStatus status) {
+        }
+    }
+
+    private static ReferenciaArchivo referencia(String ruta, String tipo, Long usuarioId) {
+        return new ReferenciaArchivo() {
+            @Override
+            public String getRuta() {
+                return ruta;
+            }
+
+            @Override
+            public String getTipo() {
+                return tipo;
+            }
+
+            @Override
+            public Long getUsuarioId() {
+                return usuarioId;
+            }
+        };
+    }
+}
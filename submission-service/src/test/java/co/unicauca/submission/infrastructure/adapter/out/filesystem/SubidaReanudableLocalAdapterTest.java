@@ -0,0 +1,124 @@
+package co.unicauca.submission.infrastructure.adapter.out.filesystem;
+
+import co.unicauca.submission.application.dto.response.SesionSubida;
+import co.unicauca.submission.infrastructure.config.SubidaReanudableConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios de las subidas reanudables sobre un directorio temporal.
+ */
+@DisplayName("SubidaReanudableLocalAdapter - fragmentos verificados y reanudación")
+class SubidaReanudableLocalAdapterTest {
+
+    @TempDir
+    Path basePath;
+
+    private SubidaReanudableLocalAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        SubidaReanudableConfig config = new SubidaReanudableConfig();
+        config.setTamanoMaximoFragmento(DataSize.ofBytes(4));
+        adapter = new SubidaReanudableLocalAdapter(config, basePath.toString(), DataSize.ofBytes(1024));
+    }
+
+    @Test
+    @DisplayName("Cuando llegan todos los fragmentos en orden, debe ensamblar el archivo")
+    void cuandoFragmentosEnOrden_debeEnsamblar() throws Exception {
+        byte[] pdf = "%PDF-1.7".getBytes();
+        SesionSubida sesion = adapter.crear(1L, 2L, "anteproyecto.pdf", pdf.length);
+
+        assertEquals(4, enviar(sesion.getId(), pdf, 0, 4));
+        assertEquals(8, enviar(sesion.getId(), pdf, 4, 8));
+
+        SesionSubida completa = adapter.buscar(sesion.getId()).orElseThrow();
+        assertTrue(completa.isCompleta());
+        try (InputStream ensamblado = adapter.abrirContenido(sesion.getId())) {
+            assertArrayEquals(pdf, ensamblado.readAllBytes());
+        }
+    }
+
+    @Test
+    @DisplayName("Cuando el checksum no coincide, debe rechazar el fragmento sin avanzar el offset")
+    void cuandoChecksumNoCoincide_debeRechazar() throws Exception {
+        SesionSubida sesion = adapter.crear(1L, 2L, "anteproyecto.pdf", 8);
+        byte[] fragmento = "%PDF".getBytes();
+
+        assertThrows(IllegalArgumentException.class, () -> adapter.agregarFragmento(
+            sesion.getId(), 0, new ByteArrayInputStream(fragmento), sha256("otro".getBytes())));
+
+        assertEquals(0, adapter.buscar(sesion.getId()).orElseThrow().getRecibidos());
+        // No deben quedar temporales del fragmento rechazado
+        try (var archivos = Files.list(basePath.resolve("subidas").resolve(sesion.getId()))) {
+            assertEquals(2, archivos.count());
+        }
+    }
+
+    @Test
+    @DisplayName("Cuando el offset no es el recibido, debe pedir reanudar desde el offset real")
+    void cuandoOffsetIncorrecto_debeLanzarConflicto() throws Exception {
+        byte[] pdf = "%PDF-1.7".getBytes();
+        SesionSubida sesion = adapter.crear(1L, 2L, "anteproyecto.pdf", pdf.length);
+        enviar(sesion.getId(), pdf, 0, 4);
+
+        // Reenvío del primer fragmento tras perder la respuesta
+        assertThrows(IllegalStateException.class, () -> enviar(sesion.getId(), pdf, 0, 4));
+        assertEquals(4, adapter.buscar(sesion.getId()).orElseThrow().getRecibidos());
+    }
+
+    @Test
+    @DisplayName("Cuando el fragmento supera el máximo, debe rechazarlo")
+    void cuandoFragmentoExcedeMaximo_debeRechazar() throws Exception {
+        byte[] pdf = "%PDF-1.7".getBytes();
+        SesionSubida sesion = adapter.crear(1L, 2L, "anteproyecto.pdf", pdf.length);
+
+        assertThrows(IllegalArgumentException.class, () -> enviar(sesion.getId(), pdf, 0, 8));
+    }
+
+    @Test
+    @DisplayName("Cuando la sesión no tiene actividad, la limpieza debe eliminarla")
+    void cuandoSesionAbandonada_debeEliminarla() throws Exception {
+        SesionSubida abandonada = adapter.crear(1L, 2L, "a.pdf", 8);
+        SesionSubida activa = adapter.crear(1L, 2L, "b.pdf", 8);
+
+        FileTime ayer = FileTime.from(Instant.now().minus(Duration.ofDays(1)));
+        Path directorio = basePath.resolve("subidas").resolve(abandonada.getId());
+        Files.setLastModifiedTime(directorio.resolve("datos.part"), ayer);
+        Files.setLastModifiedTime(directorio, ayer);
+
+        assertEquals(1, adapter.eliminarInactivasDesde(Instant.now().minus(Duration.ofHours(1))));
+        assertTrue(adapter.buscar(abandonada.getId()).isEmpty());
+        assertTrue(adapter.buscar(activa.getId()).isPresent());
+    }
+
+    @Test
+    @DisplayName("Cuando el identificador no es un UUID, no debe resolver rutas fuera de subidas")
+    void cuandoIdentificadorInvalido_debeIgnorarlo() {
+        assertTrue(adapter.buscar("../../etc").isEmpty());
+    }
+
+    private long enviar(String sesionId, byte[] archivo, int desde, int hasta) throws Exception {
+        byte[] fragmento = Arrays.copyOfRange(archivo, desde, hasta);
+        return adapter.agregarFragmento(sesionId, desde, new ByteArrayInputStream(fragmento), sha256(fragmento));
+    }
+
+    private static byte[] sha256(byte[] contenido) throws Exception {
+        return MessageDigest.getInstance("SHA-256").digest(contenido);
+    }
+}
@@ -0,0 +1,113 @@
+package co.unicauca.submission.infrastructure.adapter.out.firma;
+
+import co.unicauca.submission.application.port.out.IEnlacesFirmadosPort.DestinoEnlace;
+import co.unicauca.submission.application.port.out.IEnlacesFirmadosPort.EnlaceFirmado;
+import co.unicauca.submission.domain.exception.UsuarioNoAutorizadoException;
+import co.unicauca.submission.infrastructure.config.EnlacesFirmadosConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests unitarios de la firma y verificación local de enlaces de descarga.
+ */
+@DisplayName("HmacEnlacesFirmadosAdapter - enlaces firmados con vencimiento")
+class HmacEnlacesFirmadosAdapterTest {
+
+    private static final String RUTA = "sha256:" + "ab".repeat(32);
+
+    private final AtomicReference<Instant> ahora = new AtomicReference<>(Instant.parse("2024-05-01T10:00:00Z"));
+    private EnlacesFirmadosConfig config;
+    private HmacEnlacesFirmadosAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        config = new EnlacesFirmadosConfig();
+        config.setSecreto("secreto-de-prueba");
+        config.setVigenciaSegundos(300);
+        adapter = new HmacEnlacesFirmadosAdapter(config, reloj());
+    }
+
+    @Test
+    @DisplayName("Cuando el token es vigente, debe resolver la ruta y el nombre firmados")
+    void cuandoTokenVigente_debeResolverDestino() {
+        EnlaceFirmado enlace = adapter.firmar(RUTA, "anteproyecto-7.pdf", false);
+
+        DestinoEnlace destino = adapter.verificar(enlace.token());
+
+        assertEquals(RUTA, destino.ruta());
+        assertEquals("anteproyecto-7.pdf", destino.nombreArchivo());
+        assertEquals(ahora.get().plusSeconds(300), enlace.expira());
+        // Reutilizable mientras esté vigente
+        assertDoesNotThrow(() -> adapter.verificar(enlace.token()));
+    }
+
+    @Test
+    @DisplayName("Cuando el token se altera o la clave es otra, debe rechazarlo")
+    void cuandoTokenAlterado_debeRechazar() {
+        String token = adapter.firmar(RUTA, "formatoA-7.pdf", false).token();
+        String otraRuta = adapter.firmar("sha256:" + "cd".repeat(32), "formatoA-7.pdf", false).token();
+
+        // Contenido de un token con la firma de otro
+        String mezclado = otraRuta.substring(0, otraRuta.indexOf('.')) + token.substring(token.indexOf('.'));
+        assertThrows(UsuarioNoAutorizadoException.class, () -> adapter.verificar(mezclado));
+        assertThrows(UsuarioNoAutorizadoException.class, () -> adapter.verificar("no-es-un-token"));
+
+        config.setSecreto("otra-clave");
+        HmacEnlacesFirmadosAdapter otraInstancia = new HmacEnlacesFirmadosAdapter(config, reloj());
+        assertThrows(UsuarioNoAutorizadoException.class, () -> otraInstancia.verificar(token));
+    }
+
+    @Test
+    @DisplayName("Cuando el enlace venció, debe rechazarlo")
+    void cuandoEnlaceVencido_debeRechazar() {
+        String token = adapter.firmar(RUTA, "carta-7.pdf", false).token();
+
+        ahora.set(ahora.get().plus(Duration.ofSeconds(300)));
+
+        UsuarioNoAutorizadoException ex = assertThrows(UsuarioNoAutorizadoException.class,
+            () -> adapter.verificar(token));
+        assertTrue(ex.getMessage().contains("venció"));
+    }
+
+    @Test
+    @DisplayName("Cuando el enlace es de uso único, debe rechazar el segundo uso")
+    void cuandoUsoUnico_debeRechazarRepeticion() {
+        String token = adapter.firmar(RUTA, "anteproyecto-7.pdf", true).token();
+
+        adapter.verificar(token);
+
+        UsuarioNoAutorizadoException ex = assertThrows(UsuarioNoAutorizadoException.class,
+            () -> adapter.verificar(token));
+        assertTrue(ex.getMessage().contains("ya fue usado"));
+        // Otro enlace de uso único del mismo archivo es independiente
+        assertDoesNotThrow(() -> adapter.verificar(adapter.firmar(RUTA, "anteproyecto-7.pdf", true).token()));
+    }
+
+    private Clock reloj() {
+        return new Clock() {
+            @Override
+            public ZoneOffset getZone() {
+                return ZoneOffset.UTC;
+            }
+
+            @Override
+            public Clock withZone(java.time.ZoneId zone) {
+                return this;
+            }
+
+            @Override
+            public Instant instant() {
+                return ahora.get();
+            }
+        };
+    }
+}
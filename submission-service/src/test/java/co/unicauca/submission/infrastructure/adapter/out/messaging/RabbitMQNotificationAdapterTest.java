@@ -0,0 +1,94 @@
+package co.unicauca.submission.infrastructure.adapter.out.messaging;
+
+import co.unicauca.submission.application.port.out.IIdentityServicePort;
+import co.unicauca.submission.application.port.out.INotificationPort.NotificacionDocumento;
+import co.unicauca.submission.application.port.out.IProyectoRepositoryPort;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Tests unitarios de las notificaciones de documentos enviados.
+ */
+@DisplayName("RabbitMQNotificationAdapter - notificaciones desde datos resueltos")
+class RabbitMQNotificationAdapterTest {
+
+    private RabbitTemplate rabbitTemplate;
+    private IProyectoRepositoryPort repositoryPort;
+    private IIdentityServicePort identityServicePort;
+    private RabbitMQNotificationAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        rabbitTemplate = mock(RabbitTemplate.class);
+        repositoryPort = mock(IProyectoRepositoryPort.class);
+        identityServicePort = mock(IIdentityServicePort.class);
+        adapter = new RabbitMQNotificationAdapter(rabbitTemplate, repositoryPort, identityServicePort);
+    }
+
+    @Test
+    @DisplayName("Cuando se notifica un Formato A, no debe consultar la BD ni identity-service")
+    @SuppressWarnings("unchecked")
+    void cuandoNotificarFormatoA_debeUsarSoloElSnapshot() {
+        adapter.notificarCoordinadorFormatoAEnviado(new NotificacionDocumento(
+            7L, "Sistema de tutorías", 2, "Ana Pérez", "coordinador@unicauca.edu.co"));
+
+        ArgumentCaptor<Object> mensaje = ArgumentCaptor.forClass(Object.class);
+        verify(rabbitTemplate).convertAndSend(eq("notifications.q"), mensaje.capture());
+        verifyNoInteractions(repositoryPort, identityServicePort);
+
+        Map<String, Object> notificacion = (Map<String, Object>) mensaje.getValue();
+        Map<String, Object> contexto = (Map<String, Object>) notificacion.get("businessContext");
+        List<Map<String, String>> destinatarios = (List<Map<String, String>>) notificacion.get("recipients");
+
+        assertEquals("DOCUMENT_SUBMITTED", notificacion.get("notificationType"));
+        assertEquals("coordinador@unicauca.edu.co", destinatarios.get(0).get("email"));
+        assertEquals("Sistema de tutorías", contexto.get("projectTitle"));
+        assertEquals("Ana Pérez", contexto.get("submittedBy"));
+        assertEquals(2, contexto.get("documentVersion"));
+        assertEquals("FORMATO_A", contexto.get("documentType"));
+    }
+
+    @Test
+    @DisplayName("Cuando el director no se resolvió, debe usar el remitente por defecto")
+    @SuppressWarnings("unchecked")
+    void cuandoDirectorDesconocido_debeUsarRemitentePorDefecto() {
+        adapter.notificarJefeDepartamentoAnteproyecto(new NotificacionDocumento(
+            7L, "Sistema de tutorías", 1, null, "jefe@unicauca.edu.co"));
+
+        ArgumentCaptor<Object> mensaje = ArgumentCaptor.forClass(Object.class);
+        verify(rabbitTemplate).convertAndSend(eq("notifications.q"), mensaje.capture());
+        verifyNoInteractions(repositoryPort, identityServicePort);
+
+        Map<String, Object> contexto = (Map<String, Object>)
+            ((Map<String, Object>) mensaje.getValue()).get("businessContext");
+        assertEquals("Docente Director", contexto.get("submittedBy"));
+        assertEquals("ANTEPROYECTO", contexto.get("documentType"));
+    }
+
+    @Test
+    @DisplayName("Cuando RabbitMQ no acepta el mensaje, el error debe propagarse para que se reintente")
+    void cuandoRabbitFalla_debePropagarError() {
+        doThrow(new AmqpConnectException(new java.net.ConnectException("Connection refused")))
+            .when(rabbitTemplate).convertAndSend(eq("notifications.q"), any(Object.class));
+
+        NotificacionDocumento notificacion = new NotificacionDocumento(
+            7L, "Sistema de tutorías", 1, "Ana Pérez", "coordinador@unicauca.edu.co");
+
+        assertThrows(AmqpConnectException.class,
+            () -> adapter.notificarCoordinadorFormatoAEnviado(notificacion));
+        assertThrows(AmqpConnectException.class,
+            () -> adapter.notificarJefeDepartamentoAnteproyecto(notificacion));
+    }
+}
@@ -0,0 +1,131 @@
+package co.unicauca.submission.infrastructure.adapter.out.pdf;
+
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.encryption.AccessPermission;
+import org.apache.pdfbox.pdmodel.encryption.StandardProtectionPolicy;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+import org.apache.pdfbox.pdmodel.font.Standard14Fonts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests del análisis estructural de PDFs. Los documentos se generan con PDFBox.
+ */
+@DisplayName("PdfAnalizador - validación estructural de PDFs")
+class PdfAnalizadorTest {
+
+    private static final String TEXTO = "Anteproyecto de prueba";
+
+    @TempDir
+    Path directorio;
+
+    private final PdfAnalizador analizador = new PdfAnalizador();
+
+    @Test
+    @DisplayName("Con un PDF válido, debe contar páginas y texto")
+    void conPdfValido_debeExtraerMetadatos() throws Exception {
+        Path archivo = directorio.resolve("valido.pdf");
+        try (PDDocument documento = documentoConTexto(2)) {
+            documento.save(archivo.toFile());
+        }
+
+        PdfAnalizador.Resultado resultado = analizador.analizar(archivo);
+
+        assertTrue(resultado.valido());
+        assertEquals(2, resultado.paginas());
+        assertTrue(resultado.caracteresTexto() >= 2L * TEXTO.length());
+        assertNull(resultado.motivoRechazo());
+    }
+
+    @Test
+    @DisplayName("Con un PDF válido, debe generar la vista previa de la primera página")
+    void conPdfValido_debeGenerarVistaPrevia() throws Exception {
+        Path archivo = directorio.resolve("portada.pdf");
+        try (PDDocument documento = documentoConTexto(3)) {
+            documento.save(archivo.toFile());
+        }
+
+        byte[] png = analizador.analizar(archivo).vistaPrevia();
+
+        assertNotNull(png);
+        BufferedImage imagen = ImageIO.read(new ByteArrayInputStream(png));
+        assertEquals(320, imagen.getWidth(), 1);
+        // Carta (612 x 792 pt) escalada al ancho: conserva la proporción
+        assertEquals(414, imagen.getHeight(), 2);
+        assertTrue(png.length < 64 * 1024, "La vista previa ocupa " + png.length + " bytes");
+    }
+
+    @Test
+    @DisplayName("Con un PDF protegido con contraseña, debe rechazarlo")
+    void conPdfConContrasena_debeRechazar() throws Exception {
+        assertFalse(analizador.analizar(cifrado("usuario")).valido());
+    }
+
+    @Test
+    @DisplayName("Con un PDF cifrado sin contraseña de apertura, debe rechazarlo")
+    void conPdfCifrado_debeRechazar() throws Exception {
+        PdfAnalizador.Resultado resultado = analizador.analizar(cifrado(""));
+
+        assertFalse(resultado.valido());
+        assertEquals("El PDF está cifrado", resultado.motivoRechazo());
+    }
+
+    @Test
+    @DisplayName("Con un PDF truncado, debe rechazarlo como dañado")
+    void conPdfDanado_debeRechazar() throws Exception {
+        Path archivo = directorio.resolve("danado.pdf");
+        Files.write(archivo, "%PDF-1.7\n1 0 obj\n<< /Type /Catalog".getBytes());
+
+        PdfAnalizador.Resultado resultado = analizador.analizar(archivo);
+
+        assertFalse(resultado.valido());
+        assertNotNull(resultado.motivoRechazo());
+    }
+
+    @Test
+    @DisplayName("Con un archivo inexistente, debe lanzar IOException para reintentar")
+    void conArchivoInexistente_debeLanzarIOException() {
+        assertThrows(NoSuchFileException.class, () -> analizador.analizar(directorio.resolve("no-existe.pdf")));
+    }
+
+    private Path cifrado(String contrasenaUsuario) throws IOException {
+        Path archivo = directorio.resolve("cifrado.pdf");
+        try (PDDocument documento = documentoConTexto(1)) {
+            StandardProtectionPolicy politica =
+                new StandardProtectionPolicy("propietario", contrasenaUsuario, new AccessPermission());
+            politica.setEncryptionKeyLength(128);
+            documento.protect(politica);
+            documento.save(archivo.toFile());
+        }
+        return archivo;
+    }
+
+    private static PDDocument documentoConTexto(int paginas) throws IOException {
+        PDDocument documento = new PDDocument();
+        for (int i = 0; i < paginas; i++) {
+            PDPage pagina = new PDPage();
+            documento.addPage(pagina);
+            try (PDPageContentStream contenido = new PDPageContentStream(documento, pagina)) {
+                contenido.beginText();
+                contenido.setFont(new PDType1Font(Standard14Fonts.FontName.HELVETICA), 12);
+                contenido.newLineAtOffset(72, 700);
+                contenido.showText(TEXTO);
+                contenido.endText();
+            }
+        }
+        return documento;
+    }
+}
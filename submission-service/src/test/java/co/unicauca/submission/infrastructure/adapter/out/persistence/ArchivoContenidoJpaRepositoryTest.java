@@ -0,0 +1,172 @@
+package co.unicauca.submission.infrastructure.adapter.out.persistence;
+
+import co.unicauca.submission.application.dto.response.ValidacionDocumentoResponse.Estado;
+import co.unicauca.submission.domain.model.EstadoProyecto;
+import co.unicauca.submission.domain.model.Modalidad;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.ArchivoContenidoJpaRepository.ReferenciaArchivo;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.entity.ProyectoEntity;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.entity.ValidacionDocumentoEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica las consultas del reconciliador del almacenamiento (migración V13):
+ * referencias a rutas desde proyectos y vistas previas, y corrección o eliminación
+ * de blobs en archivos_contenido respetando el período de gracia.
+ *
+ * Corre contra PostgreSQL en Testcontainers.
+ * Se omite automáticamente si Docker no está disponible.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("ArchivoContenidoJpaRepository - reconciliación del almacenamiento")
+class ArchivoContenidoJpaRepositoryTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    private static final String HASH = "ab".repeat(32);
+    private static final String BLOB = "sha256:" + HASH;
+
+    @Autowired
+    private ArchivoContenidoJpaRepository repository;
+
+    @Autowired
+    private ProyectoJpaRepository proyectoRepository;
+
+    @Autowired
+    private ValidacionDocumentoJpaRepository validacionRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaccion;
+
+    @BeforeEach
+    void setUp() {
+        validacionRepository.deleteAll();
+        proyectoRepository.deleteAll();
+        repository.deleteAll();
+        transaccion = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    @DisplayName("Debe encontrar las referencias de cada ruta con su tipo y el director del proyecto")
+    void debeBuscarReferenciasConTipoYUsuario() {
+        ProyectoEntity proyecto = proyecto(11L, 601L, BLOB);
+        proyecto.setRutaCarta("proyectos/formatoA/11/carta.pdf");
+        Long proyectoId = proyectoRepository.save(proyecto).getId();
+        proyectoRepository.save(proyecto(12L, 602L, BLOB));
+        registrarVistaPrevia(proyectoId, BLOB, "proyectos/formatoA/11/vista-previa.png");
+
+        List<ReferenciaArchivo> referencias = transaccion.execute(s -> repository.buscarReferencias(List.of(
+            BLOB, "proyectos/formatoA/11/carta.pdf", "proyectos/formatoA/11/vista-previa.png", "sin-referencia.pdf")));
+
+        assertEquals(4, referencias.size());
+        assertEquals(2, referencias.stream().filter(r -> r.getRuta().equals(BLOB)).count());
+        ReferenciaArchivo vistaPrevia = referencias.stream()
+            .filter(r -> r.getTipo().equals("VISTA_PREVIA")).findFirst().orElseThrow();
+        assertEquals(11L, vistaPrevia.getUsuarioId());
+        Long reales = transaccion.execute(s -> repository.contarReferencias(BLOB));
+        assertEquals(2L, reales);
+    }
+
+    @Test
+    @DisplayName("Cuando el blob no tiene referencias y su fila es antigua, debe eliminarla")
+    void cuandoBlobHuerfanoAntiguo_debeEliminarFila() {
+        LocalDateTime limite = LocalDateTime.now().minusHours(24);
+
+        Integer eliminadas = transaccion.execute(s -> {
+            // Blob sin fila: rollback después de escribirlo
+            repository.bloquearParaReconciliar(HASH, 40, limite.minusHours(1));
+            return repository.eliminarHuerfano(HASH, limite);
+        });
+
+        assertEquals(1, eliminadas);
+        assertTrue(repository.findById(HASH).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Cuando el blob recibió una referencia dentro del período de gracia, no debe tocarlo")
+    void cuandoReferenciaReciente_noDebeEliminarNiCorregir() {
+        LocalDateTime limite = LocalDateTime.now().minusHours(24);
+        transaccion.executeWithoutResult(s -> repository.agregarReferencia(HASH, 40));
+
+        Integer cambios = transaccion.execute(s -> {
+            repository.bloquearParaReconciliar(HASH, 40, limite.minusHours(1));
+            return repository.eliminarHuerfano(HASH, limite) + repository.corregirReferencias(HASH, 3, limite);
+        });
+
+        assertEquals(0, cambios);
+        assertEquals(1, repository.findById(HASH).orElseThrow().getReferencias());
+    }
+
+    @Test
+    @DisplayName("Cuando el contador de un blob antiguo no coincide, debe corregirlo")
+    void cuandoContadorNoCoincide_debeCorregir() {
+        transaccion.executeWithoutResult(s -> repository.agregarReferencia(HASH, 40));
+
+        // Con el límite en el futuro la referencia ya está fuera del período de gracia
+        Integer corregidas = transaccion.execute(s ->
+            repository.corregirReferencias(HASH, 2, LocalDateTime.now().plusMinutes(1)));
+
+        assertEquals(1, corregidas);
+        assertEquals(2, repository.findById(HASH).orElseThrow().getReferencias());
+    }
+
+    /**
+     * Deja la validación del Formato A como VALIDO con vista previa, como lo hace el worker.
+     */
+    private void registrarVistaPrevia(Long proyectoId, String ruta, String vistaPrevia) {
+        LocalDateTime ahora = LocalDateTime.now();
+        transaccion.executeWithoutResult(s -> validacionRepository.registrarPendiente(proyectoId, "FORMATO_A", ruta, ahora));
+        Long id = transaccion.execute(s -> {
+            ValidacionDocumentoEntity entity = validacionRepository.reclamarPendientes(ahora.plusSeconds(1), 1).get(0);
+            entity.setEstado(Estado.EN_PROCESO);
+            return entity.getId();
+        });
+        transaccion.executeWithoutResult(s -> validacionRepository.registrarResultado(
+            id, ruta, "VALIDO", 2, 500L, null, vistaPrevia, ahora));
+    }
+
+    private ProyectoEntity proyecto(Long directorId, Long estudianteId, String rutaFormatoA) {
+        ProyectoEntity entity = new ProyectoEntity();
+        entity.setTitulo("Proyecto de prueba");
+        entity.setModalidad(Modalidad.INVESTIGACION);
+        entity.setObjetivoGeneral("Objetivo general");
+        entity.setObjetivosEspecificos("Objetivos específicos");
+        entity.setDirectorId(directorId);
+        entity.setEstudiante1Id(estudianteId);
+        entity.setEstado(EstadoProyecto.ANTEPROYECTO_APROBADO);
+        entity.setNumeroIntento(1);
+        entity.setRutaPdfFormatoA(rutaFormatoA);
+        return entity;
+    }
+}
@@ -0,0 +1,145 @@
+package co.unicauca.submission.infrastructure.adapter.out.persistence;
+
+import co.unicauca.submission.infrastructure.adapter.out.persistence.entity.ClaveIdempotenciaEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica la reserva de claves de idempotencia (migraciones V11 y V14): una sola
+ * petición gana la clave, las reservas abandonadas y las claves vencidas se pueden
+ * volver a tomar, y una reserva renovada sigue siendo de su propietario.
+ *
+ * Corre contra PostgreSQL en Testcontainers.
+ * Se omite automáticamente si Docker no está disponible.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("ClaveIdempotenciaJpaRepository - reserva de Idempotency-Key")
+class ClaveIdempotenciaJpaRepositoryTest {
+
+    private static final String RUTA = "/api/submissions/formatoA";
+    private static final String PROPIETARIO = "propietario-1";
+    private static final String HUELLA = "ab".repeat(32);
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private ClaveIdempotenciaJpaRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaccion;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        transaccion = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    @DisplayName("Cuando dos peticiones usan la misma clave, solo la primera debe reservarla")
+    void cuandoClaveRepetida_soloPrimeraReserva() {
+        LocalDateTime ahora = LocalDateTime.now();
+
+        assertEquals(1, reservar("clave-1", ahora));
+        assertEquals(0, reservar("clave-1", ahora));
+
+        transaccion.executeWithoutResult(s ->
+            repository.completar(7L, "clave-1", PROPIETARIO, 201, "application/json", "{\"id\":1}".getBytes(),
+                false, HUELLA));
+        assertEquals(0, reservar("clave-1", ahora));
+
+        ClaveIdempotenciaEntity clave = repository.findByUsuarioIdAndClave(7L, "clave-1").orElseThrow();
+        assertEquals(ClaveIdempotenciaEntity.Estado.COMPLETADA, clave.getEstado());
+        assertEquals(201, clave.getCodigoEstado());
+        assertArrayEquals("{\"id\":1}".getBytes(), clave.getCuerpo());
+        assertEquals(HUELLA, clave.getHuella());
+        assertFalse(clave.isRespuestaOmitida());
+    }
+
+    @Test
+    @DisplayName("Cuando la reserva quedó abandonada, debe poder tomarse de nuevo")
+    void cuandoReservaAbandonada_debeRetomarse() {
+        LocalDateTime ahora = LocalDateTime.now();
+        assertEquals(1, reservar("clave-2", ahora.minusMinutes(10)));
+
+        assertEquals(1, reservar("clave-2", ahora));
+    }
+
+    @Test
+    @DisplayName("Cuando la clave venció, debe eliminarse y permitir una nueva reserva")
+    void cuandoClaveVencida_debeEliminarse() {
+        LocalDateTime ahora = LocalDateTime.now();
+        transaccion.executeWithoutResult(s ->
+            repository.reservar(7L, "clave-3", "POST", RUTA, PROPIETARIO, ahora.minusDays(2), ahora.minusDays(1), ahora.minusDays(2)));
+
+        assertEquals(1, (int) transaccion.execute(s -> repository.eliminarExpiradas(ahora)));
+        assertTrue(repository.findByUsuarioIdAndClave(7L, "clave-3").isEmpty());
+        assertEquals(1, reservar("clave-3", ahora));
+    }
+
+    @Test
+    @DisplayName("Cuando la reserva se renueva, no debe tomarse aunque la petición lleve más que el timeout")
+    void cuandoReservaRenovada_noDebeRetomarse() {
+        LocalDateTime ahora = LocalDateTime.now();
+        assertEquals(1, reservar("clave-4", ahora.minusMinutes(10)));
+
+        assertEquals(1, (int) transaccion.execute(s ->
+            repository.renovar(7L, "clave-4", PROPIETARIO, ahora.minusSeconds(30))));
+
+        assertEquals(0, reservar("clave-4", ahora, "propietario-2"));
+    }
+
+    @Test
+    @DisplayName("Cuando otra petición tomó la reserva, el propietario anterior no debe completarla ni liberarla")
+    void cuandoReservaTomadaPorOtro_anteriorNoDebeCompletarNiLiberar() {
+        LocalDateTime ahora = LocalDateTime.now();
+        assertEquals(1, reservar("clave-5", ahora.minusMinutes(10)));
+        assertEquals(1, reservar("clave-5", ahora, "propietario-2"));
+
+        assertEquals(0, (int) transaccion.execute(s ->
+            repository.completar(7L, "clave-5", PROPIETARIO, 201, null, new byte[0], false, HUELLA)));
+        assertEquals(0, (int) transaccion.execute(s -> repository.liberar(7L, "clave-5", PROPIETARIO)));
+
+        ClaveIdempotenciaEntity clave = repository.findByUsuarioIdAndClave(7L, "clave-5").orElseThrow();
+        assertEquals(ClaveIdempotenciaEntity.Estado.EN_PROCESO, clave.getEstado());
+        assertEquals("propietario-2", clave.getPropietario());
+    }
+
+    private int reservar(String clave, LocalDateTime ahora) {
+        return reservar(clave, ahora, PROPIETARIO);
+    }
+
+    private int reservar(String clave, LocalDateTime ahora, String propietario) {
+        return transaccion.execute(s -> repository.reservar(7L, clave, "POST", RUTA, propietario,
+            ahora, ahora.plusHours(24), ahora.minusMinutes(2)));
+    }
+}
@@ -0,0 +1,137 @@
+package co.unicauca.submission.infrastructure.adapter.out.persistence;
+
+import co.unicauca.submission.domain.model.EstadoProyecto;
+import co.unicauca.submission.domain.model.Modalidad;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.entity.ProyectoEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica la regla "un proyecto activo por estudiante" a nivel de BD
+ * (tabla estudiantes_proyecto_activo mantenida por trigger, migraciones V5 y V15),
+ * incluidos los conflictos que ya existían antes de la regla.
+ *
+ * Corre contra PostgreSQL en Testcontainers.
+ * Se omite automáticamente si Docker no está disponible.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("estudiantes_proyecto_activo - restricción de proyecto activo")
+class EstudiantesProyectoActivoTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private ProyectoJpaRepository repository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Cuando se crea un proyecto activo, debe registrar a sus estudiantes")
+    void cuandoProyectoActivo_debeRegistrarEstudiantes() {
+        ProyectoEntity proyecto = repository.save(proyecto(101L, 102L, EstadoProyecto.EN_EVALUACION_COORDINADOR));
+
+        assertEquals(Optional.of(proyecto.getId()), repository.findProyectoActivoIdByEstudianteId(101L));
+        assertEquals(Optional.of(proyecto.getId()), repository.findProyectoActivoIdByEstudianteId(102L));
+    }
+
+    @Test
+    @DisplayName("Cuando el estudiante ya tiene proyecto activo en otra columna, debe rechazar el insert")
+    void cuandoEstudianteEnOtroProyectoActivo_debeRechazar() {
+        repository.save(proyecto(201L, 202L, EstadoProyecto.EN_EVALUACION_COORDINADOR));
+
+        // El estudiante2 del primer proyecto aparece como estudiante1 del segundo
+        assertThrows(DataIntegrityViolationException.class,
+            () -> repository.save(proyecto(202L, null, EstadoProyecto.FORMATO_A_DILIGENCIADO)));
+    }
+
+    @Test
+    @DisplayName("Cuando el proyecto llega a un estado final, debe liberar a sus estudiantes")
+    void cuandoEstadoFinal_debeLiberarEstudiantes() {
+        ProyectoEntity proyecto = repository.save(proyecto(301L, null, EstadoProyecto.EN_EVALUACION_COORDINADOR));
+
+        proyecto.setEstado(EstadoProyecto.FORMATO_A_RECHAZADO);
+        repository.save(proyecto);
+
+        assertTrue(repository.findProyectoActivoIdByEstudianteId(301L).isEmpty());
+
+        // Con el historial rechazado, el estudiante puede iniciar un nuevo proyecto
+        ProyectoEntity nuevo = repository.save(proyecto(301L, null, EstadoProyecto.EN_EVALUACION_COORDINADOR));
+        assertEquals(Optional.of(nuevo.getId()), repository.findProyectoActivoIdByEstudianteId(301L));
+    }
+
+    @Test
+    @DisplayName("Cuando el conflicto es anterior a la regla, debe tolerarlo y registrar el siguiente proyecto al terminar el primero")
+    void cuandoConflictoPrevio_debeTolerarloYRegistrarSiguiente() {
+        ProyectoEntity primero = repository.save(proyecto(401L, null, EstadoProyecto.EN_EVALUACION_COORDINADOR));
+        // Conflicto como los que existían antes de V5: el trigger no interviene
+        jdbcTemplate.execute("ALTER TABLE proyectos DISABLE TRIGGER trg_proyectos_estudiantes_activos");
+        ProyectoEntity segundo;
+        try {
+            segundo = repository.save(proyecto(401L, null, EstadoProyecto.FORMATO_A_DILIGENCIADO));
+        } finally {
+            jdbcTemplate.execute("ALTER TABLE proyectos ENABLE TRIGGER trg_proyectos_estudiantes_activos");
+        }
+
+        // El proyecto en conflicto puede seguir cambiando de estado
+        segundo.setEstado(EstadoProyecto.EN_EVALUACION_COORDINADOR);
+        segundo = repository.save(segundo);
+        assertEquals(Optional.of(primero.getId()), repository.findProyectoActivoIdByEstudianteId(401L));
+
+        primero.setEstado(EstadoProyecto.FORMATO_A_RECHAZADO);
+        repository.save(primero);
+        assertEquals(Optional.of(segundo.getId()), repository.findProyectoActivoIdByEstudianteId(401L));
+
+        // Un conflicto nuevo se sigue rechazando
+        assertThrows(DataIntegrityViolationException.class,
+            () -> repository.save(proyecto(401L, null, EstadoProyecto.FORMATO_A_DILIGENCIADO)));
+    }
+
+    private ProyectoEntity proyecto(Long estudiante1Id, Long estudiante2Id, EstadoProyecto estado) {
+        ProyectoEntity entity = new ProyectoEntity();
+        entity.setTitulo("Proyecto de prueba");
+        entity.setModalidad(Modalidad.INVESTIGACION);
+        entity.setObjetivoGeneral("Objetivo general");
+        entity.setObjetivosEspecificos("Objetivos específicos");
+        entity.setDirectorId(1L);
+        entity.setEstudiante1Id(estudiante1Id);
+        entity.setEstudiante2Id(estudiante2Id);
+        entity.setEstado(estado);
+        entity.setNumeroIntento(1);
+        entity.setRutaPdfFormatoA("sha256:" + "0".repeat(64));
+        return entity;
+    }
+}
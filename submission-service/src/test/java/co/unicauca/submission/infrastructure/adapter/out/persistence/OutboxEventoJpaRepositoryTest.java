@@ -0,0 +1,111 @@
+package co.unicauca.submission.infrastructure.adapter.out.persistence;
+
+import co.unicauca.submission.infrastructure.adapter.out.persistence.entity.OutboxEventoEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica el reclamo de lotes del outbox con FOR UPDATE SKIP LOCKED.
+ *
+ * Corre contra PostgreSQL en Testcontainers (las migraciones de Flyway crean la tabla).
+ * Se omite automáticamente si Docker no está disponible.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("OutboxEventoJpaRepository - reclamo de lotes")
+class OutboxEventoJpaRepositoryTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private OutboxEventoJpaRepository repository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaccion;
+    private TransactionTemplate transaccionNueva;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        transaccion = new TransactionTemplate(transactionManager);
+        transaccionNueva = new TransactionTemplate(transactionManager);
+        transaccionNueva.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    @Test
+    @DisplayName("Dos relays concurrentes reclaman lotes disjuntos")
+    void reclamosConcurrentes_debenSerDisjuntos() {
+        repository.saveAll(List.of(evento(), evento(), evento()));
+
+        transaccion.executeWithoutResult(status -> {
+            List<OutboxEventoEntity> primero = repository.reclamarPendientes(LocalDateTime.now(), 2);
+            assertEquals(2, primero.size());
+
+            // Otra transacción (otra conexión) mientras la primera mantiene sus bloqueos
+            List<OutboxEventoEntity> segundo = transaccionNueva.execute(
+                s -> repository.reclamarPendientes(LocalDateTime.now(), 10));
+
+            assertEquals(1, segundo.size());
+            assertTrue(primero.stream().noneMatch(e -> e.getId().equals(segundo.get(0).getId())));
+        });
+    }
+
+    @Test
+    @DisplayName("No reclama publicados ni eventos con reintento futuro")
+    void reclamo_debeIgnorarPublicadosYReintentosFuturos() {
+        OutboxEventoEntity publicado = evento();
+        publicado.setFechaPublicacion(LocalDateTime.now());
+        OutboxEventoEntity diferido = evento();
+        diferido.setProximoIntento(LocalDateTime.now().plusMinutes(5));
+        OutboxEventoEntity pendiente = repository.save(evento());
+        repository.saveAll(List.of(publicado, diferido));
+
+        List<OutboxEventoEntity> lote = transaccion.execute(
+            s -> repository.reclamarPendientes(LocalDateTime.now(), 10));
+
+        assertEquals(1, lote.size());
+        assertEquals(pendiente.getId(), lote.get(0).getId());
+        assertEquals(2, repository.countByFechaPublicacionIsNull());
+    }
+
+    private OutboxEventoEntity evento() {
+        OutboxEventoEntity evento = new OutboxEventoEntity();
+        evento.setAggregateId(1L);
+        evento.setTipoEvento("FormatoACreado");
+        evento.setExchange("formato-a-exchange");
+        evento.setRoutingKey("formato-a.enviado");
+        evento.setPayload("{}");
+        return evento;
+    }
+}
@@ -0,0 +1,116 @@
+package co.unicauca.submission.infrastructure.adapter.out.persistence;
+
+import co.unicauca.submission.domain.model.EstadoProyecto;
+import co.unicauca.submission.domain.model.Modalidad;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.entity.ProyectoEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica la búsqueda de texto completo sobre la columna generada busqueda (V9):
+ * stemming en español, ranking por campo y filtros opcionales.
+ *
+ * Corre contra PostgreSQL en Testcontainers.
+ * Se omite automáticamente si Docker no está disponible.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("ProyectoJpaRepository - búsqueda de texto completo")
+class ProyectoBusquedaTextoTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private ProyectoJpaRepository repository;
+
+    private ProyectoEntity enTitulo;
+    private ProyectoEntity enObjetivos;
+    private ProyectoEntity practica;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+
+        enTitulo = repository.save(proyecto(801L, "Evaluación automática de algoritmos de aprendizaje",
+            "Construir una herramienta", Modalidad.INVESTIGACION, EstadoProyecto.EN_EVALUACION_COORDINADOR));
+        enObjetivos = repository.save(proyecto(802L, "Plataforma de gestión académica",
+            "Mejorar las evaluaciones de los cursos", Modalidad.INVESTIGACION, EstadoProyecto.ANTEPROYECTO_APROBADO));
+        practica = repository.save(proyecto(803L, "Evaluaciones de desempeño en una empresa de software",
+            "Apoyar el proceso de talento humano", Modalidad.PRACTICA_PROFESIONAL,
+            EstadoProyecto.EN_EVALUACION_COORDINADOR));
+        repository.save(proyecto(804L, "Sistema de riego inteligente",
+            "Reducir el consumo de agua", Modalidad.INVESTIGACION, EstadoProyecto.EN_EVALUACION_COORDINADOR));
+        repository.flush();
+    }
+
+    @Test
+    @DisplayName("Cuando se busca una palabra, debe encontrar sus variantes y ordenar por relevancia")
+    void cuandoBuscarPalabra_debeUsarRaicesYRanking() {
+        Page<ProyectoEntity> resultados = repository.buscarTexto("evaluación", null, null, PageRequest.of(0, 10));
+
+        assertEquals(3, resultados.getTotalElements());
+        List<Long> ids = resultados.map(ProyectoEntity::getId).getContent();
+        // Coincidir en el título (peso A) pesa más que en el objetivo general (peso B)
+        assertTrue(ids.indexOf(enObjetivos.getId()) > ids.indexOf(enTitulo.getId()));
+        assertTrue(ids.indexOf(enObjetivos.getId()) > ids.indexOf(practica.getId()));
+    }
+
+    @Test
+    @DisplayName("Cuando se filtra por estado y modalidad, debe aplicar ambos filtros")
+    void cuandoFiltrar_debeAplicarEstadoYModalidad() {
+        Page<ProyectoEntity> resultados = repository.buscarTexto("evaluaciones",
+            EstadoProyecto.EN_EVALUACION_COORDINADOR.name(), Modalidad.PRACTICA_PROFESIONAL.name(),
+            PageRequest.of(0, 10));
+
+        assertEquals(List.of(practica.getId()), resultados.map(ProyectoEntity::getId).getContent());
+    }
+
+    @Test
+    @DisplayName("Cuando se excluye una palabra, no debe retornar los proyectos que la contienen")
+    void cuandoExcluirPalabra_debeOmitirCoincidencias() {
+        Page<ProyectoEntity> resultados = repository.buscarTexto("evaluación -empresa", null, null,
+            PageRequest.of(0, 10));
+
+        assertFalse(resultados.map(ProyectoEntity::getId).getContent().contains(practica.getId()));
+        assertEquals(2, resultados.getTotalElements());
+    }
+
+    private ProyectoEntity proyecto(Long estudianteId, String titulo, String objetivoGeneral,
+                                    Modalidad modalidad, EstadoProyecto estado) {
+        ProyectoEntity entity = new ProyectoEntity();
+        entity.setTitulo(titulo);
+        entity.setModalidad(modalidad);
+        entity.setObjetivoGeneral(objetivoGeneral);
+        entity.setObjetivosEspecificos("Revisar el estado del arte;Validar la propuesta");
+        entity.setDirectorId(1L);
+        entity.setEstudiante1Id(estudianteId);
+        entity.setEstado(estado);
+        entity.setNumeroIntento(1);
+        entity.setRutaPdfFormatoA("sha256:" + "0".repeat(64));
+        return entity;
+    }
+}
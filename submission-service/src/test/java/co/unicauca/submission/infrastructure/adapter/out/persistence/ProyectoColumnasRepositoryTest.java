@@ -0,0 +1,143 @@
+package co.unicauca.submission.infrastructure.adapter.out.persistence;
+
+import co.unicauca.submission.application.dto.request.CampoProyecto;
+import co.unicauca.submission.application.dto.request.CursorProyecto;
+import co.unicauca.submission.application.dto.request.FiltroProyectos;
+import co.unicauca.submission.domain.model.EstadoProyecto;
+import co.unicauca.submission.domain.model.Modalidad;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.entity.ProyectoEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica las consultas por columnas de los listados con selección de campos.
+ *
+ * Corre contra PostgreSQL en Testcontainers.
+ * Se omite automáticamente si Docker no está disponible.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(ProyectoColumnasRepository.class)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("ProyectoColumnasRepository - consultas por columnas")
+class ProyectoColumnasRepositoryTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private ProyectoJpaRepository repository;
+
+    @Autowired
+    private ProyectoColumnasRepository columnasRepository;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Cuando se piden algunas columnas, debe retornar solo esas con sus tipos de dominio")
+    void cuandoPedirColumnas_debeRetornarSoloEsas() {
+        ProyectoEntity proyecto = repository.saveAndFlush(proyecto(401L, 7L, EstadoProyecto.EN_EVALUACION_COORDINADOR));
+
+        List<Map<CampoProyecto, Object>> filas = columnasRepository.buscar(
+            FiltroProyectos.porEstudiante(401L),
+            EnumSet.of(CampoProyecto.ID, CampoProyecto.ESTADO, CampoProyecto.OBJETIVOS_ESPECIFICOS));
+
+        assertEquals(1, filas.size());
+        Map<CampoProyecto, Object> fila = filas.get(0);
+        assertEquals(EnumSet.of(CampoProyecto.ID, CampoProyecto.ESTADO, CampoProyecto.OBJETIVOS_ESPECIFICOS),
+            fila.keySet());
+        assertEquals(proyecto.getId(), fila.get(CampoProyecto.ID));
+        assertEquals(EstadoProyecto.EN_EVALUACION_COORDINADOR, fila.get(CampoProyecto.ESTADO));
+        assertEquals(List.of("Primero", "Segundo"), fila.get(CampoProyecto.OBJETIVOS_ESPECIFICOS));
+    }
+
+    @Test
+    @DisplayName("Cuando se pide una página, debe filtrar, ordenar y contar el total")
+    void cuandoPedirPagina_debeFiltrarYContar() {
+        for (long i = 0; i < 5; i++) {
+            repository.save(proyecto(500L + i, 8L, EstadoProyecto.ANTEPROYECTO_ENVIADO));
+        }
+        repository.saveAndFlush(proyecto(600L, 8L, EstadoProyecto.EN_EVALUACION_COORDINADOR));
+
+        Page<Map<CampoProyecto, Object>> pagina = columnasRepository.buscarPagina(
+            new FiltroProyectos(EstadoProyecto.ANTEPROYECTO_ENVIADO, 8L, null),
+            EnumSet.of(CampoProyecto.ESTUDIANTE1_ID),
+            PageRequest.of(0, 2, Sort.by("estudiante1Id").descending()));
+
+        assertEquals(5, pagina.getTotalElements());
+        assertEquals(List.of(504L, 503L),
+            pagina.getContent().stream().map(fila -> fila.get(CampoProyecto.ESTUDIANTE1_ID)).toList());
+    }
+
+    @Test
+    @DisplayName("Cuando se recorre por cursor, debe entregar cada proyecto una vez en orden")
+    void cuandoRecorrerPorCursor_debeEntregarTodosEnOrden() {
+        List<Long> esperados = new ArrayList<>();
+        for (long i = 0; i < 5; i++) {
+            esperados.add(repository.save(proyecto(700L + i, 9L, EstadoProyecto.ANTEPROYECTO_ENVIADO)).getId());
+        }
+        repository.flush();
+
+        List<Long> recorridos = new ArrayList<>();
+        CursorProyecto cursor = null;
+        Slice<Map<CampoProyecto, Object>> ventana;
+        do {
+            ventana = columnasRepository.buscarDespuesDe(
+                FiltroProyectos.porEstado(EstadoProyecto.ANTEPROYECTO_ENVIADO),
+                EnumSet.of(CampoProyecto.ID, CampoProyecto.FECHA_CREACION), cursor, 2);
+            for (Map<CampoProyecto, Object> fila : ventana) {
+                recorridos.add((Long) fila.get(CampoProyecto.ID));
+                cursor = new CursorProyecto((LocalDateTime) fila.get(CampoProyecto.FECHA_CREACION),
+                    (Long) fila.get(CampoProyecto.ID));
+            }
+        } while (ventana.hasNext());
+
+        assertEquals(esperados, recorridos);
+    }
+
+    private ProyectoEntity proyecto(Long estudianteId, Long directorId, EstadoProyecto estado) {
+        ProyectoEntity entity = new ProyectoEntity();
+        entity.setTitulo("Proyecto de prueba " + estudianteId);
+        entity.setModalidad(Modalidad.INVESTIGACION);
+        entity.setObjetivoGeneral("Objetivo general");
+        entity.setObjetivosEspecificos("Primero;Segundo");
+        entity.setDirectorId(directorId);
+        entity.setEstudiante1Id(estudianteId);
+        entity.setEstado(estado);
+        entity.setNumeroIntento(1);
+        entity.setRutaPdfFormatoA("sha256:" + "0".repeat(64));
+        return entity;
+    }
+}
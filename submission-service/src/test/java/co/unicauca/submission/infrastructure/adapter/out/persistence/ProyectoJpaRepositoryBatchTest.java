@@ -0,0 +1,103 @@
+package co.unicauca.submission.infrastructure.adapter.out.persistence;
+
+import co.unicauca.submission.domain.model.EstadoProyecto;
+import co.unicauca.submission.domain.model.Modalidad;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.entity.ProyectoEntity;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica que los INSERT de proyectos se agrupen en lotes JDBC.
+ *
+ * Con IDENTITY cada INSERT era una sentencia propia; con la secuencia pooled y
+ * hibernate.jdbc.batch_size = 50, 120 proyectos deben salir en 3 lotes y pedir
+ * ids a la secuencia una vez cada 50.
+ *
+ * Se omite automáticamente si Docker no está disponible.
+ */
+@DataJpaTest(properties = {
+    "spring.jpa.hibernate.ddl-auto=validate",
+    "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("ProyectoJpaRepository - inserciones en lote")
+class ProyectoJpaRepositoryBatchTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private ProyectoJpaRepository repository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    @DisplayName("Cuando se guardan 120 proyectos, debe usar 3 lotes y 3 llamadas a la secuencia")
+    void cuandoGuardarEnLote_debeAgruparInserts() {
+        // Estados finales: el historial no choca con la regla de estudiante activo
+        List<ProyectoEntity> proyectos = IntStream.range(0, 120)
+            .mapToObj(i -> proyecto(10_000L + i))
+            .toList();
+
+        repository.saveAll(proyectos);
+        entityManager.flush();
+
+        assertTrue(proyectos.stream().allMatch(p -> p.getId() != null));
+        // 3 nextval (uno por bloque de 50 ids) + 3 lotes de INSERT
+        assertTrue(statistics.getPrepareStatementCount() <= 6,
+            "Se esperaban a lo sumo 6 sentencias, hubo " + statistics.getPrepareStatementCount());
+        assertEquals(120, statistics.getEntityInsertCount());
+    }
+
+    private ProyectoEntity proyecto(Long estudianteId) {
+        ProyectoEntity entity = new ProyectoEntity();
+        entity.setTitulo("Trabajo de grado histórico " + estudianteId);
+        entity.setModalidad(Modalidad.INVESTIGACION);
+        entity.setObjetivoGeneral("Objetivo general");
+        entity.setObjetivosEspecificos("Objetivos específicos");
+        entity.setDirectorId(1L);
+        entity.setEstudiante1Id(estudianteId);
+        entity.setEstado(EstadoProyecto.ANTEPROYECTO_APROBADO);
+        entity.setNumeroIntento(1);
+        entity.setRutaPdfFormatoA("sha256:" + "0".repeat(64));
+        return entity;
+    }
+}
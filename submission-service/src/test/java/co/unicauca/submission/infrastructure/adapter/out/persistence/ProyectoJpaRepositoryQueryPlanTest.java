@@ -0,0 +1,226 @@
+package co.unicauca.submission.infrastructure.adapter.out.persistence;
+
+import co.unicauca.submission.domain.model.EstadoProyecto;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica que cada consulta de ProyectoJpaRepository esté respaldada por un índice.
+ *
+ * Corre las migraciones de Flyway contra un PostgreSQL en Testcontainers, captura el SQL
+ * que Hibernate genera para cada método del repositorio y ejecuta EXPLAIN sobre su plan
+ * genérico con enable_seqscan desactivado: si aun así el planner elige un Seq Scan sobre
+ * proyectos, es porque no existe índice utilizable y el test falla.
+ *
+ * Se omite automáticamente si Docker no está disponible.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("ProyectoJpaRepository - planes de ejecución")
+class ProyectoJpaRepositoryQueryPlanTest {
+
+    // Misma versión que postgres-submission en docker-compose
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    private static final CapturingStatementInspector INSPECTOR = new CapturingStatementInspector();
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @TestConfiguration
+    static class StatementCaptureConfig {
+        @Bean
+        HibernatePropertiesCustomizer statementInspectorCustomizer() {
+            return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, INSPECTOR);
+        }
+    }
+
+    @Autowired
+    private ProyectoJpaRepository repository;
+
+    @Autowired
+    private DataSource dataSource;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        // SET LOCAL: solo afecta la transacción del test (compartida con el repositorio)
+        jdbcTemplate.execute("SET LOCAL enable_seqscan = off");
+        jdbcTemplate.execute("SET LOCAL plan_cache_mode = force_generic_plan");
+        INSPECTOR.clear();
+    }
+
+    @Test
+    @DisplayName("findByEstado usa índice")
+    void findByEstado_usaIndice() {
+        repository.findByEstado(EstadoProyecto.EN_EVALUACION_COORDINADOR);
+
+        assertSinSeqScan(INSPECTOR.selects());
+    }
+
+    @Test
+    @DisplayName("findByEstado paginado (contenido y count) usa índice")
+    void findByEstadoPaginado_usaIndice() {
+        // Página 1 vacía → Spring Data también ejecuta la consulta COUNT
+        repository.findByEstado(EstadoProyecto.EN_EVALUACION_COORDINADOR, PageRequest.of(1, 10));
+
+        List<String> selects = INSPECTOR.selects();
+        assertEquals(2, selects.size(), "Se esperaba consulta de contenido y de conteo: " + selects);
+        assertSinSeqScan(selects);
+    }
+
+    @Test
+    @DisplayName("findVentanaByEstadoDespuesDe arranca en el cursor sin ordenar ni contar")
+    void findVentanaByEstadoDespuesDe_usaIndiceDesdeCursor() {
+        repository.findVentanaByEstadoDespuesDe(EstadoProyecto.EN_EVALUACION_COORDINADOR,
+            LocalDateTime.now(), 1000L, PageRequest.of(0, 10));
+
+        List<String> selects = INSPECTOR.selects();
+        assertEquals(1, selects.size(), "Se esperaba solo la consulta de contenido: " + selects);
+
+        String plan = String.join("\n", explain(selects.get(0)));
+        assertTrue(plan.contains("idx_proyectos_estado_fecha_creacion_id"),
+            "La consulta no usa el índice (estado, fecha_creacion, id):\n" + plan);
+        assertFalse(plan.contains("Sort"), "La consulta ordena en memoria:\n" + plan);
+        assertFalse(plan.contains("Filter"), "El cursor no es condición del índice:\n" + plan);
+    }
+
+    @Test
+    @DisplayName("buscarTexto (contenido y count) usa el índice GIN")
+    void buscarTexto_usaIndiceGin() {
+        // Página 1 vacía → Spring Data también ejecuta la consulta COUNT
+        repository.buscarTexto("evaluación", null, null, PageRequest.of(1, 10));
+
+        List<String> selects = INSPECTOR.selects();
+        assertEquals(2, selects.size(), "Se esperaba consulta de contenido y de conteo: " + selects);
+        assertSinSeqScan(selects);
+        for (String sql : selects) {
+            String plan = String.join("\n", explain(sql));
+            assertTrue(plan.contains("idx_proyectos_busqueda"), "La búsqueda no usa el índice GIN:\n" + plan);
+        }
+    }
+
+    @Test
+    @DisplayName("findByDirectorId usa índice")
+    void findByDirectorId_usaIndice() {
+        repository.findByDirectorId(1L);
+
+        assertSinSeqScan(INSPECTOR.selects());
+    }
+
+    @Test
+    @DisplayName("findByEstudianteId (estudiante1 OR estudiante2) usa índice")
+    void findByEstudianteId_usaIndice() {
+        repository.findByEstudianteId(1L);
+
+        assertSinSeqScan(INSPECTOR.selects());
+    }
+
+    @Test
+    @DisplayName("findProyectoActivoIdByEstudianteId usa la clave primaria")
+    void findProyectoActivoIdByEstudianteId_usaClavePrimaria() {
+        repository.findProyectoActivoIdByEstudianteId(1L);
+
+        List<String> selects = INSPECTOR.selects();
+        assertFalse(selects.isEmpty(), "No se capturó ninguna consulta");
+        String plan = String.join("\n", explain(selects.get(0)));
+        assertTrue(plan.contains("uk_estudiante_proyecto_activo"),
+            "La consulta no usa la clave primaria de estudiantes_proyecto_activo:\n" + plan);
+    }
+
+    private void assertSinSeqScan(List<String> selects) {
+        assertFalse(selects.isEmpty(), "No se capturó ninguna consulta");
+
+        for (String sql : selects) {
+            String plan = String.join("\n", explain(sql));
+            assertFalse(plan.contains("Seq Scan on proyectos"),
+                "La consulta hace Seq Scan sobre proyectos:\n" + sql + "\n" + plan);
+        }
+    }
+
+    /**
+     * Prepara la sentencia y obtiene su plan genérico (el que usaría para cualquier valor
+     * de los parámetros), convirtiendo los placeholders JDBC (?) en $1, $2...
+     */
+    private List<String> explain(String sql) {
+        StringBuilder sb = new StringBuilder(sql.length() + 8);
+        int parametros = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                sb.append('$').append(++parametros);
+            } else {
+                sb.append(c);
+            }
+        }
+
+        jdbcTemplate.execute("PREPARE plan_proyectos AS " + sb);
+        try {
+            String argumentos = String.join(", ", Collections.nCopies(parametros, "NULL"));
+            String execute = parametros == 0 ? "plan_proyectos" : "plan_proyectos(" + argumentos + ")";
+            return jdbcTemplate.queryForList("EXPLAIN EXECUTE " + execute, String.class);
+        } finally {
+            jdbcTemplate.execute("DEALLOCATE plan_proyectos");
+        }
+    }
+
+    /**
+     * Registra el SQL que Hibernate envía a la BD sin modificarlo.
+     */
+    static class CapturingStatementInspector implements StatementInspector {
+
+        private final List<String> statements = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            statements.add(sql);
+            return sql;
+        }
+
+        void clear() {
+            statements.clear();
+        }
+
+        List<String> selects() {
+            List<String> selects = new ArrayList<>();
+            for (String sql : statements) {
+                if (sql.trim().toLowerCase().startsWith("select")) {
+                    selects.add(sql);
+                }
+            }
+            return selects;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package co.unicauca.submission.infrastructure.adapter.out.persistence;
+
+import co.unicauca.submission.application.dto.request.CursorProyecto;
+import co.unicauca.submission.application.dto.response.PaginaCursorResponse;
+import co.unicauca.submission.application.dto.response.ProyectoResponse;
+import co.unicauca.submission.application.port.out.IProyectoCachePort;
+import co.unicauca.submission.application.usecase.query.ListarAnteproyectosPendientesQuery;
+import co.unicauca.submission.domain.exception.EstudianteYaTieneProyectoException;
+import co.unicauca.submission.domain.model.ArchivoAdjunto;
+import co.unicauca.submission.domain.model.EstadoProyecto;
+import co.unicauca.submission.domain.model.Modalidad;
+import co.unicauca.submission.domain.model.ObjetivosProyecto;
+import co.unicauca.submission.domain.model.Participantes;
+import co.unicauca.submission.domain.model.Proyecto;
+import co.unicauca.submission.domain.model.Titulo;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.entity.ProyectoEntity;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.mapper.ProyectoMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica el adaptador de persistencia de proyectos a través del mapper, como lo
+ * usan las queries y los casos de uso: los listados por cursor sin selección de
+ * campos y la traducción de la restricción de estudiante activo en lote.
+ *
+ * Corre contra PostgreSQL en Testcontainers.
+ * Se omite automáticamente si Docker no está disponible.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ProyectoRepositoryAdapter.class, ProyectoMapper.class, ProyectoColumnasRepository.class,
+         ListarAnteproyectosPendientesQuery.class})
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("ProyectoRepositoryAdapter - persistencia a través del mapper")
+class ProyectoRepositoryAdapterTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @MockBean
+    private IProyectoCachePort cachePort;
+
+    @Autowired
+    private ProyectoJpaRepository repository;
+
+    @Autowired
+    private ListarAnteproyectosPendientesQuery listarPendientesQuery;
+
+    @Autowired
+    private ProyectoRepositoryAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Cuando se recorre por cursor sin fields, la segunda página debe continuar la primera")
+    void cuandoRecorrerPorCursorSinCampos_debeEntregarSegundaPagina() {
+        List<Long> esperados = new ArrayList<>();
+        for (long i = 0; i < 3; i++) {
+            esperados.add(repository.save(proyecto(800L + i, EstadoProyecto.ANTEPROYECTO_ENVIADO)).getId());
+        }
+        repository.flush();
+
+        PaginaCursorResponse<ProyectoResponse> primera = listarPendientesQuery.listarPendientes(null, 2);
+        assertTrue(primera.isTieneSiguiente());
+        assertNotNull(primera.getSiguienteCursor());
+
+        PaginaCursorResponse<ProyectoResponse> segunda = listarPendientesQuery.listarPendientes(
+            CursorProyecto.decodificar(primera.getSiguienteCursor()), 2);
+
+        List<Long> recorridos = new ArrayList<>();
+        primera.getContenido().forEach(p -> recorridos.add(p.getId()));
+        segunda.getContenido().forEach(p -> recorridos.add(p.getId()));
+        assertEquals(esperados, recorridos);
+        assertFalse(segunda.isTieneSiguiente());
+        assertNull(segunda.getSiguienteCursor());
+    }
+
+    @Test
+    @DisplayName("Cuando un lote repite un estudiante activo, saveAll debe lanzar la excepción de dominio")
+    void cuandoLoteRepiteEstudianteActivo_saveAllDebeTraducirViolacion() {
+        List<Proyecto> lote = List.of(formatoA(900L), formatoA(900L));
+
+        EstudianteYaTieneProyectoException ex = assertThrows(EstudianteYaTieneProyectoException.class,
+            () -> adapter.saveAll(lote));
+        assertEquals(900L, ex.getEstudianteId());
+    }
+
+    private Proyecto formatoA(Long estudianteId) {
+        return Proyecto.crearConFormatoA(
+            Titulo.of("Proyecto importado del estudiante " + estudianteId),
+            Modalidad.INVESTIGACION,
+            ObjetivosProyecto.of("Objetivo general del proyecto importado",
+                Arrays.asList("Objetivo específico 1", "Objetivo específico 2")),
+            Participantes.of(10L, null, estudianteId, null),
+            ArchivoAdjunto.pdf("sha256:" + "0".repeat(64), "formatoA.pdf"),
+            null);
+    }
+
+    private ProyectoEntity proyecto(Long estudianteId, EstadoProyecto estado) {
+        ProyectoEntity entity = new ProyectoEntity();
+        entity.setTitulo("Proyecto de prueba " + estudianteId);
+        entity.setModalidad(Modalidad.INVESTIGACION);
+        entity.setObjetivoGeneral("Objetivo general del proyecto de prueba");
+        entity.setObjetivosEspecificos("Primer objetivo específico;Segundo objetivo específico");
+        entity.setDirectorId(10L);
+        entity.setEstudiante1Id(estudianteId);
+        entity.setEstado(estado);
+        entity.setNumeroIntento(1);
+        entity.setRutaPdfFormatoA("sha256:" + "0".repeat(64));
+        entity.setRutaPdfAnteproyecto("sha256:" + "1".repeat(64));
+        return entity;
+    }
+}
@@ -0,0 +1,193 @@
+package co.unicauca.submission.infrastructure.adapter.out.persistence;
+
+import co.unicauca.submission.application.dto.response.ValidacionDocumentoResponse.Estado;
+import co.unicauca.submission.domain.model.EstadoProyecto;
+import co.unicauca.submission.domain.model.Modalidad;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.entity.ProyectoEntity;
+import co.unicauca.submission.infrastructure.adapter.out.persistence.entity.ValidacionDocumentoEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica la cola de validaciones de documentos (migración V10): registro con
+ * reemplazo en reenvíos, reclamo de pendientes, descarte de resultados obsoletos y
+ * cambio de versión del proyecto al registrar un resultado.
+ *
+ * Corre contra PostgreSQL en Testcontainers.
+ * Se omite automáticamente si Docker no está disponible.
+ */
+@DataJpaTest(properties = "spring.jpa.hibernate.ddl-auto=validate")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("ValidacionDocumentoJpaRepository - cola de validación de PDFs")
+class ValidacionDocumentoJpaRepositoryTest {
+
+    @Container
+    static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:15-alpine");
+
+    @DynamicPropertySource
+    static void datasourceProperties(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private ValidacionDocumentoJpaRepository repository;
+
+    @Autowired
+    private ProyectoJpaRepository proyectoRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transaccion;
+    private Long proyectoId;
+
+    @BeforeEach
+    void setUp() {
+        repository.deleteAll();
+        proyectoRepository.deleteAll();
+        transaccion = new TransactionTemplate(transactionManager);
+        proyectoId = proyectoRepository.save(proyecto()).getId();
+    }
+
+    @Test
+    @DisplayName("Cuando se reenvía un documento, debe reemplazar la fila y volver a PENDIENTE")
+    void cuandoReenvio_debeReemplazarValidacion() {
+        LocalDateTime ahora = LocalDateTime.now();
+        transaccion.executeWithoutResult(s -> repository.registrarPendiente(proyectoId, "FORMATO_A", "v1", ahora));
+        ValidacionDocumentoEntity reclamada = reclamarUna();
+        transaccion.executeWithoutResult(s -> repository.registrarResultado(
+            reclamada.getId(), "v1", "RECHAZADO", null, null, "El PDF está dañado", null, ahora));
+
+        transaccion.executeWithoutResult(s -> repository.registrarPendiente(proyectoId, "FORMATO_A", "v2", ahora));
+
+        List<ValidacionDocumentoEntity> filas = repository.findByProyectoIdOrderByTipo(proyectoId);
+        assertEquals(1, filas.size());
+        assertEquals(Estado.PENDIENTE, filas.get(0).getEstado());
+        assertEquals("v2", filas.get(0).getRuta());
+        assertNull(filas.get(0).getMotivoRechazo());
+        assertEquals(0, filas.get(0).getIntentos());
+    }
+
+    @Test
+    @DisplayName("Cuando el documento cambió durante el análisis, debe descartar el resultado")
+    void cuandoRutaCambio_debeDescartarResultado() {
+        LocalDateTime ahora = LocalDateTime.now();
+        transaccion.executeWithoutResult(s -> repository.registrarPendiente(proyectoId, "ANTEPROYECTO", "v1", ahora));
+        ValidacionDocumentoEntity reclamada = reclamarUna();
+        assertEquals(1, reclamada.getIntentos());
+
+        // Reenvío mientras el worker analizaba v1
+        transaccion.executeWithoutResult(s -> repository.registrarPendiente(proyectoId, "ANTEPROYECTO", "v2", ahora));
+
+        Integer actualizadas = transaccion.execute(s -> repository.registrarResultado(
+            reclamada.getId(), "v1", "VALIDO", 10, 2000L, null, "vp1", ahora));
+
+        assertEquals(0, actualizadas);
+        assertEquals(Estado.PENDIENTE,
+            repository.findByProyectoIdAndTipo(proyectoId, "ANTEPROYECTO").orElseThrow().getEstado());
+    }
+
+    @Test
+    @DisplayName("Cuando se reenvía un documento válido, debe limpiar su vista previa")
+    void cuandoReenvioDocumentoValido_debeLimpiarVistaPrevia() {
+        LocalDateTime ahora = LocalDateTime.now();
+        transaccion.executeWithoutResult(s -> repository.registrarPendiente(proyectoId, "FORMATO_A", "v1", ahora));
+        ValidacionDocumentoEntity reclamada = reclamarUna();
+        transaccion.executeWithoutResult(s -> repository.registrarResultado(
+            reclamada.getId(), "v1", "VALIDO", 3, 900L, null, "vp1", ahora));
+
+        String anterior = transaccion.execute(s -> {
+            String vistaPrevia = repository.bloquearVistaPrevia(proyectoId, "FORMATO_A").orElse(null);
+            repository.registrarPendiente(proyectoId, "FORMATO_A", "v2", ahora);
+            return vistaPrevia;
+        });
+
+        assertEquals("vp1", anterior);
+        assertNull(repository.findByProyectoIdAndTipo(proyectoId, "FORMATO_A").orElseThrow().getRutaVistaPrevia());
+        assertTrue(transaccion.execute(s -> repository.bloquearVistaPrevia(proyectoId, "CARTA")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Cuando una validación quedó en proceso demasiado tiempo, debe volver a la cola")
+    void cuandoEnProcesoAbandonada_debeLiberarla() {
+        LocalDateTime ahora = LocalDateTime.now();
+        transaccion.executeWithoutResult(s -> repository.registrarPendiente(proyectoId, "CARTA", "c1", ahora));
+        reclamarUna();
+
+        Integer liberadas = transaccion.execute(s -> repository.liberarAtascadas(ahora.plusMinutes(10), ahora));
+
+        assertEquals(1, liberadas);
+        assertEquals(1, transaccion.execute(s -> repository.reclamarPendientes(ahora.plusSeconds(1), 10)).size());
+    }
+
+    @Test
+    @DisplayName("Cuando se registra un resultado, la versión del proyecto debe subir para cambiar su ETag")
+    void cuandoResultadoRegistrado_debeSubirVersionDelProyecto() {
+        LocalDateTime ahora = LocalDateTime.now();
+        Long versionInicial = proyectoRepository.findVersionById(proyectoId).orElseThrow();
+        transaccion.executeWithoutResult(s -> repository.registrarPendiente(proyectoId, "FORMATO_A", "v1", ahora));
+        ValidacionDocumentoEntity reclamada = reclamarUna();
+
+        // Lo mismo que ValidacionPdfWorker.registrar en una sola transacción
+        transaccion.executeWithoutResult(s -> {
+            repository.registrarResultado(reclamada.getId(), "v1", "VALIDO", 12, 4200L, null, null, ahora);
+            proyectoRepository.incrementarVersion(proyectoId);
+        });
+
+        assertEquals(versionInicial + 1, proyectoRepository.findVersionById(proyectoId).orElseThrow());
+        ValidacionDocumentoEntity validada = repository.findById(reclamada.getId()).orElseThrow();
+        assertEquals(12, validada.getPaginas());
+        assertEquals(4200L, validada.getCaracteresTexto());
+    }
+
+    /**
+     * Reclama una validación como lo hace el worker: la marca EN_PROCESO y suma un intento.
+     */
+    private ValidacionDocumentoEntity reclamarUna() {
+        return transaccion.execute(s -> {
+            List<ValidacionDocumentoEntity> lote = repository.reclamarPendientes(LocalDateTime.now(), 10);
+            assertEquals(1, lote.size());
+            ValidacionDocumentoEntity entity = lote.get(0);
+            entity.setEstado(Estado.EN_PROCESO);
+            entity.setIntentos(entity.getIntentos() + 1);
+            entity.setFechaActualizacion(LocalDateTime.now());
+            return entity;
+        });
+    }
+
+    private ProyectoEntity proyecto() {
+        ProyectoEntity entity = new ProyectoEntity();
+        entity.setTitulo("Proyecto de prueba");
+        entity.setModalidad(Modalidad.INVESTIGACION);
+        entity.setObjetivoGeneral("Objetivo general");
+        entity.setObjetivosEspecificos("Objetivos específicos");
+        entity.setDirectorId(1L);
+        entity.setEstudiante1Id(501L);
+        entity.setEstado(EstadoProyecto.ANTEPROYECTO_APROBADO);
+        entity.setNumeroIntento(1);
+        entity.setRutaPdfFormatoA("sha256:" + "0".repeat(64));
+        return entity;
+    }
+}
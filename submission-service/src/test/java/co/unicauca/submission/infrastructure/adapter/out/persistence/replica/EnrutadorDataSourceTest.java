@@ -0,0 +1,170 @@
+package co.unicauca.submission.infrastructure.adapter.out.persistence.replica;
+
+import co.unicauca.submission.application.dto.response.ProyectoResponse;
+import co.unicauca.submission.infrastructure.adapter.in.rest.LecturaPropiaInterceptor;
+import co.unicauca.submission.infrastructure.adapter.out.cache.ProyectoCacheAdapter;
+import co.unicauca.submission.infrastructure.config.ProyectoCacheConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Verifica el enrutamiento primaria/réplica con dos PostgreSQL independientes:
+ * cada base tiene otro nombre, así current_database() dice a cuál llegó la consulta.
+ *
+ * Corre contra PostgreSQL en Testcontainers.
+ * Se omite automáticamente si Docker no está disponible.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("EnrutadorDataSource - lecturas a la réplica")
+class EnrutadorDataSourceTest {
+
+    @Container
+    static final PostgreSQLContainer<?> PRIMARIA = new PostgreSQLContainer<>("postgres:15-alpine")
+        .withDatabaseName("primaria");
+
+    @Container
+    static final PostgreSQLContainer<?> REPLICA = new PostgreSQLContainer<>("postgres:15-alpine")
+        .withDatabaseName("replica");
+
+    private HikariDataSource primaria;
+    private HikariDataSource replica;
+    private final AtomicBoolean replicaDisponible = new AtomicBoolean(true);
+    private JdbcTemplate jdbc;
+    private TransactionTemplate escritura;
+    private TransactionTemplate lectura;
+
+    @BeforeEach
+    void setUp() {
+        primaria = pool(PRIMARIA);
+        replica = pool(REPLICA);
+
+        EnrutadorDataSource enrutador = new EnrutadorDataSource(primaria, replica, replicaDisponible::get);
+        enrutador.afterPropertiesSet();
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy(enrutador);
+
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        jdbc = new JdbcTemplate(dataSource);
+        escritura = new TransactionTemplate(transactionManager);
+        lectura = new TransactionTemplate(transactionManager);
+        lectura.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        EnrutadorDataSource.limpiar();
+        primaria.close();
+        replica.close();
+    }
+
+    @Test
+    @DisplayName("Las transacciones de solo lectura van a la réplica y las demás a la primaria")
+    void soloLectura_debeIrAReplica() {
+        assertEquals("replica", lectura.execute(s -> baseActual()));
+        assertEquals("primaria", escritura.execute(s -> baseActual()));
+        // Sin transacción: primaria
+        assertEquals("primaria", baseActual());
+    }
+
+    @Test
+    @DisplayName("Tras una escritura del usuario, sus lecturas deben ir a la primaria")
+    void lecturaPropia_debeIrAPrimaria() {
+        EnrutadorDataSource.usarPrimaria();
+
+        assertEquals("primaria", lectura.execute(s -> baseActual()));
+
+        EnrutadorDataSource.limpiar();
+        assertEquals("replica", lectura.execute(s -> baseActual()));
+    }
+
+    @Test
+    @DisplayName("Una petición que modifica datos y lee primero debe ir entera a la primaria")
+    void peticionDeEscrituraQueLeePrimero_debeIrAPrimaria() {
+        LecturaPropiaInterceptor interceptor = new LecturaPropiaInterceptor(
+            new EscriturasRecientes(Duration.ofSeconds(30), 100));
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/api/submissions/formatoA/1/reenviar");
+        request.addHeader("X-User-Id", "7");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        interceptor.preHandle(request, response, null);
+        // findById (solo lectura) antes del TransactionTemplate de la escritura
+        String lecturaPrevia = lectura.execute(s -> baseActual());
+        String escrituraPosterior = escritura.execute(s -> baseActual());
+        interceptor.afterCompletion(request, response, null, null);
+
+        assertEquals("primaria", lecturaPrevia);
+        assertEquals("primaria", escrituraPosterior);
+        assertFalse(EnrutadorDataSource.primariaForzada());
+    }
+
+    @Test
+    @DisplayName("Con la réplica atrasada, las lecturas deben ir a la primaria")
+    void replicaAtrasada_debeIrAPrimaria() {
+        replicaDisponible.set(false);
+
+        assertEquals("primaria", lectura.execute(s -> baseActual()));
+    }
+
+    @Test
+    @DisplayName("Con la réplica atrasada tras una escritura, la caché debe cargarse desde la primaria")
+    void replicaAtrasada_cacheDebeCargarDesdePrimaria() {
+        // Cada base tiene su propia tabla: la réplica se queda con la versión anterior
+        for (JdbcTemplate base : new JdbcTemplate[]{new JdbcTemplate(primaria), new JdbcTemplate(replica)}) {
+            base.execute("DROP TABLE IF EXISTS proyecto_version");
+            base.execute("CREATE TABLE proyecto_version (id BIGINT PRIMARY KEY, version BIGINT)");
+            base.update("INSERT INTO proyecto_version VALUES (1, 1)");
+        }
+        escritura.execute(s -> jdbc.update("UPDATE proyecto_version SET version = 2 WHERE id = 1"));
+
+        ProyectoCacheAdapter cache = new ProyectoCacheAdapter(new ProyectoCacheConfig(), new SimpleMeterRegistry());
+        ProyectoResponse response = cache.obtener(1L, () -> lectura.execute(s -> {
+            ProyectoResponse leido = new ProyectoResponse();
+            leido.setVersion(jdbc.queryForObject("SELECT version FROM proyecto_version WHERE id = 1", Long.class));
+            return leido;
+        }));
+
+        assertEquals(2L, response.getVersion());
+        // Las demás lecturas de solo lectura siguen yendo a la réplica
+        assertEquals("replica", lectura.execute(s -> baseActual()));
+    }
+
+    @Test
+    @DisplayName("Una base que no es standby cuenta como réplica al día")
+    void monitorSinStandby_debeMarcarDisponible() {
+        MonitorReplica monitor = new MonitorReplica(replica, 30, new SimpleMeterRegistry());
+
+        monitor.verificar();
+
+        assertTrue(monitor.isDisponible());
+    }
+
+    private String baseActual() {
+        return jdbc.queryForObject("SELECT current_database()", String.class);
+    }
+
+    private static HikariDataSource pool(PostgreSQLContainer<?> postgres) {
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setJdbcUrl(postgres.getJdbcUrl());
+        dataSource.setUsername(postgres.getUsername());
+        dataSource.setPassword(postgres.getPassword());
+        dataSource.setMaximumPoolSize(2);
+        return dataSource;
+    }
+}
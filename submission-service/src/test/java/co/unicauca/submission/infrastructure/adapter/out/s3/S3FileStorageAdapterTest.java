@@ -0,0 +1,151 @@
+package co.unicauca.submission.infrastructure.adapter.out.s3;
+
+import co.unicauca.submission.application.dto.response.ArchivoAlmacenado;
+import co.unicauca.submission.infrastructure.config.S3StorageConfig;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.unit.DataSize;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import software.amazon.awssdk.services.s3.S3Client;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests del adaptador S3 contra MinIO: PUT simple, multipart con partes en
+ * paralelo, aborto ante un PDF inválido y lectura por rangos para descargas.
+ *
+ * Corre contra MinIO en Testcontainers.
+ * Se omite automáticamente si Docker no está disponible.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+@DisplayName("S3FileStorageAdapter - almacenamiento en S3/MinIO")
+class S3FileStorageAdapterTest {
+
+    private static final String USUARIO = "minio";
+    private static final String CLAVE = "minio-secreto";
+
+    @Container
+    static final GenericContainer<?> MINIO = new GenericContainer<>("minio/minio:RELEASE.2023-09-04T19-57-37Z")
+        .withEnv("MINIO_ROOT_USER", USUARIO)
+        .withEnv("MINIO_ROOT_PASSWORD", CLAVE)
+        .withCommand("server", "/data")
+        .withExposedPorts(9000)
+        .waitingFor(Wait.forHttp("/minio/health/ready").forPort(9000));
+
+    private S3Client s3;
+    private ThreadPoolTaskExecutor executor;
+    private S3StorageConfig config;
+    private S3FileStorageAdapter adapter;
+
+    @BeforeEach
+    void setUp() {
+        config = new S3StorageConfig();
+        config.setEndpoint("http://" + MINIO.getHost() + ":" + MINIO.getMappedPort(9000));
+        config.setAccessKey(USUARIO);
+        config.setSecretKey(CLAVE);
+        config.setBucket("pruebas");
+        config.setCrearBucket(true);
+        config.setTamanoParte(DataSize.ofMegabytes(5));
+        config.setConcurrencia(2);
+        config.setHilos(4);
+
+        s3 = config.s3Client();
+        executor = config.s3TransferExecutor();
+        executor.initialize();
+
+        adapter = new S3FileStorageAdapter(s3, executor, config, DataSize.ofMegabytes(20));
+        adapter.verificarBucket();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdown();
+        s3.close();
+    }
+
+    @Test
+    @DisplayName("Con un PDF menor que una parte, debe guardarlo y leerlo igual")
+    void conPdfPequeno_debeGuardarYLeer() throws Exception {
+        byte[] contenido = pdf(1024);
+
+        String ruta = adapter.guardarPdf(new ByteArrayInputStream(contenido), "formatoA.pdf", "proyectos/formatoA/1");
+
+        assertTrue(ruta.startsWith("proyectos/formatoA/1/formatoA_"));
+        try (InputStream leido = adapter.obtenerArchivo(ruta)) {
+            assertArrayEquals(contenido, leido.readAllBytes());
+        }
+    }
+
+    @Test
+    @DisplayName("Con un PDF de varias partes, debe subirlo por multipart sin alterar los bytes")
+    void conPdfGrande_debeUsarMultipart() throws Exception {
+        byte[] contenido = pdf(12 * 1024 * 1024 + 17);
+
+        String ruta = adapter.guardarPdf(new ByteArrayInputStream(contenido), "anteproyecto.pdf", "proyectos/anteproyecto/1");
+
+        ArchivoAlmacenado archivo = adapter.describirArchivo(ruta).orElseThrow();
+        assertEquals(contenido.length, archivo.getTamano());
+        assertTrue(archivo.isInmutable());
+        try (InputStream leido = archivo.abrir(0, contenido.length - 1)) {
+            assertArrayEquals(contenido, leido.readAllBytes());
+        }
+    }
+
+    @Test
+    @DisplayName("Cuando se describe el archivo, debe leer solo el rango pedido y nada en disco")
+    void cuandoDescribir_debeLeerPorRangos() throws Exception {
+        byte[] contenido = pdf(64 * 1024);
+        String ruta = adapter.guardarPdf(new ByteArrayInputStream(contenido), "carta.pdf", "proyectos/carta/2");
+
+        ArchivoAlmacenado archivo = adapter.describirArchivo(ruta).orElseThrow();
+
+        assertFalse(archivo.enDisco());
+        assertEquals(contenido.length, archivo.getTamano());
+        try (InputStream rango = archivo.abrir(1000, 1999)) {
+            assertArrayEquals(Arrays.copyOfRange(contenido, 1000, 2000), rango.readAllBytes());
+        }
+    }
+
+    @Test
+    @DisplayName("Cuando el PDF excede el tamaño a mitad de la subida, debe abortar el multipart")
+    void cuandoExcedeTamano_debeAbortarMultipart() {
+        adapter = new S3FileStorageAdapter(s3, executor, config, DataSize.ofMegabytes(8));
+        byte[] contenido = pdf(12 * 1024 * 1024);
+
+        assertThrows(IllegalArgumentException.class, () ->
+            adapter.guardarPdf(new ByteArrayInputStream(contenido), "grande.pdf", "proyectos/anteproyecto/2"));
+
+        assertTrue(s3.listMultipartUploads(b -> b.bucket(config.getBucket())).uploads().isEmpty());
+        assertTrue(s3.listObjectsV2(b -> b.bucket(config.getBucket()).prefix("proyectos/anteproyecto/2"))
+            .contents().isEmpty());
+    }
+
+    @Test
+    @DisplayName("Cuando se elimina el archivo, no debe quedar el objeto")
+    void cuandoEliminar_debeBorrarObjeto() {
+        String ruta = adapter.guardarPdf(new ByteArrayInputStream(pdf(2048)), "carta.pdf", "proyectos/carta/1");
+        assertTrue(adapter.describirArchivo(ruta).isPresent());
+
+        adapter.eliminarArchivo(ruta);
+
+        assertTrue(adapter.describirArchivo(ruta).isEmpty());
+    }
+
+    private static byte[] pdf(int tamano) {
+        byte[] contenido = new byte[tamano];
+        new Random(tamano).nextBytes(contenido);
+        System.arraycopy("%PDF".getBytes(), 0, contenido, 0, 4);
+        return contenido;
+    }
+}